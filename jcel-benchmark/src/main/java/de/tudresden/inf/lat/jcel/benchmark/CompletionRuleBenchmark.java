@@ -0,0 +1,225 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.ClassifierStatusImpl;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR1SRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR2SRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR3SRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR4RRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR4SRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR5RRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR6RRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR6RTrRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR7RRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR7SRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
+import de.tudresden.inf.lat.jcel.core.completion.ext.CR3SExtRule;
+import de.tudresden.inf.lat.jcel.core.completion.ext.CR4RExtRule;
+import de.tudresden.inf.lat.jcel.core.completion.ext.CR4SExtRule;
+import de.tudresden.inf.lat.jcel.core.completion.ext.CR5RExtRule;
+import de.tudresden.inf.lat.jcel.core.completion.ext.CR6RExtRule;
+import de.tudresden.inf.lat.jcel.core.completion.ext.CR6SExtRule;
+import de.tudresden.inf.lat.jcel.core.completion.ext.CR7RExtRule;
+import de.tudresden.inf.lat.jcel.core.completion.ext.CR8RExtRule;
+import de.tudresden.inf.lat.jcel.core.completion.ext.CR8SExtRule;
+import de.tudresden.inf.lat.jcel.core.completion.ext.CR9RExtOptRule;
+import de.tudresden.inf.lat.jcel.core.completion.ext.CR9RExtRule;
+
+/**
+ * Benchmarks a single completion rule. The ontology is saturated once, and
+ * each invocation applies the rule to every pair of the set S (S-rules) or to
+ * every triplet of the set R (R-rules). The entries added by the rule are
+ * removed after each invocation.
+ *
+ * @author Julian Mendez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompletionRuleBenchmark {
+
+	/**
+	 * Degree of the ontology.
+	 *
+	 * @see OntologyShape
+	 */
+	@Param({ "8" })
+	public int degree;
+
+	/**
+	 * Number of classes of the ontology.
+	 */
+	@Param({ "2000" })
+	public int numberOfClasses;
+
+	/**
+	 * Number of object properties of the ontology.
+	 */
+	@Param({ "8" })
+	public int numberOfObjectProperties;
+
+	/**
+	 * Simple name of the class of the completion rule.
+	 */
+	@Param({ "CR1SRule", "CR2SRule", "CR3SRule", "CR4SRule", "CR7SRule", "CR4RRule", "CR5RRule", "CR6RRule",
+			"CR6RTrRule", "CR7RRule", "CR3SExtRule", "CR4SExtRule", "CR6SExtRule", "CR8SExtRule", "CR4RExtRule",
+			"CR5RExtRule", "CR6RExtRule", "CR7RExtRule", "CR8RExtRule", "CR9RExtRule", "CR9RExtOptRule" })
+	public String rule;
+
+	/**
+	 * Shape of the ontology.
+	 */
+	@Param({ "FLAT", "TREE" })
+	public OntologyShape shape;
+
+	private RObserverRule rRule;
+	private SaturatedStatus saturatedStatus;
+	private SObserverRule sRule;
+
+	/**
+	 * Applies the completion rule to every pair of the set S or to every
+	 * triplet of the set R.
+	 *
+	 * @return the number of applications that added an entry
+	 */
+	@Benchmark
+	public int apply() {
+		int ret = 0;
+		ClassifierStatusImpl status = this.saturatedStatus.getStatus();
+		if (Objects.nonNull(this.sRule)) {
+			int[] subsumptions = this.saturatedStatus.getSubsumptions();
+			for (int index = 0; index < subsumptions.length; index += 2) {
+				if (this.sRule.apply(status, subsumptions[index], subsumptions[index + 1])) {
+					ret++;
+				}
+			}
+		} else {
+			int[] relations = this.saturatedStatus.getRelations();
+			for (int index = 0; index < relations.length; index += 3) {
+				if (this.rRule.apply(status, relations[index], relations[index + 1], relations[index + 2])) {
+					ret++;
+				}
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Removes the entries added by the completion rule.
+	 */
+	@TearDown(Level.Invocation)
+	public void clearQueues() {
+		this.saturatedStatus.clearQueues();
+	}
+
+	private List<Object> getRules() {
+		List<Object> ret = new ArrayList<>();
+		ret.add(new CR1SRule());
+		ret.add(new CR2SRule());
+		ret.add(new CR3SRule());
+		ret.add(new CR4SRule());
+		ret.add(new CR7SRule());
+		ret.add(new CR4RRule());
+		ret.add(new CR5RRule());
+		ret.add(new CR6RRule());
+		ret.add(new CR6RTrRule());
+		ret.add(new CR7RRule());
+		ret.add(new CR3SExtRule());
+		ret.add(new CR4SExtRule());
+		ret.add(new CR6SExtRule());
+		ret.add(new CR8SExtRule());
+		ret.add(new CR4RExtRule());
+		ret.add(new CR5RExtRule());
+		ret.add(new CR6RExtRule());
+		ret.add(new CR7RExtRule());
+		ret.add(new CR8RExtRule());
+		ret.add(new CR9RExtRule());
+		ret.add(new CR9RExtOptRule());
+		return ret;
+	}
+
+	/**
+	 * Creates and saturates the ontology, and selects the completion rule.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		Object selected = getRules().stream().filter(elem -> elem.getClass().getSimpleName().equals(this.rule))
+				.findFirst().orElseThrow(() -> new IllegalArgumentException("Unknown rule: '" + this.rule + "'."));
+		if (selected instanceof SObserverRule) {
+			this.sRule = (SObserverRule) selected;
+		} else {
+			this.rRule = (RObserverRule) selected;
+		}
+		this.saturatedStatus = new SaturatedStatus(new SyntheticOntologyGenerator(this.shape, this.numberOfClasses,
+				this.numberOfObjectProperties, this.degree, 0).generate());
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraphImpl;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraphImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+
+/**
+ * Benchmarks the construction of a hierarchical graph from the subsumer graph
+ * of a saturated synthetic ontology.
+ *
+ * @author Julian Mendez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HierarchicalGraphBenchmark {
+
+	/**
+	 * Degree of the ontology.
+	 *
+	 * @see OntologyShape
+	 */
+	@Param({ "8" })
+	public int degree;
+
+	/**
+	 * Number of classes of the ontology.
+	 */
+	@Param({ "1000", "10000" })
+	public int numberOfClasses;
+
+	/**
+	 * Number of object properties of the ontology.
+	 */
+	@Param({ "8" })
+	public int numberOfObjectProperties;
+
+	/**
+	 * Number of threads used to build the hierarchical graph.
+	 */
+	@Param({ "1", "4" })
+	public int numberOfThreads;
+
+	/**
+	 * Shape of the ontology.
+	 */
+	@Param({ "CHAIN", "FLAT", "TREE" })
+	public OntologyShape shape;
+
+	private IntegerSubsumerGraphImpl subsumerGraph;
+
+	/**
+	 * Creates the hierarchical graph.
+	 *
+	 * @return the hierarchical graph
+	 */
+	@Benchmark
+	public IntegerHierarchicalGraph createHierarchicalGraph() {
+		return new IntegerHierarchicalGraphImpl(this.subsumerGraph, this.numberOfThreads);
+	}
+
+	/**
+	 * Creates and saturates the ontology, and copies its subsumer graph.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		SaturatedStatus saturatedStatus = new SaturatedStatus(new SyntheticOntologyGenerator(this.shape,
+				this.numberOfClasses, this.numberOfObjectProperties, this.degree, 0).generate());
+		this.subsumerGraph = new IntegerSubsumerGraphImpl(IntegerEntityManager.bottomClassId,
+				IntegerEntityManager.topClassId);
+		int[] subsumptions = saturatedStatus.getSubsumptions();
+		for (int index = 0; index < subsumptions.length; index += 2) {
+			this.subsumerGraph.addAncestor(subsumptions[index], subsumptions[index + 1]);
+		}
+	}
+
+}
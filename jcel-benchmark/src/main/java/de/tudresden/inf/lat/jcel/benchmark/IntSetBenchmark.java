@@ -0,0 +1,173 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.benchmark;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tudresden.inf.lat.jcel.core.graph.HashArraySet;
+import de.tudresden.inf.lat.jcel.core.graph.IntSetType;
+
+/**
+ * Benchmarks the basic operations of the sets of integers used to store
+ * subsumers and related elements.
+ *
+ * @see IntSetType
+ * @see HashArraySet
+ *
+ * @author Julian Mendez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntSetBenchmark {
+
+	/**
+	 * Name of the implementation, which is either the name of a constant of
+	 * {@link IntSetType} or <code>HASH_ARRAY</code>.
+	 */
+	@Param({ "ARRAY", "BITMAP", "CONCURRENT_ARRAY", "HASH_ARRAY" })
+	public String implementation;
+
+	/**
+	 * Number of elements added to the set. The elements are taken from an
+	 * interval that is twice as large.
+	 */
+	@Param({ "16", "1024", "65536" })
+	public int size;
+
+	private int[] elements;
+	private int[] queries;
+	private Set<Integer> set;
+
+	/**
+	 * Adds the elements to a new set.
+	 *
+	 * @return the set
+	 */
+	@Benchmark
+	public Set<Integer> add() {
+		Set<Integer> ret = createSet();
+		for (int elem : this.elements) {
+			ret.add(elem);
+		}
+		return ret;
+	}
+
+	/**
+	 * Tests membership of elements, about half of them in the set.
+	 *
+	 * @return the number of elements found in the set
+	 */
+	@Benchmark
+	public int contains() {
+		int ret = 0;
+		for (int elem : this.queries) {
+			if (this.set.contains(elem)) {
+				ret++;
+			}
+		}
+		return ret;
+	}
+
+	private Set<Integer> createSet() {
+		Set<Integer> ret;
+		if (this.implementation.equals("HASH_ARRAY")) {
+			ret = new HashArraySet();
+		} else {
+			ret = IntSetType.valueOf(this.implementation).createSet();
+		}
+		return ret;
+	}
+
+	/**
+	 * Traverses the set.
+	 *
+	 * @return the sum of the elements of the set
+	 */
+	@Benchmark
+	public long iterate() {
+		long ret = 0;
+		for (Integer elem : this.set) {
+			ret += elem;
+		}
+		return ret;
+	}
+
+	/**
+	 * Creates the elements, the queries and the set.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(0);
+		this.elements = new int[this.size];
+		this.queries = new int[this.size];
+		for (int index = 0; index < this.size; index++) {
+			this.elements[index] = random.nextInt(2 * this.size);
+			this.queries[index] = random.nextInt(2 * this.size);
+		}
+		this.set = add();
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.benchmark;
+
+/**
+ * Shape of a synthetic ontology. The meaning of the <i>degree</i> of the
+ * generator depends on the shape.
+ *
+ * @see SyntheticOntologyGenerator
+ *
+ * @author Julian Mendez
+ */
+public enum OntologyShape {
+
+	/**
+	 * Chains of existential restrictions over a transitive object property.
+	 * The degree is the length of each chain. Long chains stress the
+	 * propagation of relations through role chains.
+	 */
+	CHAIN,
+
+	/**
+	 * Random general concept inclusions in a shallow taxonomy, where the named
+	 * superclasses are taken from a set of about &radic;n top classes. The
+	 * degree is the number of axioms for each class.
+	 */
+	FLAT,
+
+	/**
+	 * A taxonomy where each class has a given number of subclasses, together
+	 * with some existential restrictions and conjunctions. The degree is the
+	 * number of subclasses of each class.
+	 */
+	TREE
+
+}
@@ -0,0 +1,166 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.cel.CelProcessor;
+import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.RuleBasedProcessor;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.RuleBasedProcessorConfiguration;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.expressivity.NormalizedAxiomExpressivityDetector;
+
+/**
+ * Benchmarks the classification of a synthetic ontology, from the normalized
+ * axioms to the class hierarchy. The rule-based processor is compared with
+ * the CEL processor. Each invocation uses a new ontology, because the
+ * processors create auxiliary entities.
+ *
+ * @author Julian Mendez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessorBenchmark {
+
+	/**
+	 * Degree of the ontology.
+	 *
+	 * @see OntologyShape
+	 */
+	@Param({ "8" })
+	public int degree;
+
+	/**
+	 * Number of classes of the ontology.
+	 */
+	@Param({ "1000", "10000" })
+	public int numberOfClasses;
+
+	/**
+	 * Number of object properties of the ontology.
+	 */
+	@Param({ "8" })
+	public int numberOfObjectProperties;
+
+	/**
+	 * Number of threads used by the rule-based processor.
+	 */
+	@Param({ "1" })
+	public int numberOfThreads;
+
+	/**
+	 * Shape of the ontology.
+	 */
+	@Param({ "CHAIN", "FLAT", "TREE" })
+	public OntologyShape shape;
+
+	private Set<NormalizedIntegerAxiom> axioms;
+	private SyntheticOntology ontology;
+
+	private IntegerHierarchicalGraph classify(Processor processor) {
+		while (processor.process()) {
+		}
+		return processor.getClassHierarchy();
+	}
+
+	/**
+	 * Classifies the ontology using the CEL processor.
+	 *
+	 * @return the class hierarchy
+	 */
+	@Benchmark
+	public IntegerHierarchicalGraph celProcessor() {
+		return classify(new CelProcessor(this.ontology.getObjectProperties(), this.ontology.getClasses(), this.axioms,
+				this.ontology.getFactory().getNormalizedAxiomFactory(), this.ontology.getEntityManager()));
+	}
+
+	/**
+	 * Classifies the ontology using the rule-based processor.
+	 *
+	 * @return the class hierarchy
+	 */
+	@Benchmark
+	public IntegerHierarchicalGraph ruleBasedProcessor() {
+		RuleBasedProcessorConfiguration configuration = new RuleBasedProcessorConfiguration();
+		configuration.setNumberOfThreads(this.numberOfThreads);
+		return classify(new RuleBasedProcessor(this.ontology.getObjectProperties(), this.ontology.getClasses(),
+				this.axioms, new NormalizedAxiomExpressivityDetector(this.axioms),
+				this.ontology.getFactory().getNormalizedAxiomFactory(), this.ontology.getEntityManager(),
+				configuration));
+	}
+
+	/**
+	 * Creates a new ontology and normalizes it.
+	 */
+	@Setup(Level.Invocation)
+	public void setUp() {
+		this.ontology = new SyntheticOntologyGenerator(this.shape, this.numberOfClasses,
+				this.numberOfObjectProperties, this.degree, 0).generate();
+		this.axioms = this.ontology.normalize();
+	}
+
+}
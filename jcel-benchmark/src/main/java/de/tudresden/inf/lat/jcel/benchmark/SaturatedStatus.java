@@ -0,0 +1,221 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.benchmark;
+
+import java.util.Objects;
+import java.util.Set;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.ClassifierStatusImpl;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.CompletionRuleChainSelector;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.RChain;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.SChain;
+import de.tudresden.inf.lat.jcel.core.graph.IntIterator;
+import de.tudresden.inf.lat.jcel.core.saturation.SubPropertyNormalizer;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntologyImpl;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.expressivity.NormalizedAxiomExpressivityDetector;
+
+/**
+ * An object of this class is a classifier status that has been saturated
+ * using the completion rules selected for a synthetic ontology. It keeps the
+ * pairs of the set S and the triplets of the set R in arrays, so that the
+ * completion rules can be applied to all of them again.
+ *
+ * @author Julian Mendez
+ */
+public class SaturatedStatus {
+
+	private final int[] relations;
+	private final ClassifierStatusImpl status;
+	private final int[] subsumptions;
+
+	/**
+	 * Constructs a new saturated status for the given ontology.
+	 *
+	 * @param ontology
+	 *            synthetic ontology
+	 */
+	public SaturatedStatus(SyntheticOntology ontology) {
+		Objects.requireNonNull(ontology);
+		IntegerEntityManager entityManager = ontology.getEntityManager();
+		Set<NormalizedIntegerAxiom> axioms = new SubPropertyNormalizer(
+				ontology.getFactory().getNormalizedAxiomFactory(), entityManager).apply(ontology.normalize());
+		ExtendedOntology extendedOntology = new ExtendedOntologyImpl();
+		extendedOntology.load(axioms);
+		ontology.getObjectProperties().forEach(elem -> extendedOntology.addObjectProperty(elem));
+		ontology.getClasses().forEach(elem -> extendedOntology.addClass(elem));
+
+		CompletionRuleChainSelector selector = new CompletionRuleChainSelector(
+				new NormalizedAxiomExpressivityDetector(axioms));
+		this.status = new ClassifierStatusImpl(entityManager, extendedOntology);
+		saturate(selector.getSChain(), selector.getRChain());
+
+		this.subsumptions = collectSubsumptions();
+		this.relations = collectRelations();
+	}
+
+	/**
+	 * Removes the entries that the completion rules have added to the queues
+	 * of the status.
+	 */
+	public void clearQueues() {
+		int[] sEntry = new int[2];
+		while (this.status.removeNextSEntry(sEntry)) {
+		}
+		int[] rEntry = new int[3];
+		while (this.status.removeNextREntry(rEntry)) {
+		}
+	}
+
+	private int[] collectRelations() {
+		int size = 0;
+		Set<Integer> classes = this.status.getExtendedOntology().getClassSet();
+		for (Integer cA : classes) {
+			IntIterator properties = this.status.getObjectPropertiesByFirst(cA).intIterator();
+			while (properties.hasNext()) {
+				size += this.status.getSecondByFirst(properties.nextInt(), cA).size();
+			}
+		}
+		int[] ret = new int[3 * size];
+		int index = 0;
+		for (Integer cA : classes) {
+			IntIterator properties = this.status.getObjectPropertiesByFirst(cA).intIterator();
+			while (properties.hasNext()) {
+				int r = properties.nextInt();
+				IntIterator secondSet = this.status.getSecondByFirst(r, cA).intIterator();
+				while (secondSet.hasNext()) {
+					ret[index] = r;
+					ret[index + 1] = cA;
+					ret[index + 2] = secondSet.nextInt();
+					index += 3;
+				}
+			}
+		}
+		return ret;
+	}
+
+	private int[] collectSubsumptions() {
+		int size = 0;
+		Set<Integer> classes = this.status.getExtendedOntology().getClassSet();
+		for (Integer cA : classes) {
+			size += this.status.getSubsumers(cA).size();
+		}
+		int[] ret = new int[2 * size];
+		int index = 0;
+		for (Integer cA : classes) {
+			IntIterator subsumers = this.status.getSubsumers(cA).intIterator();
+			while (subsumers.hasNext()) {
+				ret[index] = cA;
+				ret[index + 1] = subsumers.nextInt();
+				index += 2;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the triplets of the set R, stored consecutively as property,
+	 * left class and right class.
+	 *
+	 * @return the triplets of the set R
+	 */
+	public int[] getRelations() {
+		return this.relations;
+	}
+
+	/**
+	 * Returns the saturated status.
+	 *
+	 * @return the saturated status
+	 */
+	public ClassifierStatusImpl getStatus() {
+		return this.status;
+	}
+
+	/**
+	 * Returns the pairs of the set S, stored consecutively as subclass and
+	 * superclass.
+	 *
+	 * @return the pairs of the set S
+	 */
+	public int[] getSubsumptions() {
+		return this.subsumptions;
+	}
+
+	private void saturate(SChain chainS, RChain chainR) {
+		this.status.getExtendedOntology().getClassSet().forEach(className -> {
+			this.status.addNewSEntry(className, className);
+			this.status.addNewSEntry(className, IntegerEntityManager.topClassId);
+		});
+		int[] sEntry = new int[2];
+		int[] rEntry = new int[3];
+		boolean hasEntries = true;
+		while (hasEntries) {
+			hasEntries = false;
+			while (this.status.removeNextSEntry(sEntry)) {
+				hasEntries = true;
+				if (this.status.addToS(sEntry[0], sEntry[1])) {
+					chainS.apply(this.status, sEntry[0], sEntry[1]);
+				}
+			}
+			while (this.status.removeNextREntry(rEntry)) {
+				hasEntries = true;
+				if (this.status.addToR(rEntry[0], rEntry[1], rEntry[2])) {
+					chainR.apply(this.status, rEntry[0], rEntry[1], rEntry[2]);
+				}
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "S=" + (this.subsumptions.length / 2) + " R=" + (this.relations.length / 3);
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.benchmark;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.normalization.OntologyNormalizer;
+
+/**
+ * An object of this class is a synthetic ontology, together with the factory
+ * that was used to create its entities and axioms.
+ *
+ * @see SyntheticOntologyGenerator
+ *
+ * @author Julian Mendez
+ */
+public class SyntheticOntology {
+
+	private final Set<ComplexIntegerAxiom> axioms;
+	private final IntegerOntologyObjectFactory factory;
+
+	/**
+	 * Constructs a new synthetic ontology.
+	 *
+	 * @param factory
+	 *            factory used to create the entities and the axioms
+	 * @param axioms
+	 *            axioms
+	 */
+	public SyntheticOntology(IntegerOntologyObjectFactory factory, Set<ComplexIntegerAxiom> axioms) {
+		Objects.requireNonNull(factory);
+		Objects.requireNonNull(axioms);
+		this.factory = factory;
+		this.axioms = axioms;
+	}
+
+	/**
+	 * Returns the axioms of this ontology.
+	 *
+	 * @return the axioms of this ontology
+	 */
+	public Set<ComplexIntegerAxiom> getAxioms() {
+		return Collections.unmodifiableSet(this.axioms);
+	}
+
+	/**
+	 * Returns the classes declared in this ontology, without the auxiliary
+	 * classes.
+	 *
+	 * @return the classes declared in this ontology
+	 */
+	public Set<Integer> getClasses() {
+		return getEntityManager().getEntities(IntegerEntityType.CLASS, false);
+	}
+
+	/**
+	 * Returns the entity manager.
+	 *
+	 * @return the entity manager
+	 */
+	public IntegerEntityManager getEntityManager() {
+		return this.factory.getEntityManager();
+	}
+
+	/**
+	 * Returns the factory.
+	 *
+	 * @return the factory
+	 */
+	public IntegerOntologyObjectFactory getFactory() {
+		return this.factory;
+	}
+
+	/**
+	 * Returns the object properties declared in this ontology, without the
+	 * auxiliary object properties.
+	 *
+	 * @return the object properties declared in this ontology
+	 */
+	public Set<Integer> getObjectProperties() {
+		return getEntityManager().getEntities(IntegerEntityType.OBJECT_PROPERTY, false);
+	}
+
+	/**
+	 * Normalizes the axioms of this ontology. Each call creates new auxiliary
+	 * entities in the entity manager.
+	 *
+	 * @return the normalized axioms of this ontology
+	 */
+	public Set<NormalizedIntegerAxiom> normalize() {
+		return new OntologyNormalizer().normalize(this.axioms, this.factory);
+	}
+
+	@Override
+	public String toString() {
+		return "classes=" + getClasses().size() + " objectProperties=" + getObjectProperties().size() + " axioms="
+				+ this.axioms.size();
+	}
+
+}
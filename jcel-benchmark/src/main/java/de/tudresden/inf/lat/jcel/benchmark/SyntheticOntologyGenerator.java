@@ -0,0 +1,259 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClassExpression;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerDataTypeFactory;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectPropertyExpression;
+
+/**
+ * An object of this class generates synthetic EL<sup>+</sup> ontologies. The
+ * generated ontologies only depend on the parameters of the generator, so
+ * that two ontologies generated with the same parameters are equal.
+ *
+ * @author Julian Mendez
+ */
+public class SyntheticOntologyGenerator {
+
+	private final Set<IntegerAnnotation> annotations = Collections.emptySet();
+	private final int degree;
+	private final int numberOfClasses;
+	private final int numberOfObjectProperties;
+	private final long seed;
+	private final OntologyShape shape;
+
+	/**
+	 * Constructs a new generator of synthetic ontologies.
+	 *
+	 * @param shape
+	 *            shape of the ontology
+	 * @param numberOfClasses
+	 *            number of classes
+	 * @param numberOfObjectProperties
+	 *            number of object properties, at least 1
+	 * @param degree
+	 *            degree, which meaning depends on the shape, at least 1
+	 * @param seed
+	 *            seed for the random choices
+	 */
+	public SyntheticOntologyGenerator(OntologyShape shape, int numberOfClasses, int numberOfObjectProperties,
+			int degree, long seed) {
+		Objects.requireNonNull(shape);
+		if (numberOfClasses < 1) {
+			throw new IllegalArgumentException("Invalid number of classes: '" + numberOfClasses + "'.");
+		}
+		if (numberOfObjectProperties < 1) {
+			throw new IllegalArgumentException(
+					"Invalid number of object properties: '" + numberOfObjectProperties + "'.");
+		}
+		if (degree < 1) {
+			throw new IllegalArgumentException("Invalid degree: '" + degree + "'.");
+		}
+		this.shape = shape;
+		this.numberOfClasses = numberOfClasses;
+		this.numberOfObjectProperties = numberOfObjectProperties;
+		this.degree = degree;
+		this.seed = seed;
+	}
+
+	private void addChainAxioms(Set<ComplexIntegerAxiom> axioms, IntegerOntologyObjectFactory factory,
+			List<IntegerClassExpression> classes, List<IntegerObjectPropertyExpression> properties) {
+		IntegerDataTypeFactory dataTypeFactory = factory.getDataTypeFactory();
+		ComplexIntegerAxiomFactory axiomFactory = factory.getComplexAxiomFactory();
+		IntegerObjectPropertyExpression property = properties.get(0);
+		axioms.add(axiomFactory.createTransitiveObjectPropertyAxiom(property, this.annotations));
+		for (int start = 0; start < classes.size(); start += this.degree) {
+			int end = Math.min(start + this.degree, classes.size()) - 1;
+			for (int index = start; index < end; index++) {
+				axioms.add(axiomFactory.createSubClassOfAxiom(classes.get(index),
+						dataTypeFactory.createObjectSomeValuesFrom(property, classes.get(index + 1)),
+						this.annotations));
+			}
+			axioms.add(axiomFactory.createSubClassOfAxiom(
+					dataTypeFactory.createObjectSomeValuesFrom(property, classes.get(end)), classes.get(start),
+					this.annotations));
+		}
+	}
+
+	private void addFlatAxioms(Set<ComplexIntegerAxiom> axioms, IntegerOntologyObjectFactory factory,
+			List<IntegerClassExpression> classes, List<IntegerObjectPropertyExpression> properties, Random random) {
+		IntegerDataTypeFactory dataTypeFactory = factory.getDataTypeFactory();
+		ComplexIntegerAxiomFactory axiomFactory = factory.getComplexAxiomFactory();
+		int numberOfTopClasses = Math.max(1, (int) Math.sqrt(classes.size()));
+		for (int index = numberOfTopClasses; index < classes.size(); index++) {
+			IntegerClassExpression cls = classes.get(index);
+			for (int count = 0; count < this.degree; count++) {
+				int kind = random.nextInt(100);
+				if (kind < 40) {
+					axioms.add(axiomFactory.createSubClassOfAxiom(cls,
+							classes.get(random.nextInt(numberOfTopClasses)), this.annotations));
+				} else if (kind < 55) {
+					Set<IntegerClassExpression> operands = new HashSet<>();
+					operands.add(cls);
+					operands.add(pick(classes, random));
+					if (operands.size() > 1) {
+						axioms.add(axiomFactory.createSubClassOfAxiom(
+								dataTypeFactory.createObjectIntersectionOf(operands),
+								classes.get(random.nextInt(numberOfTopClasses)), this.annotations));
+					}
+				} else if (kind < 80) {
+					axioms.add(axiomFactory.createSubClassOfAxiom(cls, dataTypeFactory
+							.createObjectSomeValuesFrom(pick(properties, random), pick(classes, random)),
+							this.annotations));
+				} else {
+					axioms.add(axiomFactory.createSubClassOfAxiom(
+							dataTypeFactory.createObjectSomeValuesFrom(pick(properties, random), cls),
+							classes.get(random.nextInt(numberOfTopClasses)), this.annotations));
+				}
+			}
+		}
+	}
+
+	private void addPropertyAxioms(Set<ComplexIntegerAxiom> axioms, IntegerOntologyObjectFactory factory,
+			List<IntegerObjectPropertyExpression> properties) {
+		ComplexIntegerAxiomFactory axiomFactory = factory.getComplexAxiomFactory();
+		for (int index = 1; index < properties.size(); index++) {
+			axioms.add(axiomFactory.createSubObjectPropertyOfAxiom(properties.get(index),
+					properties.get((index - 1) / 2), this.annotations));
+		}
+		if (properties.size() > 2) {
+			List<IntegerObjectPropertyExpression> chain = new ArrayList<>();
+			chain.add(properties.get(1));
+			chain.add(properties.get(2));
+			axioms.add(axiomFactory.createSubPropertyChainOfAxiom(chain, properties.get(1), this.annotations));
+		}
+	}
+
+	private void addTreeAxioms(Set<ComplexIntegerAxiom> axioms, IntegerOntologyObjectFactory factory,
+			List<IntegerClassExpression> classes, List<IntegerObjectPropertyExpression> properties, Random random) {
+		IntegerDataTypeFactory dataTypeFactory = factory.getDataTypeFactory();
+		ComplexIntegerAxiomFactory axiomFactory = factory.getComplexAxiomFactory();
+		for (int index = 1; index < classes.size(); index++) {
+			IntegerClassExpression cls = classes.get(index);
+			axioms.add(axiomFactory.createSubClassOfAxiom(cls, classes.get((index - 1) / this.degree),
+					this.annotations));
+			int kind = random.nextInt(30);
+			if (kind < 10) {
+				axioms.add(axiomFactory.createSubClassOfAxiom(cls,
+						dataTypeFactory.createObjectSomeValuesFrom(pick(properties, random), pick(classes, random)),
+						this.annotations));
+			} else if (kind < 15) {
+				axioms.add(axiomFactory.createSubClassOfAxiom(
+						dataTypeFactory.createObjectSomeValuesFrom(pick(properties, random), cls),
+						classes.get(random.nextInt(index)), this.annotations));
+			} else if (kind < 18) {
+				Set<IntegerClassExpression> operands = new HashSet<>();
+				operands.add(cls);
+				operands.add(pick(classes, random));
+				if (operands.size() > 1) {
+					axioms.add(axiomFactory.createSubClassOfAxiom(dataTypeFactory.createObjectIntersectionOf(operands),
+							classes.get(random.nextInt(index)), this.annotations));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns a new synthetic ontology.
+	 *
+	 * @return a new synthetic ontology
+	 */
+	public SyntheticOntology generate() {
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+		IntegerEntityManager entityManager = factory.getEntityManager();
+		IntegerDataTypeFactory dataTypeFactory = factory.getDataTypeFactory();
+		Random random = new Random(this.seed);
+
+		List<IntegerClassExpression> classes = new ArrayList<>();
+		for (int index = 0; index < this.numberOfClasses; index++) {
+			classes.add(dataTypeFactory
+					.createClass(entityManager.createNamedEntity(IntegerEntityType.CLASS, "C" + index, false)));
+		}
+		List<IntegerObjectPropertyExpression> properties = new ArrayList<>();
+		for (int index = 0; index < this.numberOfObjectProperties; index++) {
+			properties.add(dataTypeFactory.createObjectProperty(
+					entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "r" + index, false)));
+		}
+
+		Set<ComplexIntegerAxiom> axioms = new HashSet<>();
+		addPropertyAxioms(axioms, factory, properties);
+		if (this.shape.equals(OntologyShape.CHAIN)) {
+			addChainAxioms(axioms, factory, classes, properties);
+		} else if (this.shape.equals(OntologyShape.FLAT)) {
+			addFlatAxioms(axioms, factory, classes, properties, random);
+		} else {
+			addTreeAxioms(axioms, factory, classes, properties, random);
+		}
+		return new SyntheticOntology(factory, axioms);
+	}
+
+	private <T> T pick(List<T> list, Random random) {
+		return list.get(random.nextInt(list.size()));
+	}
+
+	@Override
+	public String toString() {
+		return "shape=" + this.shape + " classes=" + this.numberOfClasses + " objectProperties="
+				+ this.numberOfObjectProperties + " degree=" + this.degree + " seed=" + this.seed;
+	}
+
+}
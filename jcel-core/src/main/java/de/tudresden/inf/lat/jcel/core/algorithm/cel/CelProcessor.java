@@ -47,24 +47,31 @@
 package de.tudresden.inf.lat.jcel.core.algorithm.cel;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.logging.Logger;
 
+import de.tudresden.inf.lat.jcel.core.algorithm.common.IndividualRealization;
+import de.tudresden.inf.lat.jcel.core.algorithm.common.NominalSubsumerPropagator;
 import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
 import de.tudresden.inf.lat.jcel.core.algorithm.common.UnclassifiedOntologyException;
+import de.tudresden.inf.lat.jcel.core.graph.IntSet;
+import de.tudresden.inf.lat.jcel.core.graph.IntSetType;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerBinaryRelation;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraphImpl;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerRelationMapImpl;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraph;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraphImpl;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerTransitiveClosure;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.RI2Axiom;
@@ -114,10 +121,15 @@ public class CelProcessor implements Processor {
 	private IntegerSubsumerGraphImpl objectPropertyGraph = null;
 	private IntegerHierarchicalGraph objectPropertyHierarchy = null;
 	private Map<Integer, Set<Integer>> propertyUsedByClass = null;
+	private final Deque<Integer> queueBottom = new ArrayDeque<Integer>();
+	private final Deque<Integer> queueEdgeFirst = new ArrayDeque<Integer>();
+	private final Deque<Integer> queueEdgeProperties = new ArrayDeque<Integer>();
+	private final Deque<Integer> queueEdgeSecond = new ArrayDeque<Integer>();
 	private final Deque<ExtensionEntry> queueEntries = new ArrayDeque<ExtensionEntry>();
 	private final Deque<Integer> queueKeys = new ArrayDeque<Integer>();
 	private IntegerRelationMapImpl relationSet = null;
 	private Map<Integer, Set<Integer>> sameIndividualMap = null;
+	private final IntSetType subsumerSetType;
 	private Map<Integer, Set<Integer>> transitiveSubsumed = null;
 
 	/**
@@ -137,13 +149,38 @@ public class CelProcessor implements Processor {
 	public CelProcessor(Set<Integer> originalObjectProperties, Set<Integer> originalClasses,
 			Set<NormalizedIntegerAxiom> normalizedAxiomSet, NormalizedIntegerAxiomFactory factory,
 			IntegerEntityManager entityManager) {
+		this(originalObjectProperties, originalClasses, normalizedAxiomSet, factory, entityManager,
+				IntSetType.ARRAY);
+	}
+
+	/**
+	 * Constructs a new CEL processor.
+	 *
+	 * @param originalObjectProperties
+	 *            set of object properties
+	 * @param originalClasses
+	 *            set of classes
+	 * @param normalizedAxiomSet
+	 *            set of axioms
+	 * @param factory
+	 *            factory
+	 * @param entityManager
+	 *            entity manager
+	 * @param subsumerSetType
+	 *            implementation of the sets of subsumers of each class
+	 */
+	public CelProcessor(Set<Integer> originalObjectProperties, Set<Integer> originalClasses,
+			Set<NormalizedIntegerAxiom> normalizedAxiomSet, NormalizedIntegerAxiomFactory factory,
+			IntegerEntityManager entityManager, IntSetType subsumerSetType) {
 		Objects.requireNonNull(originalObjectProperties);
 		Objects.requireNonNull(originalClasses);
 		Objects.requireNonNull(normalizedAxiomSet);
 		Objects.requireNonNull(factory);
 		Objects.requireNonNull(entityManager);
+		Objects.requireNonNull(subsumerSetType);
 		this.axiomFactory = factory;
 		this.entityManager = entityManager;
+		this.subsumerSetType = subsumerSetType;
 		preProcess(originalObjectProperties, originalClasses, normalizedAxiomSet);
 	}
 
@@ -154,52 +191,17 @@ public class CelProcessor implements Processor {
 		});
 	}
 
-	/**
-	 * @param hierarchicalGraph
-	 *            graph containing direct subsumers
-	 * @return a map with all the direct types for each individual.
-	 */
-	private Map<Integer, Set<Integer>> computeDirectTypes(IntegerHierarchicalGraph hierarchicalGraph) {
-		Map<Integer, Set<Integer>> ret = new HashMap<>();
-		Set<Integer> individuals = getEntityManager().getEntities(IntegerEntityType.INDIVIDUAL, false);
-		individuals.forEach(indiv -> {
-			Set<Integer> subsumers = hierarchicalGraph.getParents(getEntityManager().getAuxiliaryNominal(indiv).get());
-			subsumers.forEach(elem -> {
-				if (getEntityManager().getAuxiliaryNominals().contains(elem)) {
-					throw new IllegalStateException("An individual has another individual as direct subsumer.");
-				}
-			});
-			ret.put(indiv, Collections.unmodifiableSet(subsumers));
-		});
-		return ret;
-	}
-
-	private Map<Integer, Set<Integer>> computeSameIndividualMap(IntegerHierarchicalGraph hierarchicalGraph) {
-		Map<Integer, Set<Integer>> ret = new HashMap<>();
-		Set<Integer> individuals = getEntityManager().getEntities(IntegerEntityType.INDIVIDUAL, false);
-		individuals.forEach(indiv -> {
-			Set<Integer> equivalentClasses = hierarchicalGraph
-					.getEquivalents(getEntityManager().getAuxiliaryNominal(indiv).get());
-			Set<Integer> equivalents = new HashSet<>();
-			equivalentClasses.forEach(elem -> {
-				if (getEntityManager().getAuxiliaryNominals().contains(elem)) {
-					equivalents.add(getEntityManager().getIndividual(elem).get());
-				}
-			});
-			ret.put(indiv, Collections.unmodifiableSet(equivalents));
-		});
-		return ret;
-	}
-
 	private IntegerSubsumerGraphImpl createClassGraph(Set<Integer> originalClassSet,
 			Set<NormalizedIntegerAxiom> axiomSet) {
 
 		Set<Integer> classIdSet = new HashSet<>();
 		classIdSet.addAll(originalClassSet);
 		axiomSet.forEach(axiom -> classIdSet.addAll(axiom.getClassesInSignature()));
-		IntegerSubsumerGraphImpl ret = new IntegerSubsumerGraphImpl(bottomClassId, topClassId);
-		classIdSet.forEach(index -> ret.addAncestor(index, topClassId));
-		ret.addAncestor(topClassId, topClassId);
+		IntegerSubsumerGraphImpl ret = new IntegerSubsumerGraphImpl(bottomClassId, topClassId, this.subsumerSetType);
+		classIdSet.forEach(index -> {
+			ret.addAncestor(index, index);
+			ret.addAncestor(index, topClassId);
+		});
 		return ret;
 	}
 
@@ -242,10 +244,11 @@ public class CelProcessor implements Processor {
 
 	private Map<Integer, Set<Integer>> createTransitiveSubsumed() {
 		Map<Integer, Set<Integer>> ret = new HashMap<>();
-		getObjectPropertyGraph().getElements().forEach(r -> {
+		Collection<Integer> elements = this.objectPropertyGraph.getElements();
+		elements.forEach(r -> {
 			Set<Integer> related = new HashSet<>();
-			getObjectPropertyGraph().getElements().forEach(s -> {
-				if (isReflexiveTransitiveSubsumed(r, s)) {
+			this.objectPropertyGraph.getSubsumerSet(r).forEachInt(s -> {
+				if (elements.contains(s)) {
 					related.add(s);
 				}
 			});
@@ -279,31 +282,6 @@ public class CelProcessor implements Processor {
 		return this.dataPropertyHierarchy;
 	}
 
-	/**
-	 * Computes the descendants using only a hierarchical graph.
-	 *
-	 * @param hierarchicalGraph
-	 *            a hierarchical graph containing parents and children
-	 * @param vertex
-	 *            starting vertex to compute the descendants
-	 * @return the descendants according the graph
-	 */
-	private Set<Integer> getDescendants(IntegerHierarchicalGraph hierarchicalGraph, Integer vertex) {
-		Set<Integer> visited = new HashSet<>();
-		Set<Integer> queue = new HashSet<>();
-		queue.add(vertex);
-		while (!queue.isEmpty()) {
-			Integer elem = queue.iterator().next();
-			queue.remove(elem);
-			visited.add(elem);
-			Set<Integer> children = new HashSet<>();
-			children.addAll(hierarchicalGraph.getChildren(elem));
-			children.removeAll(visited);
-			queue.addAll(children);
-		}
-		return visited;
-	}
-
 	@Override
 	public Map<Integer, Set<Integer>> getDirectTypes() {
 		if (!isReady()) {
@@ -345,6 +323,27 @@ public class CelProcessor implements Processor {
 		return this.propertyUsedByClass.get(cA);
 	}
 
+	/**
+	 * Returns all the elements d such that (c, d) belongs to any of the
+	 * properties used by c.
+	 *
+	 * @param c
+	 *            first element of the pairs
+	 * @return all the elements d such that (c, d) belongs to any of the
+	 *         properties used by c
+	 */
+	private Collection<Integer> getSuccessorsInR(int c) {
+		Set<Integer> ret = new HashSet<>();
+		Set<Integer> properties = getPropertyUsedByClass(c);
+		if (Objects.nonNull(properties)) {
+			properties.forEach(r -> {
+				IntegerBinaryRelation relation = this.relationSet.get(r);
+				ret.addAll(relation.getByFirst(c));
+			});
+		}
+		return ret;
+	}
+
 	/**
 	 * Returns the binary relation for a given id, or and empty relation if the
 	 * id is unknown.
@@ -376,67 +375,23 @@ public class CelProcessor implements Processor {
 		return Collections.unmodifiableMap(this.sameIndividualMap);
 	}
 
-	/**
-	 * This is a graph reachability algorithm that tests whether an element d is
-	 * reachable from an element c using a path where each segment is from any
-	 * of the properties in R.
-	 *
-	 * @param c
-	 *            first element in the path
-	 * @param d
-	 *            last element in the path
-	 * @return <code>true</code> if it is possible to reach d from c using any
-	 *         possible segment, <code>false</code> otherwise
-	 */
-	private boolean isConnectedTo(Integer c, Integer d) {
-		Set<Integer> visited = new HashSet<>();
-		Set<Integer> toVisit = new HashSet<>();
-		toVisit.add(c);
-		while (!toVisit.isEmpty()) {
-			Integer elem = toVisit.iterator().next();
-			toVisit.remove(elem);
-			visited.add(elem);
-			Set<Integer> newToVisit = new HashSet<>();
-			getPropertyUsedByClass(elem).forEach(r -> {
-				IntegerBinaryRelation relation = this.relationSet.get(r);
-				newToVisit.addAll(relation.getByFirst(elem));
-			});
-			newToVisit.removeAll(visited);
-			toVisit.addAll(newToVisit);
-		}
-		return visited.contains(d);
-	}
-
 	@Override
 	public boolean isReady() {
 		return this.isReady;
 	}
 
-	private boolean isReflexiveTransitiveSubsumed(Integer leftPropertyName, Integer rightPropertyName) {
-		return Objects.nonNull(this.objectPropertyGraph)
-				&& this.objectPropertyGraph.containsPair(leftPropertyName, rightPropertyName);
-	}
-
 	private void makeTransitiveClosure(IntegerSubsumerGraphImpl graph) {
-		boolean hasChanged = true;
-		while (hasChanged) {
-			hasChanged = false;
-			for (Integer elem : graph.getElements()) {
-				Collection<Integer> subsumerSet = graph.getSubsumers(elem);
-				Set<Integer> allSubsumers = new HashSet<>();
-				allSubsumers.add(elem);
-				for (Integer otherElem : subsumerSet) {
-					allSubsumers.addAll(graph.getSubsumers(otherElem));
-				}
-				allSubsumers.removeAll(subsumerSet);
-				if (!allSubsumers.isEmpty()) {
-					hasChanged = true;
-					for (Integer subsumer : allSubsumers) {
-						graph.addAncestor(elem, subsumer);
-					}
+		List<Integer> elements = new ArrayList<>(graph.getElements());
+		IntegerTransitiveClosure closure = new IntegerTransitiveClosure();
+		elements.forEach(elem -> graph.getSubsumerSet(elem).forEachInt(subsumer -> closure.addPair(elem, subsumer)));
+		elements.forEach(elem -> {
+			IntSet subsumerSet = graph.getSubsumerSet(elem);
+			closure.forEachReachable(elem, subsumer -> {
+				if (!subsumerSet.contains(subsumer)) {
+					graph.addAncestor(elem, subsumer);
 				}
-			}
-		}
+			});
+		});
 	}
 
 	/**
@@ -450,8 +405,10 @@ public class CelProcessor implements Processor {
 		removeAuxiliaryClassesExceptNominals();
 		IntegerHierarchicalGraph hierarchicalGraph = new IntegerHierarchicalGraphImpl(this.classGraph);
 		processNominals(hierarchicalGraph);
-		this.directTypes = computeDirectTypes(hierarchicalGraph);
-		this.sameIndividualMap = computeSameIndividualMap(hierarchicalGraph);
+		IndividualRealization realization = new IndividualRealization(hierarchicalGraph, getEntityManager(),
+				getEntityManager().getEntities(IntegerEntityType.INDIVIDUAL, false), 1);
+		this.directTypes = realization.getDirectTypes();
+		this.sameIndividualMap = realization.getSameIndividualMap();
 
 		removeAuxiliaryNominals();
 		this.classHierarchy = new IntegerHierarchicalGraphImpl(this.classGraph);
@@ -568,16 +525,32 @@ public class CelProcessor implements Processor {
 		}
 	}
 
+	/**
+	 * Adds the bottom class as subsumer of the given class and propagates it
+	 * backwards through every relation. The propagation uses a worklist
+	 * instead of recursion, so that long chains of relations do not exhaust
+	 * the stack.
+	 *
+	 * @param className
+	 *            class that is found to be unsatisfiable
+	 */
 	private void processBottom(Integer className) {
-		this.classGraph.addAncestor(className, bottomClassId);
-
-		this.relationSet.getElements().forEach(relation -> {
-			this.relationSet.getBySecond(relation, className).forEach(firstComponent -> {
-				if (!this.classGraph.containsPair(firstComponent, bottomClassId)) {
-					processBottom(firstComponent);
-				}
-			});
-		});
+		Deque<Integer> toVisit = this.queueBottom;
+		toVisit.push(className);
+		while (!toVisit.isEmpty()) {
+			Integer cA = toVisit.pop();
+			if (!this.classGraph.containsPair(cA, bottomClassId)) {
+				this.classGraph.addAncestor(cA, bottomClassId);
+
+				this.relationSet.getElements().forEach(relation -> {
+					this.relationSet.getBySecond(relation, cA).forEach(firstComponent -> {
+						if (!this.classGraph.containsPair(firstComponent, bottomClassId)) {
+							toVisit.push(firstComponent);
+						}
+					});
+				});
+			}
+		}
 	}
 
 	private void processExistential(Integer cA, ExistentialEntry eX) {
@@ -598,12 +571,12 @@ public class CelProcessor implements Processor {
 	}
 
 	private void processImplication(Integer cA, ImplicationEntry eX) {
-		Set<Integer> vecB = eX.getOperands();
+		IntSet vecB = eX.getOperandSet();
 		Integer cB = eX.getSuperClass();
-		Collection<Integer> sSofA = this.classGraph.getSubsumers(cA);
+		IntSet sSofA = this.classGraph.getSubsumerSet(cA);
 		Integer bottom = bottomClassId;
 
-		if (sSofA.containsAll(vecB) && !sSofA.contains(cB)) {
+		if (sSofA.includes(vecB) && !sSofA.contains(cB)) {
 
 			if (cB.equals(bottom)) {
 
@@ -630,7 +603,32 @@ public class CelProcessor implements Processor {
 		}
 	}
 
+	/**
+	 * Adds a new edge to the relations and computes the edges that follow from
+	 * it using the role inclusions and role chains. The derived edges are kept
+	 * in a worklist instead of being processed recursively, so that long role
+	 * chains do not exhaust the stack.
+	 *
+	 * @param cA
+	 *            first component of the edge
+	 * @param r
+	 *            object property
+	 * @param cB
+	 *            second component of the edge
+	 */
 	private void processNewEdge(Integer cA, Integer r, Integer cB) {
+		pushEdge(cA, r, cB);
+		while (!this.queueEdgeProperties.isEmpty()) {
+			Integer first = this.queueEdgeFirst.pop();
+			Integer property = this.queueEdgeProperties.pop();
+			Integer second = this.queueEdgeSecond.pop();
+			if (!this.relationSet.contains(property, first, second)) {
+				processNewEdgeStep(first, property, second);
+			}
+		}
+	}
+
+	private void processNewEdgeStep(Integer cA, Integer r, Integer cB) {
 		this.transitiveSubsumed.get(r).forEach(s -> {
 
 			this.relationSet.add(s, cA, cB);
@@ -649,7 +647,7 @@ public class CelProcessor implements Processor {
 				classSet.forEach(cAprime -> {
 
 					if (!this.relationSet.contains(u, cAprime, cB)) {
-						processNewEdge(cAprime, u, cB);
+						pushEdge(cAprime, u, cB);
 					}
 
 				});
@@ -666,7 +664,7 @@ public class CelProcessor implements Processor {
 				classSet.forEach(cBprime -> {
 
 					if (!this.relationSet.contains(u, cA, cBprime)) {
-						processNewEdge(cA, u, cBprime);
+						pushEdge(cA, u, cBprime);
 					}
 
 				});
@@ -683,26 +681,14 @@ public class CelProcessor implements Processor {
 	 *            the hierarchical graph
 	 */
 	private void processNominals(IntegerHierarchicalGraph hierarchicalGraph) {
-		Set<Integer> nominals = getEntityManager().getAuxiliaryNominals();
-		nominals.forEach(indiv -> {
-			Set<Integer> descendants = getDescendants(hierarchicalGraph, indiv);
-			descendants.forEach(c -> {
-				descendants.forEach(d -> {
-					Collection<Integer> sC = getClassGraph().getSubsumers(c);
-					Collection<Integer> sD = getClassGraph().getSubsumers(d);
-					if (!(sD.containsAll(sC))) {
-						if (isConnectedTo(c, d)) {
-							sD.forEach(elem -> this.classGraph.addAncestor(c, elem));
-						}
-						nominals.forEach(nominal -> {
-							if (isConnectedTo(nominal, d)) {
-								sD.forEach(elem -> this.classGraph.addAncestor(c, elem));
-							}
-						});
-					}
-				});
-			});
-		});
+		new NominalSubsumerPropagator(this::getSuccessorsInR, 1).apply(this.classGraph, hierarchicalGraph,
+				getEntityManager().getAuxiliaryNominals());
+	}
+
+	private void pushEdge(Integer cA, Integer r, Integer cB) {
+		this.queueEdgeFirst.push(cA);
+		this.queueEdgeProperties.push(r);
+		this.queueEdgeSecond.push(cB);
 	}
 
 	private void removeAuxiliaryClassesExceptNominals() {
@@ -51,6 +51,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import de.tudresden.inf.lat.jcel.core.graph.BitmapSet;
+import de.tudresden.inf.lat.jcel.core.graph.IntSet;
+
 /**
  * This is an auxiliary class which corresponds to an implication entry in the
  * extended ontology.
@@ -61,6 +64,7 @@ class ImplicationEntry implements ExtensionEntry {
 
 	private final int hashcode;
 	private final Set<Integer> leftPart;
+	private final BitmapSet leftPartSet;
 	private final Integer superClass;
 
 	/**
@@ -75,6 +79,8 @@ class ImplicationEntry implements ExtensionEntry {
 		Objects.requireNonNull(left);
 		Objects.requireNonNull(right);
 		this.leftPart = left;
+		this.leftPartSet = new BitmapSet();
+		this.leftPart.forEach(elem -> this.leftPartSet.add(elem.intValue()));
 		this.superClass = right;
 		this.hashcode = (31 * this.leftPart.hashCode()) + this.superClass.hashCode();
 	}
@@ -108,6 +114,15 @@ class ImplicationEntry implements ExtensionEntry {
 		return Collections.unmodifiableSet(this.leftPart);
 	}
 
+	/**
+	 * Returns the operands in this entry as a set of integers.
+	 * 
+	 * @return the operands in this entry as a set of integers
+	 */
+	public IntSet getOperandSet() {
+		return this.leftPartSet;
+	}
+
 	public Integer getSuperClass() {
 		return this.superClass;
 	}
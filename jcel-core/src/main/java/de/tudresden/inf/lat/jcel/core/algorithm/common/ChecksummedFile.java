@@ -0,0 +1,215 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.common;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * This class writes and reads binary files that start with a magic number and
+ * a format version, and end with a CRC-32 of their contents. Files are written
+ * to a temporary file in the same directory, which then replaces the target
+ * file, so that the target file is never left partially written. Files are
+ * read as streams, first to check the CRC-32 and then to read the contents,
+ * so that their size is not limited by the size of a buffer.
+ * 
+ * @author Julian Mendez
+ */
+public class ChecksummedFile {
+
+	/**
+	 * An object implementing this interface writes the contents of a file.
+	 */
+	public interface Content {
+
+		/**
+		 * Writes the contents.
+		 * 
+		 * @param output
+		 *            output
+		 * @throws IOException
+		 *             if something goes wrong with the output
+		 */
+		void write(DataOutput output) throws IOException;
+
+	}
+
+	/**
+	 * An object implementing this interface reads the contents of a file.
+	 * 
+	 * @param <T>
+	 *            type of the object read from the file
+	 */
+	public interface ContentReader<T> {
+
+		/**
+		 * Reads the contents.
+		 * 
+		 * @param input
+		 *            input positioned after the format version
+		 * @return the object read from the input
+		 * @throws IOException
+		 *             if something goes wrong with the input
+		 */
+		T read(DataInput input) throws IOException;
+
+	}
+
+	private static final int bufferSize = 1 << 16;
+	private static final String temporaryFileSuffix = ".tmp";
+
+	private ChecksummedFile() {
+	}
+
+	private static void checkCrc(Path file, long contentLength) throws IOException {
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[bufferSize];
+		try (InputStream input = Files.newInputStream(file)) {
+			long remaining = contentLength;
+			while (remaining > 0) {
+				int length = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+				if (length < 0) {
+					throw new IOException("Invalid file (truncated): " + file);
+				}
+				crc.update(buffer, 0, length);
+				remaining -= length;
+			}
+			DataInputStream storedCrc = new DataInputStream(input);
+			if (crc.getValue() != storedCrc.readLong()) {
+				throw new IOException("Invalid file (wrong CRC): " + file);
+			}
+		}
+	}
+
+	/**
+	 * Checks the CRC-32, magic number and format version of a file, and reads
+	 * its contents. The contents are only read if the CRC-32 matches.
+	 * 
+	 * @param file
+	 *            file
+	 * @param magicNumber
+	 *            expected magic number
+	 * @param formatVersion
+	 *            expected format version
+	 * @param reader
+	 *            reader of the contents after the format version
+	 * @param <T>
+	 *            type of the object read from the file
+	 * @return the object returned by the reader
+	 * @throws IOException
+	 *             if the file cannot be read, if the CRC-32, the magic number
+	 *             or the format version do not match, or if the reader fails
+	 */
+	public static <T> T read(Path file, int magicNumber, int formatVersion, ContentReader<T> reader)
+			throws IOException {
+		Objects.requireNonNull(file);
+		Objects.requireNonNull(reader);
+		long contentLength = Files.size(file) - Long.BYTES;
+		if (contentLength < 2 * Integer.BYTES) {
+			throw new IOException("Invalid file (too short): " + file);
+		}
+		checkCrc(file, contentLength);
+		try (InputStream fileInput = Files.newInputStream(file)) {
+			DataInputStream input = new DataInputStream(new BufferedInputStream(fileInput, bufferSize));
+			if (input.readInt() != magicNumber || input.readInt() != formatVersion) {
+				throw new IOException("Invalid file (unknown format): " + file);
+			}
+			return reader.read(input);
+		}
+	}
+
+	/**
+	 * Writes a file with the given magic number, format version and contents,
+	 * followed by the CRC-32 of everything written before.
+	 * 
+	 * @param file
+	 *            file
+	 * @param magicNumber
+	 *            magic number
+	 * @param formatVersion
+	 *            format version
+	 * @param content
+	 *            contents of the file
+	 * @throws IOException
+	 *             if something goes wrong writing the file
+	 */
+	public static void write(Path file, int magicNumber, int formatVersion, Content content) throws IOException {
+		Objects.requireNonNull(file);
+		Objects.requireNonNull(content);
+		Path directory = file.toAbsolutePath().getParent();
+		Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), temporaryFileSuffix);
+		try {
+			try (OutputStream fileOutput = Files.newOutputStream(temporaryFile)) {
+				CheckedOutputStream checkedOutput = new CheckedOutputStream(
+						new BufferedOutputStream(fileOutput, bufferSize), new CRC32());
+				DataOutputStream output = new DataOutputStream(checkedOutput);
+				output.writeInt(magicNumber);
+				output.writeInt(formatVersion);
+				content.write(output);
+				output.writeLong(checkedOutput.getChecksum().getValue());
+				output.flush();
+			}
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+}
@@ -0,0 +1,339 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.common;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerTaxonomy;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+
+/**
+ * An object of this class is the result of a classification, which can be
+ * written to a file and read back without classifying the ontology again. It
+ * contains the entity manager, the class, object property, and data property
+ * hierarchies, the direct types, and the same individual map. It is a processor
+ * that is always ready, so it can answer the same queries as the processor
+ * that produced it. <br>
+ * The file keeps a checksum of the input ontology, given by the user, to detect
+ * snapshots of another version of the ontology. It ends with a CRC-32 of its
+ * contents to detect damaged files. Files are read by mapping them into memory.
+ * 
+ * @author Julian Mendez
+ */
+public class ClassificationSnapshot implements Processor {
+
+	private static final int bufferSize = 1 << 16;
+	private static final String checksumAlgorithm = "SHA-256";
+	private static final int formatVersion = 2;
+	private static final int magicNumber = 0x6A63656C;
+
+	private final IntegerTaxonomy classHierarchy;
+	private final IntegerTaxonomy dataPropertyHierarchy;
+	private final Map<Integer, Set<Integer>> directTypes;
+	private final IntegerEntityManagerImpl entityManager;
+	private final IntegerTaxonomy objectPropertyHierarchy;
+	private final byte[] ontologyChecksum;
+	private final Map<Integer, Set<Integer>> sameIndividualMap;
+
+	/**
+	 * Constructs a new snapshot of a processor that has finished the
+	 * classification.
+	 * 
+	 * @param processor
+	 *            processor that has classified the ontology
+	 * @param entityManager
+	 *            entity manager used by the processor
+	 * @param ontologyChecksum
+	 *            checksum of the input ontology
+	 * @throws UnclassifiedOntologyException
+	 *             if the processor has not finished the classification
+	 * @throws IllegalArgumentException
+	 *             if the entity manager cannot be written
+	 */
+	public ClassificationSnapshot(Processor processor, IntegerEntityManager entityManager, byte[] ontologyChecksum) {
+		Objects.requireNonNull(processor);
+		Objects.requireNonNull(entityManager);
+		Objects.requireNonNull(ontologyChecksum);
+		if (!(entityManager instanceof IntegerEntityManagerImpl)) {
+			throw new IllegalArgumentException("Unsupported entity manager: " + entityManager.getClass().getName());
+		}
+		this.entityManager = (IntegerEntityManagerImpl) entityManager;
+		this.ontologyChecksum = Arrays.copyOf(ontologyChecksum, ontologyChecksum.length);
+		this.classHierarchy = toTaxonomy(processor.getClassHierarchy());
+		this.objectPropertyHierarchy = toTaxonomy(processor.getObjectPropertyHierarchy());
+		this.dataPropertyHierarchy = toTaxonomy(processor.getDataPropertyHierarchy());
+		this.directTypes = copy(processor.getDirectTypes());
+		this.sameIndividualMap = copy(processor.getSameIndividualMap());
+	}
+
+	private ClassificationSnapshot(DataInput input, byte[] ontologyChecksum) throws IOException {
+		this.ontologyChecksum = ontologyChecksum;
+		this.entityManager = IntegerEntityManagerImpl.read(input);
+		this.classHierarchy = IntegerTaxonomy.read(input);
+		this.objectPropertyHierarchy = IntegerTaxonomy.read(input);
+		this.dataPropertyHierarchy = IntegerTaxonomy.read(input);
+		this.directTypes = readMap(input);
+		this.sameIndividualMap = readMap(input);
+	}
+
+	/**
+	 * Computes the checksum of an input ontology, which is the SHA-256 digest
+	 * of its bytes.
+	 * 
+	 * @param input
+	 *            input stream of the ontology
+	 * @return the checksum of the ontology
+	 * @throws IOException
+	 *             if something goes wrong with the input
+	 */
+	public static byte[] computeChecksum(InputStream input) throws IOException {
+		Objects.requireNonNull(input);
+		try {
+			DigestInputStream digestInput = new DigestInputStream(input, MessageDigest.getInstance(checksumAlgorithm));
+			byte[] buffer = new byte[bufferSize];
+			while (digestInput.read(buffer) != -1) {
+			}
+			return digestInput.getMessageDigest().digest();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Computes the checksum of an input ontology file, which is the SHA-256
+	 * digest of its bytes.
+	 * 
+	 * @param file
+	 *            ontology file
+	 * @return the checksum of the ontology file
+	 * @throws IOException
+	 *             if something goes wrong reading the file
+	 */
+	public static byte[] computeChecksum(Path file) throws IOException {
+		Objects.requireNonNull(file);
+		try (InputStream input = Files.newInputStream(file)) {
+			return computeChecksum(input);
+		}
+	}
+
+	private static Map<Integer, Set<Integer>> copy(Map<Integer, Set<Integer>> map) {
+		Map<Integer, Set<Integer>> ret = new TreeMap<>();
+		map.forEach((key, value) -> ret.put(key, Collections.unmodifiableSet(new TreeSet<>(value))));
+		return Collections.unmodifiableMap(ret);
+	}
+
+	@Override
+	public IntegerHierarchicalGraph getClassHierarchy() {
+		return this.classHierarchy;
+	}
+
+	@Override
+	public IntegerHierarchicalGraph getDataPropertyHierarchy() {
+		return this.dataPropertyHierarchy;
+	}
+
+	@Override
+	public Map<Integer, Set<Integer>> getDirectTypes() {
+		return this.directTypes;
+	}
+
+	/**
+	 * Returns the entity manager.
+	 * 
+	 * @return the entity manager
+	 */
+	public IntegerEntityManager getEntityManager() {
+		return this.entityManager;
+	}
+
+	@Override
+	public IntegerHierarchicalGraph getObjectPropertyHierarchy() {
+		return this.objectPropertyHierarchy;
+	}
+
+	/**
+	 * Returns the checksum of the input ontology.
+	 * 
+	 * @return the checksum of the input ontology
+	 */
+	public byte[] getOntologyChecksum() {
+		return Arrays.copyOf(this.ontologyChecksum, this.ontologyChecksum.length);
+	}
+
+	@Override
+	public Map<Integer, Set<Integer>> getSameIndividualMap() {
+		return this.sameIndividualMap;
+	}
+
+	@Override
+	public boolean isReady() {
+		return true;
+	}
+
+	@Override
+	public boolean process() {
+		return false;
+	}
+
+	/**
+	 * Reads a snapshot from a file. The snapshot is only returned if it was
+	 * created for an ontology with the given checksum.
+	 * 
+	 * @param file
+	 *            snapshot file
+	 * @param ontologyChecksum
+	 *            checksum of the current input ontology
+	 * @return the snapshot, or an empty optional if the snapshot belongs to an
+	 *         ontology with another checksum
+	 * @throws IOException
+	 *             if the file cannot be read, or if it is not a valid
+	 *             snapshot
+	 */
+	public static Optional<ClassificationSnapshot> read(Path file, byte[] ontologyChecksum) throws IOException {
+		Objects.requireNonNull(file);
+		Objects.requireNonNull(ontologyChecksum);
+		try {
+			return ChecksummedFile.read(file, magicNumber, formatVersion, input -> {
+				byte[] storedChecksum = new byte[input.readInt()];
+				input.readFully(storedChecksum);
+
+				Optional<ClassificationSnapshot> ret = Optional.empty();
+				if (Arrays.equals(storedChecksum, ontologyChecksum)) {
+					ret = Optional.of(new ClassificationSnapshot(input, storedChecksum));
+				}
+				return ret;
+			});
+
+		} catch (EOFException | IllegalArgumentException | IndexOutOfBoundsException e) {
+			throw new IOException("Invalid snapshot file: " + file, e);
+		}
+	}
+
+	private static Map<Integer, Set<Integer>> readMap(DataInput input) throws IOException {
+		Map<Integer, Set<Integer>> ret = new TreeMap<>();
+		int size = input.readInt();
+		for (int index = 0; index < size; index++) {
+			Integer key = input.readInt();
+			Set<Integer> value = new TreeSet<>();
+			int valueSize = input.readInt();
+			for (int valueIndex = 0; valueIndex < valueSize; valueIndex++) {
+				value.add(input.readInt());
+			}
+			ret.put(key, Collections.unmodifiableSet(value));
+		}
+		return Collections.unmodifiableMap(ret);
+	}
+
+	/**
+	 * Returns the given graph if it is already a taxonomy, which cannot be
+	 * modified, or a new taxonomy of the graph otherwise.
+	 */
+	private static IntegerTaxonomy toTaxonomy(IntegerHierarchicalGraph graph) {
+		IntegerTaxonomy ret = null;
+		if (graph instanceof IntegerTaxonomy) {
+			ret = (IntegerTaxonomy) graph;
+		} else {
+			ret = new IntegerTaxonomy(graph);
+		}
+		return ret;
+	}
+
+	/**
+	 * Writes this snapshot to a file. The snapshot is first written to a
+	 * temporary file in the same directory, which then replaces the given file,
+	 * so that the given file is never left partially written.
+	 * 
+	 * @param file
+	 *            snapshot file
+	 * @throws IOException
+	 *             if something goes wrong writing the file
+	 */
+	public void write(Path file) throws IOException {
+		Objects.requireNonNull(file);
+		ChecksummedFile.write(file, magicNumber, formatVersion, output -> {
+			output.writeInt(this.ontologyChecksum.length);
+			output.write(this.ontologyChecksum);
+			this.entityManager.write(output);
+			this.classHierarchy.write(output);
+			this.objectPropertyHierarchy.write(output);
+			this.dataPropertyHierarchy.write(output);
+			writeMap(output, this.directTypes);
+			writeMap(output, this.sameIndividualMap);
+		});
+	}
+
+	private static void writeMap(DataOutput output, Map<Integer, Set<Integer>> map) throws IOException {
+		output.writeInt(map.size());
+		for (Map.Entry<Integer, Set<Integer>> entry : map.entrySet()) {
+			output.writeInt(entry.getKey());
+			output.writeInt(entry.getValue().size());
+			for (Integer value : entry.getValue()) {
+				output.writeInt(value);
+			}
+		}
+	}
+
+}
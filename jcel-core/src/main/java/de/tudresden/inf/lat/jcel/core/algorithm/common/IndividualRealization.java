@@ -0,0 +1,336 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.common;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import de.tudresden.inf.lat.jcel.core.graph.ArraySliceSet;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+
+/**
+ * An object of this class contains the realization of the individuals, that
+ * is, the direct types and the same individuals of each individual. They are
+ * read from a hierarchical graph that still contains the auxiliary nominals.
+ * <br>
+ * The individuals are split in partitions, which are processed independently,
+ * optionally in parallel. The results are stored in sorted arrays of
+ * <code>int</code>, with one range per individual. The maps returned by this
+ * object are read-only views of these arrays, so the set of an individual is
+ * only created when it is accessed.
+ * 
+ * @author Julian Mendez
+ */
+public class IndividualRealization {
+
+	private static final int partitionsPerThread = 4;
+
+	private final int[] individuals;
+	private final int[] sameIndividualOffset;
+	private final int[] sameIndividuals;
+	private final int[] typeOffset;
+	private final int[] types;
+
+	/**
+	 * Constructs the realization of the given individuals.
+	 * 
+	 * @param hierarchicalGraph
+	 *            hierarchical graph of classes that contains the auxiliary
+	 *            nominals
+	 * @param entityManager
+	 *            entity manager
+	 * @param individuals
+	 *            individuals
+	 * @param numberOfThreads
+	 *            number of threads, which must be positive
+	 * @throws IllegalStateException
+	 *             if an individual has another individual as direct subsumer
+	 */
+	public IndividualRealization(IntegerHierarchicalGraph hierarchicalGraph, IntegerEntityManager entityManager,
+			Set<Integer> individuals, int numberOfThreads) {
+		Objects.requireNonNull(hierarchicalGraph);
+		Objects.requireNonNull(entityManager);
+		Objects.requireNonNull(individuals);
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of threads: " + numberOfThreads);
+		}
+		this.individuals = individuals.stream().mapToInt(Integer::intValue).sorted().toArray();
+
+		int numberOfPartitions = Math.min(this.individuals.length, partitionsPerThread * numberOfThreads);
+		List<Partition> partitions = new ArrayList<>(Collections.nCopies(numberOfPartitions, null));
+		ForkJoinPool pool = (numberOfThreads > 1) ? new ForkJoinPool(numberOfThreads) : null;
+		try {
+			forEachIndex(pool, numberOfPartitions, index -> {
+				int fromIndex = (int) (((long) this.individuals.length * index) / numberOfPartitions);
+				int toIndex = (int) (((long) this.individuals.length * (index + 1)) / numberOfPartitions);
+				partitions.set(index, computePartition(hierarchicalGraph, entityManager, fromIndex, toIndex));
+			});
+		} finally {
+			if (Objects.nonNull(pool)) {
+				pool.shutdown();
+			}
+		}
+
+		this.typeOffset = new int[this.individuals.length + 1];
+		this.sameIndividualOffset = new int[this.individuals.length + 1];
+		this.types = new int[partitions.stream().mapToInt(partition -> partition.types.size).sum()];
+		this.sameIndividuals = new int[partitions.stream().mapToInt(partition -> partition.sameIndividuals.size)
+				.sum()];
+		int position = 0;
+		int typePosition = 0;
+		int sameIndividualPosition = 0;
+		for (Partition partition : partitions) {
+			System.arraycopy(partition.types.elements, 0, this.types, typePosition, partition.types.size);
+			System.arraycopy(partition.sameIndividuals.elements, 0, this.sameIndividuals, sameIndividualPosition,
+					partition.sameIndividuals.size);
+			for (int index = 0; index < partition.typeOffset.length; index++) {
+				this.typeOffset[position] = typePosition + partition.typeOffset[index];
+				this.sameIndividualOffset[position] = sameIndividualPosition
+						+ partition.sameIndividualOffset[index];
+				position++;
+			}
+			typePosition += partition.types.size;
+			sameIndividualPosition += partition.sameIndividuals.size;
+		}
+		this.typeOffset[position] = typePosition;
+		this.sameIndividualOffset[position] = sameIndividualPosition;
+	}
+
+	private Partition computePartition(IntegerHierarchicalGraph hierarchicalGraph,
+			IntegerEntityManager entityManager, int fromIndex, int toIndex) {
+		Partition ret = new Partition(toIndex - fromIndex);
+		for (int index = fromIndex; index < toIndex; index++) {
+			Integer nominal = entityManager.getAuxiliaryNominal(this.individuals[index]).get();
+			ret.typeOffset[index - fromIndex] = ret.types.size;
+			ret.sameIndividualOffset[index - fromIndex] = ret.sameIndividuals.size;
+
+			int start = ret.types.size;
+			hierarchicalGraph.getParents(nominal).forEach(elem -> {
+				if (entityManager.getIndividual(elem).isPresent()) {
+					throw new IllegalStateException("An individual has another individual as direct subsumer.");
+				}
+				ret.types.add(elem);
+			});
+			Arrays.sort(ret.types.elements, start, ret.types.size);
+
+			start = ret.sameIndividuals.size;
+			hierarchicalGraph.getEquivalents(nominal).forEach(
+					elem -> entityManager.getIndividual(elem).ifPresent(indiv -> ret.sameIndividuals.add(indiv)));
+			Arrays.sort(ret.sameIndividuals.elements, start, ret.sameIndividuals.size);
+		}
+		return ret;
+	}
+
+	private void forEachIndex(ForkJoinPool pool, int size, IntConsumer action) {
+		if (Objects.isNull(pool)) {
+			IntStream.range(0, size).forEach(action);
+		} else {
+			try {
+				pool.submit(() -> IntStream.range(0, size).parallel().forEach(action)).get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Returns a read-only view of the map of direct types for every
+	 * individual.
+	 * 
+	 * @return a read-only view of the map of direct types for every individual
+	 */
+	public Map<Integer, Set<Integer>> getDirectTypes() {
+		return new SliceMap(this.individuals, this.typeOffset, this.types);
+	}
+
+	/**
+	 * Returns a read-only view of the map of same individuals for every
+	 * individual.
+	 * 
+	 * @return a read-only view of the map of same individuals for every
+	 *         individual
+	 */
+	public Map<Integer, Set<Integer>> getSameIndividualMap() {
+		return new SliceMap(this.individuals, this.sameIndividualOffset, this.sameIndividuals);
+	}
+
+	/**
+	 * Growing array of <code>int</code>.
+	 */
+	private static class Buffer {
+
+		private int[] elements = new int[0x10];
+		private int size = 0;
+
+		void add(int element) {
+			if (this.size == this.elements.length) {
+				this.elements = Arrays.copyOf(this.elements, 2 * this.elements.length);
+			}
+			this.elements[this.size] = element;
+			this.size++;
+		}
+
+	}
+
+	/**
+	 * Realization of a range of individuals.
+	 */
+	private static class Partition {
+
+		private final int[] sameIndividualOffset;
+		private final Buffer sameIndividuals = new Buffer();
+		private final int[] typeOffset;
+		private final Buffer types = new Buffer();
+
+		Partition(int size) {
+			this.sameIndividualOffset = new int[size];
+			this.typeOffset = new int[size];
+		}
+
+	}
+
+	/**
+	 * Read-only map from each key to a range of an array of values.
+	 */
+	private static class SliceMap extends AbstractMap<Integer, Set<Integer>> {
+
+		private final int[] keys;
+		private final int[] offset;
+		private final int[] values;
+
+		SliceMap(int[] keys, int[] offset, int[] values) {
+			this.keys = keys;
+			this.offset = offset;
+			this.values = values;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return (key instanceof Integer) && Arrays.binarySearch(this.keys, (Integer) key) >= 0;
+		}
+
+		@Override
+		public Set<Entry<Integer, Set<Integer>>> entrySet() {
+			return new AbstractSet<Entry<Integer, Set<Integer>>>() {
+
+				@Override
+				public Iterator<Entry<Integer, Set<Integer>>> iterator() {
+					return new Iterator<Entry<Integer, Set<Integer>>>() {
+
+						private int index = 0;
+
+						@Override
+						public boolean hasNext() {
+							return this.index < SliceMap.this.keys.length;
+						}
+
+						@Override
+						public Entry<Integer, Set<Integer>> next() {
+							if (!hasNext()) {
+								throw new NoSuchElementException();
+							}
+							Entry<Integer, Set<Integer>> ret = new SimpleImmutableEntry<>(
+									SliceMap.this.keys[this.index], getSlice(this.index));
+							this.index++;
+							return ret;
+						}
+
+					};
+				}
+
+				@Override
+				public int size() {
+					return SliceMap.this.keys.length;
+				}
+
+			};
+		}
+
+		@Override
+		public Set<Integer> get(Object key) {
+			Set<Integer> ret = null;
+			if (key instanceof Integer) {
+				int index = Arrays.binarySearch(this.keys, (Integer) key);
+				if (index >= 0) {
+					ret = getSlice(index);
+				}
+			}
+			return ret;
+		}
+
+		private Set<Integer> getSlice(int index) {
+			return new ArraySliceSet(this.values, this.offset[index], this.offset[index + 1]);
+		}
+
+		@Override
+		public int size() {
+			return this.keys.length;
+		}
+
+	}
+
+}
@@ -0,0 +1,248 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import de.tudresden.inf.lat.jcel.core.graph.IntSet;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraphImpl;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerTransitiveClosure;
+
+/**
+ * An object of this class completes the subsumers of the classes that are
+ * subsumed by a nominal, after the saturation. If classes c and d are both
+ * subsumed by the same nominal, and d is reachable through the relation R
+ * from c or from any nominal, then c is subsumed by every subsumer of d.
+ * This also holds if d is already subsumed by every subsumer of c, in which
+ * case c and d become equivalent. <br>
+ * The classes reachable from the nominals are computed with one traversal of
+ * R. The other reachability tests only need the classes that are not
+ * reachable from the nominals, and they are answered by the transitive
+ * closure of R restricted to these classes, which is computed once per
+ * strongly connected component. The descendants of each nominal and the
+ * pairs of classes are computed independently for each nominal, optionally
+ * in parallel. The subsumers are propagated afterwards along the transitive
+ * closure of these pairs, so that the result does not depend on the order of
+ * the nominals.
+ * 
+ * @author Julian Mendez
+ */
+public class NominalSubsumerPropagator {
+
+	private final int numberOfThreads;
+	private final IntFunction<Collection<Integer>> successorFunction;
+
+	/**
+	 * Constructs a new propagator of subsumers of nominals.
+	 * 
+	 * @param successorFunction
+	 *            function that returns the classes that are directly
+	 *            reachable from a class through R
+	 * @param numberOfThreads
+	 *            number of threads, which must be positive
+	 */
+	public NominalSubsumerPropagator(IntFunction<Collection<Integer>> successorFunction, int numberOfThreads) {
+		Objects.requireNonNull(successorFunction);
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of threads: " + numberOfThreads);
+		}
+		this.successorFunction = successorFunction;
+		this.numberOfThreads = numberOfThreads;
+	}
+
+	/**
+	 * Adds to the class graph the subsumers inferred from the nominals.
+	 * 
+	 * @param classGraph
+	 *            class graph, which is modified
+	 * @param hierarchicalGraph
+	 *            hierarchical graph of the class graph before the
+	 *            modification
+	 * @param nominals
+	 *            auxiliary classes of the nominals
+	 */
+	public void apply(IntegerSubsumerGraphImpl classGraph, IntegerHierarchicalGraph hierarchicalGraph,
+			Set<Integer> nominals) {
+		Objects.requireNonNull(classGraph);
+		Objects.requireNonNull(hierarchicalGraph);
+		Objects.requireNonNull(nominals);
+		List<Integer> nominalList = new ArrayList<>(nominals);
+		List<Set<Integer>> descendantsList = new ArrayList<>(Collections.nCopies(nominalList.size(), null));
+		List<List<int[]>> pairsList = new ArrayList<>(Collections.nCopies(nominalList.size(), null));
+		ForkJoinPool pool = (this.numberOfThreads > 1) ? new ForkJoinPool(this.numberOfThreads) : null;
+		try {
+			forEachIndex(pool, nominalList.size(),
+					index -> descendantsList.set(index, getDescendants(hierarchicalGraph, nominalList.get(index))));
+
+			BitSet reachableFromNominals = computeReachableFromNominals(nominals);
+			IntegerTransitiveClosure reachability = computeReachability(descendantsList, reachableFromNominals);
+
+			forEachIndex(pool, nominalList.size(), index -> pairsList.set(index,
+					computePairs(descendantsList.get(index), reachableFromNominals, reachability)));
+		} finally {
+			if (Objects.nonNull(pool)) {
+				pool.shutdown();
+			}
+		}
+
+		IntegerTransitiveClosure propagation = new IntegerTransitiveClosure();
+		Set<Integer> subsumees = new TreeSet<>();
+		pairsList.forEach(pairs -> pairs.forEach(pair -> {
+			propagation.addPair(pair[0], pair[1]);
+			subsumees.add(pair[0]);
+		}));
+		subsumees.forEach(c -> propagation.forEachReachable(c, d -> {
+			IntSet sC = classGraph.getSubsumerSet(c);
+			IntSet sD = classGraph.getSubsumerSet(d);
+			if (!sC.includes(sD)) {
+				sD.forEachInt(elem -> classGraph.addAncestor(c, elem));
+			}
+		}));
+	}
+
+	private List<int[]> computePairs(Set<Integer> descendants, BitSet reachableFromNominals,
+			IntegerTransitiveClosure reachability) {
+		List<int[]> ret = new ArrayList<>();
+		descendants.forEach(c -> descendants.forEach(d -> {
+			if (!c.equals(d) && (reachableFromNominals.get(d) || reachability.isReachable(c, d))) {
+				ret.add(new int[] { c, d });
+			}
+		}));
+		return ret;
+	}
+
+	private IntegerTransitiveClosure computeReachability(List<Set<Integer>> descendantsList,
+			BitSet reachableFromNominals) {
+		IntegerTransitiveClosure ret = new IntegerTransitiveClosure();
+		Deque<Integer> toVisit = new ArrayDeque<>();
+		descendantsList.forEach(descendants -> descendants.forEach(elem -> {
+			if (!reachableFromNominals.get(elem) && ret.add(elem)) {
+				toVisit.add(elem);
+			}
+		}));
+		while (!toVisit.isEmpty()) {
+			int elem = toVisit.pop();
+			this.successorFunction.apply(elem).forEach(next -> {
+				if (!reachableFromNominals.get(next)) {
+					if (ret.add(next)) {
+						toVisit.add(next);
+					}
+					ret.addPair(elem, next);
+				}
+			});
+		}
+		return ret;
+	}
+
+	private BitSet computeReachableFromNominals(Set<Integer> nominals) {
+		BitSet ret = new BitSet();
+		Deque<Integer> toVisit = new ArrayDeque<>();
+		nominals.forEach(nominal -> {
+			if (!ret.get(nominal)) {
+				ret.set(nominal);
+				toVisit.add(nominal);
+			}
+		});
+		while (!toVisit.isEmpty()) {
+			int elem = toVisit.pop();
+			this.successorFunction.apply(elem).forEach(next -> {
+				if (!ret.get(next)) {
+					ret.set(next);
+					toVisit.add(next);
+				}
+			});
+		}
+		return ret;
+	}
+
+	private void forEachIndex(ForkJoinPool pool, int size, IntConsumer action) {
+		if (Objects.isNull(pool)) {
+			IntStream.range(0, size).forEach(action);
+		} else {
+			try {
+				pool.submit(() -> IntStream.range(0, size).parallel().forEach(action)).get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+	}
+
+	private Set<Integer> getDescendants(IntegerHierarchicalGraph hierarchicalGraph, Integer vertex) {
+		Set<Integer> ret = new HashSet<>();
+		Deque<Integer> toVisit = new ArrayDeque<>();
+		ret.add(vertex);
+		toVisit.add(vertex);
+		while (!toVisit.isEmpty()) {
+			hierarchicalGraph.getChildren(toVisit.pop()).forEach(child -> {
+				if (ret.add(child)) {
+					toVisit.add(child);
+				}
+			});
+		}
+		return ret;
+	}
+
+}
@@ -46,9 +46,14 @@
 
 package de.tudresden.inf.lat.jcel.core.algorithm.module;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -59,63 +64,123 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerAxiom;
 
 /**
  * An object of this class is a module extractor, i.e. it can extract a subset
- * of axioms that are relevant to answer a query.
+ * of axioms that are relevant to answer a query. The extractor keeps an index
+ * of the axioms, which is built once in the constructor. Each extraction only
+ * visits the axioms of the module, and since the index is not modified after
+ * its construction, several modules can be extracted concurrently.
  * 
  * @author Julian Mendez
  */
 public class DefaultModuleExtractor {
 
+	private static final int[] emptyArray = new int[0];
+
+	private final NormalizedIntegerAxiom[] axioms;
+	private final Map<Integer, int[]> axiomsWithClassOnTheLeft;
+	private final int[] axiomsWithoutEntitiesOnTheLeft;
+	private final int[][] classesOnTheRight;
+	private final int[][] entities;
+
 	/**
-	 * Constructs a new module extractor.
+	 * Constructs a new module extractor without axioms.
 	 */
 	public DefaultModuleExtractor() {
+		this(Collections.emptySet());
 	}
 
 	/**
-	 * Returns a map that relates a class with the set of axioms where this
-	 * class occurs on the left side of the axiom
+	 * Constructs a new module extractor for the given axioms.
 	 * 
-	 * @param normalizedAxioms
-	 *            normalized axioms
-	 * @return a map that relates a class with the set of axioms where this
-	 *         class occurs on the left side of the axiom
+	 * @param setOfAxioms
+	 *            set of normalized axioms
 	 */
-	Map<Integer, Set<DefaultIdentifierCollector>> buildMapOfAxioms(Set<DefaultIdentifierCollector> normalizedAxioms) {
-		Map<Integer, Set<DefaultIdentifierCollector>> map = new HashMap<>();
-		normalizedAxioms.forEach(axiom -> {
-			Set<Integer> classesOnTheLeft = axiom.getClassesOnTheLeft();
-			classesOnTheLeft.forEach(classId -> {
-				Set<DefaultIdentifierCollector> value = map.get(classId);
+	public DefaultModuleExtractor(Collection<NormalizedIntegerAxiom> setOfAxioms) {
+		Objects.requireNonNull(setOfAxioms);
+		List<DefaultIdentifierCollector> collectors = new ArrayList<>();
+		new HashSet<>(setOfAxioms).forEach(axiom -> collectors.add(new DefaultIdentifierCollector(axiom)));
+
+		this.axioms = new NormalizedIntegerAxiom[collectors.size()];
+		this.classesOnTheRight = new int[collectors.size()][];
+		this.entities = new int[collectors.size()][];
+		Map<Integer, List<Integer>> classMap = new HashMap<>();
+		List<Integer> unconditionalAxioms = new ArrayList<>();
+		for (int index = 0; index < collectors.size(); index++) {
+			DefaultIdentifierCollector collector = collectors.get(index);
+			this.axioms[index] = collector.getAxiom();
+			this.classesOnTheRight[index] = toArray(collector.getClassesOnTheRight());
+			this.entities[index] = toArray(getEntities(collector.getAxiom()));
+			if (collector.getClassesOnTheLeft().isEmpty() && collector.getObjectPropertiesOnTheLeft().isEmpty()) {
+				unconditionalAxioms.add(index);
+			}
+			for (Integer classId : collector.getClassesOnTheLeft()) {
+				List<Integer> value = classMap.get(classId);
 				if (Objects.isNull(value)) {
-					value = new HashSet<>();
-					map.put(classId, value);
+					value = new ArrayList<>();
+					classMap.put(classId, value);
 				}
-				value.add(axiom);
-			});
-		});
-		return map;
+				value.add(index);
+			}
+		}
+
+		Map<Integer, int[]> map = new HashMap<>();
+		classMap.forEach((classId, value) -> map.put(classId, toArray(value)));
+		this.axiomsWithClassOnTheLeft = Collections.unmodifiableMap(map);
+		this.axiomsWithoutEntitiesOnTheLeft = toArray(unconditionalAxioms);
 	}
 
-	Set<NormalizedIntegerAxiom> getAxiomsWithoutEntitiesOnTheLeft(Set<DefaultIdentifierCollector> axioms) {
-		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
-		axioms.forEach(axiom -> {
-			if (axiom.getClassesOnTheLeft().isEmpty() && axiom.getObjectPropertiesOnTheLeft().isEmpty()) {
-				ret.add(axiom.getAxiom());
+	/**
+	 * Returns a module, i.e. a subset of the indexed axioms relevant to answer
+	 * a query. The module contains the axioms without entities on the left
+	 * and the axioms reachable from the given classes, where an axiom is
+	 * reachable if a class on its left-hand side is one of the given classes
+	 * or a class on the right-hand side of a reachable axiom.
+	 * 
+	 * @param setOfClasses
+	 *            set of classes
+	 * @return a module, i.e. a subset of axioms relevant to answer a query
+	 */
+	public Module extractModule(Set<Integer> setOfClasses) {
+		Objects.requireNonNull(setOfClasses);
+		Set<Integer> visitedAxioms = new HashSet<>();
+		Set<NormalizedIntegerAxiom> newAxioms = new HashSet<>();
+		Set<Integer> entitiesOfModule = new TreeSet<>();
+		for (int index : this.axiomsWithoutEntitiesOnTheLeft) {
+			visitAxiom(index, visitedAxioms, newAxioms, entitiesOfModule);
+		}
+
+		Set<Integer> visitedClasses = new HashSet<>(setOfClasses);
+		Deque<Integer> classesToVisit = new ArrayDeque<>(visitedClasses);
+		while (!classesToVisit.isEmpty()) {
+			int[] axiomsToVisit = this.axiomsWithClassOnTheLeft.getOrDefault(classesToVisit.pop(), emptyArray);
+			for (int index : axiomsToVisit) {
+				if (visitAxiom(index, visitedAxioms, newAxioms, entitiesOfModule)) {
+					for (int classId : this.classesOnTheRight[index]) {
+						if (visitedClasses.add(classId)) {
+							classesToVisit.push(classId);
+						}
+					}
+				}
 			}
-		});
-		return ret;
+		}
+
+		entitiesOfModule.addAll(visitedClasses);
+		return new Module(entitiesOfModule, newAxioms);
 	}
 
-	Set<DefaultIdentifierCollector> getAxiomsWithClassesOnTheLeft(Set<Integer> classesToVisit,
-			Map<Integer, Set<DefaultIdentifierCollector>> map) {
-		Set<DefaultIdentifierCollector> ret = new HashSet<>();
-		classesToVisit.forEach(classId -> {
-			Set<DefaultIdentifierCollector> newAxioms = map.get(classId);
-			if (Objects.nonNull(newAxioms)) {
-				ret.addAll(newAxioms);
-			}
-		});
-		return ret;
+	/**
+	 * Returns a module, i.e. a subset of axioms relevant to answer a query.
+	 * This method builds a new index for the given axioms. If several modules
+	 * are extracted from the same axioms, it is more efficient to construct
+	 * the extractor with these axioms and use {@link #extractModule(Set)}.
+	 * 
+	 * @param setOfAxioms
+	 *            set of axioms
+	 * @param setOfClasses
+	 *            set of classes
+	 * @return a module, i.e. a subset of axioms relevant to answer a query
+	 */
+	public Module extractModule(Collection<NormalizedIntegerAxiom> setOfAxioms, Set<Integer> setOfClasses) {
+		return new DefaultModuleExtractor(setOfAxioms).extractModule(setOfClasses);
 	}
 
 	Set<Integer> getEntities(IntegerAxiom axiom) {
@@ -129,47 +194,28 @@ public class DefaultModuleExtractor {
 	}
 
 	/**
-	 * Returns a module, i.e. a subset of axioms relevant to answer a query.
+	 * Returns the number of indexed axioms.
 	 * 
-	 * @param setOfAxioms
-	 *            set of axioms
-	 * @param setOfClasses
-	 *            set of classes
-	 * @return a module, i.e. a subset of axioms relevant to answer a query
+	 * @return the number of indexed axioms
 	 */
-	public Module extractModule(Collection<NormalizedIntegerAxiom> setOfAxioms, Set<Integer> setOfClasses) {
-
-		Set<NormalizedIntegerAxiom> newAxioms = new HashSet<>();
-
-		Set<DefaultIdentifierCollector> axioms = new HashSet<>();
-		setOfAxioms.forEach(axiom -> axioms.add(new DefaultIdentifierCollector(axiom)));
-
-		newAxioms.addAll(getAxiomsWithoutEntitiesOnTheLeft(axioms));
-
-		Map<Integer, Set<DefaultIdentifierCollector>> map = buildMapOfAxioms(axioms);
-
-		Set<Integer> visitedClasses = new TreeSet<>();
-		Set<Integer> classesToVisit = new TreeSet<>();
-		classesToVisit.addAll(setOfClasses);
-		int resultSize = -1;
-		while (newAxioms.size() > resultSize) {
-			resultSize = newAxioms.size();
+	public int getNumberOfAxioms() {
+		return this.axioms.length;
+	}
 
-			Set<DefaultIdentifierCollector> axiomsToVisit = getAxiomsWithClassesOnTheLeft(classesToVisit, map);
-			visitedClasses.addAll(classesToVisit);
-			classesToVisit.clear();
+	private int[] toArray(Collection<Integer> collection) {
+		return collection.stream().mapToInt(Integer::intValue).toArray();
+	}
 
-			axiomsToVisit.forEach(axiom -> {
-				classesToVisit.addAll(axiom.getClassesOnTheRight());
-				newAxioms.add(axiom.getAxiom());
-			});
-			classesToVisit.removeAll(visitedClasses);
+	private boolean visitAxiom(int index, Set<Integer> visitedAxioms, Set<NormalizedIntegerAxiom> newAxioms,
+			Set<Integer> entitiesOfModule) {
+		boolean ret = visitedAxioms.add(index);
+		if (ret) {
+			newAxioms.add(this.axioms[index]);
+			for (int entity : this.entities[index]) {
+				entitiesOfModule.add(entity);
+			}
 		}
-
-		Set<Integer> entities = new TreeSet<>();
-		entities.addAll(visitedClasses);
-		newAxioms.forEach(axiom -> entities.addAll(getEntities(axiom)));
-		return new Module(entities, newAxioms);
+		return ret;
 	}
 
 }
@@ -47,12 +47,16 @@
 package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
 
 import java.io.BufferedWriter;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -62,14 +66,20 @@ import java.util.TreeSet;
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
 import de.tudresden.inf.lat.jcel.core.completion.common.REntry;
 import de.tudresden.inf.lat.jcel.core.completion.common.SEntry;
+import de.tudresden.inf.lat.jcel.core.graph.IntSet;
+import de.tudresden.inf.lat.jcel.core.graph.IntSetType;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerBinaryRelation;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerRelationMapImpl;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerBidirectionalGraphImpl;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraphImpl;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerTransitiveClosure;
 import de.tudresden.inf.lat.jcel.core.graph.VNode;
 import de.tudresden.inf.lat.jcel.core.graph.VNodeImpl;
+import de.tudresden.inf.lat.jcel.core.graph.VNodeObjectSomeValuesFrom;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.RI2Axiom;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
 
 /**
@@ -92,14 +102,17 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	private IntegerEntityManager entityManager = null;
 	private final Map<VNodeImpl, Integer> invNodeSet = new HashMap<>();
 	private final Object monitorClassGraph = new Object();
+	private final Object monitorNodeSet = new Object();
 	private final Object monitorRelationSet = new Object();
 	private final Object monitorSetQsubR = new Object();
 	private final Object monitorSetQsubS = new Object();
 	private final Map<Integer, VNodeImpl> nodeSet = new HashMap<>();
 	private IntegerSubsumerBidirectionalGraphImpl objectPropertyGraph = null;
 	private IntegerRelationMapImpl relationSet = null;
-	private final Set<REntry> setQsubR = new TreeSet<>();
-	private final Set<SEntry> setQsubS = new TreeSet<>();
+	private final IntSetType relationSetType;
+	private final REntryQueue setQsubR;
+	private final SEntryQueue setQsubS;
+	private final IntSetType subsumerSetType;
 
 	/**
 	 * Constructs a new classifier status.
@@ -110,10 +123,36 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	 *            extended ontology
 	 */
 	public ClassifierStatusImpl(IntegerEntityManager generator, ExtendedOntology ontology) {
+		this(generator, ontology, new RuleBasedProcessorConfiguration());
+	}
+
+	/**
+	 * Constructs a new classifier status.
+	 * 
+	 * @param generator
+	 *            identifier generator
+	 * @param ontology
+	 *            extended ontology
+	 * @param configuration
+	 *            configuration of the processor. If the processor is
+	 *            multi-threaded, the status is read and modified by several
+	 *            threads at the same time, and the collections of subsumers
+	 *            are returned as snapshots, unless they are concurrent sets.
+	 *            The configuration also determines the implementation of the
+	 *            queues of entries to be processed and of the sets of
+	 *            subsumers and related elements.
+	 */
+	public ClassifierStatusImpl(IntegerEntityManager generator, ExtendedOntology ontology,
+			RuleBasedProcessorConfiguration configuration) {
 		Objects.requireNonNull(generator);
 		Objects.requireNonNull(ontology);
+		Objects.requireNonNull(configuration);
 		this.entityManager = generator;
 		this.extendedOntology = ontology;
+		this.subsumerSetType = configuration.getSubsumerSetType();
+		this.relationSetType = configuration.getRelationSetType();
+		this.setQsubR = createREntryQueue(configuration.getQueueType());
+		this.setQsubS = createSEntryQueue(configuration.getQueueType());
 
 		createClassGraph();
 		createObjectPropertyGraph();
@@ -122,11 +161,27 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 		createMapOfObjectPropertiesWithFunctionalAncestor();
 	}
 
+	/**
+	 * Adds a class that was not in the ontology when this status was created.
+	 * 
+	 * @param classId
+	 *            class identifier
+	 */
+	public void addNewClass(int classId) {
+		synchronized (this.monitorNodeSet) {
+			if (!this.nodeSet.containsKey(classId)) {
+				VNodeImpl node = new VNodeImpl(classId);
+				this.nodeSet.put(classId, node);
+				this.invNodeSet.put(node, classId);
+			}
+		}
+	}
+
 	@Override
 	public boolean addNewREntry(int propertyId, int leftClassId, int rightClassId) {
 		boolean ret = false;
 		synchronized (this.monitorSetQsubR) {
-			ret = this.setQsubR.add(new REntryImpl(propertyId, leftClassId, rightClassId));
+			ret = this.setQsubR.add(propertyId, leftClassId, rightClassId);
 		}
 		return ret;
 	}
@@ -135,7 +190,7 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	public boolean addNewSEntry(int subClassId, int superClassId) {
 		boolean ret = false;
 		synchronized (this.monitorSetQsubS) {
-			ret = this.setQsubS.add(new SEntryImpl(subClassId, superClassId));
+			ret = this.setQsubS.add(subClassId, superClassId);
 		}
 		return ret;
 	}
@@ -181,12 +236,16 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	@Override
 	public boolean contains(VNode node) {
 		Objects.requireNonNull(node);
-		return Objects.nonNull(this.invNodeSet.get(node));
+		boolean ret = false;
+		synchronized (this.monitorNodeSet) {
+			ret = Objects.nonNull(this.invNodeSet.get(node));
+		}
+		return ret;
 	}
 
 	private void createClassGraph() {
 		synchronized (this.monitorClassGraph) {
-			this.classGraph = new IntegerSubsumerGraphImpl(bottomClassId, topClassId);
+			this.classGraph = new IntegerSubsumerGraphImpl(bottomClassId, topClassId, this.subsumerSetType);
 		}
 		this.nodeSet.clear();
 		this.invNodeSet.clear();
@@ -233,28 +292,55 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	@Override
 	public int createOrGetNodeId(VNode node) {
 		Objects.requireNonNull(node);
-		Integer ret = this.invNodeSet.get(node);
-		if (Objects.isNull(ret)) {
-			ret = node.getClassId();
-			if (!node.isEmpty()) {
-				ret = getIdGenerator().createAnonymousEntity(IntegerEntityType.CLASS, true);
-				VNodeImpl newNode = new VNodeImpl(node.getClassId());
-				newNode.addExistentialsOf(node);
-				this.nodeSet.put(ret, newNode);
-				this.invNodeSet.put(newNode, ret);
+		Integer ret = null;
+		synchronized (this.monitorNodeSet) {
+			ret = this.invNodeSet.get(node);
+			if (Objects.isNull(ret)) {
+				ret = node.getClassId();
+				if (!node.isEmpty()) {
+					ret = getIdGenerator().createAnonymousEntity(IntegerEntityType.CLASS, true);
+					VNodeImpl newNode = new VNodeImpl(node.getClassId());
+					newNode.addExistentialsOf(node);
+					this.nodeSet.put(ret, newNode);
+					this.invNodeSet.put(newNode, ret);
+				}
 			}
 		}
 		return ret;
 	}
 
+	private REntryQueue createREntryQueue(EntryQueueType queueType) {
+		REntryQueue ret = null;
+		if (queueType.equals(EntryQueueType.PRIMITIVE)) {
+			ret = new PrimitiveREntryQueue(false);
+		} else if (queueType.equals(EntryQueueType.PRIMITIVE_DEDUPLICATED)) {
+			ret = new PrimitiveREntryQueue(true);
+		} else {
+			ret = new SortedREntryQueue();
+		}
+		return ret;
+	}
+
 	private void createRelationSet() {
 		Collection<Integer> collection = getObjectPropertyGraph().getElements();
 		synchronized (this.monitorRelationSet) {
-			this.relationSet = new IntegerRelationMapImpl();
+			this.relationSet = new IntegerRelationMapImpl(this.relationSetType);
 			collection.forEach(index -> this.relationSet.add(index));
 		}
 	}
 
+	private SEntryQueue createSEntryQueue(EntryQueueType queueType) {
+		SEntryQueue ret = null;
+		if (queueType.equals(EntryQueueType.PRIMITIVE)) {
+			ret = new PrimitiveSEntryQueue(false);
+		} else if (queueType.equals(EntryQueueType.PRIMITIVE_DEDUPLICATED)) {
+			ret = new PrimitiveSEntryQueue(true);
+		} else {
+			ret = new SortedSEntryQueue();
+		}
+		return ret;
+	}
+
 	private void createSetOfNodes() {
 		getExtendedOntology().getClassSet().forEach(classId -> createOrGetNodeId(new VNodeImpl(classId)));
 	}
@@ -321,8 +407,12 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	 * @return the number of elements in the node set
 	 */
 	public long getDeepSizeOfV() {
-		return this.nodeSet.keySet().stream().map(nodeId -> this.nodeSet.get(nodeId).getDeepSize()).reduce(0L,
-				(accum, elem) -> (accum + elem));
+		long ret;
+		synchronized (this.monitorNodeSet) {
+			ret = this.nodeSet.keySet().stream().map(nodeId -> this.nodeSet.get(nodeId).getDeepSize()).reduce(0L,
+					(accum, elem) -> (accum + elem));
+		}
+		return ret;
 	}
 
 	@Override
@@ -331,10 +421,10 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	}
 
 	@Override
-	public Collection<Integer> getFirstBySecond(int propertyId, int classId) {
-		Collection<Integer> ret = new TreeSet<>();
+	public IntSet getFirstBySecond(int propertyId, int classId) {
+		IntSet ret;
 		synchronized (this.monitorRelationSet) {
-			ret.addAll(this.relationSet.getBySecond(propertyId, classId));
+			ret = this.relationSet.getBySecondSet(propertyId, classId);
 		}
 		return ret;
 	}
@@ -355,7 +445,11 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 
 	@Override
 	public VNode getNode(int nodeId) {
-		return this.nodeSet.get(nodeId);
+		VNode ret = null;
+		synchronized (this.monitorNodeSet) {
+			ret = this.nodeSet.get(nodeId);
+		}
+		return ret;
 	}
 
 	/**
@@ -386,19 +480,19 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	}
 
 	@Override
-	public Collection<Integer> getObjectPropertiesByFirst(int cA) {
-		Collection<Integer> ret = new TreeSet<>();
+	public IntSet getObjectPropertiesByFirst(int cA) {
+		IntSet ret;
 		synchronized (this.monitorRelationSet) {
-			ret.addAll(this.relationSet.getRelationsByFirst(cA));
+			ret = this.relationSet.getRelationSetByFirst(cA);
 		}
 		return ret;
 	}
 
 	@Override
-	public Collection<Integer> getObjectPropertiesBySecond(int cA) {
-		Collection<Integer> ret = new TreeSet<>();
+	public IntSet getObjectPropertiesBySecond(int cA) {
+		IntSet ret;
 		synchronized (this.monitorRelationSet) {
-			ret.addAll(this.relationSet.getRelationsBySecond(cA));
+			ret = this.relationSet.getRelationSetBySecond(cA);
 		}
 		return ret;
 	}
@@ -438,10 +532,10 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	}
 
 	@Override
-	public Collection<Integer> getSecondByFirst(int propertyId, int classId) {
-		Collection<Integer> ret = new TreeSet<>();
+	public IntSet getSecondByFirst(int propertyId, int classId) {
+		IntSet ret;
 		synchronized (this.monitorRelationSet) {
-			ret.addAll(this.relationSet.getByFirst(propertyId, classId));
+			ret = this.relationSet.getByFirstSet(propertyId, classId);
 		}
 		return ret;
 	}
@@ -452,7 +546,11 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	 * @return the number of nodes
 	 */
 	public long getSizeOfV() {
-		return this.nodeSet.size();
+		long ret;
+		synchronized (this.monitorNodeSet) {
+			ret = this.nodeSet.size();
+		}
+		return ret;
 	}
 
 	@Override
@@ -461,10 +559,10 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	}
 
 	@Override
-	public Collection<Integer> getSubsumers(int classId) {
-		Collection<Integer> ret = null;
+	public IntSet getSubsumers(int classId) {
+		IntSet ret;
 		synchronized (this.monitorClassGraph) {
-			ret = this.classGraph.getSubsumers(classId);
+			ret = this.classGraph.getSubsumerSet(classId);
 		}
 		return ret;
 	}
@@ -474,26 +572,133 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 		return Collections.unmodifiableCollection(this.objectPropertyGraph.getSubsumers(objectProperty));
 	}
 
+	/**
+	 * Returns the entity manager, which must be an
+	 * {@link IntegerEntityManagerImpl} to be written in a checkpoint.
+	 * 
+	 * @return the entity manager
+	 * @throws IllegalStateException
+	 *             if the entity manager cannot be written
+	 */
+	private IntegerEntityManagerImpl getWritableEntityManager() {
+		if (!(this.entityManager instanceof IntegerEntityManagerImpl)) {
+			throw new IllegalStateException(
+					"Checkpoints are not supported for entity manager: " + this.entityManager.getClass().getName());
+		}
+		return (IntegerEntityManagerImpl) this.entityManager;
+	}
+
 	private void makeTransitiveClosure(IntegerSubsumerBidirectionalGraphImpl graph) {
-		boolean hasChanged = true;
-		while (hasChanged) {
-			hasChanged = false;
-			for (int elem : graph.getElements()) {
-				Collection<Integer> subsumerSet = graph.getSubsumers(elem);
-				Set<Integer> allSubsumers = new HashSet<>();
-				allSubsumers.add(elem);
-				subsumerSet.forEach(otherElem -> {
-					allSubsumers.addAll(graph.getSubsumers(otherElem));
-				});
-				allSubsumers.removeAll(subsumerSet);
-				if (!allSubsumers.isEmpty()) {
-					hasChanged = true;
-					allSubsumers.forEach(subsumer -> {
-						graph.addAncestor(elem, subsumer);
-					});
+		List<Integer> elements = new ArrayList<>(graph.getElements());
+		IntegerTransitiveClosure closure = new IntegerTransitiveClosure();
+		elements.forEach(elem -> graph.getSubsumers(elem).forEach(subsumer -> closure.addPair(elem, subsumer)));
+		elements.forEach(elem -> {
+			Collection<Integer> subsumerSet = graph.getSubsumers(elem);
+			closure.forEachReachable(elem, subsumer -> {
+				if (!subsumerSet.contains(subsumer)) {
+					graph.addAncestor(elem, subsumer);
+				}
+			});
+		});
+	}
+
+	/**
+	 * Reads a checkpoint written by {@link #writeCheckpoint(DataOutput)} and
+	 * replaces the sets S and R, the set of nodes V, and the queues of entries
+	 * to be processed by the ones in the checkpoint. The entities created after
+	 * this status was created are created again in the entity manager. This
+	 * method must not be called while the saturation is running.
+	 * 
+	 * @param input
+	 *            input positioned at the beginning of the checkpoint
+	 * @throws IOException
+	 *             if something goes wrong with the input
+	 * @throws IllegalArgumentException
+	 *             if the input does not contain a valid checkpoint for this
+	 *             status
+	 */
+	public void readCheckpoint(DataInput input) throws IOException {
+		Objects.requireNonNull(input);
+		getWritableEntityManager().update(input);
+		synchronized (this.monitorClassGraph) {
+			this.classGraph = readClassGraph(input);
+		}
+		synchronized (this.monitorRelationSet) {
+			this.relationSet = readRelationSet(input);
+		}
+		synchronized (this.monitorNodeSet) {
+			readNodeSet(input);
+		}
+		synchronized (this.monitorSetQsubS) {
+			int[] entry = new int[2];
+			while (this.setQsubS.poll(entry)) {
+			}
+			int size = input.readInt();
+			for (int index = 0; index < size; index++) {
+				this.setQsubS.add(input.readInt(), input.readInt());
+			}
+		}
+		synchronized (this.monitorSetQsubR) {
+			int[] entry = new int[3];
+			while (this.setQsubR.poll(entry)) {
+			}
+			int size = input.readInt();
+			for (int index = 0; index < size; index++) {
+				this.setQsubR.add(input.readInt(), input.readInt(), input.readInt());
+			}
+		}
+	}
+
+	private IntegerSubsumerGraphImpl readClassGraph(DataInput input) throws IOException {
+		IntegerSubsumerGraphImpl ret = new IntegerSubsumerGraphImpl(bottomClassId, topClassId, this.subsumerSetType);
+		int size = input.readInt();
+		for (int index = 0; index < size; index++) {
+			int subClass = input.readInt();
+			int numberOfSubsumers = input.readInt();
+			if (numberOfSubsumers < 0) {
+				ret.addAncestor(subClass, bottomClassId);
+			} else {
+				ret.add(subClass);
+				for (int subsumerIndex = 0; subsumerIndex < numberOfSubsumers; subsumerIndex++) {
+					ret.addAncestor(subClass, input.readInt());
 				}
 			}
 		}
+		return ret;
+	}
+
+	private void readNodeSet(DataInput input) throws IOException {
+		this.nodeSet.clear();
+		this.invNodeSet.clear();
+		int size = input.readInt();
+		for (int index = 0; index < size; index++) {
+			int nodeId = input.readInt();
+			VNodeImpl node = new VNodeImpl(input.readInt());
+			int numberOfExistentials = input.readInt();
+			for (int existentialIndex = 0; existentialIndex < numberOfExistentials; existentialIndex++) {
+				node.addExistential(input.readInt(), input.readInt());
+			}
+			this.nodeSet.put(nodeId, node);
+			this.invNodeSet.put(node, nodeId);
+		}
+	}
+
+	private IntegerRelationMapImpl readRelationSet(DataInput input) throws IOException {
+		IntegerRelationMapImpl ret = new IntegerRelationMapImpl(this.relationSetType);
+		int size = input.readInt();
+		for (int index = 0; index < size; index++) {
+			int property = input.readInt();
+			ret.add(property);
+			int numberOfFirsts = input.readInt();
+			for (int firstIndex = 0; firstIndex < numberOfFirsts; firstIndex++) {
+				int first = input.readInt();
+				int numberOfSeconds = input.readInt();
+				for (int secondIndex = 0; secondIndex < numberOfSeconds; secondIndex++) {
+					ret.add(property, first, input.readInt());
+				}
+			}
+		}
+		return ret;
 	}
 
 	/**
@@ -505,14 +710,26 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	 *             if the set of R-entries is empty
 	 */
 	public REntry removeNextREntry() {
-		REntry ret = null;
-		synchronized (this.monitorSetQsubR) {
-			if (this.setQsubR.isEmpty()) {
-				throw new NoSuchElementException();
-			}
+		int[] entry = new int[3];
+		if (!removeNextREntry(entry)) {
+			throw new NoSuchElementException();
+		}
+		return new REntryImpl(entry[0], entry[1], entry[2]);
+	}
 
-			ret = this.setQsubR.iterator().next();
-			this.setQsubR.remove(ret);
+	/**
+	 * Removes the next R-entry from the set to be processed, and writes it in
+	 * the given array as property, left class and right class.
+	 * 
+	 * @param entry
+	 *            array of at least 3 elements where the entry is written
+	 * @return <code>true</code> if an entry was removed, <code>false</code>
+	 *         if the set of R-entries is empty
+	 */
+	public boolean removeNextREntry(int[] entry) {
+		boolean ret = false;
+		synchronized (this.monitorSetQsubR) {
+			ret = this.setQsubR.poll(entry);
 		}
 		return ret;
 	}
@@ -525,14 +742,64 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 	 *             if the set of S-entries is empty
 	 */
 	public SEntry removeNextSEntry() {
-		SEntry ret = null;
+		int[] entry = new int[2];
+		if (!removeNextSEntry(entry)) {
+			throw new NoSuchElementException();
+		}
+		return new SEntryImpl(entry[0], entry[1]);
+	}
+
+	/**
+	 * Removes the next S-entry from the set to be processed, and writes it in
+	 * the given array as subclass and superclass.
+	 * 
+	 * @param entry
+	 *            array of at least 2 elements where the entry is written
+	 * @return <code>true</code> if an entry was removed, <code>false</code>
+	 *         if the set of S-entries is empty
+	 */
+	public boolean removeNextSEntry(int[] entry) {
+		boolean ret = false;
 		synchronized (this.monitorSetQsubS) {
-			if (this.setQsubS.isEmpty()) {
-				throw new NoSuchElementException();
-			}
+			ret = this.setQsubS.poll(entry);
+		}
+		return ret;
+	}
 
-			ret = this.setQsubS.iterator().next();
-			this.setQsubS.remove(ret);
+	/**
+	 * Removes a triplet from the set R.
+	 *
+	 * @param property
+	 *            property
+	 * @param leftClass
+	 *            left class
+	 * @param rightClass
+	 *            right class
+	 * @return <code>true</code> if the triplet was effectively removed,
+	 *         <code>false</code> otherwise
+	 */
+	public boolean removeFromR(int property, int leftClass, int rightClass) {
+		boolean ret = false;
+		synchronized (this.monitorRelationSet) {
+			ret = this.relationSet.remove(property, leftClass, rightClass);
+		}
+		return ret;
+	}
+
+	/**
+	 * Removes a pair from the set S.
+	 *
+	 * @param subClass
+	 *            sub class
+	 * @param superClass
+	 *            super class
+	 * @return <code>true</code> if the pair was effectively removed,
+	 *         <code>false</code> otherwise
+	 */
+	public boolean removeFromS(int subClass, int superClass) {
+		boolean ret = false;
+		synchronized (this.monitorClassGraph) {
+			ret = this.classGraph.removeAncestor(subClass, superClass);
 		}
 		return ret;
 	}
@@ -572,4 +839,121 @@ public class ClassifierStatusImpl implements ClassifierStatus {
 		writer.flush();
 	}
 
+	/**
+	 * Writes a checkpoint of this status. The checkpoint contains the entity
+	 * manager, the sets S and R, the set of nodes V, and the queues of
+	 * S-entries and R-entries waiting to be processed, in the order in which
+	 * they would be processed. This method must not be called while the
+	 * saturation is running.
+	 * 
+	 * @param output
+	 *            output
+	 * @throws IOException
+	 *             if something goes wrong with the output
+	 * @throws IllegalStateException
+	 *             if the entity manager is not an
+	 *             {@link IntegerEntityManagerImpl}
+	 */
+	public void writeCheckpoint(DataOutput output) throws IOException {
+		Objects.requireNonNull(output);
+		getWritableEntityManager().write(output);
+		synchronized (this.monitorClassGraph) {
+			writeClassGraph(output);
+		}
+		synchronized (this.monitorRelationSet) {
+			writeRelationSet(output);
+		}
+		synchronized (this.monitorNodeSet) {
+			writeNodeSet(output);
+		}
+		int[] sEntries;
+		synchronized (this.monitorSetQsubS) {
+			int size = this.setQsubS.size();
+			sEntries = new int[2 * size];
+			int[] entry = new int[2];
+			for (int index = 0; index < size; index++) {
+				this.setQsubS.poll(entry);
+				sEntries[2 * index] = entry[0];
+				sEntries[2 * index + 1] = entry[1];
+			}
+			for (int index = 0; index < size; index++) {
+				this.setQsubS.add(sEntries[2 * index], sEntries[2 * index + 1]);
+			}
+		}
+		int[] rEntries;
+		synchronized (this.monitorSetQsubR) {
+			int size = this.setQsubR.size();
+			rEntries = new int[3 * size];
+			int[] entry = new int[3];
+			for (int index = 0; index < size; index++) {
+				this.setQsubR.poll(entry);
+				System.arraycopy(entry, 0, rEntries, 3 * index, 3);
+			}
+			for (int index = 0; index < size; index++) {
+				this.setQsubR.add(rEntries[3 * index], rEntries[3 * index + 1], rEntries[3 * index + 2]);
+			}
+		}
+		writeEntries(output, sEntries, 2);
+		writeEntries(output, rEntries, 3);
+	}
+
+	private void writeClassGraph(DataOutput output) throws IOException {
+		Set<Integer> elements = new TreeSet<>(this.classGraph.getElements());
+		output.writeInt(elements.size());
+		for (Integer subClass : elements) {
+			output.writeInt(subClass);
+			if (this.classGraph.containsPair(subClass, bottomClassId)) {
+				output.writeInt(-1);
+			} else {
+				Set<Integer> subsumers = new TreeSet<>(this.classGraph.getSubsumers(subClass));
+				output.writeInt(subsumers.size());
+				for (Integer superClass : subsumers) {
+					output.writeInt(superClass);
+				}
+			}
+		}
+	}
+
+	private void writeEntries(DataOutput output, int[] entries, int entryLength) throws IOException {
+		output.writeInt(entries.length / entryLength);
+		for (int value : entries) {
+			output.writeInt(value);
+		}
+	}
+
+	private void writeNodeSet(DataOutput output) throws IOException {
+		Set<Integer> nodeIds = new TreeSet<>(this.nodeSet.keySet());
+		output.writeInt(nodeIds.size());
+		for (Integer nodeId : nodeIds) {
+			VNodeImpl node = this.nodeSet.get(nodeId);
+			output.writeInt(nodeId);
+			output.writeInt(node.getClassId());
+			Collection<VNodeObjectSomeValuesFrom> existentials = node.getExistentialEntries();
+			output.writeInt(existentials.size());
+			for (VNodeObjectSomeValuesFrom existential : existentials) {
+				output.writeInt(existential.getObjectPropertyId());
+				output.writeInt(existential.getClassId());
+			}
+		}
+	}
+
+	private void writeRelationSet(DataOutput output) throws IOException {
+		Set<Integer> properties = new TreeSet<>(this.relationSet.getElements());
+		output.writeInt(properties.size());
+		for (Integer property : properties) {
+			output.writeInt(property);
+			IntegerBinaryRelation relation = this.relationSet.get(property);
+			Set<Integer> firsts = new TreeSet<>(relation.getElements());
+			output.writeInt(firsts.size());
+			for (Integer first : firsts) {
+				output.writeInt(first);
+				Collection<Integer> seconds = relation.getByFirst(first);
+				output.writeInt(seconds.size());
+				for (Integer second : seconds) {
+					output.writeInt(second);
+				}
+			}
+		}
+	}
+
 }
@@ -0,0 +1,190 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.FunctObjectPropAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI0Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI1Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI2Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI3Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NominalAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomVisitor;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI1Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI2Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI3Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RangeAxiom;
+
+/**
+ * An object of this class analyzes a set of normalized axioms that is added to
+ * an already saturated ontology. The new axioms can be added incrementally if
+ * all of them are general concept inclusions (GCI0, GCI1, GCI2 and GCI3). In
+ * that case, only the S-entries whose superclass appears on the left-hand side
+ * of a new axiom need to be processed again.
+ * 
+ * @author Julian Mendez
+ */
+class IncrementalAxiomAnalyzer implements NormalizedIntegerAxiomVisitor<Boolean> {
+
+	private final Set<Integer> classes = new HashSet<>();
+	private final Set<Integer> classesOnTheLeft = new HashSet<>();
+	private boolean incremental = true;
+	private final Set<Integer> objectProperties = new HashSet<>();
+
+	/**
+	 * Constructs a new analyzer of the given axioms.
+	 * 
+	 * @param axioms
+	 *            normalized axioms
+	 */
+	IncrementalAxiomAnalyzer(Set<NormalizedIntegerAxiom> axioms) {
+		Objects.requireNonNull(axioms);
+		axioms.forEach(axiom -> {
+			this.incremental &= axiom.accept(this);
+			this.classes.addAll(axiom.getClassesInSignature());
+			this.objectProperties.addAll(axiom.getObjectPropertiesInSignature());
+		});
+	}
+
+	/**
+	 * Returns the classes in the signature of the axioms.
+	 * 
+	 * @return the classes in the signature of the axioms
+	 */
+	Set<Integer> getClasses() {
+		return Collections.unmodifiableSet(this.classes);
+	}
+
+	/**
+	 * Returns the classes that appear on the left-hand side of the axioms.
+	 * 
+	 * @return the classes that appear on the left-hand side of the axioms
+	 */
+	Set<Integer> getClassesOnTheLeft() {
+		return Collections.unmodifiableSet(this.classesOnTheLeft);
+	}
+
+	/**
+	 * Returns the object properties in the signature of the axioms.
+	 * 
+	 * @return the object properties in the signature of the axioms
+	 */
+	Set<Integer> getObjectProperties() {
+		return Collections.unmodifiableSet(this.objectProperties);
+	}
+
+	/**
+	 * Tells whether all the axioms can be added incrementally.
+	 * 
+	 * @return <code>true</code> if and only if all the axioms are general
+	 *         concept inclusions
+	 */
+	boolean isIncremental() {
+		return this.incremental;
+	}
+
+	@Override
+	public Boolean visit(FunctObjectPropAxiom axiom) {
+		return false;
+	}
+
+	@Override
+	public Boolean visit(GCI0Axiom axiom) {
+		this.classesOnTheLeft.add(axiom.getSubClass());
+		return true;
+	}
+
+	@Override
+	public Boolean visit(GCI1Axiom axiom) {
+		this.classesOnTheLeft.add(axiom.getLeftSubClass());
+		this.classesOnTheLeft.add(axiom.getRightSubClass());
+		return true;
+	}
+
+	@Override
+	public Boolean visit(GCI2Axiom axiom) {
+		this.classesOnTheLeft.add(axiom.getSubClass());
+		return true;
+	}
+
+	@Override
+	public Boolean visit(GCI3Axiom axiom) {
+		this.classesOnTheLeft.add(axiom.getClassInSubClass());
+		return true;
+	}
+
+	@Override
+	public Boolean visit(NominalAxiom axiom) {
+		return false;
+	}
+
+	@Override
+	public Boolean visit(RangeAxiom axiom) {
+		return false;
+	}
+
+	@Override
+	public Boolean visit(RI1Axiom axiom) {
+		return false;
+	}
+
+	@Override
+	public Boolean visit(RI2Axiom axiom) {
+		return false;
+	}
+
+	@Override
+	public Boolean visit(RI3Axiom axiom) {
+		return false;
+	}
+
+}
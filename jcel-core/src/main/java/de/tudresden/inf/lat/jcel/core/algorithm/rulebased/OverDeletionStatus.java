@@ -0,0 +1,262 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
+import de.tudresden.inf.lat.jcel.core.completion.common.REntry;
+import de.tudresden.inf.lat.jcel.core.completion.common.SEntry;
+import de.tudresden.inf.lat.jcel.core.graph.IntSet;
+import de.tudresden.inf.lat.jcel.core.graph.VNode;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+
+/**
+ * An object of this class is a view of a classifier status that collects the
+ * entries that need to be deleted when axioms are removed from a saturated
+ * ontology. The completion rules applied on this view do not add new entries
+ * to the queues. Instead, each derived entry that is already in the set S or
+ * in the set R is marked as possibly invalid. This is the over-deletion step
+ * of the delete and re-derive technique.
+ * <p>
+ * The entries of the bottom class are never deleted. Other entries involving
+ * the bottom class, or classes equivalent to it, are not collected. Instead,
+ * the view records that the bottom class was reached, and the caller is
+ * expected to classify the ontology again.
+ * </p>
+ * 
+ * @author Julian Mendez
+ */
+class OverDeletionStatus implements ClassifierStatus {
+
+	private static final int bottomClassId = IntegerEntityManager.bottomClassId;
+
+	private boolean bottomReached = false;
+	private ExtendedOntology extendedOntology;
+	private final List<REntry> rEntries = new ArrayList<>();
+	private final Set<REntry> rEntrySet = new HashSet<>();
+	private final List<SEntry> sEntries = new ArrayList<>();
+	private final Set<SEntry> sEntrySet = new HashSet<>();
+	private final ClassifierStatusImpl status;
+
+	/**
+	 * Constructs a new view of the given classifier status.
+	 * 
+	 * @param status
+	 *            classifier status
+	 * @param ontology
+	 *            ontology used by the completion rules
+	 */
+	OverDeletionStatus(ClassifierStatusImpl status, ExtendedOntology ontology) {
+		Objects.requireNonNull(status);
+		Objects.requireNonNull(ontology);
+		this.status = status;
+		this.extendedOntology = ontology;
+	}
+
+	@Override
+	public boolean addNewREntry(int propertyId, int leftClassId, int rightClassId) {
+		boolean ret = false;
+		if (this.status.getSecondByFirst(propertyId, leftClassId).contains(rightClassId)) {
+			if (isEquivalentToBottom(leftClassId) || isEquivalentToBottom(rightClassId)) {
+				this.bottomReached = true;
+			} else {
+				REntry entry = new REntryImpl(propertyId, leftClassId, rightClassId);
+				ret = this.rEntrySet.add(entry);
+				if (ret) {
+					this.rEntries.add(entry);
+				}
+			}
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean addNewSEntry(int subClassId, int superClassId) {
+		boolean ret = false;
+		if (subClassId != bottomClassId && this.status.getSubsumers(subClassId).contains(superClassId)) {
+			if (superClassId == bottomClassId || isEquivalentToBottom(subClassId)) {
+				this.bottomReached = true;
+			} else {
+				SEntry entry = new SEntryImpl(subClassId, superClassId);
+				ret = this.sEntrySet.add(entry);
+				if (ret) {
+					this.sEntries.add(entry);
+				}
+			}
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean contains(VNode node) {
+		return this.status.contains(node);
+	}
+
+	@Override
+	public int createOrGetNodeId(VNode node) {
+		return this.status.createOrGetNodeId(node);
+	}
+
+	@Override
+	public Object getClassGraphMonitor() {
+		return this.status.getClassGraphMonitor();
+	}
+
+	@Override
+	public ExtendedOntology getExtendedOntology() {
+		return this.extendedOntology;
+	}
+
+	@Override
+	public IntSet getFirstBySecond(int objectProperty, int rightClass) {
+		return this.status.getFirstBySecond(objectProperty, rightClass);
+	}
+
+	@Override
+	public int getInverseObjectPropertyOf(int propertyId) {
+		return this.status.getInverseObjectPropertyOf(propertyId);
+	}
+
+	@Override
+	public VNode getNode(int nodeId) {
+		return this.status.getNode(nodeId);
+	}
+
+	@Override
+	public IntSet getObjectPropertiesByFirst(int className) {
+		return this.status.getObjectPropertiesByFirst(className);
+	}
+
+	@Override
+	public IntSet getObjectPropertiesBySecond(int className) {
+		return this.status.getObjectPropertiesBySecond(className);
+	}
+
+	@Override
+	public Set<Integer> getObjectPropertiesWithFunctionalAncestor(int objectProperty) {
+		return this.status.getObjectPropertiesWithFunctionalAncestor(objectProperty);
+	}
+
+	/**
+	 * Returns the R-entries marked for deletion, in the order in which they
+	 * were marked.
+	 * 
+	 * @return the R-entries marked for deletion
+	 */
+	List<REntry> getREntries() {
+		return Collections.unmodifiableList(this.rEntries);
+	}
+
+	@Override
+	public Object getRelationSetMonitor() {
+		return this.status.getRelationSetMonitor();
+	}
+
+	/**
+	 * Returns the S-entries marked for deletion, in the order in which they
+	 * were marked.
+	 * 
+	 * @return the S-entries marked for deletion
+	 */
+	List<SEntry> getSEntries() {
+		return Collections.unmodifiableList(this.sEntries);
+	}
+
+	@Override
+	public IntSet getSecondByFirst(int objectProperty, int leftClass) {
+		return this.status.getSecondByFirst(objectProperty, leftClass);
+	}
+
+	@Override
+	public Collection<Integer> getSubObjectProperties(int objectProperty) {
+		return this.status.getSubObjectProperties(objectProperty);
+	}
+
+	@Override
+	public IntSet getSubsumers(int subClass) {
+		return this.status.getSubsumers(subClass);
+	}
+
+	@Override
+	public Collection<Integer> getSuperObjectProperties(int objectProperty) {
+		return this.status.getSuperObjectProperties(objectProperty);
+	}
+
+	/**
+	 * Tells whether an entry involving the bottom class was derived.
+	 * 
+	 * @return <code>true</code> if and only if an entry involving the bottom
+	 *         class was derived
+	 */
+	boolean isBottomReached() {
+		return this.bottomReached;
+	}
+
+	private boolean isEquivalentToBottom(int classId) {
+		return this.status.getSubsumers(classId).contains(bottomClassId);
+	}
+
+	/**
+	 * Changes the ontology used by the completion rules.
+	 * 
+	 * @param ontology
+	 *            ontology used by the completion rules
+	 */
+	void setExtendedOntology(ExtendedOntology ontology) {
+		Objects.requireNonNull(ontology);
+		this.extendedOntology = ontology;
+	}
+
+}
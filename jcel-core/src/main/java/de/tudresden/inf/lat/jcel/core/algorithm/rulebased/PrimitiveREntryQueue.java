@@ -0,0 +1,266 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.Objects;
+
+/**
+ * This class implements a first-in first-out queue of R-entries without
+ * creating objects for the entries. Each entry is stored as three consecutive
+ * <code>int</code> values (property, left class, right class) in a circular
+ * array with exponential growth. Optionally, the queue keeps an
+ * open-addressing hash table of the entries waiting in the queue, so that an
+ * entry is not added twice.
+ * 
+ * @author Julian Mendez
+ */
+public class PrimitiveREntryQueue implements REntryQueue {
+
+	private static final int EMPTY = -1;
+	private static final int initialSize = 0x10;
+	private static final int width = 3;
+
+	private int[] buffer = new int[width * initialSize];
+	private int capacity = initialSize;
+	private final boolean deduplicated;
+	private int head = 0;
+	private int size = 0;
+	private int[] table = null;
+	private int tableCapacity = 0;
+
+	/**
+	 * Constructs an empty queue.
+	 * 
+	 * @param deduplicated
+	 *            <code>true</code> if an entry that is already waiting in the
+	 *            queue must not be added twice
+	 */
+	public PrimitiveREntryQueue(boolean deduplicated) {
+		this.deduplicated = deduplicated;
+		if (this.deduplicated) {
+			this.tableCapacity = 2 * initialSize;
+			this.table = makeNewTable(this.tableCapacity);
+		}
+	}
+
+	private static int hash(int property, int leftClass, int rightClass) {
+		long h = ((((long) property) * 0x9E3779B97F4A7C15L) + leftClass) * 0x9E3779B97F4A7C15L + rightClass;
+		h *= 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	private static int[] makeNewTable(int capacity) {
+		int[] ret = new int[width * capacity];
+		for (int index = 0; index < ret.length; index += width) {
+			ret[index] = EMPTY;
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean add(int property, int leftClass, int rightClass) {
+		if (property == EMPTY) {
+			throw new IllegalArgumentException("Out of range: " + property);
+		}
+		boolean ret = !this.deduplicated || addToTable(property, leftClass, rightClass);
+		if (ret) {
+			if (this.size == this.capacity) {
+				growBuffer();
+			}
+			int pointer = width * ((this.head + this.size) & (this.capacity - 1));
+			this.buffer[pointer] = property;
+			this.buffer[pointer + 1] = leftClass;
+			this.buffer[pointer + 2] = rightClass;
+			this.size++;
+		}
+		return ret;
+	}
+
+	private boolean addToTable(int property, int leftClass, int rightClass) {
+		if (2 * (this.size + 1) > this.tableCapacity) {
+			rehash(2 * this.tableCapacity);
+		}
+		int mask = this.tableCapacity - 1;
+		int slot = hash(property, leftClass, rightClass) & mask;
+		boolean found = false;
+		while (!found && (this.table[width * slot] != EMPTY)) {
+			found = matches(slot, property, leftClass, rightClass);
+			if (!found) {
+				slot = (slot + 1) & mask;
+			}
+		}
+		if (!found) {
+			store(slot, property, leftClass, rightClass);
+		}
+		return !found;
+	}
+
+	private void growBuffer() {
+		int newCapacity = 2 * this.capacity;
+		int[] newBuffer = new int[width * newCapacity];
+		int firstPart = Math.min(this.size, this.capacity - this.head);
+		System.arraycopy(this.buffer, width * this.head, newBuffer, 0, width * firstPart);
+		System.arraycopy(this.buffer, 0, newBuffer, width * firstPart, width * (this.size - firstPart));
+		this.buffer = newBuffer;
+		this.capacity = newCapacity;
+		this.head = 0;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	private boolean matches(int slot, int property, int leftClass, int rightClass) {
+		int pointer = width * slot;
+		return (this.table[pointer] == property) && (this.table[pointer + 1] == leftClass)
+				&& (this.table[pointer + 2] == rightClass);
+	}
+
+	@Override
+	public boolean poll(int[] entry) {
+		Objects.requireNonNull(entry);
+		boolean ret = false;
+		if (this.size > 0) {
+			int pointer = width * this.head;
+			entry[0] = this.buffer[pointer];
+			entry[1] = this.buffer[pointer + 1];
+			entry[2] = this.buffer[pointer + 2];
+			this.head = (this.head + 1) & (this.capacity - 1);
+			this.size--;
+			if (this.deduplicated) {
+				removeFromTable(entry[0], entry[1], entry[2]);
+			}
+			ret = true;
+		}
+		return ret;
+	}
+
+	private void rehash(int newCapacity) {
+		int[] oldTable = this.table;
+		this.tableCapacity = newCapacity;
+		this.table = makeNewTable(newCapacity);
+		int mask = newCapacity - 1;
+		for (int pointer = 0; pointer < oldTable.length; pointer += width) {
+			if (oldTable[pointer] != EMPTY) {
+				int slot = hash(oldTable[pointer], oldTable[pointer + 1], oldTable[pointer + 2]) & mask;
+				while (this.table[width * slot] != EMPTY) {
+					slot = (slot + 1) & mask;
+				}
+				store(slot, oldTable[pointer], oldTable[pointer + 1], oldTable[pointer + 2]);
+			}
+		}
+	}
+
+	/**
+	 * Removes an entry from the hash table. The following entries of the same
+	 * cluster are shifted back, so that linear probing still finds them.
+	 * 
+	 * @param property
+	 *            property
+	 * @param leftClass
+	 *            left class
+	 * @param rightClass
+	 *            right class
+	 */
+	private void removeFromTable(int property, int leftClass, int rightClass) {
+		int mask = this.tableCapacity - 1;
+		int slot = hash(property, leftClass, rightClass) & mask;
+		while (!matches(slot, property, leftClass, rightClass)) {
+			slot = (slot + 1) & mask;
+		}
+		int next = slot;
+		boolean clusterEnd = false;
+		while (!clusterEnd) {
+			next = (next + 1) & mask;
+			int pointer = width * next;
+			if (this.table[pointer] == EMPTY) {
+				clusterEnd = true;
+			} else {
+				int home = hash(this.table[pointer], this.table[pointer + 1], this.table[pointer + 2]) & mask;
+				boolean staysInPlace = (slot <= next) ? ((slot < home) && (home <= next))
+						: ((slot < home) || (home <= next));
+				if (!staysInPlace) {
+					store(slot, this.table[pointer], this.table[pointer + 1], this.table[pointer + 2]);
+					slot = next;
+				}
+			}
+		}
+		this.table[width * slot] = EMPTY;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	private void store(int slot, int property, int leftClass, int rightClass) {
+		int pointer = width * slot;
+		this.table[pointer] = property;
+		this.table[pointer + 1] = leftClass;
+		this.table[pointer + 2] = rightClass;
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer sbuf = new StringBuffer();
+		sbuf.append("[");
+		for (int index = 0; index < this.size; index++) {
+			int pointer = width * ((this.head + index) & (this.capacity - 1));
+			sbuf.append(" (");
+			sbuf.append(this.buffer[pointer]);
+			sbuf.append(" ");
+			sbuf.append(this.buffer[pointer + 1]);
+			sbuf.append(" ");
+			sbuf.append(this.buffer[pointer + 2]);
+			sbuf.append(")");
+		}
+		sbuf.append(" ]");
+		return sbuf.toString();
+	}
+
+}
@@ -0,0 +1,240 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.Objects;
+
+/**
+ * This class implements a first-in first-out queue of S-entries without
+ * creating objects for the entries. Each entry is encoded as a
+ * <code>long</code>, with the subclass in the upper 32 bits and the superclass
+ * in the lower 32 bits, and it is kept in a circular array with exponential
+ * growth. Optionally, the queue keeps an open-addressing hash table of the
+ * entries waiting in the queue, so that an entry is not added twice.
+ * 
+ * @author Julian Mendez
+ */
+public class PrimitiveSEntryQueue implements SEntryQueue {
+
+	private static final long EMPTY = -1L;
+	private static final int initialSize = 0x10;
+
+	private long[] buffer = new long[initialSize];
+	private final boolean deduplicated;
+	private int head = 0;
+	private int size = 0;
+	private long[] table = null;
+
+	/**
+	 * Constructs an empty queue.
+	 * 
+	 * @param deduplicated
+	 *            <code>true</code> if an entry that is already waiting in the
+	 *            queue must not be added twice
+	 */
+	public PrimitiveSEntryQueue(boolean deduplicated) {
+		this.deduplicated = deduplicated;
+		if (this.deduplicated) {
+			this.table = makeNewTable(2 * initialSize);
+		}
+	}
+
+	private static long encode(int subClass, int superClass) {
+		return (((long) subClass) << 32) | (superClass & 0xFFFFFFFFL);
+	}
+
+	private static int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	private static long[] makeNewTable(int length) {
+		long[] ret = new long[length];
+		for (int index = 0; index < length; index++) {
+			ret[index] = EMPTY;
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean add(int subClass, int superClass) {
+		long key = encode(subClass, superClass);
+		if (key == EMPTY) {
+			throw new IllegalArgumentException("Out of range: (" + subClass + ", " + superClass + ")");
+		}
+		boolean ret = !this.deduplicated || addToTable(key);
+		if (ret) {
+			if (this.size == this.buffer.length) {
+				growBuffer();
+			}
+			this.buffer[(this.head + this.size) & (this.buffer.length - 1)] = key;
+			this.size++;
+		}
+		return ret;
+	}
+
+	private boolean addToTable(long key) {
+		if (2 * (this.size + 1) > this.table.length) {
+			rehash(2 * this.table.length);
+		}
+		int mask = this.table.length - 1;
+		int pointer = hash(key) & mask;
+		boolean found = false;
+		while (!found && (this.table[pointer] != EMPTY)) {
+			found = (this.table[pointer] == key);
+			if (!found) {
+				pointer = (pointer + 1) & mask;
+			}
+		}
+		if (!found) {
+			this.table[pointer] = key;
+		}
+		return !found;
+	}
+
+	private void growBuffer() {
+		long[] newBuffer = new long[2 * this.buffer.length];
+		int firstPart = Math.min(this.size, this.buffer.length - this.head);
+		System.arraycopy(this.buffer, this.head, newBuffer, 0, firstPart);
+		System.arraycopy(this.buffer, 0, newBuffer, firstPart, this.size - firstPart);
+		this.buffer = newBuffer;
+		this.head = 0;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Override
+	public boolean poll(int[] entry) {
+		Objects.requireNonNull(entry);
+		boolean ret = false;
+		if (this.size > 0) {
+			long key = this.buffer[this.head];
+			this.head = (this.head + 1) & (this.buffer.length - 1);
+			this.size--;
+			if (this.deduplicated) {
+				removeFromTable(key);
+			}
+			entry[0] = (int) (key >>> 32);
+			entry[1] = (int) key;
+			ret = true;
+		}
+		return ret;
+	}
+
+	private void rehash(int length) {
+		long[] oldTable = this.table;
+		this.table = makeNewTable(length);
+		int mask = length - 1;
+		for (long key : oldTable) {
+			if (key != EMPTY) {
+				int pointer = hash(key) & mask;
+				while (this.table[pointer] != EMPTY) {
+					pointer = (pointer + 1) & mask;
+				}
+				this.table[pointer] = key;
+			}
+		}
+	}
+
+	/**
+	 * Removes a key from the hash table. The following keys of the same
+	 * cluster are shifted back, so that linear probing still finds them.
+	 * 
+	 * @param key
+	 *            key to be removed
+	 */
+	private void removeFromTable(long key) {
+		int mask = this.table.length - 1;
+		int pointer = hash(key) & mask;
+		while (this.table[pointer] != key) {
+			pointer = (pointer + 1) & mask;
+		}
+		int next = pointer;
+		boolean clusterEnd = false;
+		while (!clusterEnd) {
+			next = (next + 1) & mask;
+			long nextKey = this.table[next];
+			if (nextKey == EMPTY) {
+				clusterEnd = true;
+			} else {
+				int home = hash(nextKey) & mask;
+				boolean staysInPlace = (pointer <= next) ? ((pointer < home) && (home <= next))
+						: ((pointer < home) || (home <= next));
+				if (!staysInPlace) {
+					this.table[pointer] = nextKey;
+					pointer = next;
+				}
+			}
+		}
+		this.table[pointer] = EMPTY;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer sbuf = new StringBuffer();
+		sbuf.append("[");
+		for (int index = 0; index < this.size; index++) {
+			long key = this.buffer[(this.head + index) & (this.buffer.length - 1)];
+			sbuf.append(" (");
+			sbuf.append((int) (key >>> 32));
+			sbuf.append(" ");
+			sbuf.append((int) key);
+			sbuf.append(")");
+		}
+		sbuf.append(" ]");
+		return sbuf.toString();
+	}
+
+}
@@ -51,18 +51,20 @@ import java.util.List;
 import java.util.Objects;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
 
 /**
  * An object implementing this class is a completion rule chain for the set of
- * relations.
+ * relations. The chain keeps an index of the rules that could be applied to each
+ * object property, and the other rules are skipped without being called.
  * 
  * @author Julian Mendez
  */
 public class RChain implements RObserverRule {
 
 	private final List<RObserverRule> chain;
+	private final RuleIndex index = new RuleIndex();
+	private final RObserverRule[] rules;
 
 	/**
 	 * Constructs a new chain for the set of relations.
@@ -73,16 +75,50 @@ public class RChain implements RObserverRule {
 	public RChain(List<RObserverRule> ch) {
 		Objects.requireNonNull(ch);
 		this.chain = ch;
+		this.rules = ch.toArray(new RObserverRule[ch.size()]);
 	}
 
 	@Override
 	public boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass) {
 		Objects.requireNonNull(status);
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		this.chain.forEach(elem -> {
-			ret.or(elem.apply(status, property, leftClass, rightClass));
-		});
-		return ret.get();
+		boolean ret = false;
+		if (this.rules.length > RuleIndex.maxNumberOfRules) {
+			for (RObserverRule rule : this.rules) {
+				ret |= rule.apply(status, property, leftClass, rightClass);
+			}
+		} else {
+			int applicable = getApplicableRules(status, property);
+			for (int position = 0; applicable != 0; position++) {
+				if ((applicable & 1) != 0) {
+					ret |= this.rules[position].apply(status, property, leftClass, rightClass);
+				}
+				applicable >>>= 1;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Clears the cache of the rules that can be applied to each object property.
+	 * This must be called when the extended ontology of the classifier status
+	 * is modified.
+	 */
+	public void clearIndex() {
+		this.index.clear();
+	}
+
+	private int getApplicableRules(ClassifierStatus status, int property) {
+		int ret = this.index.get(status.getExtendedOntology(), property);
+		if (ret == RuleIndex.notComputed) {
+			ret = 0;
+			for (int position = 0; position < this.rules.length; position++) {
+				if (this.rules[position].isApplicableToProperty(status, property)) {
+					ret |= (1 << position);
+				}
+			}
+			this.index.put(property, ret);
+		}
+		return ret;
 	}
 
 	/**
@@ -94,6 +130,16 @@ public class RChain implements RObserverRule {
 		return Collections.unmodifiableList(this.chain);
 	}
 
+	@Override
+	public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		Objects.requireNonNull(status);
+		boolean ret = true;
+		if (this.rules.length <= RuleIndex.maxNumberOfRules) {
+			ret = (getApplicableRules(status, property) != 0);
+		}
+		return ret;
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer sbuf = new StringBuffer();
@@ -0,0 +1,99 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+/**
+ * An object implementing this interface is a queue of R-entries waiting to be
+ * processed. Implementations are not required to be thread-safe, since the
+ * classifier status guards them with a monitor.
+ * 
+ * @author Julian Mendez
+ * 
+ * @see ClassifierStatusImpl
+ */
+public interface REntryQueue {
+
+	/**
+	 * Adds a new R-entry to the queue.
+	 * 
+	 * @param property
+	 *            object property identifier
+	 * @param leftClass
+	 *            left class identifier
+	 * @param rightClass
+	 *            right class identifier
+	 * @return <code>true</code> if and only if the entry was added
+	 */
+	boolean add(int property, int leftClass, int rightClass);
+
+	/**
+	 * Tells whether this queue is empty.
+	 * 
+	 * @return <code>true</code> if and only if this queue is empty
+	 */
+	boolean isEmpty();
+
+	/**
+	 * Removes the next R-entry from the queue and stores its components in the
+	 * given array: the property in position 0, the left class in position 1,
+	 * and the right class in position 2.
+	 * 
+	 * @param entry
+	 *            array of at least three elements where the entry is stored
+	 * @return <code>true</code> if and only if an entry was removed, i.e. if
+	 *         the queue was not empty
+	 */
+	boolean poll(int[] entry);
+
+	/**
+	 * Returns the number of R-entries in the queue.
+	 * 
+	 * @return the number of R-entries in the queue
+	 */
+	int size();
+
+}
@@ -46,38 +46,53 @@
 
 package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
+import de.tudresden.inf.lat.jcel.core.algorithm.common.ChecksummedFile;
+import de.tudresden.inf.lat.jcel.core.algorithm.common.IndividualRealization;
+import de.tudresden.inf.lat.jcel.core.algorithm.common.NominalSubsumerPropagator;
 import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
 import de.tudresden.inf.lat.jcel.core.algorithm.common.UnclassifiedOntologyException;
 import de.tudresden.inf.lat.jcel.core.completion.common.REntry;
 import de.tudresden.inf.lat.jcel.core.completion.common.SEntry;
+import de.tudresden.inf.lat.jcel.core.graph.IntSet;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerBinaryRelation;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraphImpl;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraph;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraphImpl;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerTaxonomy;
 import de.tudresden.inf.lat.jcel.core.saturation.SubPropertyNormalizer;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntologyImpl;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.FlatExtendedOntology;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.OntologyExpressivity;
+import de.tudresden.inf.lat.jcel.coreontology.expressivity.NormalizedAxiomExpressivityDetector;
 
 /**
  * An object of this class is an implementation of a classification algorithm.
@@ -86,62 +101,74 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.OntologyExpressivity;
  */
 public class RuleBasedProcessor implements Processor {
 
-	private class WorkerThreadR extends Thread {
-		@Override
-		public void run() {
-			while (RuleBasedProcessor.this.status.getNumberOfREntries() > 0) {
-				while (RuleBasedProcessor.this.status.getNumberOfREntries() > 0) {
-					processREntries();
-				}
-				try {
-					Thread.sleep(threadWaitingTime);
-				} catch (InterruptedException e) {
-					throw new IllegalStateException(e);
-				}
-			}
-		}
-	}
+	/**
+	 * A worker takes entries from the queues of S and R until all workers
+	 * find both queues empty, or until a checkpoint is due. A worker does not
+	 * poll: it waits until another worker adds new entries or until every
+	 * worker is waiting.
+	 */
+	private class Worker implements Runnable {
+
+		private final int[] rEntry = new int[3];
+		private final int[] sEntry = new int[2];
 
-	private class WorkerThreadS extends Thread {
 		@Override
 		public void run() {
-			while (RuleBasedProcessor.this.status.getNumberOfSEntries() > 0) {
-				while (RuleBasedProcessor.this.status.getNumberOfSEntries() > 0) {
-					processSEntries();
+			try {
+				boolean finished = false;
+				while (!finished) {
+					if (processNextEntry(this.sEntry, this.rEntry)) {
+						notifyWaitingWorkers();
+						finished = pauseIfCheckpointIsDue();
+					} else {
+						finished = waitForEntries();
+					}
 				}
-				try {
-					Thread.sleep(threadWaitingTime);
-				} catch (InterruptedException e) {
-					throw new IllegalStateException(e);
+			} catch (RuntimeException | Error e) {
+				synchronized (RuleBasedProcessor.this.workerMonitor) {
+					RuleBasedProcessor.this.workerFailed = true;
+					RuleBasedProcessor.this.workerMonitor.notifyAll();
 				}
+				throw e;
 			}
 		}
+
 	}
 
 	private static final Logger logger = Logger.getLogger(RuleBasedProcessor.class.getName());
 
+	private static final int checkpointFormatVersion = 2;
+	private static final int checkpointMagicNumber = 0x6A636370;
+	private static final String digestAlgorithm = "SHA-256";
 	private static final long loggingFrequency = 0x1000000;
-	private static final long threadWaitingTime = 0x20;
 	private static final Integer topClassId = IntegerEntityManager.topClassId;
 
 	private RChain chainR = null;
 	private SChain chainS = null;
-	private IntegerHierarchicalGraph classHierarchy = null;
+	private IntegerTaxonomy classHierarchy = null;
+	private volatile boolean checkpointPending = false;
 	private IntegerHierarchicalGraph dataPropertyHierarchy = null;
 	private Map<Integer, Set<Integer>> directTypes = null;
 	private final IntegerEntityManager entityManager;
+	private final OntologyExpressivity expressivity;
 	private final NormalizedIntegerAxiomFactory factory;
 	private boolean isReady = false;
-	private long iteration = 0;
-	private long loggingCount = loggingFrequency;
-	private final boolean multiThreadedMode = false;
-	private IntegerHierarchicalGraph objectPropertyHierarchy = null;
+	private final AtomicLong iteration = new AtomicLong();
+	private final AtomicLong loggingCount = new AtomicLong(loggingFrequency);
+	private final RuleBasedProcessorConfiguration configuration;
+	private volatile long nextCheckpoint = 0;
+	private final Set<NormalizedIntegerAxiom> normalizedAxiomSet = new HashSet<>();
+	private IntegerTaxonomy objectPropertyHierarchy = null;
+	private byte[] ontologyDigest = null;
+	private final Set<Integer> originalClasses = new HashSet<>();
+	private final Set<Integer> originalObjectProperties = new HashSet<>();
+	private final int[] rEntry = new int[3];
+	private final int[] sEntry = new int[2];
 	private Map<Integer, Set<Integer>> sameIndividualMap = null;
 	private ClassifierStatusImpl status = null;
-	private WorkerThreadR threadR1 = null;
-	private WorkerThreadR threadR2 = null;
-	private WorkerThreadS threadS1 = null;
-	private WorkerThreadS threadS2 = null;
+	private volatile boolean workerFailed = false;
+	private final Object workerMonitor = new Object();
+	private volatile int waitingWorkers = 0;
 
 	/**
 	 * Constructs a new rule-based processor.
@@ -162,14 +189,46 @@ public class RuleBasedProcessor implements Processor {
 	public RuleBasedProcessor(Set<Integer> originalObjectProperties, Set<Integer> originalClasses,
 			Set<NormalizedIntegerAxiom> normalizedAxiomSet, OntologyExpressivity expressivity,
 			NormalizedIntegerAxiomFactory factory, IntegerEntityManager entityManager) {
+		this(originalObjectProperties, originalClasses, normalizedAxiomSet, expressivity, factory, entityManager,
+				new RuleBasedProcessorConfiguration());
+	}
+
+	/**
+	 * Constructs a new rule-based processor.
+	 * 
+	 * @param originalObjectProperties
+	 *            set of original object properties
+	 * @param originalClasses
+	 *            set of original classes
+	 * @param normalizedAxiomSet
+	 *            set of normalized axioms
+	 * @param expressivity
+	 *            expressivity
+	 * @param factory
+	 *            factory of normalized integer axioms
+	 * @param entityManager
+	 *            entity manager
+	 * @param configuration
+	 *            processor configuration
+	 */
+	public RuleBasedProcessor(Set<Integer> originalObjectProperties, Set<Integer> originalClasses,
+			Set<NormalizedIntegerAxiom> normalizedAxiomSet, OntologyExpressivity expressivity,
+			NormalizedIntegerAxiomFactory factory, IntegerEntityManager entityManager,
+			RuleBasedProcessorConfiguration configuration) {
 		Objects.requireNonNull(originalObjectProperties);
 		Objects.requireNonNull(originalClasses);
 		Objects.requireNonNull(normalizedAxiomSet);
 		Objects.requireNonNull(expressivity);
 		Objects.requireNonNull(factory);
 		Objects.requireNonNull(entityManager);
+		Objects.requireNonNull(configuration);
+		this.expressivity = expressivity;
 		this.factory = factory;
 		this.entityManager = entityManager;
+		this.configuration = configuration;
+		this.originalObjectProperties.addAll(originalObjectProperties);
+		this.originalClasses.addAll(originalClasses);
+		this.normalizedAxiomSet.addAll(normalizedAxiomSet);
 
 		CompletionRuleChainSelector selector = new CompletionRuleChainSelector(expressivity);
 		selector.activateProfiler();
@@ -179,86 +238,119 @@ public class RuleBasedProcessor implements Processor {
 		preProcess(createExtendedOntology(originalObjectProperties, originalClasses, normalizedAxiomSet));
 	}
 
+	/**
+	 * Adds new axioms to the ontology. If the new axioms are general concept
+	 * inclusions whose object properties are already known, and they do not
+	 * need completion rules other than the ones already selected, the current
+	 * saturation is kept and only the S-entries affected by the new axioms are
+	 * processed again. Otherwise, the processor is reset and the whole
+	 * ontology is classified again.
+	 * 
+	 * @param normalizedAxiomSet
+	 *            set of normalized axioms to be added
+	 */
 	public void addAxioms(Set<NormalizedIntegerAxiom> normalizedAxiomSet) {
 		Objects.requireNonNull(normalizedAxiomSet);
 		logger.fine("adding axioms ...");
-		this.status.getExtendedOntology().load(normalizedAxiomSet);
-		preProcess(this.status.getExtendedOntology());
-		logger.fine("processor reset.");
+		IncrementalAxiomAnalyzer analyzer = new IncrementalAxiomAnalyzer(normalizedAxiomSet);
+		this.normalizedAxiomSet.addAll(normalizedAxiomSet);
+		this.ontologyDigest = null;
+		if (canBeAddedIncrementally(normalizedAxiomSet, analyzer)) {
+			addAxiomsIncrementally(normalizedAxiomSet, analyzer);
+			logger.fine("axioms added incrementally.");
+		} else {
+			reset();
+		}
 	}
 
 	/**
-	 * @param hierarchicalGraph
-	 *            graph containing direct subsumers
-	 * @return a map with all the direct types for each individual.
-	 */
-	private Map<Integer, Set<Integer>> computeDirectTypes(IntegerHierarchicalGraph hierarchicalGraph) {
-		Map<Integer, Set<Integer>> ret = new HashMap<>();
-		Set<Integer> individuals = getEntityManager().getIndividuals();
-		individuals.forEach(indiv -> {
-			Set<Integer> subsumers = hierarchicalGraph.getParents(getEntityManager().getAuxiliaryNominal(indiv).get());
-			subsumers.forEach(elem -> {
-				if (getEntityManager().getAuxiliaryNominals().contains(elem)) {
-					throw new IllegalStateException("An individual has another individual as direct subsumer.");
-				}
-			});
-			ret.put(indiv, Collections.unmodifiableSet(subsumers));
+	 * Adds general concept inclusions to an ontology that is already
+	 * saturated. The completion rules are monotone, so the current sets S and
+	 * R are still valid. The new classes are added to the queues, and the
+	 * completion rules are applied again to each S-entry whose superclass
+	 * appears on the left-hand side of a new axiom, since those are the only
+	 * entries that can trigger a new axiom. The entries derived this way are
+	 * processed by the next calls to {@link #process()}.
+	 * 
+	 * @param normalizedAxiomSet
+	 *            set of normalized axioms to be added
+	 * @param analyzer
+	 *            analyzer of the axioms to be added
+	 */
+	private void addAxiomsIncrementally(Set<NormalizedIntegerAxiom> normalizedAxiomSet,
+			IncrementalAxiomAnalyzer analyzer) {
+		this.isReady = false;
+		Set<Integer> newClasses = new HashSet<>();
+		analyzer.getClasses().forEach(className -> {
+			if (!getClassGraph().getElements().contains(className)) {
+				newClasses.add(className);
+			}
+		});
+		this.status.getExtendedOntology().load(normalizedAxiomSet);
+		this.chainS.clearIndex();
+		this.chainR.clearIndex();
+		newClasses.forEach(className -> {
+			this.status.addNewClass(className);
+			this.status.addNewSEntry(className, className);
+			this.status.addNewSEntry(className, topClassId);
+		});
+
+		Set<Integer> classesOnTheLeft = analyzer.getClassesOnTheLeft();
+		List<Integer> elements = new ArrayList<>(getClassGraph().getElements());
+		elements.forEach(subClass -> {
+			Collection<Integer> subsumers = getClassGraph().getSubsumers(subClass);
+			if (!subsumers.contains(IntegerEntityManager.bottomClassId)) {
+				classesOnTheLeft.forEach(superClass -> {
+					if (subsumers.contains(superClass)) {
+						this.chainS.apply(this.status, subClass, superClass);
+					}
+				});
+			}
 		});
-		return ret;
 	}
 
 	/**
-	 * This is a graph reachability algorithm that returns all elements d
-	 * reachable from an element c using a path where each segment is from any
-	 * of the properties in R.
+	 * Tells whether the given axioms can be added without resetting the
+	 * processor.
 	 * 
-	 * @param c
-	 *            first element in the path
-	 * @return the set of all nodes reachable from c using any possible segment
+	 * @param normalizedAxiomSet
+	 *            set of normalized axioms to be added
+	 * @param analyzer
+	 *            analyzer of the axioms to be added
+	 * @return <code>true</code> if and only if the given axioms can be added
+	 *         without resetting the processor
 	 */
-	private Set<Integer> computeReachability(Integer c) {
-		Set<Integer> ret = new HashSet<>();
-		Set<Integer> toVisit = new HashSet<>();
-		toVisit.add(c);
-		while (!toVisit.isEmpty()) {
-			Integer elem = toVisit.iterator().next();
-			toVisit.remove(elem);
-			ret.add(elem);
-			Set<Integer> newToVisit = new HashSet<>();
-			this.status.getObjectPropertiesByFirst(elem).forEach(r -> {
-				IntegerBinaryRelation relation = this.status.getRelationSet().get(r);
-				newToVisit.addAll(relation.getByFirst(elem));
-			});
-			newToVisit.removeAll(ret);
-			toVisit.addAll(newToVisit);
-		}
-		return ret;
+	private boolean canBeAddedIncrementally(Set<NormalizedIntegerAxiom> normalizedAxiomSet,
+			IncrementalAxiomAnalyzer analyzer) {
+		OntologyExpressivity newExpressivity = new NormalizedAxiomExpressivityDetector(normalizedAxiomSet);
+		return analyzer.isIncremental()
+				&& (!newExpressivity.hasBottom() || this.expressivity.hasBottom())
+				&& (!newExpressivity.hasInverseObjectProperty() || this.expressivity.hasInverseObjectProperty())
+				&& getObjectPropertyGraph().getElements().containsAll(analyzer.getObjectProperties());
 	}
 
-	private Set<Integer> computeReachability(Integer c, Map<Integer, Set<Integer>> reachableNodeCache) {
-		Set<Integer> reachableNodes = reachableNodeCache.get(c);
-		if (Objects.isNull(reachableNodes)) {
-			reachableNodes = computeReachability(c);
-			reachableNodeCache.put(c, reachableNodes);
+	/**
+	 * Returns the SHA-256 digest of the normalized axioms, the original classes
+	 * and the original object properties, which identifies the ontology of a
+	 * checkpoint. The digest does not depend on the iteration order of the
+	 * sets, and it is kept until the axioms change.
+	 * 
+	 * @return the digest of the ontology
+	 */
+	private byte[] computeOntologyDigest() {
+		if (Objects.isNull(this.ontologyDigest)) {
+			try {
+				MessageDigest digest = MessageDigest.getInstance(digestAlgorithm);
+				this.normalizedAxiomSet.stream().map(Object::toString).sorted()
+						.forEach(axiom -> digest.update((axiom + "\n").getBytes(StandardCharsets.UTF_8)));
+				digest.update(new TreeSet<>(this.originalClasses).toString().getBytes(StandardCharsets.UTF_8));
+				digest.update(new TreeSet<>(this.originalObjectProperties).toString().getBytes(StandardCharsets.UTF_8));
+				this.ontologyDigest = digest.digest();
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
 		}
-		return reachableNodes;
-	}
-
-	private Map<Integer, Set<Integer>> computeSameIndividualMap(IntegerHierarchicalGraph hierarchicalGraph) {
-		Map<Integer, Set<Integer>> ret = new HashMap<>();
-		Set<Integer> individuals = getEntityManager().getIndividuals();
-		individuals.forEach(indiv -> {
-			Set<Integer> equivalentClasses = hierarchicalGraph
-					.getEquivalents(getEntityManager().getAuxiliaryNominal(indiv).get());
-			Set<Integer> equivalents = new HashSet<>();
-			equivalentClasses.forEach(elem -> {
-				if (getEntityManager().getAuxiliaryNominals().contains(elem)) {
-					equivalents.add(getEntityManager().getIndividual(elem).get());
-				}
-			});
-			ret.put(indiv, Collections.unmodifiableSet(equivalents));
-		});
-		return ret;
+		return this.ontologyDigest;
 	}
 
 	/**
@@ -284,7 +376,7 @@ public class RuleBasedProcessor implements Processor {
 		extendedOntology.load(saturatedNormalizedAxiomSet);
 		originalObjectPropertySet.forEach(elem -> extendedOntology.addObjectProperty(elem));
 		originalClassSet.forEach(elem -> extendedOntology.addClass(elem));
-		return extendedOntology;
+		return new FlatExtendedOntology(extendedOntology);
 	}
 
 	/**
@@ -297,13 +389,22 @@ public class RuleBasedProcessor implements Processor {
 	}
 
 	@Override
-	public IntegerHierarchicalGraph getClassHierarchy() {
+	public IntegerTaxonomy getClassHierarchy() {
 		if (!isReady()) {
 			throw new UnclassifiedOntologyException();
 		}
 		return this.classHierarchy;
 	}
 
+	/**
+	 * Returns the configuration of this processor.
+	 * 
+	 * @return the configuration of this processor
+	 */
+	public RuleBasedProcessorConfiguration getConfiguration() {
+		return this.configuration;
+	}
+
 	/**
 	 * Returns information about how the processor configuration.
 	 * 
@@ -313,6 +414,8 @@ public class RuleBasedProcessor implements Processor {
 		List<Map.Entry<String, String>> ret = new ArrayList<>();
 		ret.add(createEntry("processor", getClass().getSimpleName()));
 		ret.add(createEntry("iterations per log entry", "" + loggingFrequency));
+		ret.add(createEntry("number of threads", "" + this.configuration.getNumberOfThreads()));
+		ret.add(createEntry("queue type", "" + this.configuration.getQueueType()));
 		ret.add(createEntry("classes read (including TOP and BOTTOM classes)",
 				"" + getEntityManager().getEntities(IntegerEntityType.CLASS, false).size()));
 		ret.add(createEntry("object properties read (including TOP and BOTTOM object properties)",
@@ -335,31 +438,6 @@ public class RuleBasedProcessor implements Processor {
 		return this.dataPropertyHierarchy;
 	}
 
-	/**
-	 * Computes the descendants using only a hierarchical graph.
-	 * 
-	 * @param hierarchicalGraph
-	 *            a hierarchical graph containing parents and children
-	 * @param vertex
-	 *            starting vertex to compute the descendants
-	 * @return the descendants according the graph
-	 */
-	private Set<Integer> getDescendants(IntegerHierarchicalGraph hierarchicalGraph, Integer vertex) {
-		Set<Integer> visited = new HashSet<>();
-		Set<Integer> queue = new HashSet<>();
-		queue.add(vertex);
-		while (!queue.isEmpty()) {
-			Integer elem = queue.iterator().next();
-			queue.remove(elem);
-			visited.add(elem);
-			Set<Integer> children = new HashSet<>();
-			children.addAll(hierarchicalGraph.getChildren(elem));
-			children.removeAll(visited);
-			queue.addAll(children);
-		}
-		return visited;
-	}
-
 	@Override
 	public Map<Integer, Set<Integer>> getDirectTypes() {
 		if (!isReady()) {
@@ -377,7 +455,7 @@ public class RuleBasedProcessor implements Processor {
 	}
 
 	@Override
-	public IntegerHierarchicalGraph getObjectPropertyHierarchy() {
+	public IntegerTaxonomy getObjectPropertyHierarchy() {
 		if (!isReady()) {
 			throw new UnclassifiedOntologyException();
 		}
@@ -424,6 +502,24 @@ public class RuleBasedProcessor implements Processor {
 		return Collections.unmodifiableMap(this.sameIndividualMap);
 	}
 
+	/**
+	 * Returns all the elements d such that (c, d) belongs to any of the
+	 * properties in R.
+	 * 
+	 * @param c
+	 *            first element of the pairs
+	 * @return all the elements d such that (c, d) belongs to any of the
+	 *         properties in R
+	 */
+	private Collection<Integer> getSuccessorsInR(int c) {
+		Set<Integer> ret = new HashSet<>();
+		this.status.getObjectPropertiesByFirst(c).forEachInt(r -> {
+			IntegerBinaryRelation relation = this.status.getRelationSet().get(r);
+			ret.addAll(relation.getByFirst(c));
+		});
+		return ret;
+	}
+
 	/**
 	 * Returns information about the processor status.
 	 * 
@@ -441,26 +537,133 @@ public class RuleBasedProcessor implements Processor {
 		return ret;
 	}
 
+	/**
+	 * Tells whether there are S-entries or R-entries to be processed.
+	 * 
+	 * @return <code>true</code> if and only if there are S-entries or R-entries
+	 *         to be processed
+	 */
+	private boolean hasPendingEntries() {
+		return (this.status.getNumberOfSEntries() > 0) || (this.status.getNumberOfREntries() > 0);
+	}
+
+	/**
+	 * Tells whether a checkpoint has to be written.
+	 * 
+	 * @return <code>true</code> if and only if checkpoints are configured and
+	 *         enough entries were processed since the last one
+	 */
+	private boolean isCheckpointDue() {
+		return this.configuration.getCheckpointFile().isPresent() && (this.iteration.get() >= this.nextCheckpoint);
+	}
+
 	@Override
 	public boolean isReady() {
 		return this.isReady;
 	}
 
 	/**
-	 * Post processes the data after the classification phase.
+	 * Wakes up the waiting workers if there are entries to be processed.
+	 */
+	private void notifyWaitingWorkers() {
+		if (this.waitingWorkers > 0) {
+			synchronized (this.workerMonitor) {
+				if ((this.waitingWorkers > 0) && hasPendingEntries()) {
+					this.workerMonitor.notifyAll();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Marks every entry of the sets S and R that could have been derived using
+	 * at least one of the given axioms. First, the completion rules are applied
+	 * using only the removed axioms to the S-entries whose superclass appears
+	 * on the left-hand side of a removed axiom. Then, the completion rules are
+	 * applied using the whole ontology to each marked entry, until no more
+	 * entries are marked or the bottom class is reached.
+	 *
+	 * @param normalizedAxiomSet
+	 *            set of normalized axioms to be removed
+	 * @param analyzer
+	 *            analyzer of the axioms to be removed
+	 * @return the result of the over-deletion step
+	 */
+	private OverDeletionStatus overDelete(Set<NormalizedIntegerAxiom> normalizedAxiomSet,
+			IncrementalAxiomAnalyzer analyzer) {
+		ExtendedOntology removedAxioms = new ExtendedOntologyImpl();
+		removedAxioms.load(normalizedAxiomSet);
+		OverDeletionStatus ret = new OverDeletionStatus(this.status, removedAxioms);
+
+		Set<Integer> classesOnTheLeft = analyzer.getClassesOnTheLeft();
+		List<Integer> elements = new ArrayList<>(getClassGraph().getElements());
+		elements.forEach(subClass -> {
+			if (subClass != IntegerEntityManager.bottomClassId) {
+				Collection<Integer> subsumers = getClassGraph().getSubsumers(subClass);
+				classesOnTheLeft.forEach(superClass -> {
+					if (subsumers.contains(superClass)) {
+						this.chainS.apply(ret, subClass, superClass);
+					}
+				});
+			}
+		});
+
+		ret.setExtendedOntology(this.status.getExtendedOntology());
+		int sIndex = 0;
+		int rIndex = 0;
+		while (!ret.isBottomReached()
+				&& (sIndex < ret.getSEntries().size() || rIndex < ret.getREntries().size())) {
+			if (sIndex < ret.getSEntries().size()) {
+				SEntry entry = ret.getSEntries().get(sIndex);
+				this.chainS.apply(ret, entry.getSubClass(), entry.getSuperClass());
+				sIndex++;
+			} else {
+				REntry entry = ret.getREntries().get(rIndex);
+				this.chainR.apply(ret, entry.getProperty(), entry.getLeftClass(), entry.getRightClass());
+				rIndex++;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Tells the workers to stop if a checkpoint is due, so that the checkpoint
+	 * is written while no worker modifies the status.
+	 * 
+	 * @return <code>true</code> if and only if the workers have to stop
+	 */
+	private boolean pauseIfCheckpointIsDue() {
+		boolean ret = this.checkpointPending;
+		if (!ret && isCheckpointDue()) {
+			synchronized (this.workerMonitor) {
+				this.checkpointPending = true;
+				this.workerMonitor.notifyAll();
+			}
+			ret = true;
+		}
+		return ret;
+	}
+
+	/**
+	 * Post processes the data after the classification phase. The class and
+	 * object property hierarchies are kept as taxonomies, and the intermediate
+	 * hierarchical graphs are not kept.
 	 */
 	protected void postProcess() {
-		removeAuxiliaryObjectProperties();
-		this.objectPropertyHierarchy = new IntegerHierarchicalGraphImpl(getObjectPropertyGraph());
+		int numberOfThreads = this.configuration.getNumberOfThreads();
+		this.objectPropertyHierarchy = new IntegerTaxonomy(
+				new IntegerHierarchicalGraphImpl(removeAuxiliaryObjectProperties(), numberOfThreads));
 
-		removeAuxiliaryClassesExceptNominals();
-		IntegerHierarchicalGraph hierarchicalGraph = new IntegerHierarchicalGraphImpl(this.status.getClassGraph());
-		processNominals(hierarchicalGraph);
-		this.directTypes = computeDirectTypes(hierarchicalGraph);
-		this.sameIndividualMap = computeSameIndividualMap(hierarchicalGraph);
+		IntegerSubsumerGraphImpl classGraph = removeAuxiliaryClassesExceptNominals();
+		IntegerHierarchicalGraph hierarchicalGraph = new IntegerHierarchicalGraphImpl(classGraph, numberOfThreads);
+		processNominals(classGraph, hierarchicalGraph);
+		IndividualRealization realization = new IndividualRealization(hierarchicalGraph, getEntityManager(),
+				getEntityManager().getIndividuals(), numberOfThreads);
+		this.directTypes = realization.getDirectTypes();
+		this.sameIndividualMap = realization.getSameIndividualMap();
 
-		removeAuxiliaryNominals();
-		this.classHierarchy = new IntegerHierarchicalGraphImpl(this.status.getClassGraph());
+		removeAuxiliaryNominals(classGraph);
+		this.classHierarchy = new IntegerTaxonomy(new IntegerHierarchicalGraphImpl(classGraph, numberOfThreads));
 	};
 
 	/**
@@ -477,7 +680,8 @@ public class RuleBasedProcessor implements Processor {
 		logger.fine("configuring processor ...");
 
 		this.isReady = false;
-		this.status = new ClassifierStatusImpl(getEntityManager(), ontology);
+		this.status = new ClassifierStatusImpl(getEntityManager(), ontology, this.configuration);
+		this.nextCheckpoint = this.iteration.get() + this.configuration.getCheckpointInterval();
 		this.dataPropertyHierarchy = new IntegerHierarchicalGraphImpl(new IntegerSubsumerGraphImpl(
 				IntegerEntityManager.bottomDataPropertyId, IntegerEntityManager.topDataPropertyId));
 		Set<Integer> classNameSet = new HashSet<>();
@@ -493,12 +697,8 @@ public class RuleBasedProcessor implements Processor {
 		int numberOfCores = Runtime.getRuntime().availableProcessors();
 		logger.fine("number of cores : " + numberOfCores);
 
-		// uncomment the following two lines to allow multithreaded mode
-		// int suggestedNumberOfThreads = (numberOfCores / 2) - 1;
-		// this.multiThreadedMode = suggestedNumberOfThreads >= 4;
-
-		if (this.multiThreadedMode) {
-			logger.fine("running processor on multiple threads.");
+		if (this.configuration.isMultiThreaded()) {
+			logger.fine("running processor on " + this.configuration.getNumberOfThreads() + " threads.");
 		} else {
 			logger.fine("running processor on a single thread.");
 		}
@@ -507,14 +707,14 @@ public class RuleBasedProcessor implements Processor {
 	@Override
 	public boolean process() {
 		boolean ret = false;
-		if (this.multiThreadedMode) {
+		if (this.configuration.isMultiThreaded()) {
 			ret = processMultiThreaded();
 		} else {
 			ret = processSingleThreaded();
 		}
 		if (ret) {
-			if (this.loggingCount < 1) {
-				this.loggingCount = loggingFrequency;
+			if (this.loggingCount.get() < 1) {
+				this.loggingCount.set(loggingFrequency);
 				logger.fine(showStatusInfo());
 			}
 		}
@@ -523,138 +723,76 @@ public class RuleBasedProcessor implements Processor {
 
 	private boolean processMultiThreaded() {
 		if (!this.isReady) {
-			if (Objects.nonNull(this.threadS1) && Objects.nonNull(this.threadS2) && Objects.nonNull(this.threadR1)
-					&& Objects.nonNull(this.threadR2) && this.threadS1.getState().equals(Thread.State.TERMINATED)
-					&& this.threadS2.getState().equals(Thread.State.TERMINATED)
-					&& this.threadR1.getState().equals(Thread.State.TERMINATED)
-					&& this.threadR2.getState().equals(Thread.State.TERMINATED)
-					&& (this.status.getNumberOfSEntries() == 0) && (this.status.getNumberOfREntries() == 0)) {
-
-				logger.fine(showStatusInfo());
-				postProcess();
-				logger.fine(showConfigurationInfo());
-				this.isReady = true;
-			} else {
-
-				if ((Objects.isNull(this.threadS1)) || (Objects.nonNull(this.threadS1)
-						&& this.threadS1.getState().equals(Thread.State.TERMINATED))) {
-					this.threadS1 = new WorkerThreadS();
-					this.threadS1.start();
-					logger.finest("starting new thread S-1 ...");
-				}
-
-				if ((Objects.isNull(this.threadS2)) || (Objects.nonNull(this.threadS2)
-						&& this.threadS2.getState().equals(Thread.State.TERMINATED))) {
-					this.threadS2 = new WorkerThreadS();
-					this.threadS2.start();
-					logger.finest("starting new thread S-2 ...");
-				}
-
-				if ((Objects.isNull(this.threadR1)) || (Objects.nonNull(this.threadR1)
-						&& this.threadR1.getState().equals(Thread.State.TERMINATED))) {
-					this.threadR1 = new WorkerThreadR();
-					this.threadR1.start();
-					logger.finest("starting new thread R-1 ...");
-				}
-
-				if ((Objects.isNull(this.threadR2)) || (Objects.nonNull(this.threadR2)
-						&& this.threadR2.getState().equals(Thread.State.TERMINATED))) {
-					this.threadR2 = new WorkerThreadR();
-					this.threadR2.start();
-					logger.finest("starting new thread R-2 ...");
-				}
-
-				try {
-					if (this.status.getNumberOfREntries() < this.status.getNumberOfSEntries()) {
-						if ((this.iteration % 2) == 0) {
-							this.threadR1.join();
-						} else {
-							this.threadR2.join();
-						}
-					} else {
-						if ((this.iteration % 2) == 0) {
-							this.threadS1.join();
-						} else {
-							this.threadS2.join();
-						}
-					}
-				} catch (InterruptedException e) {
-					throw new IllegalStateException(e);
-				}
-			}
+			saturateMultiThreaded();
+			logger.fine(showStatusInfo());
+			postProcess();
+			logger.fine(showConfigurationInfo());
+			this.isReady = true;
 		}
 		return !this.isReady;
 	}
 
+	/**
+	 * Processes the next S-entry or R-entry, choosing first the queue with more
+	 * entries.
+	 * 
+	 * @param sEntry
+	 *            buffer of the calling thread to read S-entries
+	 * @param rEntry
+	 *            buffer of the calling thread to read R-entries
+	 * @return <code>true</code> if and only if an entry was taken from one of
+	 *         the queues
+	 */
+	private boolean processNextEntry(int[] sEntry, int[] rEntry) {
+		boolean ret = false;
+		if (this.status.getNumberOfSEntries() > this.status.getNumberOfREntries()) {
+			ret = processSEntries(sEntry) || processREntries(rEntry);
+		} else {
+			ret = processREntries(rEntry) || processSEntries(sEntry);
+		}
+		return ret;
+	}
+
 	/**
 	 * Processes the nominals after the execution of the classification
 	 * algorithm. It requires a hierarchical graph to get the descendants.
 	 * 
+	 * @param classGraph
+	 *            the class graph that is updated
 	 * @param hierarchicalGraph
 	 *            the hierarchical graph
 	 */
-	private void processNominals(IntegerHierarchicalGraph hierarchicalGraph) {
-		Map<Integer, Set<Integer>> reachabilityCache = new HashMap<>();
-		Set<Integer> nominals = getEntityManager().getAuxiliaryNominals();
-		nominals.forEach(indiv -> {
-			Set<Integer> descendants = getDescendants(hierarchicalGraph, indiv);
-			descendants.forEach(c -> {
-				descendants.forEach(d -> {
-					Collection<Integer> sC = getClassGraph().getSubsumers(c);
-					Collection<Integer> sD = getClassGraph().getSubsumers(d);
-					if (!(sD.containsAll(sC))) {
-						if (computeReachability(c, reachabilityCache).contains(d)) {
-							sD.forEach(elem -> this.status.getClassGraph().addAncestor(c, elem));
-						}
-						nominals.forEach(nominal -> {
-							if (computeReachability(nominal, reachabilityCache).contains(d)) {
-								sD.forEach(elem -> this.status.getClassGraph().addAncestor(c, elem));
-							}
-						});
-					}
-				});
-			});
-		});
+	private void processNominals(IntegerSubsumerGraphImpl classGraph, IntegerHierarchicalGraph hierarchicalGraph) {
+		new NominalSubsumerPropagator(this::getSuccessorsInR, this.configuration.getNumberOfThreads())
+				.apply(classGraph, hierarchicalGraph, getEntityManager().getAuxiliaryNominals());
 	}
 
-	private boolean processREntries() {
-		boolean ret = false;
-		REntry entry = null;
-		try {
-			entry = this.status.removeNextREntry();
-		} catch (NoSuchElementException e) {
-		}
-		if (Objects.nonNull(entry)) {
-			ret = true;
-			int property = entry.getProperty();
-			int leftClass = entry.getLeftClass();
-			int rightClass = entry.getRightClass();
+	private boolean processREntries(int[] entry) {
+		boolean ret = this.status.removeNextREntry(entry);
+		if (ret) {
+			int property = entry[0];
+			int leftClass = entry[1];
+			int rightClass = entry[2];
 			boolean applied = this.status.addToR(property, leftClass, rightClass);
 			if (applied) {
 				this.chainR.apply(this.status, property, leftClass, rightClass);
-				this.loggingCount--;
-				this.iteration++;
+				this.loggingCount.decrementAndGet();
+				this.iteration.incrementAndGet();
 			}
 		}
 		return ret;
 	}
 
-	private boolean processSEntries() {
-		boolean ret = false;
-		SEntry entry = null;
-		try {
-			entry = this.status.removeNextSEntry();
-		} catch (NoSuchElementException e) {
-		}
-		if (Objects.nonNull(entry)) {
-			ret = true;
-			int subClass = entry.getSubClass();
-			int superClass = entry.getSuperClass();
+	private boolean processSEntries(int[] entry) {
+		boolean ret = this.status.removeNextSEntry(entry);
+		if (ret) {
+			int subClass = entry[0];
+			int superClass = entry[1];
 			boolean applied = this.status.addToS(subClass, superClass);
 			if (applied) {
 				this.chainS.apply(this.status, subClass, superClass);
-				this.loggingCount--;
-				this.iteration++;
+				this.loggingCount.decrementAndGet();
+				this.iteration.incrementAndGet();
 			}
 		}
 		return ret;
@@ -669,16 +807,27 @@ public class RuleBasedProcessor implements Processor {
 				this.isReady = true;
 			} else {
 				if (this.status.getNumberOfSEntries() > this.status.getNumberOfREntries()) {
-					processSEntries();
+					processSEntries(this.sEntry);
 				} else {
-					processREntries();
+					processREntries(this.rEntry);
+				}
+				if (isCheckpointDue()) {
+					writePeriodicCheckpoint();
 				}
 			}
 		}
 		return !this.isReady;
 	}
 
-	private void removeAuxiliaryClassesExceptNominals() {
+	/**
+	 * Returns a copy of the class graph without the auxiliary classes, except
+	 * the auxiliary nominals. The class graph is not modified, so that it can
+	 * be extended if new axioms are added.
+	 * 
+	 * @return a copy of the class graph without the auxiliary classes, except
+	 *         the auxiliary nominals
+	 */
+	private IntegerSubsumerGraphImpl removeAuxiliaryClassesExceptNominals() {
 		Set<Integer> reqClasses = new HashSet<>();
 		getClassGraph().getElements().forEach(elem -> {
 			if (!getEntityManager().isAuxiliary(elem)) {
@@ -686,28 +835,194 @@ public class RuleBasedProcessor implements Processor {
 			}
 		});
 		reqClasses.addAll(getEntityManager().getAuxiliaryNominals());
-		this.status.getClassGraph().retainAll(reqClasses);
+		return new IntegerSubsumerGraphImpl(getClassGraph(), reqClasses);
 	}
 
-	private void removeAuxiliaryNominals() {
+	private void removeAuxiliaryNominals(IntegerSubsumerGraphImpl classGraph) {
 		Set<Integer> reqClasses = new HashSet<>();
-		reqClasses.addAll(getClassGraph().getElements());
+		reqClasses.addAll(classGraph.getElements());
 		reqClasses.removeAll(getEntityManager().getAuxiliaryNominals());
-		this.status.getClassGraph().retainAll(reqClasses);
+		classGraph.retainAll(reqClasses);
 	}
 
 	/**
-	 * This method removes the auxiliary object properties that were not
-	 * generated as inverse of another one.
+	 * Returns a copy of the object property graph without the auxiliary object
+	 * properties. The object property graph is not modified.
+	 * 
+	 * @return a copy of the object property graph without the auxiliary object
+	 *         properties
 	 */
-	private void removeAuxiliaryObjectProperties() {
+	private IntegerSubsumerGraph removeAuxiliaryObjectProperties() {
 		Set<Integer> reqObjectProperties = new HashSet<>();
 		getObjectPropertyGraph().getElements().forEach(elem -> {
 			if (!getEntityManager().isAuxiliary(elem)) {
 				reqObjectProperties.add(elem);
 			}
 		});
-		this.status.getObjectPropertyGraph().retainAll(reqObjectProperties);
+		return new IntegerSubsumerGraphImpl(getObjectPropertyGraph(), reqObjectProperties);
+	}
+
+	/**
+	 * Removes axioms from the ontology. If the removed axioms are general
+	 * concept inclusions, the ontology does not use inverse or functional
+	 * object properties, and the removal does not affect the bottom class, the
+	 * current saturation is updated using the delete and re-derive technique:
+	 * every entry that could have been derived using a removed axiom is
+	 * deleted, and the entries that still have another derivation are derived
+	 * again. Otherwise, the processor is reset and the whole ontology is
+	 * classified again.
+	 *
+	 * @param normalizedAxiomSet
+	 *            set of normalized axioms to be removed
+	 */
+	public void removeAxioms(Set<NormalizedIntegerAxiom> normalizedAxiomSet) {
+		Objects.requireNonNull(normalizedAxiomSet);
+		logger.fine("removing axioms ...");
+		IncrementalAxiomAnalyzer analyzer = new IncrementalAxiomAnalyzer(normalizedAxiomSet);
+		OverDeletionStatus overDeletion = null;
+		if (analyzer.isIncremental() && !this.expressivity.hasInverseObjectProperty()
+				&& !this.expressivity.hasFunctionalObjectProperty()) {
+			overDeletion = overDelete(normalizedAxiomSet, analyzer);
+		}
+		this.normalizedAxiomSet.removeAll(normalizedAxiomSet);
+		this.ontologyDigest = null;
+		if (Objects.nonNull(overDeletion) && !overDeletion.isBottomReached()) {
+			removeAxiomsIncrementally(normalizedAxiomSet, overDeletion);
+			logger.fine("axioms removed incrementally.");
+		} else {
+			reset();
+		}
+	}
+
+	/**
+	 * Deletes the entries marked by the over-deletion step, removes the axioms
+	 * from the ontology, and applies the completion rules again to the
+	 * remaining entries of the affected classes. The entries derived this way
+	 * are processed by the next calls to {@link #process()}.
+	 *
+	 * @param normalizedAxiomSet
+	 *            set of normalized axioms to be removed
+	 * @param overDeletion
+	 *            result of the over-deletion step
+	 */
+	private void removeAxiomsIncrementally(Set<NormalizedIntegerAxiom> normalizedAxiomSet,
+			OverDeletionStatus overDeletion) {
+		this.isReady = false;
+		Set<Integer> affectedClasses = new HashSet<>();
+		overDeletion.getSEntries().forEach(entry -> {
+			this.status.removeFromS(entry.getSubClass(), entry.getSuperClass());
+			affectedClasses.add(entry.getSubClass());
+		});
+		overDeletion.getREntries().forEach(entry -> {
+			this.status.removeFromR(entry.getProperty(), entry.getLeftClass(), entry.getRightClass());
+			affectedClasses.add(entry.getLeftClass());
+		});
+		this.status.getExtendedOntology().unload(normalizedAxiomSet);
+		this.chainS.clearIndex();
+		this.chainR.clearIndex();
+
+		affectedClasses.forEach(subClass -> {
+			this.status.addNewSEntry(subClass, subClass);
+			this.status.addNewSEntry(subClass, topClassId);
+			this.status.getSubsumers(subClass)
+					.forEachInt(superClass -> this.chainS.apply(this.status, subClass, superClass));
+			this.status.getObjectPropertiesByFirst(subClass)
+					.forEachInt(property -> this.status.getSecondByFirst(property, subClass)
+							.forEachInt(rightClass -> this.chainR.apply(this.status, property, subClass, rightClass)));
+		});
+	}
+
+	/**
+	 * Resets the processor. The ontology is created again from the current set
+	 * of normalized axioms, so that the saturation of the object property
+	 * axioms is also computed again.
+	 */
+	private void reset() {
+		preProcess(createExtendedOntology(this.originalObjectProperties, this.originalClasses,
+				this.normalizedAxiomSet));
+		logger.fine("processor reset.");
+	}
+
+	/**
+	 * Resumes the saturation from a checkpoint. The checkpoint must have been
+	 * written by a processor created for the same ontology, with the same
+	 * entity manager at the time of creation. The sets S and R, the set of
+	 * nodes V, the queues of entries to be processed, and the entities created
+	 * during the saturation are restored, so that the following calls to
+	 * {@link #process()} give the same results as the processor that wrote
+	 * the checkpoint. This method must not be called while {@link #process()}
+	 * is running. The checkpoint keeps a digest of the normalized axioms and
+	 * the original entities, and if it belongs to another ontology, this
+	 * processor is not modified.
+	 * 
+	 * @param file
+	 *            checkpoint file
+	 * @throws IOException
+	 *             if the file cannot be read, if it is not a valid
+	 *             checkpoint, or if it belongs to another ontology
+	 * 
+	 * @see #writeCheckpoint(Path)
+	 */
+	public void resume(Path file) throws IOException {
+		Objects.requireNonNull(file);
+		try {
+			long iterationOfCheckpoint = ChecksummedFile.read(file, checkpointMagicNumber, checkpointFormatVersion,
+					input -> {
+						byte[] storedDigest = new byte[input.readInt()];
+						input.readFully(storedDigest);
+						if (!MessageDigest.isEqual(storedDigest, computeOntologyDigest())) {
+							throw new IOException("Checkpoint of another ontology: " + file);
+						}
+						long ret = input.readLong();
+						this.status.readCheckpoint(input);
+						return ret;
+					});
+			this.iteration.set(iterationOfCheckpoint);
+
+		} catch (EOFException | IllegalArgumentException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+			throw new IOException("Invalid checkpoint file: " + file, e);
+		}
+		this.isReady = false;
+		this.nextCheckpoint = this.iteration.get() + this.configuration.getCheckpointInterval();
+		logger.fine("saturation resumed from " + file + " .");
+	}
+
+	/**
+	 * Saturates the sets S and R using a pool of workers. Each S-entry or
+	 * R-entry is processed by only one worker, and since the completion rules
+	 * are monotone, the saturated sets are the same as the ones computed by a
+	 * single thread. When a checkpoint is due, the workers stop, the
+	 * checkpoint is written, and the workers start again.
+	 */
+	private void saturateMultiThreaded() {
+		int numberOfThreads = this.configuration.getNumberOfThreads();
+		ForkJoinPool pool = new ForkJoinPool(numberOfThreads);
+		try {
+			boolean finished = false;
+			while (!finished) {
+				this.workerFailed = false;
+				this.waitingWorkers = 0;
+				this.checkpointPending = false;
+				List<Future<?>> tasks = new ArrayList<>();
+				for (int index = 0; index < numberOfThreads; index++) {
+					tasks.add(pool.submit(new Worker()));
+				}
+				for (Future<?> task : tasks) {
+					task.get();
+				}
+				finished = !this.checkpointPending;
+				if (!finished) {
+					writePeriodicCheckpoint();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			pool.shutdownNow();
+		}
 	}
 
 	public String showConfigurationInfo() {
@@ -732,6 +1047,74 @@ public class RuleBasedProcessor implements Processor {
 		return sbuf.toString();
 	}
 
+	/**
+	 * Waits until there are new entries to be processed, or until all the
+	 * workers are waiting. In the latter case, no worker can add new entries,
+	 * and then the saturation is finished.
+	 * 
+	 * @return <code>true</code> if and only if the saturation is finished
+	 */
+	private boolean waitForEntries() {
+		boolean ret = false;
+		synchronized (this.workerMonitor) {
+			this.waitingWorkers++;
+			int numberOfThreads = this.configuration.getNumberOfThreads();
+			try {
+				while (!this.workerFailed && !this.checkpointPending && !hasPendingEntries()
+						&& (this.waitingWorkers < numberOfThreads)) {
+					this.workerMonitor.wait();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+			ret = this.workerFailed || this.checkpointPending
+					|| (!hasPendingEntries() && (this.waitingWorkers == numberOfThreads));
+			if (ret) {
+				this.workerMonitor.notifyAll();
+			} else {
+				this.waitingWorkers--;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Writes a checkpoint of the saturation to a file, which replaces the
+	 * previous content of the file. This method must not be called while
+	 * {@link #process()} is running.
+	 * 
+	 * @param file
+	 *            checkpoint file
+	 * @throws IOException
+	 *             if something goes wrong writing the file
+	 * @throws IllegalStateException
+	 *             if the entity manager cannot be written
+	 * 
+	 * @see #resume(Path)
+	 */
+	public void writeCheckpoint(Path file) throws IOException {
+		Objects.requireNonNull(file);
+		ChecksummedFile.write(file, checkpointMagicNumber, checkpointFormatVersion, output -> {
+			byte[] digest = computeOntologyDigest();
+			output.writeInt(digest.length);
+			output.write(digest);
+			output.writeLong(this.iteration.get());
+			this.status.writeCheckpoint(output);
+		});
+	}
+
+	private void writePeriodicCheckpoint() {
+		Path file = this.configuration.getCheckpointFile().get();
+		try {
+			writeCheckpoint(file);
+			logger.fine("checkpoint written to " + file + " .");
+		} catch (IOException e) {
+			logger.warning("checkpoint could not be written to " + file + " : " + e.getMessage());
+		}
+		this.nextCheckpoint = this.iteration.get() + this.configuration.getCheckpointInterval();
+	}
+
 	public void outputSetS(Writer writer) throws IOException {
 		this.status.outputSetS(writer);
 	}
@@ -0,0 +1,280 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+import de.tudresden.inf.lat.jcel.core.graph.IntSetType;
+
+/**
+ * An object of this class keeps the parameters used to configure a
+ * {@link RuleBasedProcessor}. The default configuration runs the saturation on
+ * a single thread, keeps the entries to be processed in sorted sets, and does
+ * not write checkpoints. When the saturation runs on several threads, the sets
+ * of subsumers and relations must be concurrent arrays, which is also their
+ * default in that case.
+ * 
+ * @author Julian Mendez
+ */
+public class RuleBasedProcessorConfiguration {
+
+	private static final long defaultCheckpointInterval = 0x1000000;
+	private static final int defaultNumberOfThreads = 1;
+	private static final EntryQueueType defaultQueueType = EntryQueueType.SORTED_SET;
+	private static final IntSetType defaultSetType = IntSetType.ARRAY;
+	private static final IntSetType multiThreadedSetType = IntSetType.CONCURRENT_ARRAY;
+
+	private Optional<Path> checkpointFile = Optional.empty();
+	private long checkpointInterval = defaultCheckpointInterval;
+	private int numberOfThreads = defaultNumberOfThreads;
+	private EntryQueueType queueType = defaultQueueType;
+	private Optional<IntSetType> relationSetType = Optional.empty();
+	private Optional<IntSetType> subsumerSetType = Optional.empty();
+
+	/**
+	 * Constructs a new configuration with the default values.
+	 */
+	public RuleBasedProcessorConfiguration() {
+	}
+
+	private void checkSetType(String name, IntSetType setType) {
+		if (!setType.equals(multiThreadedSetType)) {
+			throw new IllegalArgumentException("The sets of " + name + " of type " + setType
+					+ " cannot be read by several threads, only those of type " + multiThreadedSetType + ".");
+		}
+	}
+
+	private void checkSetTypes(int numberOfThreads, Optional<IntSetType> subsumerSetType,
+			Optional<IntSetType> relationSetType) {
+		if (numberOfThreads > 1) {
+			subsumerSetType.ifPresent(setType -> checkSetType("subsumers", setType));
+			relationSetType.ifPresent(setType -> checkSetType("relations", setType));
+		}
+	}
+
+	/**
+	 * Returns the file where the processor periodically writes checkpoints of
+	 * the saturation, if any.
+	 * 
+	 * @return the file where the processor periodically writes checkpoints of
+	 *         the saturation, or an empty optional if no checkpoints are
+	 *         written
+	 */
+	public Optional<Path> getCheckpointFile() {
+		return this.checkpointFile;
+	}
+
+	/**
+	 * Returns the number of processed entries between two checkpoints.
+	 * 
+	 * @return the number of processed entries between two checkpoints
+	 */
+	public long getCheckpointInterval() {
+		return this.checkpointInterval;
+	}
+
+	/**
+	 * Returns the number of worker threads used to saturate the sets S and R,
+	 * and to build the hierarchies.
+	 * 
+	 * @return the number of worker threads used to saturate the sets S and R,
+	 *         and to build the hierarchies
+	 */
+	public int getNumberOfThreads() {
+		return this.numberOfThreads;
+	}
+
+	/**
+	 * Returns the implementation of the queues of entries to be processed.
+	 * 
+	 * @return the implementation of the queues of entries to be processed
+	 */
+	public EntryQueueType getQueueType() {
+		return this.queueType;
+	}
+
+	/**
+	 * Returns the implementation of the sets of classes and object properties
+	 * related to each class. If it was not set, this is a sorted array for a
+	 * single thread, and a concurrent array for several threads.
+	 * 
+	 * @return the implementation of the sets of classes and object properties
+	 *         related to each class
+	 */
+	public IntSetType getRelationSetType() {
+		return this.relationSetType.orElse(isMultiThreaded() ? multiThreadedSetType : defaultSetType);
+	}
+
+	/**
+	 * Returns the implementation of the sets of subsumers of each class. If it
+	 * was not set, this is a sorted array for a single thread, and a
+	 * concurrent array for several threads.
+	 * 
+	 * @return the implementation of the sets of subsumers of each class
+	 */
+	public IntSetType getSubsumerSetType() {
+		return this.subsumerSetType.orElse(isMultiThreaded() ? multiThreadedSetType : defaultSetType);
+	}
+
+	/**
+	 * Tells whether the saturation runs on more than one thread.
+	 * 
+	 * @return <code>true</code> if and only if the saturation runs on more
+	 *         than one thread
+	 */
+	public boolean isMultiThreaded() {
+		return this.numberOfThreads > 1;
+	}
+
+	/**
+	 * Sets the file where the processor periodically writes checkpoints of the
+	 * saturation. Each checkpoint replaces the previous one. A processor
+	 * created for the same ontology can resume the saturation from this file.
+	 * 
+	 * @param checkpointFile
+	 *            file where the checkpoints are written, or an empty optional
+	 *            to write no checkpoints
+	 * 
+	 * @see RuleBasedProcessor#resume(Path)
+	 */
+	public void setCheckpointFile(Optional<Path> checkpointFile) {
+		Objects.requireNonNull(checkpointFile);
+		this.checkpointFile = checkpointFile;
+	}
+
+	/**
+	 * Sets the number of processed entries between two checkpoints.
+	 * 
+	 * @param checkpointInterval
+	 *            number of processed entries between two checkpoints
+	 * @throws IllegalArgumentException
+	 *             if the interval is less than 1
+	 */
+	public void setCheckpointInterval(long checkpointInterval) {
+		if (checkpointInterval < 1) {
+			throw new IllegalArgumentException("Invalid checkpoint interval: " + checkpointInterval);
+		}
+		this.checkpointInterval = checkpointInterval;
+	}
+
+	/**
+	 * Sets the number of worker threads used to saturate the sets S and R,
+	 * and to build the hierarchies. A value of 1 runs everything on the
+	 * calling thread.
+	 * 
+	 * @param numberOfThreads
+	 *            number of worker threads
+	 * @throws IllegalArgumentException
+	 *             if the number of threads is less than 1, or if it is more
+	 *             than 1 and the sets of subsumers or relations were set to a
+	 *             type that is not a concurrent array
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of threads: " + numberOfThreads);
+		}
+		checkSetTypes(numberOfThreads, this.subsumerSetType, this.relationSetType);
+		this.numberOfThreads = numberOfThreads;
+	}
+
+	/**
+	 * Sets the implementation of the queues of entries to be processed.
+	 * 
+	 * @param queueType
+	 *            implementation of the queues of entries to be processed
+	 */
+	public void setQueueType(EntryQueueType queueType) {
+		Objects.requireNonNull(queueType);
+		this.queueType = queueType;
+	}
+
+	/**
+	 * Sets the implementation of the sets of classes and object properties
+	 * related to each class. A concurrent array can be read without locks,
+	 * and it is the only type allowed when the saturation runs on several
+	 * threads.
+	 * 
+	 * @param relationSetType
+	 *            implementation of the sets of classes and object properties
+	 *            related to each class
+	 * @throws IllegalArgumentException
+	 *             if the saturation runs on several threads and the type is
+	 *             not a concurrent array
+	 */
+	public void setRelationSetType(IntSetType relationSetType) {
+		Objects.requireNonNull(relationSetType);
+		checkSetTypes(this.numberOfThreads, Optional.empty(), Optional.of(relationSetType));
+		this.relationSetType = Optional.of(relationSetType);
+	}
+
+	/**
+	 * Sets the implementation of the sets of subsumers of each class. A bitmap
+	 * uses less memory than an array for large ontologies, where each class
+	 * has many subsumers. A concurrent array can be read without locks, and
+	 * it is the only type allowed when the saturation runs on several threads.
+	 * 
+	 * @param subsumerSetType
+	 *            implementation of the sets of subsumers of each class
+	 * @throws IllegalArgumentException
+	 *             if the saturation runs on several threads and the type is
+	 *             not a concurrent array
+	 */
+	public void setSubsumerSetType(IntSetType subsumerSetType) {
+		Objects.requireNonNull(subsumerSetType);
+		checkSetTypes(this.numberOfThreads, Optional.of(subsumerSetType), Optional.empty());
+		this.subsumerSetType = Optional.of(subsumerSetType);
+	}
+
+	@Override
+	public String toString() {
+		return "threads=" + this.numberOfThreads + " queue=" + this.queueType + " subsumers=" + getSubsumerSetType()
+				+ " relations=" + getRelationSetType();
+	}
+
+}
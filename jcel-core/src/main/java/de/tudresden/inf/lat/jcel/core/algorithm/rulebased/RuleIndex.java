@@ -0,0 +1,145 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
+
+/**
+ * An object of this class caches which completion rules of a chain could be
+ * applied to the entries having a given identifier, either a super class or
+ * an object property. The rules are represented as bits of an
+ * <code>int</code>. The cached values are only valid for one extended
+ * ontology, so the cache is cleared when it is used with another extended
+ * ontology. It has to be cleared explicitly when the extended ontology is
+ * modified.
+ * <p>
+ * The cache can be used by several threads. Concurrent updates can be lost,
+ * but then the values are just computed again.
+ * </p>
+ * 
+ * @author Julian Mendez
+ */
+class RuleIndex {
+
+	private static final int computedFlag = 1 << 31;
+
+	/**
+	 * Maximum number of rules that can be represented.
+	 */
+	static final int maxNumberOfRules = 31;
+
+	/**
+	 * Value returned when the applicable rules have not been computed.
+	 */
+	static final int notComputed = -1;
+
+	private volatile int[] masks = new int[0];
+	private volatile ExtendedOntology ontology = null;
+
+	/**
+	 * Constructs a new empty index.
+	 */
+	RuleIndex() {
+	}
+
+	/**
+	 * Clears the index.
+	 */
+	void clear() {
+		this.masks = new int[0];
+	}
+
+	/**
+	 * Returns the bits of the rules that could be applied to the entries with
+	 * the given identifier, or {@link #notComputed} if they have not been
+	 * computed for the given extended ontology.
+	 * 
+	 * @param currentOntology
+	 *            extended ontology of the classifier status
+	 * @param key
+	 *            super class or object property
+	 * @return the bits of the rules that could be applied, or
+	 *         {@link #notComputed}
+	 */
+	int get(ExtendedOntology currentOntology, int key) {
+		Objects.requireNonNull(currentOntology);
+		if (currentOntology != this.ontology) {
+			this.masks = new int[0];
+			this.ontology = currentOntology;
+		}
+		int ret = notComputed;
+		int[] current = this.masks;
+		if ((key >= 0) && (key < current.length) && ((current[key] & computedFlag) != 0)) {
+			ret = current[key] & ~computedFlag;
+		}
+		return ret;
+	}
+
+	/**
+	 * Stores the bits of the rules that could be applied to the entries with
+	 * the given identifier.
+	 * 
+	 * @param key
+	 *            super class or object property
+	 * @param mask
+	 *            bits of the rules that could be applied
+	 */
+	void put(int key, int mask) {
+		if (key >= 0) {
+			int[] current = this.masks;
+			if (key >= current.length) {
+				current = Arrays.copyOf(current, Math.max(key + 1, 2 * current.length));
+				this.masks = current;
+			}
+			current[key] = mask | computedFlag;
+		}
+	}
+
+}
@@ -147,6 +147,18 @@ public class RuleProfiler implements RObserverRule, SObserverRule {
 		return this.totalTime;
 	}
 
+	@Override
+	public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		Objects.requireNonNull(status);
+		return this.rListener.isApplicableToProperty(status, property);
+	}
+
+	@Override
+	public boolean isApplicableToSuperClass(ClassifierStatus status, int superClass) {
+		Objects.requireNonNull(status);
+		return this.sListener.isApplicableToSuperClass(status, superClass);
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer sbuf = new StringBuffer();
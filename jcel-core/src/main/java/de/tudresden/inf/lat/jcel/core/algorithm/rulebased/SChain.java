@@ -51,18 +51,20 @@ import java.util.List;
 import java.util.Objects;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
 
 /**
  * An object implementing this class is a completion rule chain for the set of
- * subsumers.
+ * subsumers. The chain keeps an index of the rules that could be applied to
+ * each super class, and the other rules are skipped without being called.
  * 
  * @author Julian Mendez
  */
 public class SChain implements SObserverRule {
 
 	private final List<SObserverRule> chain;
+	private final RuleIndex index = new RuleIndex();
+	private final SObserverRule[] rules;
 
 	/**
 	 * Constructs a new chain for the set of subsumers.
@@ -73,16 +75,50 @@ public class SChain implements SObserverRule {
 	public SChain(List<SObserverRule> ch) {
 		Objects.requireNonNull(ch);
 		this.chain = ch;
+		this.rules = ch.toArray(new SObserverRule[ch.size()]);
 	}
 
 	@Override
 	public boolean apply(ClassifierStatus status, int subClass, int superClass) {
 		Objects.requireNonNull(status);
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		this.chain.forEach(elem -> {
-			ret.or(elem.apply(status, subClass, superClass));
-		});
-		return ret.get();
+		boolean ret = false;
+		if (this.rules.length > RuleIndex.maxNumberOfRules) {
+			for (SObserverRule rule : this.rules) {
+				ret |= rule.apply(status, subClass, superClass);
+			}
+		} else {
+			int applicable = getApplicableRules(status, superClass);
+			for (int position = 0; applicable != 0; position++) {
+				if ((applicable & 1) != 0) {
+					ret |= this.rules[position].apply(status, subClass, superClass);
+				}
+				applicable >>>= 1;
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Clears the cache of the rules that can be applied to each super class.
+	 * This must be called when the extended ontology of the classifier status
+	 * is modified.
+	 */
+	public void clearIndex() {
+		this.index.clear();
+	}
+
+	private int getApplicableRules(ClassifierStatus status, int superClass) {
+		int ret = this.index.get(status.getExtendedOntology(), superClass);
+		if (ret == RuleIndex.notComputed) {
+			ret = 0;
+			for (int position = 0; position < this.rules.length; position++) {
+				if (this.rules[position].isApplicableToSuperClass(status, superClass)) {
+					ret |= (1 << position);
+				}
+			}
+			this.index.put(superClass, ret);
+		}
+		return ret;
 	}
 
 	/**
@@ -94,6 +130,16 @@ public class SChain implements SObserverRule {
 		return Collections.unmodifiableList(this.chain);
 	}
 
+	@Override
+	public boolean isApplicableToSuperClass(ClassifierStatus status, int superClass) {
+		Objects.requireNonNull(status);
+		boolean ret = true;
+		if (this.rules.length <= RuleIndex.maxNumberOfRules) {
+			ret = (getApplicableRules(status, superClass) != 0);
+		}
+		return ret;
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer sbuf = new StringBuffer();
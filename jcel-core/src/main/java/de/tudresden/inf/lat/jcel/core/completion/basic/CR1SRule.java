@@ -47,12 +47,11 @@
 package de.tudresden.inf.lat.jcel.core.completion.basic;
 
 import java.util.Objects;
-import java.util.function.Function;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
-import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
 
 /**
  * 
@@ -75,6 +74,8 @@ import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
  */
 public class CR1SRule implements SObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-1.
 	 */
@@ -84,22 +85,7 @@ public class CR1SRule implements SObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int subClass, int superClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, subClass, superClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int subClass, int superClass) {
-		return applyRule(status.getExtendedOntology(), (Integer x) -> (Integer b) -> status.addNewSEntry(x, b),
-				subClass, superClass);
-	}
-
-	private boolean applyRule(ExtendedOntology ontology, Function<Integer, Function<Integer, Boolean>> queue, int x,
-			int a) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		ontology.getGCI0Axioms(a).forEach(axiom -> {
-			int b = axiom.getSuperClass();
-			ret.or(queue.apply(x).apply(b));
-		});
-		return ret.get();
+		return this.applier.get().apply(status, subClass, superClass);
 	}
 
 	@Override
@@ -112,9 +98,37 @@ public class CR1SRule implements SObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToSuperClass(ClassifierStatus status, int superClass) {
+		Objects.requireNonNull(status);
+		return !status.getExtendedOntology().getGCI0Axioms(superClass).isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the subclass of the current
+	 * application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntConsumer superClassAction = this::acceptSuperClass;
+		private int x;
+
+		private void acceptSuperClass(int b) {
+			or(getStatus().addNewSEntry(this.x, b));
+		}
+
+		boolean apply(ClassifierStatus status, int x, int a) {
+			begin(status);
+			this.x = x;
+			status.getExtendedOntology().forEachGCI0(a, this.superClassAction);
+			return end();
+		}
+
+	}
+
 }
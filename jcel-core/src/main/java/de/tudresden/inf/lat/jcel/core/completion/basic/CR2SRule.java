@@ -46,12 +46,13 @@
 
 package de.tudresden.inf.lat.jcel.core.completion.basic;
 
-import java.util.Collection;
 import java.util.Objects;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
+import de.tudresden.inf.lat.jcel.core.graph.IntSet;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntPairConsumer;
 
 /**
  * 
@@ -84,6 +85,8 @@ import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
  */
 public class CR2SRule implements SObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-2.
 	 */
@@ -93,28 +96,7 @@ public class CR2SRule implements SObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int subClass, int superClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, subClass, superClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int x, int a) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		Collection<Integer> subsumersOfX = status.getSubsumers(x);
-		status.getExtendedOntology().getGCI1Axioms(a).forEach(axiom -> {
-			boolean valid = true;
-
-			if (a == axiom.getRightSubClass()) {
-				valid = valid && subsumersOfX.contains(axiom.getLeftSubClass());
-			} else {
-				valid = valid && subsumersOfX.contains(axiom.getRightSubClass());
-			}
-
-			if (valid) {
-				int b = axiom.getSuperClass();
-				ret.or(status.addNewSEntry(x, b));
-			}
-
-		});
-		return ret.get();
+		return this.applier.get().apply(status, subClass, superClass);
 	}
 
 	@Override
@@ -127,9 +109,41 @@ public class CR2SRule implements SObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToSuperClass(ClassifierStatus status, int superClass) {
+		Objects.requireNonNull(status);
+		return !status.getExtendedOntology().getGCI1Axioms(superClass).isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the subclass and its subsumers.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntPairConsumer gci1Action = this::acceptGCI1;
+		private IntSet subsumersOfX = null;
+		private int x;
+
+		private void acceptGCI1(int otherClass, int b) {
+			if (this.subsumersOfX.contains(otherClass)) {
+				or(getStatus().addNewSEntry(this.x, b));
+			}
+		}
+
+		boolean apply(ClassifierStatus status, int x, int a) {
+			begin(status);
+			this.x = x;
+			this.subsumersOfX = status.getSubsumers(x);
+			status.getExtendedOntology().forEachGCI1(a, this.gci1Action);
+			this.subsumersOfX = null;
+			return end();
+		}
+
+	}
+
 }
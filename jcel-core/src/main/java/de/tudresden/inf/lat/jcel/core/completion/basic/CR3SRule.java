@@ -47,12 +47,11 @@
 package de.tudresden.inf.lat.jcel.core.completion.basic;
 
 import java.util.Objects;
-import java.util.function.Function;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
-import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntPairConsumer;
 
 /**
  * 
@@ -74,6 +73,8 @@ import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
  */
 public class CR3SRule implements SObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-3.
 	 */
@@ -83,23 +84,7 @@ public class CR3SRule implements SObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int subClass, int superClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, subClass, superClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int subClass, int superClass) {
-		return applyRule(status.getExtendedOntology(),
-				(Integer r) -> (Integer x) -> (Integer b) -> status.addNewREntry(r, x, b), subClass, superClass);
-	}
-
-	private boolean applyRule(ExtendedOntology ontology,
-			Function<Integer, Function<Integer, Function<Integer, Boolean>>> queue, int x, int a) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		ontology.getGCI2Axioms(a).forEach(axiom -> {
-			int r = axiom.getPropertyInSuperClass();
-			int b = axiom.getClassInSuperClass();
-			ret.or(queue.apply(r).apply(x).apply(b));
-		});
-		return ret.get();
+		return this.applier.get().apply(status, subClass, superClass);
 	}
 
 	@Override
@@ -112,9 +97,37 @@ public class CR3SRule implements SObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToSuperClass(ClassifierStatus status, int superClass) {
+		Objects.requireNonNull(status);
+		return !status.getExtendedOntology().getGCI2Axioms(superClass).isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the subclass of the current
+	 * application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntPairConsumer gci2Action = this::acceptGCI2;
+		private int x;
+
+		private void acceptGCI2(int r, int b) {
+			or(getStatus().addNewREntry(r, this.x, b));
+		}
+
+		boolean apply(ClassifierStatus status, int x, int a) {
+			begin(status);
+			this.x = x;
+			status.getExtendedOntology().forEachGCI2(a, this.gci2Action);
+			return end();
+		}
+
+	}
+
 }
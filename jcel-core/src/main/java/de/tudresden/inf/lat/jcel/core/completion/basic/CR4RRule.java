@@ -47,10 +47,11 @@
 package de.tudresden.inf.lat.jcel.core.completion.basic;
 
 import java.util.Objects;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 
 /**
  * 
@@ -72,6 +73,8 @@ import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
  */
 public class CR4RRule implements RObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-4 (R).
 	 */
@@ -81,18 +84,7 @@ public class CR4RRule implements RObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, property, leftClass, rightClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int r, int x, int y) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getSubsumers(y).forEach(a -> {
-			status.getExtendedOntology().getGCI3rAAxioms(r, a).forEach(axiom -> {
-				int b = axiom.getSuperClass();
-				ret.or(status.addNewSEntry(x, b));
-			});
-		});
-		return ret.get();
+		return this.applier.get().apply(status, property, leftClass, rightClass);
 	}
 
 	@Override
@@ -105,9 +97,44 @@ public class CR4RRule implements RObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		Objects.requireNonNull(status);
+		return !status.getExtendedOntology().getGCI3rAxioms(property).isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the object property and the left class
+	 * of the current application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntConsumer subsumerAction = this::acceptSubsumer;
+		private final IntConsumer superClassAction = this::acceptSuperClass;
+		private int r;
+		private int x;
+
+		private void acceptSubsumer(int a) {
+			getStatus().getExtendedOntology().forEachGCI3rA(this.r, a, this.superClassAction);
+		}
+
+		private void acceptSuperClass(int b) {
+			or(getStatus().addNewSEntry(this.x, b));
+		}
+
+		boolean apply(ClassifierStatus status, int r, int x, int y) {
+			begin(status);
+			this.r = r;
+			this.x = x;
+			status.getSubsumers(y).forEachInt(this.subsumerAction);
+			return end();
+		}
+
+	}
+
 }
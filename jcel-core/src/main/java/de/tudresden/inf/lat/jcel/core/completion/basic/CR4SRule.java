@@ -47,9 +47,10 @@
 package de.tudresden.inf.lat.jcel.core.completion.basic;
 
 import java.util.Objects;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
 
 /**
@@ -72,6 +73,8 @@ import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
  */
 public class CR4SRule implements SObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-4 (S).
 	 */
@@ -81,20 +84,7 @@ public class CR4SRule implements SObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int subClass, int superClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, subClass, superClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int y, int a) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getObjectPropertiesBySecond(y).forEach(r -> {
-			status.getExtendedOntology().getGCI3rAAxioms(r, a).forEach(axiom -> {
-				status.getFirstBySecond(r, y).forEach(x -> {
-					int b = axiom.getSuperClass();
-					ret.or(status.addNewSEntry(x, b));
-				});
-			});
-		});
-		return ret.get();
+		return this.applier.get().apply(status, subClass, superClass);
 	}
 
 	@Override
@@ -107,9 +97,53 @@ public class CR4SRule implements SObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToSuperClass(ClassifierStatus status, int superClass) {
+		Objects.requireNonNull(status);
+		return !status.getExtendedOntology().getGCI3AAxioms(superClass).isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes, the object property and
+	 * the superclass of the current application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntConsumer propertyAction = this::acceptProperty;
+		private final IntConsumer subClassAction = this::acceptSubClass;
+		private final IntConsumer superClassAction = this::acceptSuperClass;
+		private int a;
+		private int b;
+		private int r;
+		private int y;
+
+		private void acceptProperty(int r) {
+			this.r = r;
+			getStatus().getExtendedOntology().forEachGCI3rA(r, this.a, this.superClassAction);
+		}
+
+		private void acceptSubClass(int x) {
+			or(getStatus().addNewSEntry(x, this.b));
+		}
+
+		private void acceptSuperClass(int b) {
+			this.b = b;
+			getStatus().getFirstBySecond(this.r, this.y).forEachInt(this.subClassAction);
+		}
+
+		boolean apply(ClassifierStatus status, int y, int a) {
+			begin(status);
+			this.y = y;
+			this.a = a;
+			status.getObjectPropertiesBySecond(y).forEachInt(this.propertyAction);
+			return end();
+		}
+
+	}
+
 }
@@ -47,12 +47,11 @@
 package de.tudresden.inf.lat.jcel.core.completion.basic;
 
 import java.util.Objects;
-import java.util.function.Function;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
-import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 
 /**
  * 
@@ -74,6 +73,8 @@ import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
  */
 public class CR5RRule implements RObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-5.
 	 */
@@ -83,23 +84,7 @@ public class CR5RRule implements RObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, property, leftClass, rightClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int property, int leftClass, int rightClass) {
-		return applyRule(status.getExtendedOntology(),
-				(Integer s) -> (Integer x) -> (Integer y) -> status.addNewREntry(s, x, y), property, leftClass,
-				rightClass);
-	}
-
-	private boolean applyRule(ExtendedOntology ontology,
-			Function<Integer, Function<Integer, Function<Integer, Boolean>>> queue, int r, int x, int y) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		ontology.getRI2rAxioms(r).forEach(axiom -> {
-			int s = axiom.getSuperProperty();
-			ret.or(queue.apply(s).apply(x).apply(y));
-		});
-		return ret.get();
+		return this.applier.get().apply(status, property, leftClass, rightClass);
 	}
 
 	@Override
@@ -112,9 +97,39 @@ public class CR5RRule implements RObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		Objects.requireNonNull(status);
+		return !status.getExtendedOntology().getRI2rAxioms(property).isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes of the current
+	 * application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntConsumer superPropertyAction = this::acceptSuperProperty;
+		private int x;
+		private int y;
+
+		private void acceptSuperProperty(int s) {
+			or(getStatus().addNewREntry(s, this.x, this.y));
+		}
+
+		boolean apply(ClassifierStatus status, int r, int x, int y) {
+			begin(status);
+			this.x = x;
+			this.y = y;
+			status.getExtendedOntology().forEachRI2r(r, this.superPropertyAction);
+			return end();
+		}
+
+	}
+
 }
@@ -47,10 +47,12 @@
 package de.tudresden.inf.lat.jcel.core.completion.basic;
 
 import java.util.Objects;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntPairConsumer;
 
 /**
  * 
@@ -72,6 +74,8 @@ import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
  */
 public class CR6RRule implements RObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-6.
 	 */
@@ -81,36 +85,13 @@ public class CR6RRule implements RObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass) {
 		Objects.requireNonNull(status);
+		Applier applier = this.applier.get();
 		boolean ret = false;
-		ret |= apply1(status, property, leftClass, rightClass);
-		ret |= apply2(status, property, leftClass, rightClass);
+		ret |= applier.apply1(status, property, leftClass, rightClass);
+		ret |= applier.apply2(status, property, leftClass, rightClass);
 		return ret;
 	}
 
-	private boolean apply1(ClassifierStatus status, int r, int x, int y) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getExtendedOntology().getRI3AxiomsByLeft(r).forEach(axiom -> {
-			int s = axiom.getRightSubProperty();
-			int t = axiom.getSuperProperty();
-			status.getSecondByFirst(s, y).forEach(z -> {
-				ret.or(status.addNewREntry(t, x, z));
-			});
-		});
-		return ret.get();
-	}
-
-	private boolean apply2(ClassifierStatus status, int s, int y, int z) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getExtendedOntology().getRI3AxiomsByRight(s).forEach(axiom -> {
-			int r = axiom.getLeftSubProperty();
-			int t = axiom.getSuperProperty();
-			status.getFirstBySecond(r, y).forEach(x -> {
-				ret.or(status.addNewREntry(t, x, z));
-			});
-		});
-		return ret.get();
-	}
-
 	@Override
 	public boolean equals(Object o) {
 		return (Objects.nonNull(o)) && getClass().equals(o.getClass());
@@ -121,9 +102,67 @@ public class CR6RRule implements RObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		Objects.requireNonNull(status);
+		return !status.getExtendedOntology().getRI3AxiomsByLeft(property).isEmpty()
+				|| !status.getExtendedOntology().getRI3AxiomsByRight(property).isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes and the object property of
+	 * the current application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntPairConsumer leftAction = this::acceptLeft;
+		private final IntConsumer leftClassAction = this::acceptLeftClass;
+		private final IntPairConsumer rightAction = this::acceptRight;
+		private final IntConsumer rightClassAction = this::acceptRightClass;
+		private int t;
+		private int x;
+		private int y;
+		private int z;
+
+		private void acceptLeft(int s, int t) {
+			this.t = t;
+			getStatus().getSecondByFirst(s, this.y).forEachInt(this.rightClassAction);
+		}
+
+		private void acceptLeftClass(int x) {
+			or(getStatus().addNewREntry(this.t, x, this.z));
+		}
+
+		private void acceptRight(int r, int t) {
+			this.t = t;
+			getStatus().getFirstBySecond(r, this.y).forEachInt(this.leftClassAction);
+		}
+
+		private void acceptRightClass(int z) {
+			or(getStatus().addNewREntry(this.t, this.x, z));
+		}
+
+		boolean apply1(ClassifierStatus status, int r, int x, int y) {
+			begin(status);
+			this.x = x;
+			this.y = y;
+			status.getExtendedOntology().forEachRI3ByLeft(r, this.leftAction);
+			return end();
+		}
+
+		boolean apply2(ClassifierStatus status, int s, int y, int z) {
+			begin(status);
+			this.y = y;
+			this.z = z;
+			status.getExtendedOntology().forEachRI3ByRight(s, this.rightAction);
+			return end();
+		}
+
+	}
+
 }
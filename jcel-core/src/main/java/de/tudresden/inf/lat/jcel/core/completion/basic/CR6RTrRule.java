@@ -47,10 +47,11 @@
 package de.tudresden.inf.lat.jcel.core.completion.basic;
 
 import java.util.Objects;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 
 /**
  * 
@@ -80,6 +81,8 @@ import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
  */
 public class CR6RTrRule implements RObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-6 transitive.
 	 */
@@ -89,32 +92,13 @@ public class CR6RTrRule implements RObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass) {
 		Objects.requireNonNull(status);
+		Applier applier = this.applier.get();
 		boolean ret = false;
-		ret |= apply1(status, property, leftClass, rightClass);
-		ret |= apply2(status, property, leftClass, rightClass);
+		ret |= applier.apply1(status, property, leftClass, rightClass);
+		ret |= applier.apply2(status, property, leftClass, rightClass);
 		return ret;
 	}
 
-	private boolean apply1(ClassifierStatus status, int r, int x, int y) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		if (status.getExtendedOntology().getTransitiveObjectProperties().contains(r)) {
-			status.getSecondByFirst(r, y).forEach(z -> {
-				ret.or(status.addNewREntry(r, x, z));
-			});
-		}
-		return ret.get();
-	}
-
-	private boolean apply2(ClassifierStatus status, int r, int y, int z) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		if (status.getExtendedOntology().getTransitiveObjectProperties().contains(r)) {
-			status.getFirstBySecond(r, y).forEach(x -> {
-				ret.or(status.addNewREntry(r, x, z));
-			});
-		}
-		return ret.get();
-	}
-
 	@Override
 	public boolean equals(Object o) {
 		return (Objects.nonNull(o)) && getClass().equals(o.getClass());
@@ -125,9 +109,57 @@ public class CR6RTrRule implements RObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		Objects.requireNonNull(status);
+		return status.getExtendedOntology().getTransitiveObjectProperties().contains(property);
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes and the object property of
+	 * the current application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntConsumer leftClassAction = this::acceptLeftClass;
+		private final IntConsumer rightClassAction = this::acceptRightClass;
+		private int r;
+		private int x;
+		private int z;
+
+		private void acceptLeftClass(int x) {
+			or(getStatus().addNewREntry(this.r, x, this.z));
+		}
+
+		private void acceptRightClass(int z) {
+			or(getStatus().addNewREntry(this.r, this.x, z));
+		}
+
+		boolean apply1(ClassifierStatus status, int r, int x, int y) {
+			begin(status);
+			if (status.getExtendedOntology().getTransitiveObjectProperties().contains(r)) {
+				this.r = r;
+				this.x = x;
+				status.getSecondByFirst(r, y).forEachInt(this.rightClassAction);
+			}
+			return end();
+		}
+
+		boolean apply2(ClassifierStatus status, int r, int y, int z) {
+			begin(status);
+			if (status.getExtendedOntology().getTransitiveObjectProperties().contains(r)) {
+				this.r = r;
+				this.z = z;
+				status.getFirstBySecond(r, y).forEachInt(this.leftClassAction);
+			}
+			return end();
+		}
+
+	}
+
 }
@@ -47,9 +47,10 @@
 package de.tudresden.inf.lat.jcel.core.completion.basic;
 
 import java.util.Objects;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
 
@@ -72,6 +73,8 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
  */
 public class CR7SRule implements SObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR bottom (S).
 	 */
@@ -81,19 +84,7 @@ public class CR7SRule implements SObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int subClass, int superClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, subClass, superClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int y, int a) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		if (a == IntegerEntityManager.bottomClassId) {
-			status.getObjectPropertiesBySecond(y).forEach(r -> {
-				status.getFirstBySecond(r, y).forEach(x -> {
-					ret.or(status.addNewSEntry(x, IntegerEntityManager.bottomClassId));
-				});
-			});
-		}
-		return ret.get();
+		return this.applier.get().apply(status, subClass, superClass);
 	}
 
 	@Override
@@ -106,9 +97,44 @@ public class CR7SRule implements SObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToSuperClass(ClassifierStatus status, int superClass) {
+		Objects.requireNonNull(status);
+		return superClass == IntegerEntityManager.bottomClassId;
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the right class of the current
+	 * application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntConsumer propertyAction = this::acceptProperty;
+		private final IntConsumer subClassAction = this::acceptSubClass;
+		private int y;
+
+		private void acceptProperty(int r) {
+			getStatus().getFirstBySecond(r, this.y).forEachInt(this.subClassAction);
+		}
+
+		private void acceptSubClass(int x) {
+			or(getStatus().addNewSEntry(x, IntegerEntityManager.bottomClassId));
+		}
+
+		boolean apply(ClassifierStatus status, int y, int a) {
+			begin(status);
+			if (a == IntegerEntityManager.bottomClassId) {
+				this.y = y;
+				status.getObjectPropertiesBySecond(y).forEachInt(this.propertyAction);
+			}
+			return end();
+		}
+
+	}
+
 }
@@ -49,6 +49,7 @@ package de.tudresden.inf.lat.jcel.core.completion.common;
 import java.util.Collection;
 import java.util.Set;
 
+import de.tudresden.inf.lat.jcel.core.graph.IntSet;
 import de.tudresden.inf.lat.jcel.core.graph.VNode;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntology;
 
@@ -126,7 +127,7 @@ public interface ClassifierStatus {
 	 *            the class that is on right part in the relation
 	 * @return all the related classes
 	 */
-	Collection<Integer> getFirstBySecond(int objectProperty, int rightClass);
+	IntSet getFirstBySecond(int objectProperty, int rightClass);
 
 	/**
 	 * Returns the inverse object property of a particular object property.
@@ -155,7 +156,7 @@ public interface ClassifierStatus {
 	 *            the class name
 	 * @return the set of properties used by a certain class
 	 */
-	Collection<Integer> getObjectPropertiesByFirst(int className);
+	IntSet getObjectPropertiesByFirst(int className);
 
 	/**
 	 * Returns the set of object properties related with a certain class as a
@@ -165,7 +166,7 @@ public interface ClassifierStatus {
 	 *            the class name
 	 * @return the set of properties used by a certain class
 	 */
-	Collection<Integer> getObjectPropertiesBySecond(int className);
+	IntSet getObjectPropertiesBySecond(int className);
 
 	/**
 	 * Returns all the functional object properties that have a common
@@ -197,7 +198,7 @@ public interface ClassifierStatus {
 	 *            the class that is on left part in the relation
 	 * @return all the related classes
 	 */
-	Collection<Integer> getSecondByFirst(int objectProperty, int leftClass);
+	IntSet getSecondByFirst(int objectProperty, int leftClass);
 
 	/**
 	 * Returns all the sub object properties of an object property.
@@ -215,7 +216,7 @@ public interface ClassifierStatus {
 	 *            class to get the subsumers
 	 * @return all the subsumers
 	 */
-	Collection<Integer> getSubsumers(int subClass);
+	IntSet getSubsumers(int subClass);
 
 	/**
 	 * Returns all the super object properties of an object property.
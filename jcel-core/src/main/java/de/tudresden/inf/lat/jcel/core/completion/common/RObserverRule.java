@@ -72,4 +72,22 @@ public interface RObserverRule {
 	 */
 	boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass);
 
+	/**
+	 * Tells whether this completion rule could be applied to a relation entry
+	 * with the specified object property. This is used to skip the rule
+	 * without calling it, and the answer may be cached as long as the
+	 * extended ontology and the object property hierarchy of the classifier
+	 * status are not modified. Returning <code>true</code> is always correct.
+	 * 
+	 * @param status
+	 *            classifier status
+	 * @param property
+	 *            object property
+	 * @return <code>false</code> if this rule cannot be applied to any
+	 *         relation entry with the specified object property
+	 */
+	default boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		return true;
+	}
+
 }
@@ -0,0 +1,107 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.completion.common;
+
+import java.util.Objects;
+
+/**
+ * An object of this class keeps the state of the application of a completion
+ * rule. A rule keeps one applier for each thread, and each applier creates its
+ * actions only once. Therefore, applying a rule does not create new objects.
+ * An applier is used by a single thread, so it is not synchronized.
+ * 
+ * @author Julian Mendez
+ *
+ */
+public abstract class RuleApplier {
+
+	private boolean result = false;
+	private ClassifierStatus status = null;
+
+	/**
+	 * Starts an application of the rule.
+	 * 
+	 * @param status
+	 *            classifier status
+	 */
+	protected void begin(ClassifierStatus status) {
+		Objects.requireNonNull(status);
+		this.status = status;
+		this.result = false;
+	}
+
+	/**
+	 * Finishes the application of the rule.
+	 * 
+	 * @return <code>true</code> if and only if the application of the rule
+	 *         added a new entry
+	 */
+	protected boolean end() {
+		this.status = null;
+		return this.result;
+	}
+
+	/**
+	 * Returns the classifier status of the current application of the rule.
+	 * 
+	 * @return the classifier status of the current application of the rule
+	 */
+	protected ClassifierStatus getStatus() {
+		return this.status;
+	}
+
+	/**
+	 * Records whether a new entry was added.
+	 * 
+	 * @param added
+	 *            <code>true</code> if a new entry was added
+	 */
+	protected void or(boolean added) {
+		this.result |= added;
+	}
+
+}
@@ -70,4 +70,22 @@ public interface SObserverRule {
 	 */
 	boolean apply(ClassifierStatus status, int subClass, int superClass);
 
+	/**
+	 * Tells whether this completion rule could be applied to a subsumption
+	 * entry with the specified super class. This is used to skip the rule
+	 * without calling it, and the answer may be cached as long as the
+	 * extended ontology of the classifier status is not modified. Returning
+	 * <code>true</code> is always correct.
+	 * 
+	 * @param status
+	 *            classifier status
+	 * @param superClass
+	 *            super class
+	 * @return <code>false</code> if this rule cannot be applied to any
+	 *         subsumption entry with the specified super class
+	 */
+	default boolean isApplicableToSuperClass(ClassifierStatus status, int superClass) {
+		return true;
+	}
+
 }
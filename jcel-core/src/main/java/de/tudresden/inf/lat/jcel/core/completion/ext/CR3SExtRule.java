@@ -49,9 +49,10 @@ package de.tudresden.inf.lat.jcel.core.completion.ext;
 import java.util.Objects;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
 import de.tudresden.inf.lat.jcel.core.graph.VNodeImpl;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntPairConsumer;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
 
 /**
@@ -78,6 +79,8 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
  */
 public class CR3SExtRule implements SObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-3.
 	 */
@@ -87,28 +90,7 @@ public class CR3SExtRule implements SObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int subClass, int superClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, subClass, superClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int x, int a) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getExtendedOntology().getGCI2Axioms(a).forEach(axiom -> {
-			int r = axiom.getPropertyInSuperClass();
-			int b = axiom.getClassInSuperClass();
-			if (status.getExtendedOntology().getFunctionalObjectProperties().contains(r)) {
-				VNodeImpl newNode = new VNodeImpl(IntegerEntityManager.topClassId);
-				int rMinus = status.getInverseObjectPropertyOf(r);
-				newNode.addExistential(rMinus, a);
-				int v = status.createOrGetNodeId(newNode);
-				ret.or(status.addNewSEntry(v, b));
-				ret.or(status.addNewSEntry(v, IntegerEntityManager.topClassId));
-				ret.or(status.addNewREntry(r, x, v));
-			} else {
-				int y = status.createOrGetNodeId(new VNodeImpl(b));
-				ret.or(status.addNewREntry(r, x, y));
-			}
-		});
-		return ret.get();
+		return this.applier.get().apply(status, subClass, superClass);
 	}
 
 	@Override
@@ -121,9 +103,51 @@ public class CR3SExtRule implements SObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToSuperClass(ClassifierStatus status, int superClass) {
+		Objects.requireNonNull(status);
+		return !status.getExtendedOntology().getGCI2Axioms(superClass).isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes of the current
+	 * application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntPairConsumer gci2Action = this::acceptGCI2;
+		private int a;
+		private int x;
+
+		private void acceptGCI2(int r, int b) {
+			ClassifierStatus status = getStatus();
+			if (status.getExtendedOntology().getFunctionalObjectProperties().contains(r)) {
+				VNodeImpl newNode = new VNodeImpl(IntegerEntityManager.topClassId);
+				int rMinus = status.getInverseObjectPropertyOf(r);
+				newNode.addExistential(rMinus, this.a);
+				int v = status.createOrGetNodeId(newNode);
+				or(status.addNewSEntry(v, b));
+				or(status.addNewSEntry(v, IntegerEntityManager.topClassId));
+				or(status.addNewREntry(r, this.x, v));
+			} else {
+				int y = status.createOrGetNodeId(new VNodeImpl(b));
+				or(status.addNewREntry(r, this.x, y));
+			}
+		}
+
+		boolean apply(ClassifierStatus status, int x, int a) {
+			begin(status);
+			this.x = x;
+			this.a = a;
+			status.getExtendedOntology().forEachGCI2(a, this.gci2Action);
+			return end();
+		}
+
+	}
+
 }
@@ -47,10 +47,12 @@
 package de.tudresden.inf.lat.jcel.core.completion.ext;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 
 /**
  * 
@@ -72,6 +74,8 @@ import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
  */
 public class CR4RExtRule implements RObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-4 (R).
 	 */
@@ -81,22 +85,7 @@ public class CR4RExtRule implements RObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, property, leftClass, rightClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int r, int x, int y) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getSuperObjectProperties(r).forEach(s -> {
-
-			status.getSubsumers(y).forEach(a -> {
-				status.getExtendedOntology().getGCI3rAAxioms(s, a).forEach(axiom -> {
-					int b = axiom.getSuperClass();
-					ret.or(status.addNewSEntry(x, b));
-				});
-			});
-
-		});
-		return ret.get();
+		return this.applier.get().apply(status, property, leftClass, rightClass);
 	}
 
 	@Override
@@ -109,9 +98,52 @@ public class CR4RExtRule implements RObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		Objects.requireNonNull(status);
+		return status.getSuperObjectProperties(property).stream()
+				.anyMatch(s -> !status.getExtendedOntology().getGCI3rAxioms(s).isEmpty());
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes and the object property of
+	 * the current application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntConsumer subsumerAction = this::acceptSubsumer;
+		private final IntConsumer superClassAction = this::acceptSuperClass;
+		private final Consumer<Integer> superPropertyAction = this::acceptSuperProperty;
+		private int s;
+		private int x;
+		private int y;
+
+		private void acceptSubsumer(int a) {
+			getStatus().getExtendedOntology().forEachGCI3rA(this.s, a, this.superClassAction);
+		}
+
+		private void acceptSuperClass(int b) {
+			or(getStatus().addNewSEntry(this.x, b));
+		}
+
+		private void acceptSuperProperty(int s) {
+			this.s = s;
+			getStatus().getSubsumers(this.y).forEachInt(this.subsumerAction);
+		}
+
+		boolean apply(ClassifierStatus status, int r, int x, int y) {
+			begin(status);
+			this.x = x;
+			this.y = y;
+			status.getSuperObjectProperties(r).forEach(this.superPropertyAction);
+			return end();
+		}
+
+	}
+
 }
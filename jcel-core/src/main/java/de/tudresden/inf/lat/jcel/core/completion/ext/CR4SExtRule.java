@@ -47,9 +47,11 @@
 package de.tudresden.inf.lat.jcel.core.completion.ext;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
 
 /**
@@ -72,6 +74,8 @@ import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
  */
 public class CR4SExtRule implements SObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-4 (S).
 	 */
@@ -81,22 +85,7 @@ public class CR4SExtRule implements SObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int subClass, int superClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, subClass, superClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int y, int a) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getObjectPropertiesBySecond(y).forEach(r -> {
-			status.getSuperObjectProperties(r).forEach(s -> {
-				status.getExtendedOntology().getGCI3rAAxioms(s, a).forEach(axiom -> {
-					status.getFirstBySecond(r, y).forEach(x -> {
-						int b = axiom.getSuperClass();
-						ret.or(status.addNewSEntry(x, b));
-					});
-				});
-			});
-		});
-		return ret.get();
+		return this.applier.get().apply(status, subClass, superClass);
 	}
 
 	@Override
@@ -109,9 +98,58 @@ public class CR4SExtRule implements SObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToSuperClass(ClassifierStatus status, int superClass) {
+		Objects.requireNonNull(status);
+		return !status.getExtendedOntology().getGCI3AAxioms(superClass).isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes and the object property of
+	 * the current application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntConsumer propertyAction = this::acceptProperty;
+		private final IntConsumer subClassAction = this::acceptSubClass;
+		private final IntConsumer superClassAction = this::acceptSuperClass;
+		private final Consumer<Integer> superPropertyAction = this::acceptSuperProperty;
+		private int a;
+		private int b;
+		private int r;
+		private int y;
+
+		private void acceptProperty(int r) {
+			this.r = r;
+			getStatus().getSuperObjectProperties(r).forEach(this.superPropertyAction);
+		}
+
+		private void acceptSubClass(int x) {
+			or(getStatus().addNewSEntry(x, this.b));
+		}
+
+		private void acceptSuperClass(int b) {
+			this.b = b;
+			getStatus().getFirstBySecond(this.r, this.y).forEachInt(this.subClassAction);
+		}
+
+		private void acceptSuperProperty(int s) {
+			getStatus().getExtendedOntology().forEachGCI3rA(s, this.a, this.superClassAction);
+		}
+
+		boolean apply(ClassifierStatus status, int y, int a) {
+			begin(status);
+			this.y = y;
+			this.a = a;
+			status.getObjectPropertiesBySecond(y).forEachInt(this.propertyAction);
+			return end();
+		}
+
+	}
+
 }
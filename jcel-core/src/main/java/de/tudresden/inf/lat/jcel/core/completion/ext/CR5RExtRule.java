@@ -47,10 +47,12 @@
 package de.tudresden.inf.lat.jcel.core.completion.ext;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 
 /**
  * 
@@ -66,6 +68,8 @@ import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
  */
 public class CR5RExtRule implements RObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-5.
 	 */
@@ -75,40 +79,13 @@ public class CR5RExtRule implements RObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass) {
 		Objects.requireNonNull(status);
+		Applier applier = this.applier.get();
 		boolean ret = false;
-		ret |= apply1(status, property, leftClass, rightClass);
-		ret |= apply2(status, property, leftClass, rightClass);
+		ret |= applier.apply1(status, property, leftClass, rightClass);
+		ret |= applier.apply2(status, property, leftClass, rightClass);
 		return ret;
 	}
 
-	private boolean apply1(ClassifierStatus status, int r1, int x, int y) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getSuperObjectProperties(r1).forEach(s -> {
-			if (status.getExtendedOntology().getTransitiveObjectProperties().contains(s)) {
-				status.getSubObjectProperties(s).forEach(r2 -> {
-					status.getSecondByFirst(r2, y).forEach(z -> {
-						ret.or(status.addNewREntry(s, x, z));
-					});
-				});
-			}
-		});
-		return ret.get();
-	}
-
-	private boolean apply2(ClassifierStatus status, int r2, int y, int z) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getSuperObjectProperties(r2).forEach(s -> {
-			if (status.getExtendedOntology().getTransitiveObjectProperties().contains(s)) {
-				status.getSubObjectProperties(s).forEach(r1 -> {
-					status.getFirstBySecond(r1, y).forEach(x -> {
-						ret.or(status.addNewREntry(s, x, z));
-					});
-				});
-			}
-		});
-		return ret.get();
-	}
-
 	@Override
 	public boolean equals(Object o) {
 		return (Objects.nonNull(o)) && getClass().equals(o.getClass());
@@ -119,9 +96,81 @@ public class CR5RExtRule implements RObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		Objects.requireNonNull(status);
+		return status.getSuperObjectProperties(property).stream()
+				.anyMatch(s -> status.getExtendedOntology().getTransitiveObjectProperties().contains(s));
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes and the transitive object
+	 * property of the current application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntConsumer leftClassAction = this::acceptLeftClass;
+		private final IntConsumer rightClassAction = this::acceptRightClass;
+		private final Consumer<Integer> subPropertyAction1 = this::acceptSubProperty1;
+		private final Consumer<Integer> subPropertyAction2 = this::acceptSubProperty2;
+		private final Consumer<Integer> superPropertyAction1 = this::acceptSuperProperty1;
+		private final Consumer<Integer> superPropertyAction2 = this::acceptSuperProperty2;
+		private int s;
+		private int x;
+		private int y;
+		private int z;
+
+		private void acceptLeftClass(int x) {
+			or(getStatus().addNewREntry(this.s, x, this.z));
+		}
+
+		private void acceptRightClass(int z) {
+			or(getStatus().addNewREntry(this.s, this.x, z));
+		}
+
+		private void acceptSubProperty1(int r2) {
+			getStatus().getSecondByFirst(r2, this.y).forEachInt(this.rightClassAction);
+		}
+
+		private void acceptSubProperty2(int r1) {
+			getStatus().getFirstBySecond(r1, this.y).forEachInt(this.leftClassAction);
+		}
+
+		private void acceptSuperProperty1(int s) {
+			if (getStatus().getExtendedOntology().getTransitiveObjectProperties().contains(s)) {
+				this.s = s;
+				getStatus().getSubObjectProperties(s).forEach(this.subPropertyAction1);
+			}
+		}
+
+		private void acceptSuperProperty2(int s) {
+			if (getStatus().getExtendedOntology().getTransitiveObjectProperties().contains(s)) {
+				this.s = s;
+				getStatus().getSubObjectProperties(s).forEach(this.subPropertyAction2);
+			}
+		}
+
+		boolean apply1(ClassifierStatus status, int r1, int x, int y) {
+			begin(status);
+			this.x = x;
+			this.y = y;
+			status.getSuperObjectProperties(r1).forEach(this.superPropertyAction1);
+			return end();
+		}
+
+		boolean apply2(ClassifierStatus status, int r2, int y, int z) {
+			begin(status);
+			this.y = y;
+			this.z = z;
+			status.getSuperObjectProperties(r2).forEach(this.superPropertyAction2);
+			return end();
+		}
+
+	}
+
 }
@@ -47,10 +47,12 @@
 package de.tudresden.inf.lat.jcel.core.completion.ext;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 import de.tudresden.inf.lat.jcel.core.graph.VNode;
 import de.tudresden.inf.lat.jcel.core.graph.VNodeImpl;
 
@@ -72,6 +74,8 @@ import de.tudresden.inf.lat.jcel.core.graph.VNodeImpl;
  */
 public class CR6RExtRule implements RObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-6 (R).
 	 */
@@ -81,38 +85,7 @@ public class CR6RExtRule implements RObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, property, leftClass, rightClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int r, int x, int y) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		int rMinus = status.getInverseObjectPropertyOf(r);
-		status.getSuperObjectProperties(r).forEach(s -> {
-			int sMinus = status.getInverseObjectPropertyOf(s);
-
-			status.getSubsumers(x).forEach(a -> {
-				status.getExtendedOntology().getGCI3rAAxioms(sMinus, a).forEach(axiom -> {
-					int b = axiom.getSuperClass();
-					if (!status.getSubsumers(y).contains(b)) {
-						VNode psiNode = status.getNode(y);
-						VNodeImpl newNode = new VNodeImpl(psiNode.getClassId());
-						newNode.addExistentialsOf(psiNode);
-						newNode.addExistential(rMinus, a);
-						boolean inV = status.contains(newNode);
-						int v = status.createOrGetNodeId(newNode);
-						if (!inV) {
-							status.getSubsumers(y).forEach(p -> {
-								ret.or(status.addNewSEntry(v, p));
-							});
-						}
-						ret.or(status.addNewSEntry(v, b));
-						ret.or(status.addNewREntry(r, x, v));
-					}
-				});
-			});
-
-		});
-		return ret.get();
+		return this.applier.get().apply(status, property, leftClass, rightClass);
 	}
 
 	@Override
@@ -125,9 +98,77 @@ public class CR6RExtRule implements RObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		Objects.requireNonNull(status);
+		return status.getSuperObjectProperties(property).stream().anyMatch(s -> !status.getExtendedOntology()
+				.getGCI3rAxioms(status.getInverseObjectPropertyOf(s)).isEmpty());
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes, the object properties and
+	 * the new node of the current application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntConsumer newSubsumerAction = this::acceptNewSubsumer;
+		private final IntConsumer subsumerAction = this::acceptSubsumer;
+		private final IntConsumer superClassAction = this::acceptSuperClass;
+		private final Consumer<Integer> superPropertyAction = this::acceptSuperProperty;
+		private int a;
+		private int r;
+		private int rMinus;
+		private int sMinus;
+		private int v;
+		private int x;
+		private int y;
+
+		private void acceptNewSubsumer(int p) {
+			or(getStatus().addNewSEntry(this.v, p));
+		}
+
+		private void acceptSubsumer(int a) {
+			this.a = a;
+			getStatus().getExtendedOntology().forEachGCI3rA(this.sMinus, a, this.superClassAction);
+		}
+
+		private void acceptSuperClass(int b) {
+			ClassifierStatus status = getStatus();
+			if (!status.getSubsumers(this.y).contains(b)) {
+				VNode psiNode = status.getNode(this.y);
+				VNodeImpl newNode = new VNodeImpl(psiNode.getClassId());
+				newNode.addExistentialsOf(psiNode);
+				newNode.addExistential(this.rMinus, this.a);
+				boolean inV = status.contains(newNode);
+				this.v = status.createOrGetNodeId(newNode);
+				if (!inV) {
+					status.getSubsumers(this.y).forEachInt(this.newSubsumerAction);
+				}
+				or(status.addNewSEntry(this.v, b));
+				or(status.addNewREntry(this.r, this.x, this.v));
+			}
+		}
+
+		private void acceptSuperProperty(int s) {
+			this.sMinus = getStatus().getInverseObjectPropertyOf(s);
+			getStatus().getSubsumers(this.x).forEachInt(this.subsumerAction);
+		}
+
+		boolean apply(ClassifierStatus status, int r, int x, int y) {
+			begin(status);
+			this.r = r;
+			this.x = x;
+			this.y = y;
+			this.rMinus = status.getInverseObjectPropertyOf(r);
+			status.getSuperObjectProperties(r).forEach(this.superPropertyAction);
+			return end();
+		}
+
+	}
+
 }
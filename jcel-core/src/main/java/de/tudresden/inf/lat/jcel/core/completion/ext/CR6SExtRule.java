@@ -47,12 +47,15 @@
 package de.tudresden.inf.lat.jcel.core.completion.ext;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
 import de.tudresden.inf.lat.jcel.core.graph.VNode;
 import de.tudresden.inf.lat.jcel.core.graph.VNodeImpl;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntPairConsumer;
 
 /**
  * 
@@ -72,6 +75,8 @@ import de.tudresden.inf.lat.jcel.core.graph.VNodeImpl;
  */
 public class CR6SExtRule implements SObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-6 (S).
 	 */
@@ -81,37 +86,7 @@ public class CR6SExtRule implements SObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int subClass, int superClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, subClass, superClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int x, int a) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getExtendedOntology().getGCI3AAxioms(a).forEach(axiom -> {
-			int sMinus = axiom.getPropertyInSubClass();
-			int s = status.getInverseObjectPropertyOf(sMinus);
-			status.getSubObjectProperties(s).forEach(r -> {
-				int rMinus = status.getInverseObjectPropertyOf(r);
-				int b = axiom.getSuperClass();
-				status.getSecondByFirst(r, x).forEach(y -> {
-					if (!status.getSubsumers(y).contains(b)) {
-						VNode psiNode = status.getNode(y);
-						VNodeImpl newNode = new VNodeImpl(psiNode.getClassId());
-						newNode.addExistentialsOf(psiNode);
-						newNode.addExistential(rMinus, a);
-						boolean inV = status.contains(newNode);
-						int v = status.createOrGetNodeId(newNode);
-						if (!inV) {
-							status.getSubsumers(y).forEach(p -> {
-								ret.or(status.addNewSEntry(v, p));
-							});
-						}
-						ret.or(status.addNewSEntry(v, b));
-						ret.or(status.addNewREntry(r, x, v));
-					}
-				});
-			});
-		});
-		return ret.get();
+		return this.applier.get().apply(status, subClass, superClass);
 	}
 
 	@Override
@@ -124,9 +99,75 @@ public class CR6SExtRule implements SObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToSuperClass(ClassifierStatus status, int superClass) {
+		Objects.requireNonNull(status);
+		return !status.getExtendedOntology().getGCI3AAxioms(superClass).isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes, the object properties and
+	 * the new node of the current application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntPairConsumer gci3Action = this::acceptGCI3;
+		private final IntConsumer newSubsumerAction = this::acceptNewSubsumer;
+		private final IntConsumer rightClassAction = this::acceptRightClass;
+		private final Consumer<Integer> subPropertyAction = this::acceptSubProperty;
+		private int a;
+		private int b;
+		private int r;
+		private int rMinus;
+		private int v;
+		private int x;
+
+		private void acceptGCI3(int sMinus, int b) {
+			this.b = b;
+			int s = getStatus().getInverseObjectPropertyOf(sMinus);
+			getStatus().getSubObjectProperties(s).forEach(this.subPropertyAction);
+		}
+
+		private void acceptNewSubsumer(int p) {
+			or(getStatus().addNewSEntry(this.v, p));
+		}
+
+		private void acceptRightClass(int y) {
+			ClassifierStatus status = getStatus();
+			if (!status.getSubsumers(y).contains(this.b)) {
+				VNode psiNode = status.getNode(y);
+				VNodeImpl newNode = new VNodeImpl(psiNode.getClassId());
+				newNode.addExistentialsOf(psiNode);
+				newNode.addExistential(this.rMinus, this.a);
+				boolean inV = status.contains(newNode);
+				this.v = status.createOrGetNodeId(newNode);
+				if (!inV) {
+					status.getSubsumers(y).forEachInt(this.newSubsumerAction);
+				}
+				or(status.addNewSEntry(this.v, this.b));
+				or(status.addNewREntry(this.r, this.x, this.v));
+			}
+		}
+
+		private void acceptSubProperty(int r) {
+			this.r = r;
+			this.rMinus = getStatus().getInverseObjectPropertyOf(r);
+			getStatus().getSecondByFirst(r, this.x).forEachInt(this.rightClassAction);
+		}
+
+		boolean apply(ClassifierStatus status, int x, int a) {
+			begin(status);
+			this.x = x;
+			this.a = a;
+			status.getExtendedOntology().forEachGCI3A(a, this.gci3Action);
+			return end();
+		}
+
+	}
+
 }
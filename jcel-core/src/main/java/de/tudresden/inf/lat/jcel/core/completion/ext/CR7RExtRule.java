@@ -47,12 +47,15 @@
 package de.tudresden.inf.lat.jcel.core.completion.ext;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 import de.tudresden.inf.lat.jcel.core.graph.VNode;
 import de.tudresden.inf.lat.jcel.core.graph.VNodeImpl;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntPairConsumer;
 
 /**
  * 
@@ -75,6 +78,8 @@ import de.tudresden.inf.lat.jcel.core.graph.VNodeImpl;
  */
 public class CR7RExtRule implements RObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-7.
 	 */
@@ -84,43 +89,7 @@ public class CR7RExtRule implements RObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, property, leftClass, rightClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int r2, int x, int y) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		VNode phiNode = status.getNode(x);
-		VNode psiNode = status.getNode(y);
-		status.getSuperObjectProperties(r2).forEach(r -> {
-			if (status.getExtendedOntology().getTransitiveObjectProperties().contains(r)) {
-				int rMinus = status.getInverseObjectPropertyOf(r);
-				status.getSuperObjectProperties(r).forEach(s -> {
-					int sMinus = status.getInverseObjectPropertyOf(s);
-					status.getExtendedOntology().getGCI3rAxioms(sMinus).forEach(axiom -> {
-						int a = axiom.getClassInSubClass();
-						int b = axiom.getSuperClass();
-						status.getSubObjectProperties(r).forEach(r1 -> {
-							int r1Minus = status.getInverseObjectPropertyOf(r1);
-							if (phiNode.containsExistential(r1Minus, a)) {
-								VNodeImpl newNode = new VNodeImpl(psiNode.getClassId());
-								newNode.addExistentialsOf(psiNode);
-								newNode.addExistential(rMinus, a);
-								boolean inV = status.contains(newNode);
-								int v = status.createOrGetNodeId(newNode);
-								if (!inV) {
-									status.getSubsumers(y).forEach(p -> {
-										ret.or(status.addNewSEntry(v, p));
-									});
-								}
-								ret.or(status.addNewSEntry(v, b));
-								ret.or(status.addNewREntry(r2, x, v));
-							}
-						});
-					});
-				});
-			}
-		});
-		return ret.get();
+		return this.applier.get().apply(status, property, leftClass, rightClass);
 	}
 
 	@Override
@@ -133,9 +102,93 @@ public class CR7RExtRule implements RObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		Objects.requireNonNull(status);
+		return status.getSuperObjectProperties(property).stream()
+				.anyMatch(r -> status.getExtendedOntology().getTransitiveObjectProperties().contains(r));
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the nodes, the object properties and
+	 * the new node of the current application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntPairConsumer gci3Action = this::acceptGCI3;
+		private final IntConsumer newSubsumerAction = this::acceptNewSubsumer;
+		private final Consumer<Integer> propertyAction = this::acceptProperty;
+		private final Consumer<Integer> subPropertyAction = this::acceptSubProperty;
+		private final Consumer<Integer> superPropertyAction = this::acceptSuperProperty;
+		private int a;
+		private int b;
+		private VNode phiNode = null;
+		private VNode psiNode = null;
+		private int r;
+		private int r2;
+		private int rMinus;
+		private int v;
+		private int x;
+		private int y;
+
+		private void acceptGCI3(int a, int b) {
+			this.a = a;
+			this.b = b;
+			getStatus().getSubObjectProperties(this.r).forEach(this.subPropertyAction);
+		}
+
+		private void acceptNewSubsumer(int p) {
+			or(getStatus().addNewSEntry(this.v, p));
+		}
+
+		private void acceptProperty(int r) {
+			if (getStatus().getExtendedOntology().getTransitiveObjectProperties().contains(r)) {
+				this.r = r;
+				this.rMinus = getStatus().getInverseObjectPropertyOf(r);
+				getStatus().getSuperObjectProperties(r).forEach(this.superPropertyAction);
+			}
+		}
+
+		private void acceptSubProperty(int r1) {
+			ClassifierStatus status = getStatus();
+			int r1Minus = status.getInverseObjectPropertyOf(r1);
+			if (this.phiNode.containsExistential(r1Minus, this.a)) {
+				VNodeImpl newNode = new VNodeImpl(this.psiNode.getClassId());
+				newNode.addExistentialsOf(this.psiNode);
+				newNode.addExistential(this.rMinus, this.a);
+				boolean inV = status.contains(newNode);
+				this.v = status.createOrGetNodeId(newNode);
+				if (!inV) {
+					status.getSubsumers(this.y).forEachInt(this.newSubsumerAction);
+				}
+				or(status.addNewSEntry(this.v, this.b));
+				or(status.addNewREntry(this.r2, this.x, this.v));
+			}
+		}
+
+		private void acceptSuperProperty(int s) {
+			int sMinus = getStatus().getInverseObjectPropertyOf(s);
+			getStatus().getExtendedOntology().forEachGCI3r(sMinus, this.gci3Action);
+		}
+
+		boolean apply(ClassifierStatus status, int r2, int x, int y) {
+			begin(status);
+			this.r2 = r2;
+			this.x = x;
+			this.y = y;
+			this.phiNode = status.getNode(x);
+			this.psiNode = status.getNode(y);
+			status.getSuperObjectProperties(r2).forEach(this.propertyAction);
+			this.phiNode = null;
+			this.psiNode = null;
+			return end();
+		}
+
+	}
+
 }
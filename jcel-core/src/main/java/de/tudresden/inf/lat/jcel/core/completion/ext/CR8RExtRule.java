@@ -47,10 +47,13 @@
 package de.tudresden.inf.lat.jcel.core.completion.ext;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntPairConsumer;
 
 /**
  * 
@@ -67,6 +70,8 @@ import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
  */
 public class CR8RExtRule implements RObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-8 (R).
 	 */
@@ -76,29 +81,7 @@ public class CR8RExtRule implements RObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, property, leftClass, rightClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int r1, int x, int y) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getSuperObjectProperties(r1).forEach(s -> {
-			int sMinus = status.getInverseObjectPropertyOf(s);
-			if (status.getExtendedOntology().getFunctionalObjectProperties().contains(sMinus)) {
-
-				status.getSubsumers(y).forEach(a -> {
-					status.getExtendedOntology().getGCI2Axioms(a).forEach(axiom -> {
-						int r2Minus = axiom.getPropertyInSuperClass();
-						int r2 = status.getInverseObjectPropertyOf(r2Minus);
-						if (status.getSubObjectProperties(s).contains(r2)) {
-							int b = axiom.getClassInSuperClass();
-							ret.or(status.addNewSEntry(x, b));
-						}
-					});
-				});
-
-			}
-		});
-		return ret.get();
+		return this.applier.get().apply(status, property, leftClass, rightClass);
 	}
 
 	@Override
@@ -111,9 +94,58 @@ public class CR8RExtRule implements RObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		Objects.requireNonNull(status);
+		return status.getSuperObjectProperties(property).stream().anyMatch(s -> status.getExtendedOntology()
+				.getFunctionalObjectProperties().contains(status.getInverseObjectPropertyOf(s)));
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes and the object property of
+	 * the current application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntPairConsumer gci2Action = this::acceptGCI2;
+		private final IntConsumer subsumerAction = this::acceptSubsumer;
+		private final Consumer<Integer> superPropertyAction = this::acceptSuperProperty;
+		private int s;
+		private int x;
+		private int y;
+
+		private void acceptGCI2(int r2Minus, int b) {
+			int r2 = getStatus().getInverseObjectPropertyOf(r2Minus);
+			if (getStatus().getSubObjectProperties(this.s).contains(r2)) {
+				or(getStatus().addNewSEntry(this.x, b));
+			}
+		}
+
+		private void acceptSubsumer(int a) {
+			getStatus().getExtendedOntology().forEachGCI2(a, this.gci2Action);
+		}
+
+		private void acceptSuperProperty(int s) {
+			int sMinus = getStatus().getInverseObjectPropertyOf(s);
+			if (getStatus().getExtendedOntology().getFunctionalObjectProperties().contains(sMinus)) {
+				this.s = s;
+				getStatus().getSubsumers(this.y).forEachInt(this.subsumerAction);
+			}
+		}
+
+		boolean apply(ClassifierStatus status, int r1, int x, int y) {
+			begin(status);
+			this.x = x;
+			this.y = y;
+			status.getSuperObjectProperties(r1).forEach(this.superPropertyAction);
+			return end();
+		}
+
+	}
+
 }
@@ -47,10 +47,13 @@
 package de.tudresden.inf.lat.jcel.core.completion.ext;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntPairConsumer;
 
 /**
  * 
@@ -67,6 +70,8 @@ import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
  */
 public class CR8SExtRule implements SObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-8 (S).
 	 */
@@ -76,27 +81,7 @@ public class CR8SExtRule implements SObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int subClass, int superClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, subClass, superClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int y, int a) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		status.getExtendedOntology().getGCI2Axioms(a).forEach(axiom -> {
-			int r2Minus = axiom.getPropertyInSuperClass();
-			int r2 = status.getInverseObjectPropertyOf(r2Minus);
-			status.getSuperObjectProperties(r2).forEach(s -> {
-				int sMinus = status.getInverseObjectPropertyOf(s);
-				if (status.getExtendedOntology().getFunctionalObjectProperties().contains(sMinus)) {
-					int b = axiom.getClassInSuperClass();
-					status.getSubObjectProperties(s).forEach(r1 -> {
-						status.getFirstBySecond(r1, y).forEach(x -> {
-							ret.or(status.addNewSEntry(x, b));
-						});
-					});
-				}
-			});
-		});
-		return ret.get();
+		return this.applier.get().apply(status, subClass, superClass);
 	}
 
 	@Override
@@ -109,9 +94,58 @@ public class CR8SExtRule implements SObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToSuperClass(ClassifierStatus status, int superClass) {
+		Objects.requireNonNull(status);
+		return !status.getExtendedOntology().getGCI2Axioms(superClass).isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes of the current
+	 * application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final IntPairConsumer gci2Action = this::acceptGCI2;
+		private final IntConsumer subClassAction = this::acceptSubClass;
+		private final Consumer<Integer> subPropertyAction = this::acceptSubProperty;
+		private final Consumer<Integer> superPropertyAction = this::acceptSuperProperty;
+		private int b;
+		private int y;
+
+		private void acceptGCI2(int r2Minus, int b) {
+			this.b = b;
+			int r2 = getStatus().getInverseObjectPropertyOf(r2Minus);
+			getStatus().getSuperObjectProperties(r2).forEach(this.superPropertyAction);
+		}
+
+		private void acceptSubClass(int x) {
+			or(getStatus().addNewSEntry(x, this.b));
+		}
+
+		private void acceptSubProperty(int r1) {
+			getStatus().getFirstBySecond(r1, this.y).forEachInt(this.subClassAction);
+		}
+
+		private void acceptSuperProperty(int s) {
+			int sMinus = getStatus().getInverseObjectPropertyOf(s);
+			if (getStatus().getExtendedOntology().getFunctionalObjectProperties().contains(sMinus)) {
+				getStatus().getSubObjectProperties(s).forEach(this.subPropertyAction);
+			}
+		}
+
+		boolean apply(ClassifierStatus status, int y, int a) {
+			begin(status);
+			this.y = y;
+			status.getExtendedOntology().forEachGCI2(a, this.gci2Action);
+			return end();
+		}
+
+	}
+
 }
@@ -49,10 +49,12 @@ package de.tudresden.inf.lat.jcel.core.completion.ext;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 import de.tudresden.inf.lat.jcel.core.graph.VNodeImpl;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
 
@@ -80,6 +82,8 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
  */
 public class CR9RExtOptRule implements RObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-9.
 	 */
@@ -89,41 +93,7 @@ public class CR9RExtOptRule implements RObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, property, leftClass, rightClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int r1, int x, int y) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		if (status.getNode(y).getClassId() == IntegerEntityManager.topClassId) {
-
-			Set<Integer> valid = new HashSet<>();
-			valid.add(y);
-			status.getObjectPropertiesWithFunctionalAncestor(r1).forEach(r2 -> {
-				status.getSecondByFirst(r2, x).forEach(yi -> {
-					if (status.getNode(yi).getClassId() == IntegerEntityManager.topClassId) {
-						valid.add(yi);
-					}
-				});
-			});
-
-			if (valid.size() > 1) {
-				VNodeImpl newNode = new VNodeImpl(IntegerEntityManager.topClassId);
-				valid.forEach(yi -> {
-					newNode.addExistentialsOf(status.getNode(yi));
-				});
-				int v = status.createOrGetNodeId(newNode);
-				valid.forEach(yi -> {
-
-					status.getSubsumers(yi).forEach(p -> {
-						ret.or(status.addNewSEntry(v, p));
-					});
-
-					ret.or(status.addNewREntry(r1, x, v));
-				});
-			}
-
-		}
-		return ret.get();
+		return this.applier.get().apply(status, property, leftClass, rightClass);
 	}
 
 	@Override
@@ -136,9 +106,77 @@ public class CR9RExtOptRule implements RObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		Objects.requireNonNull(status);
+		return !status.getObjectPropertiesWithFunctionalAncestor(property).isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes, the valid nodes and the
+	 * new node of the current application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final Consumer<Integer> existentialAction = this::acceptExistential;
+		private final Consumer<Integer> functionalPropertyAction = this::acceptFunctionalProperty;
+		private final IntConsumer newSubsumerAction = this::acceptNewSubsumer;
+		private final IntConsumer rightClassAction = this::acceptRightClass;
+		private final Consumer<Integer> validAction = this::acceptValid;
+		private final Set<Integer> valid = new HashSet<>();
+		private VNodeImpl newNode = null;
+		private int r1;
+		private int v;
+		private int x;
+
+		private void acceptExistential(int yi) {
+			this.newNode.addExistentialsOf(getStatus().getNode(yi));
+		}
+
+		private void acceptFunctionalProperty(int r2) {
+			getStatus().getSecondByFirst(r2, this.x).forEachInt(this.rightClassAction);
+		}
+
+		private void acceptNewSubsumer(int p) {
+			or(getStatus().addNewSEntry(this.v, p));
+		}
+
+		private void acceptRightClass(int yi) {
+			if (getStatus().getNode(yi).getClassId() == IntegerEntityManager.topClassId) {
+				this.valid.add(yi);
+			}
+		}
+
+		private void acceptValid(int yi) {
+			getStatus().getSubsumers(yi).forEachInt(this.newSubsumerAction);
+			or(getStatus().addNewREntry(this.r1, this.x, this.v));
+		}
+
+		boolean apply(ClassifierStatus status, int r1, int x, int y) {
+			begin(status);
+			if (status.getNode(y).getClassId() == IntegerEntityManager.topClassId) {
+				this.r1 = r1;
+				this.x = x;
+				this.valid.add(y);
+				status.getObjectPropertiesWithFunctionalAncestor(r1).forEach(this.functionalPropertyAction);
+
+				if (this.valid.size() > 1) {
+					this.newNode = new VNodeImpl(IntegerEntityManager.topClassId);
+					this.valid.forEach(this.existentialAction);
+					this.v = status.createOrGetNodeId(this.newNode);
+					this.newNode = null;
+					this.valid.forEach(this.validAction);
+				}
+				this.valid.clear();
+			}
+			return end();
+		}
+
+	}
+
 }
@@ -47,10 +47,12 @@
 package de.tudresden.inf.lat.jcel.core.completion.ext;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
-import de.tudresden.inf.lat.jcel.core.completion.common.CompletionRuleMonitor;
 import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.RuleApplier;
 import de.tudresden.inf.lat.jcel.core.graph.VNode;
 import de.tudresden.inf.lat.jcel.core.graph.VNodeImpl;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
@@ -75,6 +77,8 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
  */
 public class CR9RExtRule implements RObserverRule {
 
+	private final ThreadLocal<Applier> applier = ThreadLocal.withInitial(Applier::new);
+
 	/**
 	 * Constructs a new completion rule CR-9.
 	 */
@@ -84,38 +88,7 @@ public class CR9RExtRule implements RObserverRule {
 	@Override
 	public boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass) {
 		Objects.requireNonNull(status);
-		return applyRule(status, property, leftClass, rightClass);
-	}
-
-	private boolean applyRule(ClassifierStatus status, int r1, int x, int y) {
-		CompletionRuleMonitor ret = new CompletionRuleMonitor();
-		VNode psiNode = status.getNode(y);
-		if (psiNode.getClassId() == IntegerEntityManager.topClassId) {
-			status.getObjectPropertiesWithFunctionalAncestor(r1).forEach(r2 -> {
-				status.getSecondByFirst(r2, x).forEach(z -> {
-					VNode phiNode = status.getNode(z);
-					if (phiNode.getClassId() == IntegerEntityManager.topClassId) {
-						if (y != z) {
-							VNodeImpl newNode = new VNodeImpl(IntegerEntityManager.topClassId);
-							newNode.addExistentialsOf(psiNode);
-							newNode.addExistentialsOf(phiNode);
-							int v = status.createOrGetNodeId(newNode);
-
-							status.getSubsumers(y).forEach(p -> {
-								ret.or(status.addNewSEntry(v, p));
-							});
-
-							status.getSubsumers(z).forEach(p -> {
-								ret.or(status.addNewSEntry(v, p));
-							});
-
-							ret.or(status.addNewREntry(r1, x, v));
-						}
-					}
-				});
-			});
-		}
-		return ret.get();
+		return this.applier.get().apply(status, property, leftClass, rightClass);
 	}
 
 	@Override
@@ -128,9 +101,72 @@ public class CR9RExtRule implements RObserverRule {
 		return getClass().hashCode();
 	}
 
+	@Override
+	public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+		Objects.requireNonNull(status);
+		return !status.getObjectPropertiesWithFunctionalAncestor(property).isEmpty();
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
 	}
 
+	/**
+	 * Applier of this rule, which keeps the classes, the nodes and the new
+	 * node of the current application.
+	 */
+	private static class Applier extends RuleApplier {
+
+		private final Consumer<Integer> functionalPropertyAction = this::acceptFunctionalProperty;
+		private final IntConsumer newSubsumerAction = this::acceptNewSubsumer;
+		private final IntConsumer rightClassAction = this::acceptRightClass;
+		private VNode psiNode = null;
+		private int r1;
+		private int v;
+		private int x;
+		private int y;
+
+		private void acceptFunctionalProperty(int r2) {
+			getStatus().getSecondByFirst(r2, this.x).forEachInt(this.rightClassAction);
+		}
+
+		private void acceptNewSubsumer(int p) {
+			or(getStatus().addNewSEntry(this.v, p));
+		}
+
+		private void acceptRightClass(int z) {
+			ClassifierStatus status = getStatus();
+			VNode phiNode = status.getNode(z);
+			if (phiNode.getClassId() == IntegerEntityManager.topClassId) {
+				if (this.y != z) {
+					VNodeImpl newNode = new VNodeImpl(IntegerEntityManager.topClassId);
+					newNode.addExistentialsOf(this.psiNode);
+					newNode.addExistentialsOf(phiNode);
+					this.v = status.createOrGetNodeId(newNode);
+
+					status.getSubsumers(this.y).forEachInt(this.newSubsumerAction);
+
+					status.getSubsumers(z).forEachInt(this.newSubsumerAction);
+
+					or(status.addNewREntry(this.r1, this.x, this.v));
+				}
+			}
+		}
+
+		boolean apply(ClassifierStatus status, int r1, int x, int y) {
+			begin(status);
+			this.psiNode = status.getNode(y);
+			if (this.psiNode.getClassId() == IntegerEntityManager.topClassId) {
+				this.r1 = r1;
+				this.x = x;
+				this.y = y;
+				status.getObjectPropertiesWithFunctionalAncestor(r1).forEach(this.functionalPropertyAction);
+			}
+			this.psiNode = null;
+			return end();
+		}
+
+	}
+
 }
@@ -52,15 +52,17 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.IntConsumer;
 import java.util.stream.IntStream;
 
 /**
  * This class implements a set of integers using a sorted array of
- * <code>int</code> with exponential growth.
+ * <code>int</code> with exponential growth. Besides the {@link Set} interface,
+ * it can be used as an {@link IntSet}, which does not box the elements.
  * 
  * @author Julian Mendez
  */
-public class ArraySet implements Set<Integer> {
+public class ArraySet implements ModifiableIntSet {
 
 	private static final int exponentialGrowthFactor = 2;
 	private static final int initialSize = 1;
@@ -76,9 +78,27 @@ public class ArraySet implements Set<Integer> {
 		clear();
 	}
 
+	/**
+	 * Constructs a new array set containing the elements of the given set.
+	 * 
+	 * @param other
+	 *            set of integers
+	 */
+	public ArraySet(IntSet other) {
+		Objects.requireNonNull(other);
+		this.array = new int[Math.max(initialSize, other.size())];
+		this.size = 0;
+		other.forEachInt(elem -> add(elem));
+	}
+
 	@Override
 	public synchronized boolean add(Integer elem) {
 		Objects.requireNonNull(elem);
+		return add(elem.intValue());
+	}
+
+	@Override
+	public synchronized boolean add(int elem) {
 		boolean ret = false;
 		int pointer = Arrays.binarySearch(this.array, 0, this.size, elem);
 		if (pointer < 0) {
@@ -114,14 +134,15 @@ public class ArraySet implements Set<Integer> {
 		this.size = 0;
 	}
 
+	@Override
+	public synchronized boolean contains(int elem) {
+		return Arrays.binarySearch(this.array, 0, this.size, elem) >= 0;
+	}
+
 	@Override
 	public synchronized boolean contains(Object elem) {
 		Objects.requireNonNull(elem);
-		boolean ret = false;
-		int e = ((Integer) elem).intValue();
-		int pointer = Arrays.binarySearch(this.array, 0, this.size, e);
-		ret = (pointer >= 0);
-		return ret;
+		return contains(((Integer) elem).intValue());
 	}
 
 	@Override
@@ -142,11 +163,37 @@ public class ArraySet implements Set<Integer> {
 		return ret;
 	}
 
+	/**
+	 * Performs the given action for each element of this set, in ascending
+	 * order. The lock of this set is not held while the action is performed.
+	 * 
+	 * @param action
+	 *            action to be performed for each element
+	 */
+	@Override
+	public void forEachInt(IntConsumer action) {
+		Objects.requireNonNull(action);
+		int[] currentArray;
+		int currentSize;
+		synchronized (this) {
+			currentArray = this.array;
+			currentSize = this.size;
+		}
+		for (int index = 0; index < currentSize; index++) {
+			action.accept(currentArray[index]);
+		}
+	}
+
 	@Override
 	public synchronized int hashCode() {
 		return this.array.hashCode();
 	}
 
+	@Override
+	public synchronized IntIterator intIterator() {
+		return new ArraySetIterator(this.array, this.size);
+	}
+
 	@Override
 	public synchronized boolean isEmpty() {
 		return this.size == 0;
@@ -157,9 +204,26 @@ public class ArraySet implements Set<Integer> {
 		return new ArraySetIterator(this.array, this.size);
 	}
 
+	@Override
+	public synchronized boolean remove(int elem) {
+		boolean ret = false;
+		int pointer = Arrays.binarySearch(this.array, 0, this.size, elem);
+		if (pointer >= 0) {
+			System.arraycopy(this.array, pointer + 1, this.array, pointer, this.size - pointer - 1);
+			this.size--;
+			ret = true;
+		}
+		return ret;
+	}
+
 	@Override
 	public synchronized boolean remove(Object o) {
-		throw new UnsupportedOperationException();
+		Objects.requireNonNull(o);
+		boolean ret = false;
+		if (o instanceof Integer) {
+			ret = remove(((Integer) o).intValue());
+		}
+		return ret;
 	}
 
 	@Override
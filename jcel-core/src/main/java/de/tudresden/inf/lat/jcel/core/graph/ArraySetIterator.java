@@ -58,11 +58,11 @@ import java.util.stream.IntStream;
  * 
  * @author Julian Mendez
  */
-public class ArraySetIterator implements Iterator<Integer> {
+public class ArraySetIterator implements Iterator<Integer>, IntIterator {
 
 	private final int[] array;
-	private int pointer = 0;
-	private final int size;
+	private final int end;
+	private int pointer;
 
 	/**
 	 * Constructs an iterator for an array set.
@@ -73,9 +73,24 @@ public class ArraySetIterator implements Iterator<Integer> {
 	 *            number of elements to consider in the array
 	 */
 	public ArraySetIterator(int[] a, int s) {
+		this(a, 0, s);
+	}
+
+	/**
+	 * Constructs an iterator for a range of an array.
+	 * 
+	 * @param a
+	 *            array of <code>int</code>
+	 * @param fromIndex
+	 *            index of the first element to consider (inclusive)
+	 * @param toIndex
+	 *            index of the last element to consider (exclusive)
+	 */
+	public ArraySetIterator(int[] a, int fromIndex, int toIndex) {
 		Objects.requireNonNull(a);
 		this.array = a;
-		this.size = s;
+		this.pointer = fromIndex;
+		this.end = toIndex;
 	}
 
 	@Override
@@ -83,8 +98,9 @@ public class ArraySetIterator implements Iterator<Integer> {
 		boolean ret = (this == o);
 		if (!ret && (o instanceof ArraySetIterator)) {
 			ArraySetIterator other = (ArraySetIterator) o;
-			ret = (this.size == other.size) && (this.pointer == other.pointer);
-			ret = ret && IntStream.range(0, this.size).allMatch(index -> (this.array[index] == other.array[index]));
+			ret = (this.end == other.end) && (this.pointer == other.pointer);
+			ret = ret && IntStream.range(this.pointer, this.end)
+					.allMatch(index -> (this.array[index] == other.array[index]));
 		}
 		return ret;
 	}
@@ -96,12 +112,17 @@ public class ArraySetIterator implements Iterator<Integer> {
 
 	@Override
 	public boolean hasNext() {
-		return this.pointer < this.size;
+		return this.pointer < this.end;
 	}
 
 	@Override
 	public Integer next() {
-		if (this.pointer >= this.size) {
+		return nextInt();
+	}
+
+	@Override
+	public int nextInt() {
+		if (this.pointer >= this.end) {
 			throw new NoSuchElementException();
 		}
 		return this.array[this.pointer++];
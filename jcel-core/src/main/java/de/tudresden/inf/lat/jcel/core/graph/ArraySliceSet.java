@@ -0,0 +1,128 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * This class implements an unmodifiable set of integers using a range of a
+ * sorted array. The array is shared, so it must not be modified after the set
+ * is created. Several sets can use different ranges of the same array.
+ * 
+ * @author Julian Mendez
+ */
+public class ArraySliceSet extends AbstractSet<Integer> implements IntSet {
+
+	private final int[] array;
+	private final int fromIndex;
+	private final int toIndex;
+
+	/**
+	 * Constructs a new set using a range of a sorted array.
+	 * 
+	 * @param array
+	 *            sorted array of <code>int</code> without repeated elements
+	 * @param fromIndex
+	 *            index of the first element of the set (inclusive)
+	 * @param toIndex
+	 *            index of the last element of the set (exclusive)
+	 */
+	public ArraySliceSet(int[] array, int fromIndex, int toIndex) {
+		Objects.requireNonNull(array);
+		if (fromIndex < 0 || toIndex > array.length || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException(
+					"Invalid range: " + fromIndex + ", " + toIndex + " for length " + array.length);
+		}
+		this.array = array;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	@Override
+	public boolean contains(int element) {
+		return Arrays.binarySearch(this.array, this.fromIndex, this.toIndex, element) >= 0;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		boolean ret = (o instanceof Integer) && contains(((Integer) o).intValue());
+		return ret;
+	}
+
+	@Override
+	public void forEachInt(IntConsumer action) {
+		Objects.requireNonNull(action);
+		for (int index = this.fromIndex; index < this.toIndex; index++) {
+			action.accept(this.array[index]);
+		}
+	}
+
+	@Override
+	public IntIterator intIterator() {
+		return new ArraySetIterator(this.array, this.fromIndex, this.toIndex);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.fromIndex == this.toIndex;
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+		return new ArraySetIterator(this.array, this.fromIndex, this.toIndex);
+	}
+
+	@Override
+	public int size() {
+		return this.toIndex - this.fromIndex;
+	}
+
+}
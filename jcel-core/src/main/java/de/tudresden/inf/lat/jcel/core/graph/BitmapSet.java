@@ -0,0 +1,387 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * This class implements a set of integers using a compressed bitmap. The
+ * bitmap is divided in words of 64 bits, and only the words that are not
+ * empty are stored, sorted by their position. This representation is compact
+ * when the elements are dense, as it is the case of the identifiers created
+ * by the entity manager, and it allows to compare two sets one word at a time.
+ * 
+ * @author Julian Mendez
+ */
+public class BitmapSet implements ModifiableIntSet {
+
+	private static final int exponentialGrowthFactor = 2;
+	private static final int initialSize = 1;
+	private static final int linearGrowthFactor = 1;
+	static final int wordMask = 0x3F;
+	static final int wordShift = 6;
+
+	private int[] keys = null;
+	private int length = 0;
+	private int size = 0;
+	private long[] words = null;
+
+	/**
+	 * Constructs an empty bitmap set.
+	 */
+	public BitmapSet() {
+		clear();
+	}
+
+	/**
+	 * Constructs a new bitmap set containing the elements of the given set.
+	 * 
+	 * @param other
+	 *            set of integers
+	 */
+	public BitmapSet(IntSet other) {
+		Objects.requireNonNull(other);
+		clear();
+		other.forEachInt(elem -> add(elem));
+	}
+
+	@Override
+	public synchronized boolean add(int elem) {
+		boolean ret = false;
+		int key = elem >> wordShift;
+		long bit = 1L << (elem & wordMask);
+		int pointer = Arrays.binarySearch(this.keys, 0, this.length, key);
+		if (pointer >= 0) {
+			if ((this.words[pointer] & bit) == 0) {
+				this.words[pointer] |= bit;
+				ret = true;
+			}
+		} else {
+			pointer = (-1) * (pointer + 1);
+			if (this.length >= this.keys.length) {
+				int newLength = linearGrowthFactor + (exponentialGrowthFactor * this.keys.length);
+				int[] newKeys = new int[newLength];
+				long[] newWords = new long[newLength];
+				System.arraycopy(this.keys, 0, newKeys, 0, pointer);
+				System.arraycopy(this.words, 0, newWords, 0, pointer);
+				System.arraycopy(this.keys, pointer, newKeys, pointer + 1, this.length - pointer);
+				System.arraycopy(this.words, pointer, newWords, pointer + 1, this.length - pointer);
+				this.keys = newKeys;
+				this.words = newWords;
+			} else {
+				System.arraycopy(this.keys, pointer, this.keys, pointer + 1, this.length - pointer);
+				System.arraycopy(this.words, pointer, this.words, pointer + 1, this.length - pointer);
+			}
+			this.keys[pointer] = key;
+			this.words[pointer] = bit;
+			this.length++;
+			ret = true;
+		}
+		if (ret) {
+			this.size++;
+		}
+		return ret;
+	}
+
+	@Override
+	public synchronized boolean add(Integer elem) {
+		Objects.requireNonNull(elem);
+		return add(elem.intValue());
+	}
+
+	@Override
+	public synchronized boolean addAll(Collection<? extends Integer> collection) {
+		Objects.requireNonNull(collection);
+		boolean ret = false;
+		for (Integer elem : collection) {
+			ret |= add(elem);
+		}
+		return ret;
+	}
+
+	@Override
+	public synchronized void clear() {
+		this.keys = new int[initialSize];
+		this.words = new long[initialSize];
+		this.length = 0;
+		this.size = 0;
+	}
+
+	@Override
+	public synchronized boolean contains(int elem) {
+		int pointer = Arrays.binarySearch(this.keys, 0, this.length, elem >> wordShift);
+		return (pointer >= 0) && ((this.words[pointer] & (1L << (elem & wordMask))) != 0);
+	}
+
+	@Override
+	public synchronized boolean contains(Object elem) {
+		Objects.requireNonNull(elem);
+		return contains(((Integer) elem).intValue());
+	}
+
+	@Override
+	public boolean containsAll(Collection<?> collection) {
+		Objects.requireNonNull(collection);
+		boolean ret;
+		if (collection instanceof BitmapSet) {
+			ret = includes((BitmapSet) collection);
+		} else {
+			synchronized (this) {
+				ret = collection.stream().allMatch(elem -> contains(elem));
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Tells whether this set has the same elements as another object. Each
+	 * set is copied while holding only its own lock, so that two threads
+	 * comparing the same sets in opposite orders cannot deadlock.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		boolean ret = (this == o);
+		if (!ret && (o instanceof BitmapSet)) {
+			BitmapSet other = (BitmapSet) o;
+			int[] currentKeys;
+			long[] currentWords;
+			synchronized (this) {
+				currentKeys = Arrays.copyOf(this.keys, this.length);
+				currentWords = Arrays.copyOf(this.words, this.length);
+			}
+			int[] otherKeys;
+			long[] otherWords;
+			synchronized (other) {
+				otherKeys = Arrays.copyOf(other.keys, other.length);
+				otherWords = Arrays.copyOf(other.words, other.length);
+			}
+			ret = Arrays.equals(currentKeys, otherKeys) && Arrays.equals(currentWords, otherWords);
+		}
+		return ret;
+	}
+
+	/**
+	 * Performs the given action for each element of this set, in ascending
+	 * order. The lock of this set is not held while the action is performed.
+	 * 
+	 * @param action
+	 *            action to be performed for each element
+	 */
+	@Override
+	public void forEachInt(IntConsumer action) {
+		Objects.requireNonNull(action);
+		int[] currentKeys;
+		long[] currentWords;
+		int currentLength;
+		synchronized (this) {
+			currentKeys = this.keys;
+			currentWords = this.words;
+			currentLength = this.length;
+		}
+		for (int index = 0; index < currentLength; index++) {
+			int base = currentKeys[index] << wordShift;
+			long word = currentWords[index];
+			while (word != 0) {
+				action.accept(base + Long.numberOfTrailingZeros(word));
+				word &= (word - 1);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of words of 64 bits used to store the elements.
+	 * 
+	 * @return the number of words of 64 bits used to store the elements
+	 */
+	public synchronized int getNumberOfWords() {
+		return this.length;
+	}
+
+	@Override
+	public synchronized int hashCode() {
+		int ret = 0;
+		for (int index = 0; index < this.length; index++) {
+			ret = (31 * ret) + this.keys[index];
+			ret = (31 * ret) + Long.hashCode(this.words[index]);
+		}
+		return ret;
+	}
+
+	/**
+	 * Tells whether this set contains all the elements of another set. If the
+	 * other set is also a bitmap set, the sets are compared one word at a
+	 * time.
+	 * 
+	 * @param other
+	 *            set of integers
+	 * @return <code>true</code> if and only if this set contains all the
+	 *         elements of the other set
+	 */
+	@Override
+	public boolean includes(IntSet other) {
+		Objects.requireNonNull(other);
+		boolean ret = (this == other);
+		if (!ret && (other instanceof BitmapSet)) {
+			BitmapSet otherSet = (BitmapSet) other;
+			int[] otherKeys;
+			long[] otherWords;
+			int otherLength;
+			synchronized (otherSet) {
+				otherKeys = otherSet.keys;
+				otherWords = otherSet.words;
+				otherLength = otherSet.length;
+			}
+			synchronized (this) {
+				ret = (otherLength <= this.length);
+				int pointer = 0;
+				for (int index = 0; ret && (index < otherLength); index++) {
+					int key = otherKeys[index];
+					while ((pointer < this.length) && (this.keys[pointer] < key)) {
+						pointer++;
+					}
+					ret = (pointer < this.length) && (this.keys[pointer] == key)
+							&& ((otherWords[index] & ~this.words[pointer]) == 0);
+				}
+			}
+		} else if (!ret) {
+			ret = ModifiableIntSet.super.includes(other);
+		}
+		return ret;
+	}
+
+	@Override
+	public synchronized IntIterator intIterator() {
+		return new BitmapSetIterator(this.keys, this.words, this.length);
+	}
+
+	@Override
+	public synchronized boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Override
+	public synchronized Iterator<Integer> iterator() {
+		return new BitmapSetIterator(this.keys, this.words, this.length);
+	}
+
+	@Override
+	public synchronized boolean remove(int elem) {
+		boolean ret = false;
+		int pointer = Arrays.binarySearch(this.keys, 0, this.length, elem >> wordShift);
+		long bit = 1L << (elem & wordMask);
+		if ((pointer >= 0) && ((this.words[pointer] & bit) != 0)) {
+			this.words[pointer] &= ~bit;
+			if (this.words[pointer] == 0) {
+				System.arraycopy(this.keys, pointer + 1, this.keys, pointer, this.length - pointer - 1);
+				System.arraycopy(this.words, pointer + 1, this.words, pointer, this.length - pointer - 1);
+				this.length--;
+			}
+			this.size--;
+			ret = true;
+		}
+		return ret;
+	}
+
+	@Override
+	public synchronized boolean remove(Object o) {
+		Objects.requireNonNull(o);
+		boolean ret = false;
+		if (o instanceof Integer) {
+			ret = remove(((Integer) o).intValue());
+		}
+		return ret;
+	}
+
+	@Override
+	public synchronized boolean removeAll(Collection<?> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized boolean retainAll(Collection<?> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized int size() {
+		return this.size;
+	}
+
+	@Override
+	public synchronized Object[] toArray() {
+		return toArrayList().toArray();
+	}
+
+	@Override
+	public synchronized <T> T[] toArray(T[] a) {
+		return toArrayList().toArray(a);
+	}
+
+	private synchronized ArrayList<Integer> toArrayList() {
+		ArrayList<Integer> ret = new ArrayList<>();
+		forEachInt(elem -> ret.add(elem));
+		return ret;
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuffer sbuf = new StringBuffer();
+		sbuf.append("[ ");
+		forEachInt(elem -> {
+			sbuf.append(elem);
+			sbuf.append(" ");
+		});
+		sbuf.append("]");
+		return sbuf.toString();
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * This class implements an iterator for a bitmap set.
+ * 
+ * @see BitmapSet
+ * 
+ * @author Julian Mendez
+ */
+public class BitmapSetIterator implements Iterator<Integer>, IntIterator {
+
+	private int base = 0;
+	private long current = 0;
+	private final int[] keys;
+	private final int length;
+	private int pointer = 0;
+	private final long[] words;
+
+	/**
+	 * Constructs an iterator for a bitmap set.
+	 * 
+	 * @param k
+	 *            positions of the words of the bitmap set
+	 * @param w
+	 *            words of the bitmap set
+	 * @param l
+	 *            number of words to consider in the arrays
+	 */
+	public BitmapSetIterator(int[] k, long[] w, int l) {
+		Objects.requireNonNull(k);
+		Objects.requireNonNull(w);
+		this.keys = k;
+		this.words = w;
+		this.length = l;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while ((this.current == 0) && (this.pointer < this.length)) {
+			this.base = this.keys[this.pointer] << BitmapSet.wordShift;
+			this.current = this.words[this.pointer];
+			this.pointer++;
+		}
+		return this.current != 0;
+	}
+
+	@Override
+	public Integer next() {
+		return nextInt();
+	}
+
+	@Override
+	public int nextInt() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		int ret = this.base + Long.numberOfTrailingZeros(this.current);
+		this.current &= (this.current - 1);
+		return ret;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+}
@@ -0,0 +1,284 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+/**
+ * This class implements a set of integers using a sorted array of
+ * <code>int</code> that is copied on every modification. The array is never
+ * modified after it is published, so reading the set does not need any lock,
+ * and an iteration always traverses a consistent snapshot. Modifications
+ * replace the array with a compare-and-set operation, which is retried if
+ * another thread modified the set in between.
+ * <p>
+ * This implementation is intended for sets that are read by several threads
+ * much more often than they are modified.
+ * </p>
+ * 
+ * @see ArraySet
+ * 
+ * @author Julian Mendez
+ */
+public class ConcurrentArraySet implements ModifiableIntSet {
+
+	private static final int[] emptyArray = new int[0];
+
+	private final AtomicReference<int[]> array = new AtomicReference<>(emptyArray);
+
+	/**
+	 * Constructs an empty concurrent array set.
+	 */
+	public ConcurrentArraySet() {
+	}
+
+	/**
+	 * Constructs a new concurrent array set containing the elements of the
+	 * given set.
+	 * 
+	 * @param other
+	 *            set of integers
+	 */
+	public ConcurrentArraySet(IntSet other) {
+		Objects.requireNonNull(other);
+		ArraySet elements = new ArraySet(other);
+		int[] newArray = new int[elements.size()];
+		IntIterator it = elements.intIterator();
+		for (int index = 0; it.hasNext(); index++) {
+			newArray[index] = it.nextInt();
+		}
+		this.array.set(newArray);
+	}
+
+	@Override
+	public boolean add(int elem) {
+		boolean ret = false;
+		boolean done = false;
+		while (!done) {
+			int[] current = this.array.get();
+			int pointer = Arrays.binarySearch(current, elem);
+			if (pointer < 0) {
+				pointer = (-1) * (pointer + 1);
+				int[] newArray = new int[current.length + 1];
+				System.arraycopy(current, 0, newArray, 0, pointer);
+				System.arraycopy(current, pointer, newArray, pointer + 1, current.length - pointer);
+				newArray[pointer] = elem;
+				done = this.array.compareAndSet(current, newArray);
+				ret = done;
+			} else {
+				done = true;
+			}
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean add(Integer elem) {
+		Objects.requireNonNull(elem);
+		return add(elem.intValue());
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends Integer> collection) {
+		Objects.requireNonNull(collection);
+		boolean ret = false;
+		for (Integer elem : collection) {
+			ret |= add(elem);
+		}
+		return ret;
+	}
+
+	@Override
+	public void clear() {
+		this.array.set(emptyArray);
+	}
+
+	@Override
+	public boolean contains(int elem) {
+		return Arrays.binarySearch(this.array.get(), elem) >= 0;
+	}
+
+	@Override
+	public boolean contains(Object elem) {
+		Objects.requireNonNull(elem);
+		return contains(((Integer) elem).intValue());
+	}
+
+	@Override
+	public boolean containsAll(Collection<?> collection) {
+		Objects.requireNonNull(collection);
+		return collection.stream().allMatch(elem -> contains(elem));
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		boolean ret = (this == o);
+		if (!ret && (o instanceof ConcurrentArraySet)) {
+			ConcurrentArraySet other = (ConcurrentArraySet) o;
+			ret = Arrays.equals(this.array.get(), other.array.get());
+		}
+		return ret;
+	}
+
+	/**
+	 * Performs the given action for each element of this set, in ascending
+	 * order. The elements are the ones in the set when this method is called.
+	 * 
+	 * @param action
+	 *            action to be performed for each element
+	 */
+	@Override
+	public void forEachInt(IntConsumer action) {
+		Objects.requireNonNull(action);
+		int[] current = this.array.get();
+		for (int index = 0; index < current.length; index++) {
+			action.accept(current[index]);
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(this.array.get());
+	}
+
+	@Override
+	public IntIterator intIterator() {
+		int[] current = this.array.get();
+		return new ArraySetIterator(current, current.length);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.array.get().length == 0;
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+		int[] current = this.array.get();
+		return new ArraySetIterator(current, current.length);
+	}
+
+	@Override
+	public boolean remove(int elem) {
+		boolean ret = false;
+		boolean done = false;
+		while (!done) {
+			int[] current = this.array.get();
+			int pointer = Arrays.binarySearch(current, elem);
+			if (pointer >= 0) {
+				int[] newArray = new int[current.length - 1];
+				System.arraycopy(current, 0, newArray, 0, pointer);
+				System.arraycopy(current, pointer + 1, newArray, pointer, current.length - pointer - 1);
+				done = this.array.compareAndSet(current, newArray);
+				ret = done;
+			} else {
+				done = true;
+			}
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		Objects.requireNonNull(o);
+		boolean ret = false;
+		if (o instanceof Integer) {
+			ret = remove(((Integer) o).intValue());
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int size() {
+		return this.array.get().length;
+	}
+
+	@Override
+	public Object[] toArray() {
+		return toArrayList().toArray();
+	}
+
+	@Override
+	public <T> T[] toArray(T[] a) {
+		return toArrayList().toArray(a);
+	}
+
+	private ArrayList<Integer> toArrayList() {
+		ArrayList<Integer> ret = new ArrayList<>();
+		forEachInt(elem -> ret.add(elem));
+		return ret;
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer sbuf = new StringBuffer();
+		sbuf.append("[ ");
+		forEachInt(elem -> {
+			sbuf.append(elem);
+			sbuf.append(" ");
+		});
+		sbuf.append("]");
+		return sbuf.toString();
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * This interface models a read-only view of a set of integer numbers. The
+ * elements can be queried and traversed without boxing them, and the
+ * traversal does not create new objects.
+ * 
+ * @author Julian Mendez
+ */
+public interface IntSet {
+
+	/**
+	 * Tells whether this set contains the given element.
+	 * 
+	 * @param element
+	 *            element
+	 * @return <code>true</code> if and only if this set contains the given
+	 *         element
+	 */
+	boolean contains(int element);
+
+	/**
+	 * Performs the given action for each element of this set.
+	 * 
+	 * @param action
+	 *            action to be performed for each element
+	 */
+	void forEachInt(IntConsumer action);
+
+	/**
+	 * Tells whether this set contains all the elements of another set.
+	 * 
+	 * @param other
+	 *            set of integers
+	 * @return <code>true</code> if and only if this set contains all the
+	 *         elements of the other set
+	 */
+	default boolean includes(IntSet other) {
+		Objects.requireNonNull(other);
+		boolean ret = true;
+		IntIterator it = other.intIterator();
+		while (ret && it.hasNext()) {
+			ret = contains(it.nextInt());
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns an iterator over the elements of this set.
+	 * 
+	 * @return an iterator over the elements of this set
+	 */
+	IntIterator intIterator();
+
+	/**
+	 * Tells whether this set is empty.
+	 * 
+	 * @return <code>true</code> if and only if this set is empty
+	 */
+	boolean isEmpty();
+
+	/**
+	 * Returns the number of elements of this set.
+	 * 
+	 * @return the number of elements of this set
+	 */
+	int size();
+
+}
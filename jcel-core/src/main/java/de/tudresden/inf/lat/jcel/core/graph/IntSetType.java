@@ -0,0 +1,101 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+/**
+ * This enumeration lists the implementations of the sets of integers used to
+ * store the subsumers of each vertex in a subsumer graph.
+ * 
+ * @author Julian Mendez
+ */
+public enum IntSetType {
+
+	/**
+	 * Elements are kept in a sorted array of <code>int</code>. This is
+	 * compact when each set contains few elements.
+	 * 
+	 * @see ArraySet
+	 */
+	ARRAY,
+
+	/**
+	 * Elements are kept in a bitmap where only the non-empty words are
+	 * stored. This is compact when the sets are large and their elements are
+	 * close to each other, which is the case of the identifiers created by
+	 * the entity manager.
+	 * 
+	 * @see BitmapSet
+	 */
+	BITMAP,
+
+	/**
+	 * Elements are kept in a sorted array of <code>int</code> that is copied
+	 * on every modification. Reading does not need any lock, and traversals
+	 * are not affected by modifications made by other threads.
+	 * 
+	 * @see ConcurrentArraySet
+	 */
+	CONCURRENT_ARRAY;
+
+	/**
+	 * Returns a new empty set of this type.
+	 * 
+	 * @return a new empty set of this type
+	 */
+	public ModifiableIntSet createSet() {
+		ModifiableIntSet ret;
+		if (equals(BITMAP)) {
+			ret = new BitmapSet();
+		} else if (equals(CONCURRENT_ARRAY)) {
+			ret = new ConcurrentArraySet();
+		} else {
+			ret = new ArraySet();
+		}
+		return ret;
+	}
+
+}
@@ -55,18 +55,36 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class implements a binary relation. Its elements are integer numbers.
+ * The related elements are kept in sets of integers, which can also be
+ * traversed as {@link IntSet}s without boxing the elements. The implementation
+ * of these sets is given by an {@link IntSetType}.
  *
  * @author Julian Mendez
  */
 public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 
-	private final Map<Integer, Collection<Integer>> byFirstComp = new ConcurrentHashMap<>();
-	private final Map<Integer, Collection<Integer>> bySecondComp = new ConcurrentHashMap<>();
+	private static final IntSet emptySet = new ArraySet();
+
+	private final Map<Integer, ModifiableIntSet> byFirstComp = new ConcurrentHashMap<>();
+	private final Map<Integer, ModifiableIntSet> bySecondComp = new ConcurrentHashMap<>();
+	private final IntSetType setType;
 
 	/**
 	 * Constructs an empty binary relation.
 	 */
 	public IntegerBinaryRelationImpl() {
+		this(IntSetType.ARRAY);
+	}
+
+	/**
+	 * Constructs an empty binary relation.
+	 * 
+	 * @param type
+	 *            implementation of the sets of related elements
+	 */
+	public IntegerBinaryRelationImpl(IntSetType type) {
+		Objects.requireNonNull(type);
+		this.setType = type;
 	}
 
 	/**
@@ -100,8 +118,8 @@ public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 		ret |= add(first);
 		ret |= add(second);
 
-		Collection<Integer> byFirst = this.byFirstComp.get(first);
-		Collection<Integer> bySecond = this.bySecondComp.get(second);
+		ModifiableIntSet byFirst = this.byFirstComp.get(first);
+		ModifiableIntSet bySecond = this.bySecondComp.get(second);
 
 		boolean found = false;
 		if (byFirst.size() < bySecond.size()) {
@@ -118,10 +136,10 @@ public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 		return ret;
 	}
 
-	private boolean addTo(int elem, Map<Integer, Collection<Integer>> map) {
+	private boolean addTo(int elem, Map<Integer, ModifiableIntSet> map) {
 		boolean ret = false;
 		if (Objects.isNull(map.get(elem))) {
-			map.put(elem, new ArraySet());
+			map.put(elem, this.setType.createSet());
 			ret = true;
 		}
 		return ret;
@@ -130,7 +148,7 @@ public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 	@Override
 	public boolean contains(int first, int second) {
 		boolean ret = false;
-		Collection<Integer> byFirst = this.byFirstComp.get(first);
+		ModifiableIntSet byFirst = this.byFirstComp.get(first);
 		ret = (Objects.nonNull(byFirst)) && byFirst.contains(second);
 		return ret;
 	}
@@ -157,6 +175,23 @@ public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 		return ret;
 	}
 
+	/**
+	 * Returns the elements related to the given element, when the given element
+	 * is the first component. This is a view that can be traversed without
+	 * boxing the elements, and not a copy.
+	 *
+	 * @param first
+	 *            first component
+	 * @return the elements related to the given element
+	 */
+	public IntSet getByFirstSet(int first) {
+		IntSet ret = this.byFirstComp.get(first);
+		if (Objects.isNull(ret)) {
+			ret = emptySet;
+		}
+		return ret;
+	}
+
 	@Override
 	public Collection<Integer> getBySecond(int second) {
 		Collection<Integer> ret = Collections.emptySet();
@@ -167,6 +202,23 @@ public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 		return ret;
 	}
 
+	/**
+	 * Returns the elements related to the given element, when the given element
+	 * is the second component. This is a view that can be traversed without
+	 * boxing the elements, and not a copy.
+	 *
+	 * @param second
+	 *            second component
+	 * @return the elements related to the given element
+	 */
+	public IntSet getBySecondSet(int second) {
+		IntSet ret = this.bySecondComp.get(second);
+		if (Objects.isNull(ret)) {
+			ret = emptySet;
+		}
+		return ret;
+	}
+
 	/**
 	 * Returns the number of elements in the internal maps that are referred by
 	 * the keys, without counting the keys themselves. This method recalculates
@@ -199,6 +251,27 @@ public class IntegerBinaryRelationImpl implements IntegerBinaryRelation {
 		return this.byFirstComp.hashCode();
 	}
 
+	/**
+	 * Removes a pair from this binary relation. The elements are kept in the
+	 * set of elements.
+	 *
+	 * @param first
+	 *            first element
+	 * @param second
+	 *            second element
+	 * @return <code>true</code> if and only if the pair was removed
+	 */
+	public boolean remove(int first, int second) {
+		boolean ret = false;
+		ModifiableIntSet byFirst = this.byFirstComp.get(first);
+		ModifiableIntSet bySecond = this.bySecondComp.get(second);
+		if (Objects.nonNull(byFirst) && Objects.nonNull(bySecond)) {
+			ret = byFirst.remove(second);
+			bySecond.remove(first);
+		}
+		return ret;
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer sbuf = new StringBuffer();
@@ -46,20 +46,31 @@
 
 package de.tudresden.inf.lat.jcel.core.graph;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
  * This class implements the algorithm that computes the class hierarchy from
- * the subsumer set. This implementation starts finding direct subsumees from
- * top, marks them, and then looks for their direct subsumees. In this way, it
- * builds the new graph in levels according to the distance to top.
+ * the subsumer set. This implementation first groups the elements in
+ * equivalence classes, and then finds the direct parents of each equivalence
+ * class independently, optionally in parallel. The children and the bottom
+ * element are updated afterwards. The algorithm is not recursive, so it can
+ * handle arbitrarily deep hierarchies.
  * 
  * @author Julian Mendez
  */
@@ -94,39 +105,83 @@ public class IntegerHierarchicalGraphImpl implements IntegerHierarchicalGraph {
 	 *            a subsumer graph
 	 */
 	public IntegerHierarchicalGraphImpl(IntegerSubsumerGraph origGraph) {
+		this(origGraph, 1);
+	}
+
+	/**
+	 * Constructs a hierarchical graph using another graph. The direct parents
+	 * of the equivalence classes are computed by the given number of threads.
+	 * 
+	 * @param origGraph
+	 *            a subsumer graph
+	 * @param numberOfThreads
+	 *            number of threads, which must be positive
+	 */
+	public IntegerHierarchicalGraphImpl(IntegerSubsumerGraph origGraph, int numberOfThreads) {
 		Objects.requireNonNull(origGraph);
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of threads: " + numberOfThreads);
+		}
 		this.bottomElement = origGraph.getBottomElement();
 		this.topElement = origGraph.getTopElement();
 
 		if (origGraph.containsPair(getTopElement(), getBottomElement())) {
 			computeInconsistentDag(origGraph);
 		} else {
-			computeDag(origGraph);
+			ForkJoinPool pool = (numberOfThreads > 1) ? new ForkJoinPool(numberOfThreads) : null;
+			try {
+				computeDag(origGraph, pool);
+			} finally {
+				if (Objects.nonNull(pool)) {
+					pool.shutdownNow();
+				}
+			}
 			updateParents();
 			updateChildren();
 			updateBottom();
 		}
 	}
 
-	private void computeDag(IntegerSubsumerGraph setS) {
+	private void computeDag(IntegerSubsumerGraph setS, ForkJoinPool pool) {
 		reset(setS.getElements());
-		Set<Integer> sCN = new TreeSet<>();
-		sCN.addAll(setS.getElements());
-		sCN.remove(getBottomElement());
-		sCN.remove(getTopElement());
-
-		Set<Integer> equivToTop = new TreeSet<>();
-		equivToTop.addAll(setS.getSubsumers(getTopElement()));
-		equivToTop.forEach(elem -> makeEquivalent(getTopElement(), elem));
+		setS.getSubsumers(getTopElement()).forEach(elem -> makeEquivalent(getTopElement(), elem));
 
-		Set<Integer> classified = new TreeSet<>();
-		classified.addAll(equivToTop);
+		Integer[] elements = this.representative.keySet().toArray(new Integer[0]);
+		Integer[] equivalentElements = new Integer[elements.length];
+		forEachIndex(pool, elements.length, index -> {
+			equivalentElements[index] = findEquivalent(setS, elements[index]);
+		});
+		for (int index = 0; index < elements.length; index++) {
+			makeEquivalent(elements[index], equivalentElements[index]);
+		}
 
-		sCN.forEach(cA -> {
-			if (!classified.contains(cA)) {
-				dagClassify(cA, classified, setS);
-			}
+		Map<Integer, Integer> subsumerCount = new HashMap<>();
+		for (Integer elem : elements) {
+			subsumerCount.put(elem, setS.getSubsumers(elem).size());
+		}
+		Set<Integer> equivToTop = this.equivalents.get(this.representative.get(getTopElement()));
+		Set<Integer> equivToBottom = this.equivalents.get(this.representative.get(getBottomElement()));
+		Integer[] classified = this.equivalents.keySet().stream()
+				.filter(rep -> !equivToTop.contains(rep) && !equivToBottom.contains(rep)).toArray(Integer[]::new);
+		List<List<Integer>> directParents = new ArrayList<>(Collections.nCopies(classified.length, null));
+		forEachIndex(pool, classified.length, index -> {
+			directParents.set(index, findDirectParents(setS, classified[index], subsumerCount));
 		});
+		for (int index = 0; index < classified.length; index++) {
+			Integer cA = classified[index];
+			this.parents.put(cA, new TreeSet<>(directParents.get(index)));
+			this.parents.get(cA).forEach(cB -> this.children.get(cB).add(cA));
+		}
+
+		Optional<Integer> unsatisfiable = equivToBottom.stream().filter(elem -> !elem.equals(getBottomElement()))
+				.findFirst();
+		if (unsatisfiable.isPresent()) {
+			Set<Integer> candidates = new TreeSet<>();
+			candidates.addAll(this.representative.keySet());
+			candidates.removeAll(equivToBottom);
+			candidates.add(getTopElement());
+			dagInsert(unsatisfiable.get(), candidates);
+		}
 	}
 
 	private void computeInconsistentDag(IntegerSubsumerGraph setS) {
@@ -135,30 +190,6 @@ public class IntegerHierarchicalGraphImpl implements IntegerHierarchicalGraph {
 		elements.forEach(elem -> makeEquivalent(getBottomElement(), elem));
 	}
 
-	private void dagClassify(Integer cA, Set<Integer> classified, IntegerSubsumerGraph setS) {
-		Set<Integer> candidates = new TreeSet<>();
-		candidates.add(getTopElement());
-		Set<Integer> subsumersA = new TreeSet<>();
-		subsumersA.addAll(setS.getSubsumers(cA));
-		subsumersA.remove(cA);
-		subsumersA.remove(getTopElement());
-		subsumersA.forEach(cB -> {
-			Set<Integer> subsumersB = new TreeSet<>();
-			subsumersB.addAll(setS.getSubsumers(cB));
-			if (subsumersB.contains(cA)) {
-				classified.add(cB);
-				makeEquivalent(cA, cB);
-			} else {
-				if (!classified.contains(cB)) {
-					dagClassify(cB, classified, setS);
-				}
-				candidates.add(cB);
-			}
-		});
-		dagInsert(cA, candidates);
-		classified.add(cA);
-	}
-
 	private void dagInsert(Integer cA, Set<Integer> candidates) {
 		Set<Integer> marked = new TreeSet<>();
 		candidates.forEach(cB -> {
@@ -238,6 +269,77 @@ public class IntegerHierarchicalGraphImpl implements IntegerHierarchicalGraph {
 		return ret;
 	}
 
+	/**
+	 * Returns the direct parents of an element that is neither equivalent to
+	 * top nor to bottom. These are the subsumers that are not equivalent to the
+	 * element and that do not strictly subsume another of these subsumers.
+	 * Candidates are visited from the most specific to the most general one,
+	 * since a strict subsumer always has fewer subsumers than its subsumee.
+	 * This only reads the subsumer graph and the equivalence classes, so the
+	 * elements can be processed independently of each other.
+	 */
+	private List<Integer> findDirectParents(IntegerSubsumerGraph setS, Integer cA,
+			Map<Integer, Integer> subsumerCount) {
+		Set<Integer> equivToA = this.equivalents.get(cA);
+		List<Integer> candidates = new ArrayList<>();
+		candidates.add(getTopElement());
+		setS.getSubsumers(cA).forEach(cB -> {
+			if (!cB.equals(getTopElement()) && !equivToA.contains(cB)) {
+				candidates.add(cB);
+			}
+		});
+		candidates.sort(Comparator.comparing((Integer elem) -> subsumerCount.getOrDefault(elem, 0)).reversed()
+				.thenComparing(Comparator.naturalOrder()));
+
+		List<Integer> ret = new ArrayList<>();
+		candidates.forEach(cB -> {
+			boolean subsumesParent = ret.stream()
+					.anyMatch(cX -> setS.containsPair(cX, cB) && !setS.containsPair(cB, cX));
+			if (!subsumesParent) {
+				ret.add(cB);
+			}
+		});
+		return ret;
+	}
+
+	/**
+	 * Returns an element that is equivalent to the given one. Any element
+	 * subsumed by bottom is equivalent to bottom.
+	 */
+	private Integer findEquivalent(IntegerSubsumerGraph setS, Integer cA) {
+		Integer ret = cA;
+		if (setS.containsPair(cA, getBottomElement())) {
+			ret = getBottomElement();
+		} else {
+			for (Integer cB : setS.getSubsumers(cA)) {
+				if (cB < ret && setS.containsPair(cB, cA)) {
+					ret = cB;
+				}
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Applies an action to each index from 0 (inclusive) to size (exclusive).
+	 * If the pool is <code>null</code>, the indices are visited sequentially
+	 * in the calling thread.
+	 */
+	private void forEachIndex(ForkJoinPool pool, int size, IntConsumer action) {
+		if (Objects.isNull(pool)) {
+			IntStream.range(0, size).forEach(action);
+		} else {
+			try {
+				pool.submit(() -> IntStream.range(0, size).parallel().forEach(action)).get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+	}
+
 	@Override
 	public Set<Integer> getAncestors(Integer orig) {
 		Objects.requireNonNull(orig);
@@ -54,20 +54,39 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * This class implements a map of binary relations.
+ * This class implements a map of binary relations. The relation identifiers
+ * of each element are kept in sets of integers, which can also be traversed as
+ * {@link IntSet}s without boxing the elements. The implementation of these
+ * sets, and of the sets kept by each binary relation, is given by an
+ * {@link IntSetType}.
  *
  * @author Julian Mendez
  */
 public class IntegerRelationMapImpl implements IntegerRelationMap {
 
+	private static final IntSet emptySet = new ArraySet();
+
 	private final Map<Integer, IntegerBinaryRelationImpl> relationMap = new ConcurrentHashMap<>();
-	private final Map<Integer, Collection<Integer>> relationSetByFirst = new ConcurrentHashMap<>();
-	private final Map<Integer, Collection<Integer>> relationSetBySecond = new ConcurrentHashMap<>();
+	private final Map<Integer, ModifiableIntSet> relationSetByFirst = new ConcurrentHashMap<>();
+	private final Map<Integer, ModifiableIntSet> relationSetBySecond = new ConcurrentHashMap<>();
+	private final IntSetType setType;
 
 	/**
 	 * Constructs an empty map of binary relations.
 	 */
 	public IntegerRelationMapImpl() {
+		this(IntSetType.ARRAY);
+	}
+
+	/**
+	 * Constructs an empty map of binary relations.
+	 * 
+	 * @param type
+	 *            implementation of the sets of integers
+	 */
+	public IntegerRelationMapImpl(IntSetType type) {
+		Objects.requireNonNull(type);
+		this.setType = type;
 	}
 
 	/**
@@ -81,7 +100,7 @@ public class IntegerRelationMapImpl implements IntegerRelationMap {
 	public boolean add(int relationId) {
 		boolean ret = false;
 		if (!this.relationMap.containsKey(relationId)) {
-			this.relationMap.put(relationId, new IntegerBinaryRelationImpl());
+			this.relationMap.put(relationId, new IntegerBinaryRelationImpl(this.setType));
 			ret = true;
 		}
 		return ret;
@@ -102,23 +121,23 @@ public class IntegerRelationMapImpl implements IntegerRelationMap {
 		boolean ret = false;
 		IntegerBinaryRelationImpl relation = this.relationMap.get(relationId);
 		if (Objects.isNull(relation)) {
-			relation = new IntegerBinaryRelationImpl();
+			relation = new IntegerBinaryRelationImpl(this.setType);
 			this.relationMap.put(relationId, relation);
 			ret = true;
 		}
 		ret |= relation.add(first, second);
 
-		Collection<Integer> byFirst = this.relationSetByFirst.get(first);
+		ModifiableIntSet byFirst = this.relationSetByFirst.get(first);
 		if (Objects.isNull(byFirst)) {
-			byFirst = new ArraySet();
+			byFirst = this.setType.createSet();
 			this.relationSetByFirst.put(first, byFirst);
 			ret = true;
 		}
 		ret |= byFirst.add(relationId);
 
-		Collection<Integer> bySecond = this.relationSetBySecond.get(second);
+		ModifiableIntSet bySecond = this.relationSetBySecond.get(second);
 		if (Objects.isNull(bySecond)) {
-			bySecond = new ArraySet();
+			bySecond = this.setType.createSet();
 			this.relationSetBySecond.put(second, bySecond);
 			ret = true;
 		}
@@ -169,6 +188,26 @@ public class IntegerRelationMapImpl implements IntegerRelationMap {
 		return ret;
 	}
 
+	/**
+	 * Returns the elements related to the given element by the given relation,
+	 * when the given element is the first component. This is a view that can
+	 * be traversed without boxing the elements, and not a copy.
+	 *
+	 * @param relationId
+	 *            relation identifier
+	 * @param first
+	 *            first component
+	 * @return the elements related to the given element
+	 */
+	public IntSet getByFirstSet(int relationId, int first) {
+		IntSet ret = emptySet;
+		IntegerBinaryRelationImpl relation = this.relationMap.get(relationId);
+		if (Objects.nonNull(relation)) {
+			ret = relation.getByFirstSet(first);
+		}
+		return ret;
+	}
+
 	@Override
 	public Collection<Integer> getBySecond(int relationId, int second) {
 		Collection<Integer> ret = Collections.emptySet();
@@ -179,6 +218,26 @@ public class IntegerRelationMapImpl implements IntegerRelationMap {
 		return ret;
 	}
 
+	/**
+	 * Returns the elements related to the given element by the given relation,
+	 * when the given element is the second component. This is a view that can
+	 * be traversed without boxing the elements, and not a copy.
+	 *
+	 * @param relationId
+	 *            relation identifier
+	 * @param second
+	 *            second component
+	 * @return the elements related to the given element
+	 */
+	public IntSet getBySecondSet(int relationId, int second) {
+		IntSet ret = emptySet;
+		IntegerBinaryRelationImpl relation = this.relationMap.get(relationId);
+		if (Objects.nonNull(relation)) {
+			ret = relation.getBySecondSet(second);
+		}
+		return ret;
+	}
+
 	/**
 	 * Returns the number of elements in the internal maps that are referred by
 	 * the keys, without counting the keys themselves. This method recalculates
@@ -219,6 +278,24 @@ public class IntegerRelationMapImpl implements IntegerRelationMap {
 		return Collections.unmodifiableCollection(ret);
 	}
 
+	/**
+	 * Returns the identifiers of the relations that have the given element as
+	 * first component. This is a view that can be traversed without boxing the
+	 * elements, and not a copy.
+	 *
+	 * @param first
+	 *            first component
+	 * @return the identifiers of the relations that have the given element as
+	 *         first component
+	 */
+	public IntSet getRelationSetByFirst(int first) {
+		IntSet ret = this.relationSetByFirst.get(first);
+		if (Objects.isNull(ret)) {
+			ret = emptySet;
+		}
+		return ret;
+	}
+
 	@Override
 	public Collection<Integer> getRelationsBySecond(int second) {
 		Collection<Integer> ret = this.relationSetBySecond.get(second);
@@ -228,11 +305,59 @@ public class IntegerRelationMapImpl implements IntegerRelationMap {
 		return Collections.unmodifiableCollection(ret);
 	}
 
+	/**
+	 * Returns the identifiers of the relations that have the given element as
+	 * second component. This is a view that can be traversed without boxing
+	 * the elements, and not a copy.
+	 *
+	 * @param second
+	 *            second component
+	 * @return the identifiers of the relations that have the given element as
+	 *         second component
+	 */
+	public IntSet getRelationSetBySecond(int second) {
+		IntSet ret = this.relationSetBySecond.get(second);
+		if (Objects.isNull(ret)) {
+			ret = emptySet;
+		}
+		return ret;
+	}
+
 	@Override
 	public int hashCode() {
 		return this.relationMap.hashCode();
 	}
 
+	/**
+	 * Removes a pair from a binary relation. The relation identifier is
+	 * removed from the relations of an element when the element is no longer
+	 * related by that relation.
+	 *
+	 * @param relationId
+	 *            relation id
+	 * @param first
+	 *            first component
+	 * @param second
+	 *            second component
+	 * @return <code>true</code> if and only if the pair was removed
+	 */
+	public boolean remove(int relationId, int first, int second) {
+		boolean ret = false;
+		IntegerBinaryRelationImpl relation = this.relationMap.get(relationId);
+		if (Objects.nonNull(relation)) {
+			ret = relation.remove(first, second);
+			if (ret) {
+				if (relation.getByFirst(first).isEmpty()) {
+					this.relationSetByFirst.get(first).remove(relationId);
+				}
+				if (relation.getBySecond(second).isEmpty()) {
+					this.relationSetBySecond.get(second).remove(relationId);
+				}
+			}
+		}
+		return ret;
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer sbuf = new StringBuffer();
@@ -53,20 +53,52 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
 
 /**
  * This class implements a subsumer graph. This implementation keeps a set of
  * subsumers for each vertex. It also considers bottom and its equivalents as
- * special cases.
+ * special cases. The subsumers are kept in sets of integers, which can also be
+ * traversed as {@link IntSet}s without boxing the elements. The implementation
+ * of these sets is given by an {@link IntSetType}.
  *
  * @author Julian Mendez
  */
 public class IntegerSubsumerGraphImpl implements IntegerSubsumerGraph {
 
+	private final IntSet allElements = new IntSet() {
+
+		@Override
+		public boolean contains(int element) {
+			return IntegerSubsumerGraphImpl.this.setS.containsKey(element);
+		}
+
+		@Override
+		public void forEachInt(IntConsumer action) {
+			IntegerSubsumerGraphImpl.this.setS.keySet().forEach(elem -> action.accept(elem));
+		}
+
+		@Override
+		public IntIterator intIterator() {
+			return new ArraySet(this).intIterator();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return IntegerSubsumerGraphImpl.this.setS.isEmpty();
+		}
+
+		@Override
+		public int size() {
+			return IntegerSubsumerGraphImpl.this.setS.size();
+		}
+
+	};
 	private final int bottomElement;
-	private final Collection<Integer> emptyCollection = Collections.unmodifiableCollection(new ArraySet());
+	private final ModifiableIntSet emptyCollection = new ArraySet();
 	private final Set<Integer> equivToBottom = new HashSet<>();
-	private final Map<Integer, Collection<Integer>> setS = new ConcurrentHashMap<>();
+	private final Map<Integer, ModifiableIntSet> setS = new ConcurrentHashMap<>();
+	private final IntSetType setType;
 	private final int topElement;
 
 	/**
@@ -78,13 +110,63 @@ public class IntegerSubsumerGraphImpl implements IntegerSubsumerGraph {
 	 *            top class identifier
 	 */
 	public IntegerSubsumerGraphImpl(int bottom, int top) {
+		this(bottom, top, IntSetType.ARRAY);
+	}
+
+	/**
+	 * Constructs an empty subsumer graph.
+	 *
+	 * @param bottom
+	 *            bottom class identifier
+	 * @param top
+	 *            top class identifier
+	 * @param type
+	 *            implementation of the sets of subsumers
+	 */
+	public IntegerSubsumerGraphImpl(int bottom, int top, IntSetType type) {
+		Objects.requireNonNull(type);
 		this.bottomElement = bottom;
 		this.topElement = top;
+		this.setType = type;
 		this.setS.put(this.bottomElement, this.emptyCollection);
-		this.setS.put(this.topElement, Collections.synchronizedCollection(new ArraySet()));
+		this.setS.put(this.topElement, createSet());
 		this.equivToBottom.add(this.bottomElement);
 	}
 
+	/**
+	 * Constructs a subsumer graph containing only the given elements of
+	 * another subsumer graph. The other graph is not modified. The bottom and
+	 * top elements are always kept. If the other graph is an instance of this
+	 * class, the same implementation of the sets of subsumers is used.
+	 *
+	 * @param graph
+	 *            subsumer graph to be copied
+	 * @param elements
+	 *            elements to be retained
+	 */
+	public IntegerSubsumerGraphImpl(IntegerSubsumerGraph graph, Collection<Integer> elements) {
+		this(graph.getBottomElement(), graph.getTopElement(), (graph instanceof IntegerSubsumerGraphImpl)
+				? ((IntegerSubsumerGraphImpl) graph).getSetType() : IntSetType.ARRAY);
+		Objects.requireNonNull(elements);
+		graph.getElements().forEach(key -> {
+			if ((key != this.bottomElement) && elements.contains(key)) {
+				Collection<Integer> subsumers = graph.getSubsumers(key);
+				if (subsumers.contains(this.bottomElement)) {
+					this.equivToBottom.add(key);
+					this.setS.put(key, this.emptyCollection);
+				} else {
+					ModifiableIntSet value = createSet();
+					subsumers.forEach(elem -> {
+						if (elements.contains(elem)) {
+							value.add(elem);
+						}
+					});
+					this.setS.put(key, value);
+				}
+			}
+		});
+	}
+
 	/**
 	 * Adds a new vertex to the graph.
 	 *
@@ -95,7 +177,7 @@ public class IntegerSubsumerGraphImpl implements IntegerSubsumerGraph {
 	public boolean add(int vertex) {
 		boolean ret = false;
 		if (!this.setS.containsKey(vertex)) {
-			this.setS.put(vertex, Collections.synchronizedCollection(new ArraySet()));
+			this.setS.put(vertex, createSet());
 			ret = true;
 		}
 		return ret;
@@ -120,7 +202,7 @@ public class IntegerSubsumerGraphImpl implements IntegerSubsumerGraph {
 			} else {
 				ret |= add(subId);
 				ret |= add(superId);
-				Collection<Integer> set = this.setS.get(subId);
+				ModifiableIntSet set = this.setS.get(subId);
 				if (!set.contains(superId)) {
 					ret |= set.add(superId);
 				}
@@ -131,7 +213,11 @@ public class IntegerSubsumerGraphImpl implements IntegerSubsumerGraph {
 
 	@Override
 	public boolean containsPair(int subsumee, int subsumer) {
-		return Objects.nonNull(getSubsumers(subsumee)) && getSubsumers(subsumee).contains(subsumer);
+		return getSubsumerSet(subsumee).contains(subsumer);
+	}
+
+	private ModifiableIntSet createSet() {
+		return this.setType.createSet();
 	}
 
 	@Override
@@ -170,6 +256,37 @@ public class IntegerSubsumerGraphImpl implements IntegerSubsumerGraph {
 		return Collections.unmodifiableSet(this.setS.keySet());
 	}
 
+	/**
+	 * Returns the implementation of the sets of subsumers.
+	 *
+	 * @return the implementation of the sets of subsumers
+	 */
+	public IntSetType getSetType() {
+		return this.setType;
+	}
+
+	/**
+	 * Returns the subsumers of a vertex as a set of integers that can be
+	 * traversed without boxing the elements. This is a view of the subsumers,
+	 * and not a copy.
+	 *
+	 * @param vertex
+	 *            vertex
+	 * @return the subsumers of a vertex
+	 */
+	public IntSet getSubsumerSet(int vertex) {
+		IntSet ret;
+		if (this.equivToBottom.contains(vertex)) {
+			ret = this.allElements;
+		} else {
+			ret = this.setS.get(vertex);
+			if (Objects.isNull(ret)) {
+				ret = this.emptyCollection;
+			}
+		}
+		return ret;
+	}
+
 	@Override
 	public Collection<Integer> getSubsumers(int vertex) {
 		Collection<Integer> ret;
@@ -196,6 +313,28 @@ public class IntegerSubsumerGraphImpl implements IntegerSubsumerGraph {
 		return this.setS.hashCode();
 	}
 
+	/**
+	 * Removes the relation between a subsumee and a subsumer. The vertices are
+	 * kept in the graph. A vertex that is equivalent to bottom is not
+	 * modified, since all the vertices are its subsumers.
+	 *
+	 * @param subId
+	 *            the subsumee
+	 * @param superId
+	 *            the subsumer
+	 * @return <code>true</code> if and only if the relation was removed
+	 */
+	public boolean removeAncestor(int subId, int superId) {
+		boolean ret = false;
+		if (!this.equivToBottom.contains(subId)) {
+			ModifiableIntSet set = this.setS.get(subId);
+			if (Objects.nonNull(set)) {
+				ret = set.remove(superId);
+			}
+		}
+		return ret;
+	}
+
 	/**
 	 * Retains only the elements contained in the collection.
 	 *
@@ -208,7 +347,7 @@ public class IntegerSubsumerGraphImpl implements IntegerSubsumerGraph {
 		keySet.addAll(this.setS.keySet());
 		keySet.forEach(key -> {
 			if (collection.contains(key)) {
-				Collection<Integer> value = Collections.synchronizedCollection(new ArraySet());
+				ModifiableIntSet value = createSet();
 				getSubsumers(key).forEach(elem -> {
 					if (collection.contains(elem)) {
 						value.add(elem);
@@ -0,0 +1,514 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+/**
+ * This class implements an unmodifiable hierarchical graph that is stored in
+ * arrays of <code>int</code>. Each equivalence class of vertices is a node. The
+ * equivalents, parents, children, ancestors, and descendants of all the nodes
+ * are stored consecutively in one array for each relation, and an array of
+ * offsets tells where the elements of each node start, as in the compressed
+ * sparse row (CSR) format. The ancestors and descendants, which are the
+ * vertices reachable through parents and through children respectively, are
+ * computed when the taxonomy is created, so that every query returns a view of
+ * these arrays. Subsumption between two vertices is tested with a binary
+ * search in the sorted ancestors of the subsumee.
+ * 
+ * @author Julian Mendez
+ */
+public class IntegerTaxonomy implements IntegerHierarchicalGraph {
+
+	private static final int denseIdentifierFactor = 4;
+	private static final int denseIdentifierMargin = 1024;
+
+	private final int[] ancestorOffset;
+	private final int[] ancestors;
+	private final Integer bottomElement;
+	private final int bottomNode;
+	private final int[] childOffset;
+	private final int[] children;
+	private final int[] descendantOffset;
+	private final int[] descendants;
+	private final int[] elements;
+	private final int[] equivalentOffset;
+	private final int[] equivalents;
+	private final int[] nodeOfElement;
+	private final int[] nodeOfIdentifier;
+	private final int[] parentOffset;
+	private final int[] parents;
+	private final Integer topElement;
+	private final int topNode;
+
+	/**
+	 * Constructs a new taxonomy using a hierarchical graph. The parents and
+	 * children of a node are the parents and children of all the vertices in
+	 * its equivalence class.
+	 * 
+	 * @param graph
+	 *            hierarchical graph
+	 * @throws IllegalArgumentException
+	 *             if the graph has a cycle of vertices that are not equivalent
+	 */
+	public IntegerTaxonomy(IntegerHierarchicalGraph graph) {
+		Objects.requireNonNull(graph);
+		this.bottomElement = graph.getBottomElement();
+		this.topElement = graph.getTopElement();
+		this.elements = toArray(graph.getElements());
+
+		this.nodeOfElement = new int[this.elements.length];
+		Arrays.fill(this.nodeOfElement, -1);
+		List<int[]> members = new ArrayList<>();
+		for (int position = 0; position < this.elements.length; position++) {
+			if (this.nodeOfElement[position] == -1) {
+				int node = members.size();
+				int[] equivalentElements = toArray(graph.getEquivalents(this.elements[position]));
+				for (int elem : equivalentElements) {
+					this.nodeOfElement[Arrays.binarySearch(this.elements, elem)] = node;
+				}
+				members.add(equivalentElements);
+			}
+		}
+
+		this.nodeOfIdentifier = createNodeTable(this.elements, this.nodeOfElement);
+
+		int[][] equivalentElements = members.toArray(new int[members.size()][]);
+		int[][] parentElements = new int[equivalentElements.length][];
+		int[][] childElements = new int[equivalentElements.length][];
+		for (int node = 0; node < equivalentElements.length; node++) {
+			Set<Integer> parentSet = new TreeSet<>();
+			Set<Integer> childSet = new TreeSet<>();
+			for (int elem : equivalentElements[node]) {
+				parentSet.addAll(graph.getParents(elem));
+				childSet.addAll(graph.getChildren(elem));
+			}
+			parentElements[node] = toArray(parentSet);
+			childElements[node] = toArray(childSet);
+		}
+
+		this.equivalentOffset = computeOffsets(equivalentElements);
+		this.equivalents = concatenate(equivalentElements);
+		this.parentOffset = computeOffsets(parentElements);
+		this.parents = concatenate(parentElements);
+		this.childOffset = computeOffsets(childElements);
+		this.children = concatenate(childElements);
+
+		int[][] ancestorElements = computeClosure(parentElements);
+		this.ancestorOffset = computeOffsets(ancestorElements);
+		this.ancestors = concatenate(ancestorElements);
+		int[][] descendantElements = computeClosure(childElements);
+		this.descendantOffset = computeOffsets(descendantElements);
+		this.descendants = concatenate(descendantElements);
+
+		this.bottomNode = findNode(this.bottomElement);
+		this.topNode = findNode(this.topElement);
+	}
+
+	/**
+	 * Constructs a taxonomy that was written with {@link #write(DataOutput)}.
+	 * 
+	 * @param input
+	 *            input positioned at the beginning of the taxonomy
+	 * @throws IOException
+	 *             if something goes wrong with the input
+	 */
+	private IntegerTaxonomy(DataInput input) throws IOException {
+		this.bottomElement = input.readInt();
+		this.topElement = input.readInt();
+		this.elements = readIntArray(input);
+		this.nodeOfElement = readIntArray(input);
+		this.equivalentOffset = readIntArray(input);
+		this.equivalents = readIntArray(input);
+		this.parentOffset = readIntArray(input);
+		this.parents = readIntArray(input);
+		this.childOffset = readIntArray(input);
+		this.children = readIntArray(input);
+		this.ancestorOffset = readIntArray(input);
+		this.ancestors = readIntArray(input);
+		this.descendantOffset = readIntArray(input);
+		this.descendants = readIntArray(input);
+		this.nodeOfIdentifier = createNodeTable(this.elements, this.nodeOfElement);
+		this.bottomNode = findNode(this.bottomElement);
+		this.topNode = findNode(this.topElement);
+	}
+
+	/**
+	 * Computes, for each node, the vertices that are reachable from its
+	 * successors, including the successors themselves. This is done without
+	 * recursion: each node is processed after the nodes of all its successors,
+	 * which is possible because the relation has no cycles.
+	 */
+	private int[][] computeClosure(int[][] successors) {
+		int size = successors.length;
+		int[][] successorNodes = toNodes(successors);
+		int[] predecessorOffset = new int[size + 1];
+		for (int[] nodes : successorNodes) {
+			for (int successor : nodes) {
+				predecessorOffset[successor + 1]++;
+			}
+		}
+		for (int node = 0; node < size; node++) {
+			predecessorOffset[node + 1] += predecessorOffset[node];
+		}
+		int[] predecessors = new int[predecessorOffset[size]];
+		int[] cursor = Arrays.copyOf(predecessorOffset, size);
+		for (int node = 0; node < size; node++) {
+			for (int successor : successorNodes[node]) {
+				predecessors[cursor[successor]++] = node;
+			}
+		}
+
+		int[] pending = new int[size];
+		int[] queue = new int[size];
+		int tail = 0;
+		for (int node = 0; node < size; node++) {
+			pending[node] = successorNodes[node].length;
+			if (pending[node] == 0) {
+				queue[tail++] = node;
+			}
+		}
+
+		int[][] ret = new int[size][];
+		int[] visited = new int[this.elements.length];
+		Arrays.fill(visited, -1);
+		int[] buffer = new int[this.elements.length];
+		for (int head = 0; head < tail; head++) {
+			int node = queue[head];
+			int count = 0;
+			for (int successor : successors[node]) {
+				int position = Arrays.binarySearch(this.elements, successor);
+				if (visited[position] != node) {
+					visited[position] = node;
+					buffer[count++] = successor;
+				}
+				for (int reachable : ret[this.nodeOfElement[position]]) {
+					int reachablePosition = Arrays.binarySearch(this.elements, reachable);
+					if (visited[reachablePosition] != node) {
+						visited[reachablePosition] = node;
+						buffer[count++] = reachable;
+					}
+				}
+			}
+			ret[node] = Arrays.copyOf(buffer, count);
+			Arrays.sort(ret[node]);
+			for (int index = predecessorOffset[node]; index < predecessorOffset[node + 1]; index++) {
+				int predecessor = predecessors[index];
+				pending[predecessor]--;
+				if (pending[predecessor] == 0) {
+					queue[tail++] = predecessor;
+				}
+			}
+		}
+		if (tail < size) {
+			throw new IllegalArgumentException("The graph has a cycle of vertices that are not equivalent.");
+		}
+		return ret;
+	}
+
+	private static int[] computeOffsets(int[][] arrays) {
+		int[] ret = new int[arrays.length + 1];
+		for (int index = 0; index < arrays.length; index++) {
+			ret[index + 1] = ret[index] + arrays[index].length;
+		}
+		return ret;
+	}
+
+	private static int[] concatenate(int[][] arrays) {
+		return Arrays.stream(arrays).flatMapToInt(IntStream::of).toArray();
+	}
+
+	/**
+	 * Returns a table from identifiers to nodes if the identifiers are dense
+	 * enough, or <code>null</code> otherwise.
+	 */
+	private static int[] createNodeTable(int[] elements, int[] nodeOfElement) {
+		int[] ret = null;
+		if (elements.length > 0 && elements[0] >= 0 && elements[elements.length - 1] < (long) denseIdentifierFactor
+				* elements.length + denseIdentifierMargin) {
+			ret = new int[elements[elements.length - 1] + 1];
+			Arrays.fill(ret, -1);
+			for (int position = 0; position < elements.length; position++) {
+				ret[elements[position]] = nodeOfElement[position];
+			}
+		}
+		return ret;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		boolean ret = (this == o);
+		if (!ret && (o instanceof IntegerHierarchicalGraph)) {
+			IntegerHierarchicalGraph other = (IntegerHierarchicalGraph) o;
+			ret = getBottomElement().equals(other.getBottomElement()) && getTopElement().equals(other.getTopElement())
+					&& getElements().equals(other.getElements());
+
+			ret = ret && getElements().stream()
+					.allMatch(elem -> getChildren(elem).equals(other.getChildren(elem))
+							&& getParents(elem).equals(other.getParents(elem))
+							&& getEquivalents(elem).equals(other.getEquivalents(elem)));
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the node of a vertex, or -1 if the vertex is not in this
+	 * taxonomy.
+	 */
+	private int findNode(int vertex) {
+		int ret = -1;
+		if (Objects.nonNull(this.nodeOfIdentifier)) {
+			if (vertex >= 0 && vertex < this.nodeOfIdentifier.length) {
+				ret = this.nodeOfIdentifier[vertex];
+			}
+		} else {
+			int position = Arrays.binarySearch(this.elements, vertex);
+			if (position >= 0) {
+				ret = this.nodeOfElement[position];
+			}
+		}
+		return ret;
+	}
+
+	@Override
+	public Set<Integer> getAncestors(Integer vertex) {
+		Objects.requireNonNull(vertex);
+		return getSlice(this.ancestors, this.ancestorOffset, getNode(vertex));
+	}
+
+	@Override
+	public Integer getBottomElement() {
+		return this.bottomElement;
+	}
+
+	@Override
+	public Set<Integer> getChildren(Integer vertex) {
+		Objects.requireNonNull(vertex);
+		return getSlice(this.children, this.childOffset, getNode(vertex));
+	}
+
+	@Override
+	public Set<Integer> getDescendants(Integer vertex) {
+		Objects.requireNonNull(vertex);
+		return getSlice(this.descendants, this.descendantOffset, getNode(vertex));
+	}
+
+	@Override
+	public Set<Integer> getElements() {
+		return new ArraySliceSet(this.elements, 0, this.elements.length);
+	}
+
+	@Override
+	public Set<Integer> getEquivalents(Integer vertex) {
+		Objects.requireNonNull(vertex);
+		return getSlice(this.equivalents, this.equivalentOffset, getNode(vertex));
+	}
+
+	private int getNode(int vertex) {
+		int ret = findNode(vertex);
+		if (ret == -1) {
+			throw new IllegalArgumentException("Unknown vertex: " + vertex);
+		}
+		return ret;
+	}
+
+	@Override
+	public Set<Integer> getParents(Integer vertex) {
+		Objects.requireNonNull(vertex);
+		return getSlice(this.parents, this.parentOffset, getNode(vertex));
+	}
+
+	private ArraySliceSet getSlice(int[] array, int[] offset, int node) {
+		return new ArraySliceSet(array, offset[node], offset[node + 1]);
+	}
+
+	@Override
+	public Integer getTopElement() {
+		return this.topElement;
+	}
+
+	/**
+	 * Returns the hash code of the map from each vertex to its parents, which
+	 * is also the hash code of an {@link IntegerHierarchicalGraphImpl} with the
+	 * same parents.
+	 */
+	@Override
+	public int hashCode() {
+		int ret = 0;
+		for (int position = 0; position < this.elements.length; position++) {
+			int node = this.nodeOfElement[position];
+			int parentHashCode = 0;
+			for (int index = this.parentOffset[node]; index < this.parentOffset[node + 1]; index++) {
+				parentHashCode += this.parents[index];
+			}
+			ret += this.elements[position] ^ parentHashCode;
+		}
+		return ret;
+	}
+
+	/**
+	 * Tells whether a vertex is subsumed by another vertex. This happens if
+	 * both vertices are equivalent, the subsumee is equivalent to bottom, the
+	 * subsumer is equivalent to top, or the subsumer is an ancestor of the
+	 * subsumee. This method does not create any object.
+	 * 
+	 * @param subsumee
+	 *            subsumee
+	 * @param subsumer
+	 *            subsumer
+	 * @return <code>true</code> if and only if the subsumee is subsumed by the
+	 *         subsumer
+	 * @throws IllegalArgumentException
+	 *             if any of the vertices is not in this taxonomy
+	 */
+	public boolean isSubsumedBy(int subsumee, int subsumer) {
+		int subsumeeNode = getNode(subsumee);
+		int subsumerNode = getNode(subsumer);
+		boolean ret = (subsumeeNode == subsumerNode) || (subsumeeNode == this.bottomNode)
+				|| (subsumerNode == this.topNode) || (Arrays.binarySearch(this.ancestors,
+						this.ancestorOffset[subsumeeNode], this.ancestorOffset[subsumeeNode + 1], subsumer) >= 0);
+		return ret;
+	}
+
+	private static int[] toArray(Set<Integer> set) {
+		return set.stream().mapToInt(Integer::intValue).sorted().toArray();
+	}
+
+	/**
+	 * Replaces each element by the node of its equivalence class, without
+	 * repetitions.
+	 */
+	private int[][] toNodes(int[][] elementArrays) {
+		int[][] ret = new int[elementArrays.length][];
+		for (int node = 0; node < elementArrays.length; node++) {
+			ret[node] = Arrays.stream(elementArrays[node]).map(this::getNode).distinct().toArray();
+		}
+		return ret;
+	}
+
+	/**
+	 * Reads a taxonomy that was written with {@link #write(DataOutput)}. The
+	 * input is left at the position after the taxonomy.
+	 * 
+	 * @param input
+	 *            input positioned at the beginning of the taxonomy
+	 * @return the taxonomy read from the input
+	 * @throws IOException
+	 *             if something goes wrong with the input, or if it ends before
+	 *             the taxonomy
+	 */
+	public static IntegerTaxonomy read(DataInput input) throws IOException {
+		Objects.requireNonNull(input);
+		return new IntegerTaxonomy(input);
+	}
+
+	private static int[] readIntArray(DataInput input) throws IOException {
+		int[] ret = new int[input.readInt()];
+		for (int index = 0; index < ret.length; index++) {
+			ret[index] = input.readInt();
+		}
+		return ret;
+	}
+
+	@Override
+	public String toString() {
+		StringBuffer ret = new StringBuffer();
+		ret.append("\n* elements : ");
+		ret.append(getElements());
+		for (int position = 0; position < this.elements.length; position++) {
+			Integer elem = this.elements[position];
+			ret.append("\n* " + elem + " : parents=" + getParents(elem) + " children=" + getChildren(elem)
+					+ " equivalents=" + getEquivalents(elem));
+		}
+		ret.append("\n");
+		return ret.toString();
+	}
+
+	/**
+	 * Writes this taxonomy, including the precomputed ancestors and
+	 * descendants, so that they can be read without computing them again.
+	 * 
+	 * @param output
+	 *            output
+	 * @throws IOException
+	 *             if something goes wrong with the output
+	 */
+	public void write(DataOutput output) throws IOException {
+		Objects.requireNonNull(output);
+		output.writeInt(this.bottomElement);
+		output.writeInt(this.topElement);
+		writeIntArray(output, this.elements);
+		writeIntArray(output, this.nodeOfElement);
+		writeIntArray(output, this.equivalentOffset);
+		writeIntArray(output, this.equivalents);
+		writeIntArray(output, this.parentOffset);
+		writeIntArray(output, this.parents);
+		writeIntArray(output, this.childOffset);
+		writeIntArray(output, this.children);
+		writeIntArray(output, this.ancestorOffset);
+		writeIntArray(output, this.ancestors);
+		writeIntArray(output, this.descendantOffset);
+		writeIntArray(output, this.descendants);
+	}
+
+	private static void writeIntArray(DataOutput output, int[] array) throws IOException {
+		output.writeInt(array.length);
+		for (int value : array) {
+			output.writeInt(value);
+		}
+	}
+
+}
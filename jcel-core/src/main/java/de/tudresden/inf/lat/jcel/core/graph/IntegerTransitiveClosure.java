@@ -0,0 +1,335 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
+
+/**
+ * This class computes the reflexive transitive closure of a directed graph of
+ * integers. The strongly connected components of the graph are found with
+ * Tarjan's algorithm, and the elements reachable from each component are
+ * computed in reverse topological order, as the union of the elements
+ * reachable from its successors. Each pair of the graph is then visited once,
+ * instead of once per round of a fixed-point iteration. The closure is
+ * computed when it is queried for the first time after a pair has been added.
+ * Once the pairs are added, the closure can be queried by several threads at
+ * the same time.
+ * 
+ * @author Julian Mendez
+ */
+public class IntegerTransitiveClosure {
+
+	private static final int initialSize = 0x10;
+	private static final int[] noSuccessors = new int[0];
+
+	private int[] componentOf = null;
+	private int[] elements = new int[initialSize];
+	private final Map<Integer, Integer> indexMap = new HashMap<>();
+	private int[] numberOfSuccessors = new int[initialSize];
+	private volatile int[][] reachable = null;
+	private int size = 0;
+	private int[][] successors = new int[initialSize][];
+
+	/**
+	 * Constructs an empty graph.
+	 */
+	public IntegerTransitiveClosure() {
+	}
+
+	/**
+	 * Adds an element to the graph, if it is not already in the graph.
+	 * 
+	 * @param element
+	 *            element
+	 * @return <code>true</code> if and only if the element was added
+	 */
+	public boolean add(int element) {
+		boolean ret = !this.indexMap.containsKey(element);
+		if (ret) {
+			getIndex(element);
+		}
+		return ret;
+	}
+
+	/**
+	 * Adds a pair to the graph, that is, an edge from the first element to the
+	 * second element. The elements are added if they are not in the graph.
+	 * 
+	 * @param first
+	 *            first element
+	 * @param second
+	 *            second element
+	 */
+	public void addPair(int first, int second) {
+		int firstIndex = getIndex(first);
+		int secondIndex = getIndex(second);
+		int[] current = this.successors[firstIndex];
+		if (this.numberOfSuccessors[firstIndex] == current.length) {
+			current = Arrays.copyOf(current, Math.max(2, 2 * current.length));
+		}
+		current[this.numberOfSuccessors[firstIndex]] = secondIndex;
+		this.numberOfSuccessors[firstIndex]++;
+		this.successors[firstIndex] = current;
+		this.reachable = null;
+	}
+
+	private synchronized int[][] computeClosure() {
+		if (Objects.nonNull(this.reachable)) {
+			return this.reachable;
+		}
+		this.componentOf = new int[this.size];
+		Arrays.fill(this.componentOf, -1);
+		List<int[]> reachableList = new ArrayList<>();
+
+		int[] visitIndex = new int[this.size];
+		Arrays.fill(visitIndex, -1);
+		int[] lowLink = new int[this.size];
+		boolean[] onStack = new boolean[this.size];
+		int[] componentStack = new int[this.size];
+		int componentStackSize = 0;
+		int[] callStack = new int[this.size];
+		int[] edgePosition = new int[this.size];
+		int[] mark = new int[this.size];
+		Arrays.fill(mark, -1);
+		int[] buffer = new int[this.size];
+		int counter = 0;
+
+		for (int root = 0; root < this.size; root++) {
+			if (visitIndex[root] == -1) {
+				int callStackSize = 0;
+				callStack[callStackSize] = root;
+				edgePosition[callStackSize] = 0;
+				callStackSize++;
+				visitIndex[root] = counter;
+				lowLink[root] = counter;
+				counter++;
+				componentStack[componentStackSize] = root;
+				componentStackSize++;
+				onStack[root] = true;
+
+				while (callStackSize > 0) {
+					int vertex = callStack[callStackSize - 1];
+					int position = edgePosition[callStackSize - 1];
+					if (position < this.numberOfSuccessors[vertex]) {
+						edgePosition[callStackSize - 1]++;
+						int next = this.successors[vertex][position];
+						if (visitIndex[next] == -1) {
+							visitIndex[next] = counter;
+							lowLink[next] = counter;
+							counter++;
+							componentStack[componentStackSize] = next;
+							componentStackSize++;
+							onStack[next] = true;
+							callStack[callStackSize] = next;
+							edgePosition[callStackSize] = 0;
+							callStackSize++;
+						} else if (onStack[next]) {
+							lowLink[vertex] = Math.min(lowLink[vertex], visitIndex[next]);
+						}
+					} else {
+						callStackSize--;
+						if (callStackSize > 0) {
+							int parent = callStack[callStackSize - 1];
+							lowLink[parent] = Math.min(lowLink[parent], lowLink[vertex]);
+						}
+						if (lowLink[vertex] == visitIndex[vertex]) {
+							int component = reachableList.size();
+							int length = 0;
+							int member;
+							do {
+								componentStackSize--;
+								member = componentStack[componentStackSize];
+								onStack[member] = false;
+								this.componentOf[member] = component;
+								mark[member] = component;
+								buffer[length] = member;
+								length++;
+							} while (member != vertex);
+
+							int numberOfMembers = length;
+							for (int memberIndex = 0; memberIndex < numberOfMembers; memberIndex++) {
+								int current = buffer[memberIndex];
+								for (int edge = 0; edge < this.numberOfSuccessors[current]; edge++) {
+									int successorComponent = this.componentOf[this.successors[current][edge]];
+									if (successorComponent != component) {
+										for (int elem : reachableList.get(successorComponent)) {
+											if (mark[elem] != component) {
+												mark[elem] = component;
+												buffer[length] = elem;
+												length++;
+											}
+										}
+									}
+								}
+							}
+							int[] reachableFromComponent = Arrays.copyOf(buffer, length);
+							Arrays.sort(reachableFromComponent);
+							reachableList.add(reachableFromComponent);
+						}
+					}
+				}
+			}
+		}
+		this.reachable = reachableList.toArray(new int[reachableList.size()][]);
+		return this.reachable;
+	}
+
+	/**
+	 * Tells whether an element is in the graph.
+	 * 
+	 * @param element
+	 *            element
+	 * @return <code>true</code> if and only if the element is in the graph
+	 */
+	public boolean contains(int element) {
+		return this.indexMap.containsKey(element);
+	}
+
+	/**
+	 * Performs the given action for each element reachable from the given
+	 * element, including the element itself. If the element is not in the
+	 * graph, the action is performed only for the element.
+	 * 
+	 * @param element
+	 *            element
+	 * @param action
+	 *            action
+	 */
+	public void forEachReachable(int element, IntConsumer action) {
+		Objects.requireNonNull(action);
+		Integer index = this.indexMap.get(element);
+		if (Objects.isNull(index)) {
+			action.accept(element);
+		} else {
+			for (int reachableIndex : getReachableIndexes(index)) {
+				action.accept(this.elements[reachableIndex]);
+			}
+		}
+	}
+
+	private int getIndex(int element) {
+		Integer ret = this.indexMap.get(element);
+		if (Objects.isNull(ret)) {
+			if (this.size == this.elements.length) {
+				int newLength = 2 * this.elements.length;
+				this.elements = Arrays.copyOf(this.elements, newLength);
+				this.numberOfSuccessors = Arrays.copyOf(this.numberOfSuccessors, newLength);
+				this.successors = Arrays.copyOf(this.successors, newLength);
+			}
+			ret = this.size;
+			this.elements[ret] = element;
+			this.successors[ret] = noSuccessors;
+			this.size++;
+			this.indexMap.put(element, ret);
+			this.reachable = null;
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the elements reachable from the given element, including the
+	 * element itself.
+	 * 
+	 * @param element
+	 *            element
+	 * @return the elements reachable from the given element
+	 */
+	public Set<Integer> getReachable(int element) {
+		Set<Integer> ret = new TreeSet<>();
+		forEachReachable(element, ret::add);
+		return Collections.unmodifiableSet(ret);
+	}
+
+	private int[] getReachableIndexes(int index) {
+		int[][] currentReachable = this.reachable;
+		if (Objects.isNull(currentReachable)) {
+			currentReachable = computeClosure();
+		}
+		return currentReachable[this.componentOf[index]];
+	}
+
+	/**
+	 * Tells whether the second element is reachable from the first element.
+	 * Every element is reachable from itself.
+	 * 
+	 * @param first
+	 *            first element
+	 * @param second
+	 *            second element
+	 * @return <code>true</code> if and only if the second element is reachable
+	 *         from the first element
+	 */
+	public boolean isReachable(int first, int second) {
+		boolean ret = (first == second);
+		if (!ret) {
+			Integer firstIndex = this.indexMap.get(first);
+			Integer secondIndex = this.indexMap.get(second);
+			ret = Objects.nonNull(firstIndex) && Objects.nonNull(secondIndex)
+					&& (Arrays.binarySearch(getReachableIndexes(firstIndex), secondIndex) >= 0);
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the number of elements in the graph.
+	 * 
+	 * @return the number of elements in the graph
+	 */
+	public int size() {
+		return this.size;
+	}
+
+}
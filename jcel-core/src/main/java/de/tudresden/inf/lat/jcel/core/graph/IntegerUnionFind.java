@@ -0,0 +1,216 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * This class implements a partition of a set of integers in disjoint subsets,
+ * using a union-find structure with union by rank and path halving. Joining
+ * two subsets and finding the subset of an element take almost constant
+ * amortized time. The elements are added when they are used for the first
+ * time.
+ * 
+ * @author Julian Mendez
+ */
+public class IntegerUnionFind {
+
+	private static final int initialSize = 0x10;
+
+	private int[] elements = new int[initialSize];
+	private final Map<Integer, Integer> indexMap = new HashMap<>();
+	private int[] parent = new int[initialSize];
+	private byte[] rank = new byte[initialSize];
+	private int size = 0;
+
+	/**
+	 * Constructs an empty partition.
+	 */
+	public IntegerUnionFind() {
+	}
+
+	/**
+	 * Adds an element as a new singleton subset, if it is not already in the
+	 * partition.
+	 * 
+	 * @param element
+	 *            element
+	 * @return <code>true</code> if and only if the element was added
+	 */
+	public boolean add(int element) {
+		boolean ret = !this.indexMap.containsKey(element);
+		if (ret) {
+			getIndex(element);
+		}
+		return ret;
+	}
+
+	/**
+	 * Tells whether an element is in the partition.
+	 * 
+	 * @param element
+	 *            element
+	 * @return <code>true</code> if and only if the element is in the partition
+	 */
+	public boolean contains(int element) {
+		return this.indexMap.containsKey(element);
+	}
+
+	/**
+	 * Returns the representative of the subset containing the given element.
+	 * Two elements are in the same subset if and only if they have the same
+	 * representative. The element is added if it is not in the partition.
+	 * 
+	 * @param element
+	 *            element
+	 * @return the representative of the subset containing the given element
+	 */
+	public int find(int element) {
+		return this.elements[findRoot(getIndex(element))];
+	}
+
+	private int findRoot(int index) {
+		int ret = index;
+		while (this.parent[ret] != ret) {
+			this.parent[ret] = this.parent[this.parent[ret]];
+			ret = this.parent[ret];
+		}
+		return ret;
+	}
+
+	private int getIndex(int element) {
+		Integer ret = this.indexMap.get(element);
+		if (Objects.isNull(ret)) {
+			if (this.size == this.parent.length) {
+				int newLength = 2 * this.parent.length;
+				this.elements = Arrays.copyOf(this.elements, newLength);
+				this.parent = Arrays.copyOf(this.parent, newLength);
+				this.rank = Arrays.copyOf(this.rank, newLength);
+			}
+			ret = this.size;
+			this.elements[ret] = element;
+			this.parent[ret] = ret;
+			this.size++;
+			this.indexMap.put(element, ret);
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the subsets of this partition. Each subset is sorted, and the
+	 * subsets are sorted by their least element.
+	 * 
+	 * @return the subsets of this partition
+	 */
+	public List<Set<Integer>> getSubsets() {
+		Map<Integer, TreeSet<Integer>> subsetMap = new HashMap<>();
+		for (int index = 0; index < this.size; index++) {
+			int root = findRoot(index);
+			TreeSet<Integer> subset = subsetMap.get(root);
+			if (Objects.isNull(subset)) {
+				subset = new TreeSet<>();
+				subsetMap.put(root, subset);
+			}
+			subset.add(this.elements[index]);
+		}
+		Map<Integer, Set<Integer>> sortedSubsets = new TreeMap<>();
+		subsetMap.values().forEach(subset -> sortedSubsets.put(subset.first(), Collections.unmodifiableSet(subset)));
+		return new ArrayList<>(sortedSubsets.values());
+	}
+
+	/**
+	 * Returns the number of elements in the partition.
+	 * 
+	 * @return the number of elements in the partition
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public String toString() {
+		return getSubsets().toString();
+	}
+
+	/**
+	 * Joins the subsets containing the given elements. The elements are added
+	 * if they are not in the partition.
+	 * 
+	 * @param first
+	 *            first element
+	 * @param second
+	 *            second element
+	 * @return <code>true</code> if and only if the elements were in different
+	 *         subsets
+	 */
+	public boolean union(int first, int second) {
+		int firstRoot = findRoot(getIndex(first));
+		int secondRoot = findRoot(getIndex(second));
+		boolean ret = (firstRoot != secondRoot);
+		if (ret) {
+			if (this.rank[firstRoot] < this.rank[secondRoot]) {
+				this.parent[firstRoot] = secondRoot;
+			} else if (this.rank[firstRoot] > this.rank[secondRoot]) {
+				this.parent[secondRoot] = firstRoot;
+			} else {
+				this.parent[secondRoot] = firstRoot;
+				this.rank[firstRoot]++;
+			}
+		}
+		return ret;
+	}
+
+}
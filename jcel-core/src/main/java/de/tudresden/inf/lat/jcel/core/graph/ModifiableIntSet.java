@@ -44,53 +44,37 @@
  *
  */
 
-package de.tudresden.inf.lat.jcel.core.completion.common;
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.Set;
 
 /**
- * An object of this class keeps track whether a completion rule has been
- * applied.
+ * This interface models a set of integer numbers that can be modified without
+ * boxing the elements. It is the type of the sets of subsumers kept by a
+ * subsumer graph.
+ * 
+ * @see IntSetType
  * 
  * @author Julian Mendez
- *
  */
-public class CompletionRuleMonitor {
-
-	private Object monitor = new Object();
-	private boolean state = false;
-
-	public CompletionRuleMonitor() {
-	}
-
-	public boolean get() {
-		return this.state;
-	}
-
-	public synchronized void or(boolean b) {
-		synchronized (this.monitor) {
-			this.state |= b;
-		}
-	}
-
-	@Override
-	public int hashCode() {
-		return this.state ? 1 : 0;
-	}
+public interface ModifiableIntSet extends Set<Integer>, IntSet {
 
-	@Override
-	public boolean equals(Object obj) {
-		if (this == obj) {
-			return true;
-		} else if (!(obj instanceof CompletionRuleMonitor)) {
-			return false;
-		} else {
-			CompletionRuleMonitor other = (CompletionRuleMonitor) obj;
-			return this.state == other.state;
-		}
-	}
+	/**
+	 * Adds an element to this set.
+	 * 
+	 * @param elem
+	 *            element
+	 * @return <code>true</code> if and only if the set changed
+	 */
+	boolean add(int elem);
 
-	@Override
-	public String toString() {
-		return "" + this.state;
-	}
+	/**
+	 * Removes an element from this set.
+	 * 
+	 * @param elem
+	 *            element
+	 * @return <code>true</code> if and only if the set changed
+	 */
+	boolean remove(int elem);
 
 }
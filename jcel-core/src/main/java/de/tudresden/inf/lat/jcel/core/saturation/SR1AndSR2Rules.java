@@ -47,11 +47,14 @@
 package de.tudresden.inf.lat.jcel.core.saturation;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 
+import de.tudresden.inf.lat.jcel.core.graph.IntegerTransitiveClosure;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
@@ -63,6 +66,10 @@ import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
  * <li>SR-1 : r \u2291 s \u219D r<sup>-</sup> \u2291 s<sup>-</sup></li>
  * <li>SR-2 : r \u2291 s, s \u2291 t \u219D r \u2291 t</li>
  * </ul>
+ * SR-1 is applied to the given inclusions, and SR-2 is applied by computing
+ * the transitive closure of the resulting graph of object properties. An
+ * inclusion inferred by SR-2 merges the annotations of the inclusions on the
+ * paths between its object properties.
  *
  * @author Julian Mendez
  */
@@ -93,17 +100,23 @@ public class SR1AndSR2Rules implements SaturationRule {
 		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
 		ret.addAll(originalSet);
 
-		Set<RI2Axiom> accumulatedSet = new HashSet<>();
-		Set<RI2Axiom> currentSet = new HashSet<>();
-		currentSet.addAll(this.helper.getRI2Axioms(originalSet));
-		while (!currentSet.isEmpty()) {
-			accumulatedSet.addAll(currentSet);
-			currentSet = new HashSet<>();
-			currentSet.addAll(applyRule1(accumulatedSet));
-			currentSet.addAll(applyRule2(accumulatedSet));
-			currentSet.removeAll(accumulatedSet);
-		}
-		ret.addAll(accumulatedSet);
+		Set<RI2Axiom> axiomSet = new HashSet<>();
+		axiomSet.addAll(this.helper.getRI2Axioms(originalSet));
+		axiomSet.addAll(applyRule1(axiomSet));
+		ret.addAll(axiomSet);
+
+		IntegerTransitiveClosure closure = new IntegerTransitiveClosure();
+		Map<Integer, Set<Integer>> superPropertyMap = new HashMap<>();
+		axiomSet.forEach(axiom -> {
+			closure.addPair(axiom.getSubProperty(), axiom.getSuperProperty());
+			Set<Integer> superProperties = superPropertyMap.get(axiom.getSubProperty());
+			if (Objects.isNull(superProperties)) {
+				superProperties = new HashSet<>();
+				superPropertyMap.put(axiom.getSubProperty(), superProperties);
+			}
+			superProperties.add(axiom.getSuperProperty());
+		});
+		ret.addAll(applyRule2(axiomSet, closure, superPropertyMap));
 
 		return Collections.unmodifiableSet(ret);
 	}
@@ -118,18 +131,48 @@ public class SR1AndSR2Rules implements SaturationRule {
 		return ret;
 	}
 
-	private Set<RI2Axiom> applyRule2(Set<RI2Axiom> axiomSet) {
+	private Set<RI2Axiom> applyRule2(Set<RI2Axiom> axiomSet, IntegerTransitiveClosure closure,
+			Map<Integer, Set<Integer>> superPropertyMap) {
 		Set<RI2Axiom> ret = new HashSet<>();
-		axiomSet.forEach(axiom0 -> {
-			axiomSet.forEach(axiom1 -> {
-				if (axiom0.getSuperProperty() == axiom1.getSubProperty()) {
-					Set<IntegerAnnotation> annotations = new TreeSet<>();
-					annotations.addAll(axiom0.getAnnotations());
-					annotations.addAll(axiom1.getAnnotations());
-					ret.add(this.factory.createRI2Axiom(axiom0.getSubProperty(), axiom1.getSuperProperty(),
-							annotations));
-				}
-			});
+		Set<RI2Axiom> annotatedAxioms = new HashSet<>();
+		axiomSet.forEach(axiom -> {
+			if (!axiom.getAnnotations().isEmpty()) {
+				annotatedAxioms.add(axiom);
+			}
+		});
+		superPropertyMap.forEach((subProperty, superProperties) -> {
+			Set<Integer> reachable = new HashSet<>();
+			superProperties.forEach(superProperty -> closure.forEachReachable(superProperty, reachable::add));
+			reachable.removeAll(superProperties);
+			reachable.forEach(superProperty -> ret.add(this.factory.createRI2Axiom(subProperty, superProperty,
+					getAnnotations(annotatedAxioms, closure, subProperty, superProperty))));
+		});
+		return ret;
+	}
+
+	/**
+	 * Returns the annotations of the inclusions that are on a path from the
+	 * given sub property to the given super property.
+	 * 
+	 * @param annotatedAxioms
+	 *            inclusions having annotations
+	 * @param closure
+	 *            transitive closure of the inclusions
+	 * @param subProperty
+	 *            sub property
+	 * @param superProperty
+	 *            super property
+	 * @return the annotations of the inclusions that are on a path from the
+	 *         given sub property to the given super property
+	 */
+	private Set<IntegerAnnotation> getAnnotations(Set<RI2Axiom> annotatedAxioms, IntegerTransitiveClosure closure,
+			int subProperty, int superProperty) {
+		Set<IntegerAnnotation> ret = new TreeSet<>();
+		annotatedAxioms.forEach(axiom -> {
+			if (closure.isReachable(subProperty, axiom.getSubProperty())
+					&& closure.isReachable(axiom.getSuperProperty(), superProperty)) {
+				ret.addAll(axiom.getAnnotations());
+			}
 		});
 		return ret;
 	}
@@ -56,6 +56,7 @@ import org.junit.Test;
 
 import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
 import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.RuleBasedProcessor;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.RuleBasedProcessorConfiguration;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
@@ -96,11 +97,17 @@ public class TinyOntologyTest {
 
 	private Processor createProcessor(Set<NormalizedIntegerAxiom> normalizedAxiomSet,
 			IntegerEntityManager entityManager, NormalizedIntegerAxiomFactory factory) {
+		return createProcessor(normalizedAxiomSet, entityManager, factory, new RuleBasedProcessorConfiguration());
+	}
+
+	private Processor createProcessor(Set<NormalizedIntegerAxiom> normalizedAxiomSet,
+			IntegerEntityManager entityManager, NormalizedIntegerAxiomFactory factory,
+			RuleBasedProcessorConfiguration configuration) {
 		Set<Integer> originalObjectProperties = entityManager.getEntities(IntegerEntityType.OBJECT_PROPERTY, false);
 		Set<Integer> originalClasses = entityManager.getEntities(IntegerEntityType.CLASS, false);
 		NormalizedAxiomExpressivityDetector detector = new NormalizedAxiomExpressivityDetector(normalizedAxiomSet);
 		Processor ret = new RuleBasedProcessor(originalObjectProperties, originalClasses, normalizedAxiomSet, detector,
-				factory, entityManager);
+				factory, entityManager, configuration);
 		return ret;
 	}
 
@@ -353,6 +360,281 @@ public class TinyOntologyTest {
 
 	}
 
+	/**
+	 * <ol>
+	 * <li>A<sub>i</sub> \u2291 &exist; r <i>.</i> A<sub>i+1</sub> ,</li>
+	 * <li>A<sub>n</sub> \u2291 B ,</li>
+	 * <li>&exist; r <i>.</i> B \u2291 B</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>A<sub>i</sub> \u2291 B</li>
+	 * </ul>
+	 * The ontology is classified on a single thread and on several threads,
+	 * and both class hierarchies must be equal.
+	 */
+	@Test
+	public void testTinyOntology5() {
+		int numberOfClasses = 0x40;
+		RuleBasedProcessorConfiguration configuration = new RuleBasedProcessorConfiguration();
+		configuration.setNumberOfThreads(4);
+
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		Set<NormalizedIntegerAxiom> ontology = new HashSet<>();
+		Integer r = createNewObjectProperty(entityManager, "r");
+		Integer b = createNewClass(entityManager, "B");
+		Integer[] a = new Integer[numberOfClasses];
+		for (int index = 0; index < numberOfClasses; index++) {
+			a[index] = createNewClass(entityManager, "A" + index);
+		}
+
+		// 1
+		for (int index = 0; index < numberOfClasses - 1; index++) {
+			ontology.add(factory.createGCI2Axiom(a[index], r, a[index + 1], annotations));
+		}
+
+		// 2
+		ontology.add(factory.createGCI0Axiom(a[numberOfClasses - 1], b, annotations));
+
+		// 3
+		ontology.add(factory.createGCI3Axiom(r, b, b, annotations));
+
+		Processor singleThreadedProcessor = createProcessor(ontology, entityManager, factory);
+		classify(singleThreadedProcessor);
+
+		Processor multiThreadedProcessor = createProcessor(ontology, entityManager, factory, configuration);
+		classify(multiThreadedProcessor);
+
+		for (int index = 0; index < numberOfClasses; index++) {
+			Assert.assertTrue(multiThreadedProcessor.getClassHierarchy().getAncestors(a[index]).contains(b));
+		}
+		Assert.assertEquals(singleThreadedProcessor.getClassHierarchy(), multiThreadedProcessor.getClassHierarchy());
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 \u2203 r.B ,</li>
+	 * <li>B \u2291 C</li>
+	 * </ol>
+	 * and then, after classification, the following axioms are added:
+	 * <ol start="3">
+	 * <li>X \u2291 \u2203 r.C ,</li>
+	 * <li>\u2203 r.C \u2291 X</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>A \u2291 X</li>
+	 * </ul>
+	 */
+	@Test
+	public void testTinyOntology6() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		Set<NormalizedIntegerAxiom> ontology = new HashSet<>();
+		Integer a = createNewClass(entityManager, "A");
+		Integer b = createNewClass(entityManager, "B");
+		Integer c = createNewClass(entityManager, "C");
+		Integer r = createNewObjectProperty(entityManager, "r");
+
+		// 1
+		ontology.add(factory.createGCI2Axiom(a, r, b, annotations));
+
+		// 2
+		ontology.add(factory.createGCI0Axiom(b, c, annotations));
+
+		RuleBasedProcessor processor = (RuleBasedProcessor) createProcessor(ontology, entityManager, factory);
+		classify(processor);
+
+		Integer x = createNewClass(entityManager, "X");
+		Set<NormalizedIntegerAxiom> newAxioms = new HashSet<>();
+
+		// 3
+		newAxioms.add(factory.createGCI2Axiom(x, r, c, annotations));
+
+		// 4
+		newAxioms.add(factory.createGCI3Axiom(r, c, x, annotations));
+
+		processor.addAxioms(newAxioms);
+		Assert.assertFalse(processor.isReady());
+		classify(processor);
+
+		Assert.assertTrue(processor.getClassHierarchy().getParents(a).contains(x));
+		Assert.assertTrue(processor.getClassHierarchy().getParents(b).contains(c));
+		Assert.assertFalse(processor.getClassHierarchy().getAncestors(x).contains(a));
+
+		ontology.addAll(newAxioms);
+		Processor otherProcessor = createProcessor(ontology, entityManager, factory);
+		classify(otherProcessor);
+		Assert.assertEquals(otherProcessor.getClassHierarchy(), processor.getClassHierarchy());
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 B ,</li>
+	 * <li>B \u2291 C ,</li>
+	 * <li>A \u2291 C ,</li>
+	 * <li>D \u2291 \u2203 r.A ,</li>
+	 * <li>\u2203 r.C \u2291 E</li>
+	 * </ol>
+	 * and then, after classification, axioms 2 and 3 are removed one at a time.
+	 * After removing axiom 2:
+	 * <ul>
+	 * <li>A \u2291 C</li>
+	 * <li>D \u2291 E</li>
+	 * </ul>
+	 * After removing axiom 3, neither A \u2291 C nor D \u2291 E holds.
+	 */
+	@Test
+	public void testTinyOntology7() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		Set<NormalizedIntegerAxiom> ontology = new HashSet<>();
+		Integer a = createNewClass(entityManager, "A");
+		Integer b = createNewClass(entityManager, "B");
+		Integer c = createNewClass(entityManager, "C");
+		Integer d = createNewClass(entityManager, "D");
+		Integer e = createNewClass(entityManager, "E");
+		Integer r = createNewObjectProperty(entityManager, "r");
+
+		// 1
+		ontology.add(factory.createGCI0Axiom(a, b, annotations));
+
+		// 2
+		NormalizedIntegerAxiom axiom2 = factory.createGCI0Axiom(b, c, annotations);
+		ontology.add(axiom2);
+
+		// 3
+		NormalizedIntegerAxiom axiom3 = factory.createGCI0Axiom(a, c, annotations);
+		ontology.add(axiom3);
+
+		// 4
+		ontology.add(factory.createGCI2Axiom(d, r, a, annotations));
+
+		// 5
+		ontology.add(factory.createGCI3Axiom(r, c, e, annotations));
+
+		RuleBasedProcessor processor = (RuleBasedProcessor) createProcessor(ontology, entityManager, factory);
+		classify(processor);
+		Assert.assertTrue(processor.getClassHierarchy().getAncestors(b).contains(c));
+		Assert.assertTrue(processor.getClassHierarchy().getAncestors(d).contains(e));
+
+		processor.removeAxioms(Collections.singleton(axiom2));
+		Assert.assertFalse(processor.isReady());
+		classify(processor);
+		Assert.assertFalse(processor.getClassHierarchy().getAncestors(b).contains(c));
+		Assert.assertTrue(processor.getClassHierarchy().getAncestors(a).contains(c));
+		Assert.assertTrue(processor.getClassHierarchy().getAncestors(d).contains(e));
+
+		ontology.remove(axiom2);
+		Processor otherProcessor = createProcessor(ontology, entityManager, factory);
+		classify(otherProcessor);
+		Assert.assertEquals(otherProcessor.getClassHierarchy(), processor.getClassHierarchy());
+
+		processor.removeAxioms(Collections.singleton(axiom3));
+		classify(processor);
+		Assert.assertFalse(processor.getClassHierarchy().getAncestors(a).contains(c));
+		Assert.assertFalse(processor.getClassHierarchy().getAncestors(d).contains(e));
+
+		ontology.remove(axiom3);
+		otherProcessor = createProcessor(ontology, entityManager, factory);
+		classify(otherProcessor);
+		Assert.assertEquals(otherProcessor.getClassHierarchy(), processor.getClassHierarchy());
+	}
+
+	/**
+	 * <ol>
+	 * <li>B \u2291 A ,</li>
+	 * <li>A \u2291 {a} ,</li>
+	 * <li>B \u2291 {a} ,</li>
+	 * <li>A \u2291 \u2203 r.B</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>A &equiv; B</li>
+	 * </ul>
+	 * If A is not empty, it is {a}, and a has an r-successor in B, which can
+	 * only be a. This needs the subsumers of B to be added to A, although B
+	 * has all the subsumers of A.
+	 */
+	@Test
+	public void testTinyOntology8() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		Set<NormalizedIntegerAxiom> ontology = new HashSet<>();
+		Integer a = createNewClass(entityManager, "A");
+		Integer b = createNewClass(entityManager, "B");
+		Integer r = createNewObjectProperty(entityManager, "r");
+		Integer indivA = entityManager.createNamedEntity(IntegerEntityType.INDIVIDUAL, "a", false);
+		Integer nominalA = entityManager.createOrGetClassIdForIndividual(indivA);
+		ontology.add(factory.createNominalAxiom(nominalA, indivA, annotations));
+
+		// 1
+		ontology.add(factory.createGCI0Axiom(b, a, annotations));
+
+		// 2
+		ontology.add(factory.createGCI0Axiom(a, nominalA, annotations));
+
+		// 3
+		ontology.add(factory.createGCI0Axiom(b, nominalA, annotations));
+
+		// 4
+		ontology.add(factory.createGCI2Axiom(a, r, b, annotations));
+
+		Processor processor = createProcessor(ontology, entityManager, factory);
+		classify(processor);
+
+		Set<Integer> expected = new HashSet<>();
+		expected.add(a);
+		expected.add(b);
+		Assert.assertEquals(expected, processor.getClassHierarchy().getEquivalents(a));
+	}
+
+	/**
+	 * <ol>
+	 * <li>B \u2291 A ,</li>
+	 * <li>A \u2291 {a} ,</li>
+	 * <li>B \u2291 {a} ,</li>
+	 * <li>B \u2291 \u2203 r.A</li>
+	 * </ol>
+	 * does not entail A \u2291 B, because B can be empty while A is {a}.
+	 */
+	@Test
+	public void testTinyOntology9() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		Set<NormalizedIntegerAxiom> ontology = new HashSet<>();
+		Integer a = createNewClass(entityManager, "A");
+		Integer b = createNewClass(entityManager, "B");
+		Integer r = createNewObjectProperty(entityManager, "r");
+		Integer indivA = entityManager.createNamedEntity(IntegerEntityType.INDIVIDUAL, "a", false);
+		Integer nominalA = entityManager.createOrGetClassIdForIndividual(indivA);
+		ontology.add(factory.createNominalAxiom(nominalA, indivA, annotations));
+
+		// 1
+		ontology.add(factory.createGCI0Axiom(b, a, annotations));
+
+		// 2
+		ontology.add(factory.createGCI0Axiom(a, nominalA, annotations));
+
+		// 3
+		ontology.add(factory.createGCI0Axiom(b, nominalA, annotations));
+
+		// 4
+		ontology.add(factory.createGCI2Axiom(b, r, a, annotations));
+
+		Processor processor = createProcessor(ontology, entityManager, factory);
+		classify(processor);
+
+		Assert.assertEquals(Collections.singleton(a), processor.getClassHierarchy().getParents(b));
+		Assert.assertFalse(processor.getClassHierarchy().getAncestors(a).contains(b));
+	}
+
 	private void verifyOntology(Processor processor, Set<Integer> intermediateSet) {
 		Assert.assertEquals(Collections.emptySet(),
 				processor.getClassHierarchy().getDescendants(processor.getClassHierarchy().getBottomElement()));
@@ -0,0 +1,179 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.cel;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactoryImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+
+/**
+ * Tests for {@link CelProcessor} using long or cyclic chains of object
+ * properties.
+ *
+ * @author Julian Mendez
+ */
+public class CelProcessorTest {
+
+	/**
+	 * Constructs a new set of tests for the CEL processor.
+	 */
+	public CelProcessorTest() {
+	}
+
+	private CelProcessor classify(Set<NormalizedIntegerAxiom> normalizedAxiomSet, IntegerEntityManager entityManager,
+			NormalizedIntegerAxiomFactory factory) {
+		CelProcessor ret = new CelProcessor(entityManager.getEntities(IntegerEntityType.OBJECT_PROPERTY, false),
+				entityManager.getEntities(IntegerEntityType.CLASS, false), normalizedAxiomSet, factory, entityManager);
+		while (ret.process()) {
+		}
+		return ret;
+	}
+
+	private Integer[] createChain(int length, Integer property, Set<NormalizedIntegerAxiom> ontology,
+			IntegerEntityManager entityManager, NormalizedIntegerAxiomFactory factory) {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		Integer[] ret = new Integer[length];
+		for (int index = 0; index < length; index++) {
+			ret[index] = entityManager.createNamedEntity(IntegerEntityType.CLASS, "A" + index, false);
+		}
+		for (int index = 0; index + 1 < length; index++) {
+			ontology.add(factory.createGCI2Axiom(ret[index], property, ret[index + 1], annotations));
+		}
+		return ret;
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 &exist; r <i>.</i> B ,</li>
+	 * <li>B \u2291 &exist; r <i>.</i> A ,</li>
+	 * <li>B \u2291 &exist; t <i>.</i> C ,</li>
+	 * <li>r \u2291 s ,</li>
+	 * <li>r \u2218 s \u2291 r ,</li>
+	 * <li>s \u2218 t \u2291 s ,</li>
+	 * <li>&exist; r <i>.</i> C \u2291 D</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>A \u2291 D ,</li>
+	 * <li>B \u2291 D</li>
+	 * </ul>
+	 */
+	@Test
+	public void testCyclicRoleChains() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		Set<NormalizedIntegerAxiom> ontology = new HashSet<>();
+		Integer r = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "r", false);
+		Integer s = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "s", false);
+		Integer t = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "t", false);
+		Integer a = entityManager.createNamedEntity(IntegerEntityType.CLASS, "A", false);
+		Integer b = entityManager.createNamedEntity(IntegerEntityType.CLASS, "B", false);
+		Integer c = entityManager.createNamedEntity(IntegerEntityType.CLASS, "C", false);
+		Integer d = entityManager.createNamedEntity(IntegerEntityType.CLASS, "D", false);
+		ontology.add(factory.createGCI2Axiom(a, r, b, annotations));
+		ontology.add(factory.createGCI2Axiom(b, r, a, annotations));
+		ontology.add(factory.createGCI2Axiom(b, t, c, annotations));
+		ontology.add(factory.createRI2Axiom(r, s, annotations));
+		ontology.add(factory.createRI3Axiom(r, s, r, annotations));
+		ontology.add(factory.createRI3Axiom(s, t, s, annotations));
+		ontology.add(factory.createGCI3Axiom(r, c, d, annotations));
+
+		CelProcessor processor = classify(ontology, entityManager, factory);
+
+		Assert.assertTrue(processor.getClassHierarchy().getAncestors(a).contains(d));
+		Assert.assertTrue(processor.getClassHierarchy().getAncestors(b).contains(d));
+		Assert.assertFalse(processor.getClassHierarchy().getAncestors(c).contains(d));
+	}
+
+	/**
+	 * <ol>
+	 * <li>A<sub>i</sub> \u2291 &exist; r <i>.</i> A<sub>i+1</sub> , for 0
+	 * &le; i &lt; n - 1</li>
+	 * <li>r \u2218 r \u2291 r ,</li>
+	 * <li>A<sub>n-1</sub> \u2291 B ,</li>
+	 * <li>&exist; r <i>.</i> B \u2291 C</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>A<sub>i</sub> \u2291 C , for 0 &le; i &lt; n - 1</li>
+	 * </ul>
+	 */
+	@Test
+	public void testLongTransitiveChain() {
+		int length = 400;
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		Set<NormalizedIntegerAxiom> ontology = new HashSet<>();
+		Integer r = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "r", false);
+		Integer b = entityManager.createNamedEntity(IntegerEntityType.CLASS, "B", false);
+		Integer c = entityManager.createNamedEntity(IntegerEntityType.CLASS, "C", false);
+		Integer[] chain = createChain(length, r, ontology, entityManager, factory);
+		ontology.add(factory.createRI3Axiom(r, r, r, annotations));
+		ontology.add(factory.createGCI0Axiom(chain[length - 1], b, annotations));
+		ontology.add(factory.createGCI3Axiom(r, b, c, annotations));
+
+		CelProcessor processor = classify(ontology, entityManager, factory);
+
+		for (int index = 0; index + 1 < length; index++) {
+			Assert.assertTrue(processor.getClassHierarchy().getAncestors(chain[index]).contains(c));
+		}
+	}
+
+}
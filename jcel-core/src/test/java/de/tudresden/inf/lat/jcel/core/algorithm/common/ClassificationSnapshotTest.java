@@ -0,0 +1,163 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.RuleBasedProcessor;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.RuleBasedProcessorConfiguration;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerTaxonomy;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactoryImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.coreontology.expressivity.NormalizedAxiomExpressivityDetector;
+
+/**
+ * Tests for {@link ClassificationSnapshot}.
+ * 
+ * @author Julian Mendez
+ */
+public class ClassificationSnapshotTest {
+
+	private Processor createProcessor(Set<NormalizedIntegerAxiom> normalizedAxiomSet,
+			IntegerEntityManager entityManager, NormalizedIntegerAxiomFactory factory) {
+		Set<Integer> originalObjectProperties = entityManager.getEntities(IntegerEntityType.OBJECT_PROPERTY, false);
+		Set<Integer> originalClasses = entityManager.getEntities(IntegerEntityType.CLASS, false);
+		NormalizedAxiomExpressivityDetector detector = new NormalizedAxiomExpressivityDetector(normalizedAxiomSet);
+		Processor ret = new RuleBasedProcessor(originalObjectProperties, originalClasses, normalizedAxiomSet, detector,
+				factory, entityManager, new RuleBasedProcessorConfiguration());
+		return ret;
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 B ,</li>
+	 * <li>A \u2291 &exist; r <i>.</i> C ,</li>
+	 * <li>&exist; r <i>.</i> C \u2291 D ,</li>
+	 * <li>s \u2291 r ,</li>
+	 * <li>{a} \u2291 A</li>
+	 * </ol>
+	 * The snapshot read from a file is equal to the written one, and it is only
+	 * read for the same ontology checksum.
+	 * 
+	 * @throws IOException
+	 *             if something goes wrong with the temporary file
+	 */
+	@Test
+	public void testWriteAndRead() throws IOException {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		Set<NormalizedIntegerAxiom> ontology = new HashSet<>();
+		Integer a = entityManager.createNamedEntity(IntegerEntityType.CLASS, "A", false);
+		Integer b = entityManager.createNamedEntity(IntegerEntityType.CLASS, "B", false);
+		Integer c = entityManager.createNamedEntity(IntegerEntityType.CLASS, "C", false);
+		Integer d = entityManager.createNamedEntity(IntegerEntityType.CLASS, "D", false);
+		Integer r = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "r", false);
+		Integer s = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "s", false);
+		Integer indivA = entityManager.createNamedEntity(IntegerEntityType.INDIVIDUAL, "a", false);
+		Integer nominalA = entityManager.createOrGetClassIdForIndividual(indivA);
+
+		ontology.add(factory.createGCI0Axiom(a, b, annotations));
+		ontology.add(factory.createGCI2Axiom(a, r, c, annotations));
+		ontology.add(factory.createGCI3Axiom(r, c, d, annotations));
+		ontology.add(factory.createRI2Axiom(s, r, annotations));
+		ontology.add(factory.createNominalAxiom(nominalA, indivA, annotations));
+		ontology.add(factory.createGCI0Axiom(nominalA, a, annotations));
+
+		Processor processor = createProcessor(ontology, entityManager, factory);
+		while (processor.process()) {
+		}
+
+		byte[] checksum = ClassificationSnapshot
+				.computeChecksum(new ByteArrayInputStream("ontology".getBytes(StandardCharsets.UTF_8)));
+		byte[] otherChecksum = ClassificationSnapshot
+				.computeChecksum(new ByteArrayInputStream("other ontology".getBytes(StandardCharsets.UTF_8)));
+		ClassificationSnapshot snapshot = new ClassificationSnapshot(processor, entityManager, checksum);
+
+		Path file = Files.createTempFile("jcel", ".snapshot");
+		try {
+			snapshot.write(file);
+			Optional<ClassificationSnapshot> optSnapshot = ClassificationSnapshot.read(file, checksum);
+			Assert.assertTrue(optSnapshot.isPresent());
+			ClassificationSnapshot other = optSnapshot.get();
+
+			Assert.assertTrue(Arrays.equals(checksum, other.getOntologyChecksum()));
+			Assert.assertEquals(entityManager, other.getEntityManager());
+			Assert.assertEquals(new IntegerTaxonomy(processor.getClassHierarchy()), other.getClassHierarchy());
+			Assert.assertEquals(new IntegerTaxonomy(processor.getObjectPropertyHierarchy()),
+					other.getObjectPropertyHierarchy());
+			Assert.assertEquals(new IntegerTaxonomy(processor.getDataPropertyHierarchy()),
+					other.getDataPropertyHierarchy());
+			Assert.assertEquals(processor.getDirectTypes(), other.getDirectTypes());
+			Assert.assertEquals(processor.getSameIndividualMap(), other.getSameIndividualMap());
+			Assert.assertTrue(other.getClassHierarchy().getAncestors(a).contains(d));
+			Assert.assertTrue(other.getDirectTypes().get(indivA).contains(a));
+
+			Assert.assertFalse(ClassificationSnapshot.read(file, otherChecksum).isPresent());
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+}
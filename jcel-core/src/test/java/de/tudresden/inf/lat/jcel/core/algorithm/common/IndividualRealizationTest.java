@@ -0,0 +1,157 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.common;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraphImpl;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraphImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+
+/**
+ * Tests for {@link IndividualRealization}.
+ * 
+ * @author Julian Mendez
+ */
+public class IndividualRealizationTest {
+
+	private static final int numberOfIndividuals = 40;
+
+	public IndividualRealizationTest() {
+	}
+
+	private void add(IntegerSubsumerGraphImpl graph, int elem) {
+		graph.add(elem);
+		graph.addAncestor(elem, elem);
+		graph.addAncestor(elem, IntegerEntityManager.topClassId);
+	}
+
+	private Set<Integer> set(Integer... elements) {
+		return new HashSet<>(Arrays.asList(elements));
+	}
+
+	/**
+	 * Realizes individuals that are instances of A or B, where each individual
+	 * whose number is a multiple of 5 is the same as the next one, and has the
+	 * same types.
+	 */
+	@Test
+	public void testRealization() {
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		int classA = entityManager.createNamedEntity(IntegerEntityType.CLASS, "A", false);
+		int classB = entityManager.createNamedEntity(IntegerEntityType.CLASS, "B", false);
+		IntegerSubsumerGraphImpl graph = new IntegerSubsumerGraphImpl(IntegerEntityManager.bottomClassId,
+				IntegerEntityManager.topClassId);
+		add(graph, IntegerEntityManager.bottomClassId);
+		add(graph, IntegerEntityManager.topClassId);
+		add(graph, classA);
+		add(graph, classB);
+		int[] individuals = new int[numberOfIndividuals];
+		int[] nominals = new int[numberOfIndividuals];
+		for (int index = 0; index < numberOfIndividuals; index++) {
+			individuals[index] = entityManager.createNamedEntity(IntegerEntityType.INDIVIDUAL, "i" + index, false);
+			nominals[index] = entityManager.createOrGetClassIdForIndividual(individuals[index]);
+			add(graph, nominals[index]);
+			int representative = (index % 5 == 1) ? index - 1 : index;
+			if (representative % 2 == 0) {
+				graph.addAncestor(nominals[index], classA);
+			}
+			if (representative % 3 == 0) {
+				graph.addAncestor(nominals[index], classB);
+			}
+		}
+		for (int index = 0; index < numberOfIndividuals; index += 5) {
+			graph.addAncestor(nominals[index], nominals[index + 1]);
+			graph.addAncestor(nominals[index + 1], nominals[index]);
+		}
+		IntegerHierarchicalGraphImpl hierarchicalGraph = new IntegerHierarchicalGraphImpl(graph);
+
+		IndividualRealization realization = new IndividualRealization(hierarchicalGraph, entityManager,
+				entityManager.getIndividuals(), 1);
+		Assert.assertEquals(numberOfIndividuals, realization.getDirectTypes().size());
+		Assert.assertEquals(set(classA, classB), realization.getDirectTypes().get(individuals[0]));
+		Assert.assertEquals(set(classA, classB), realization.getDirectTypes().get(individuals[1]));
+		Assert.assertEquals(set(classA), realization.getDirectTypes().get(individuals[2]));
+		Assert.assertEquals(set(classB), realization.getDirectTypes().get(individuals[3]));
+		Assert.assertEquals(set(IntegerEntityManager.topClassId), realization.getDirectTypes().get(individuals[7]));
+		Assert.assertEquals(set(individuals[0], individuals[1]),
+				realization.getSameIndividualMap().get(individuals[1]));
+		Assert.assertEquals(set(individuals[2]), realization.getSameIndividualMap().get(individuals[2]));
+		Assert.assertNull(realization.getDirectTypes().get(classA));
+
+		IndividualRealization parallelRealization = new IndividualRealization(hierarchicalGraph, entityManager,
+				entityManager.getIndividuals(), 4);
+		Assert.assertEquals(realization.getDirectTypes(), parallelRealization.getDirectTypes());
+		Assert.assertEquals(realization.getSameIndividualMap(), parallelRealization.getSameIndividualMap());
+	}
+
+	/**
+	 * Checks that an empty set of individuals has an empty realization.
+	 */
+	@Test
+	public void testEmptyRealization() {
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		IntegerSubsumerGraphImpl graph = new IntegerSubsumerGraphImpl(IntegerEntityManager.bottomClassId,
+				IntegerEntityManager.topClassId);
+		add(graph, IntegerEntityManager.bottomClassId);
+		add(graph, IntegerEntityManager.topClassId);
+
+		IndividualRealization realization = new IndividualRealization(new IntegerHierarchicalGraphImpl(graph),
+				entityManager, Collections.emptySet(), 4);
+		Assert.assertTrue(realization.getDirectTypes().isEmpty());
+		Assert.assertTrue(realization.getSameIndividualMap().isEmpty());
+	}
+
+}
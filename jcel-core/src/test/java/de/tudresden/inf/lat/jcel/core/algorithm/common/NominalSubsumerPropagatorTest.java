@@ -0,0 +1,158 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.common;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraphImpl;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraphImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+
+/**
+ * Tests for {@link NominalSubsumerPropagator}.
+ * 
+ * @author Julian Mendez
+ */
+public class NominalSubsumerPropagatorTest {
+
+	private static final int classA = 3;
+	private static final int classB = 4;
+	private static final int classC = 5;
+	private static final int classE = 6;
+	private static final int classX = 7;
+	private static final int classY = 8;
+	private static final int nominal = 2;
+
+	public NominalSubsumerPropagatorTest() {
+	}
+
+	private void add(IntegerSubsumerGraphImpl graph, int elem) {
+		graph.add(elem);
+		graph.addAncestor(elem, elem);
+		graph.addAncestor(elem, IntegerEntityManager.topClassId);
+	}
+
+	/**
+	 * Returns the class graph of the test, where N is the auxiliary class of a
+	 * nominal, and A, B, C, E are subsumed by N. Besides, B \u2291 X, E \u2291
+	 * C, and E \u2291 Y.
+	 */
+	private IntegerSubsumerGraphImpl createClassGraph() {
+		IntegerSubsumerGraphImpl ret = new IntegerSubsumerGraphImpl(IntegerEntityManager.bottomClassId,
+				IntegerEntityManager.topClassId);
+		add(ret, IntegerEntityManager.bottomClassId);
+		add(ret, IntegerEntityManager.topClassId);
+		Arrays.asList(nominal, classA, classB, classC, classE, classX, classY).forEach(elem -> add(ret, elem));
+		Arrays.asList(classA, classB, classC, classE).forEach(elem -> ret.addAncestor(elem, nominal));
+		ret.addAncestor(classB, classX);
+		ret.addAncestor(classE, classC);
+		ret.addAncestor(classE, classY);
+		return ret;
+	}
+
+	private IntegerSubsumerGraphImpl propagate(int numberOfThreads) {
+		Map<Integer, Collection<Integer>> successors = new HashMap<>();
+		successors.put(nominal, Collections.singleton(classB));
+		successors.put(classC, Collections.singleton(classE));
+		IntegerSubsumerGraphImpl ret = createClassGraph();
+		new NominalSubsumerPropagator(elem -> successors.getOrDefault(elem, Collections.emptySet()), numberOfThreads)
+				.apply(ret, new IntegerHierarchicalGraphImpl(createClassGraph()), Collections.singleton(nominal));
+		return ret;
+	}
+
+	private Set<Integer> set(Integer... elements) {
+		return new HashSet<>(Arrays.asList(elements));
+	}
+
+	/**
+	 * Propagates the subsumers of the class graph given by
+	 * {@link #createClassGraph()}, where B is reachable through R from N, and E
+	 * is reachable through R from C, but not from N. Then every class subsumed
+	 * by N is subsumed by the subsumers of B, but only C is subsumed by the
+	 * subsumers of E. In particular, C &equiv; E, although E \u2291 C already
+	 * holds before the propagation.
+	 */
+	@Test
+	public void testPropagation() {
+		IntegerSubsumerGraphImpl graph = propagate(1);
+		int top = IntegerEntityManager.topClassId;
+		Assert.assertEquals(set(classA, classB, nominal, classX, top), new HashSet<>(graph.getSubsumers(classA)));
+		Assert.assertEquals(set(classB, nominal, classX, top), new HashSet<>(graph.getSubsumers(classB)));
+		Assert.assertEquals(set(classB, classC, classE, nominal, classX, classY, top),
+				new HashSet<>(graph.getSubsumers(classC)));
+		Assert.assertEquals(set(classB, classC, classE, nominal, classX, classY, top),
+				new HashSet<>(graph.getSubsumers(classE)));
+		Assert.assertEquals(set(classB, nominal, classX, top), new HashSet<>(graph.getSubsumers(nominal)));
+
+		IntegerSubsumerGraphImpl parallelGraph = propagate(4);
+		Arrays.asList(nominal, classA, classB, classC, classE, classX, classY).forEach(elem -> Assert.assertEquals(
+				new HashSet<>(graph.getSubsumers(elem)), new HashSet<>(parallelGraph.getSubsumers(elem))));
+	}
+
+	/**
+	 * Checks that the number of threads must be positive.
+	 */
+	@Test
+	public void testInvalidNumberOfThreads() {
+		try {
+			new NominalSubsumerPropagator(elem -> Collections.emptySet(), 0);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.module;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactoryImpl;
+
+/**
+ * Tests for {@link DefaultModuleExtractor}.
+ * 
+ * @author Julian Mendez
+ */
+public class DefaultModuleExtractorTest {
+
+	private static final int firstClass = 0x10;
+	private static final int length = 0x100;
+	private static final int property = 0x8;
+
+	/**
+	 * Returns the axioms A<sub>i</sub> \u2291 &exist; r <i>.</i> A<sub>i+1</sub>,
+	 * for a chain of classes.
+	 */
+	private Set<NormalizedIntegerAxiom> createChain() {
+		Set<IntegerAnnotation> annotations = Collections.emptySet();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
+		IntStream.range(firstClass, firstClass + length - 1).forEach(
+				classId -> ret.add(factory.createGCI2Axiom(classId, property, classId + 1, annotations)));
+		return ret;
+	}
+
+	public DefaultModuleExtractorTest() {
+	}
+
+	@Test
+	public void testChain() {
+		Set<NormalizedIntegerAxiom> axioms = createChain();
+		DefaultModuleExtractor extractor = new DefaultModuleExtractor(axioms);
+		Assert.assertEquals(length - 1, extractor.getNumberOfAxioms());
+
+		int middleClass = firstClass + (length / 2);
+		Module module = extractor.extractModule(Collections.singleton(middleClass));
+		Set<Integer> expectedEntities = new TreeSet<>();
+		IntStream.range(middleClass, firstClass + length).forEach(expectedEntities::add);
+		expectedEntities.add(property);
+		Assert.assertEquals(expectedEntities, module.getEntities());
+		Assert.assertEquals(length / 2 - 1, module.getAxioms().size());
+
+		Assert.assertEquals(module.getAxioms(),
+				new DefaultModuleExtractor().extractModule(axioms, Collections.singleton(middleClass)).getAxioms());
+	}
+
+	@Test
+	public void testConcurrentExtraction() {
+		DefaultModuleExtractor extractor = new DefaultModuleExtractor(createChain());
+		List<Integer> classes = IntStream.range(firstClass, firstClass + length).boxed().collect(Collectors.toList());
+
+		List<Integer> expected = classes.stream()
+				.map(classId -> extractor.extractModule(Collections.singleton(classId)).getAxioms().size())
+				.collect(Collectors.toList());
+		List<Integer> actual = classes.parallelStream()
+				.map(classId -> extractor.extractModule(Collections.singleton(classId)).getAxioms().size())
+				.collect(Collectors.toList());
+		Assert.assertEquals(expected, actual);
+		Assert.assertEquals(Arrays.asList(length - 1, 0), Arrays.asList(expected.get(0), expected.get(length - 1)));
+	}
+
+}
@@ -0,0 +1,131 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for queues of entries.
+ * 
+ * @author Julian Mendez
+ */
+public class PrimitiveEntryQueueTest {
+
+	public PrimitiveEntryQueueTest() {
+	}
+
+	@Test
+	public void testDeduplicatedREntries() {
+		PrimitiveREntryQueue queue = new PrimitiveREntryQueue(true);
+		Set<String> pending = new HashSet<>();
+		int[] entry = new int[3];
+
+		IntStream.range(0, 0x4000).forEach(i -> {
+			int property = i % 0x7;
+			int leftClass = (i * 31) % 0x3F;
+			int rightClass = (i * 17) % 0x1F;
+			boolean added = queue.add(property, leftClass, rightClass);
+			Assert.assertEquals(pending.add(property + " " + leftClass + " " + rightClass), added);
+			if (i % 3 == 0) {
+				Assert.assertTrue(queue.poll(entry));
+				Assert.assertTrue(pending.remove(entry[0] + " " + entry[1] + " " + entry[2]));
+			}
+			Assert.assertEquals(pending.size(), queue.size());
+		});
+	}
+
+	@Test
+	public void testDeduplicatedSEntries() {
+		PrimitiveSEntryQueue queue = new PrimitiveSEntryQueue(true);
+		Set<String> pending = new HashSet<>();
+		int[] entry = new int[2];
+
+		IntStream.range(0, 0x4000).forEach(i -> {
+			int subClass = i % 0x3F;
+			int superClass = (i * 31) % 0x7F;
+			boolean added = queue.add(subClass, superClass);
+			Assert.assertEquals(pending.add(subClass + " " + superClass), added);
+			if (i % 3 == 0) {
+				Assert.assertTrue(queue.poll(entry));
+				Assert.assertTrue(pending.remove(entry[0] + " " + entry[1]));
+			}
+			Assert.assertEquals(pending.size(), queue.size());
+		});
+	}
+
+	@Test
+	public void testOrderOfSEntries() {
+		PrimitiveSEntryQueue queue = new PrimitiveSEntryQueue(false);
+		Deque<Integer> expected = new ArrayDeque<>();
+		int[] entry = new int[2];
+
+		IntStream.range(0, 0x1000).forEach(i -> {
+			queue.add(i, Integer.MAX_VALUE - i);
+			expected.add(i);
+			if (i % 4 == 0) {
+				Assert.assertTrue(queue.poll(entry));
+				int subClass = expected.poll();
+				Assert.assertEquals(subClass, entry[0]);
+				Assert.assertEquals(Integer.MAX_VALUE - subClass, entry[1]);
+			}
+		});
+		while (!expected.isEmpty()) {
+			Assert.assertTrue(queue.poll(entry));
+			Assert.assertEquals((int) expected.poll(), entry[0]);
+		}
+		Assert.assertTrue(queue.isEmpty());
+		Assert.assertFalse(queue.poll(entry));
+	}
+
+}
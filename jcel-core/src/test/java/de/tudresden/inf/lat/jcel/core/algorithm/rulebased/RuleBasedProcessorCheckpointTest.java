@@ -0,0 +1,281 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntologyImpl;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactoryImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.coreontology.expressivity.NormalizedAxiomExpressivityDetector;
+
+/**
+ * Tests for checkpoints of {@link RuleBasedProcessor}.
+ * 
+ * @author Julian Mendez
+ */
+public class RuleBasedProcessorCheckpointTest {
+
+	private static final int chainLength = 50;
+
+	/**
+	 * Creates a processor for the ontology:
+	 * <ul>
+	 * <li>A<sub>i</sub> \u2291 &exist; r <i>.</i> A<sub>i+1</sub> ,</li>
+	 * <li>&exist; r <i>.</i> B<sub>i+1</sub> \u2291 B<sub>i</sub> ,</li>
+	 * <li>A<sub>n</sub> \u2291 B<sub>n</sub></li>
+	 * </ul>
+	 * which entails A<sub>i</sub> \u2291 B<sub>i</sub> for every i.
+	 */
+	private RuleBasedProcessor createProcessor(IntegerEntityManager entityManager, int length,
+			RuleBasedProcessorConfiguration configuration) {
+		return createProcessor(entityManager, length, false, configuration);
+	}
+
+	/**
+	 * Creates a processor for the chain ontology. If <code>reversed</code> is
+	 * <code>true</code>, the last axiom is B<sub>n</sub> \u2291 A<sub>n</sub>
+	 * instead of A<sub>n</sub> \u2291 B<sub>n</sub>, so that both ontologies have
+	 * the same number of axioms, classes and object properties.
+	 */
+	private RuleBasedProcessor createProcessor(IntegerEntityManager entityManager, int length, boolean reversed,
+			RuleBasedProcessorConfiguration configuration) {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		Set<NormalizedIntegerAxiom> ontology = new HashSet<>();
+		int r = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "r", false);
+		int[] a = new int[length + 1];
+		int[] b = new int[length + 1];
+		for (int index = 0; index <= length; index++) {
+			a[index] = entityManager.createNamedEntity(IntegerEntityType.CLASS, "A" + index, false);
+			b[index] = entityManager.createNamedEntity(IntegerEntityType.CLASS, "B" + index, false);
+		}
+		for (int index = 0; index < length; index++) {
+			ontology.add(factory.createGCI2Axiom(a[index], r, a[index + 1], annotations));
+			ontology.add(factory.createGCI3Axiom(r, b[index + 1], b[index], annotations));
+		}
+		if (reversed) {
+			ontology.add(factory.createGCI0Axiom(b[length], a[length], annotations));
+		} else {
+			ontology.add(factory.createGCI0Axiom(a[length], b[length], annotations));
+		}
+
+		return new RuleBasedProcessor(entityManager.getEntities(IntegerEntityType.OBJECT_PROPERTY, false),
+				entityManager.getEntities(IntegerEntityType.CLASS, false), ontology,
+				new NormalizedAxiomExpressivityDetector(ontology), factory, entityManager, configuration);
+	}
+
+	/**
+	 * Tests that a processor resumed from a checkpoint written in the middle of
+	 * the saturation gives the same hierarchy as a processor that was not
+	 * interrupted.
+	 * 
+	 * @throws IOException
+	 *             if something goes wrong with the temporary file
+	 */
+	@Test
+	public void testResume() throws IOException {
+		RuleBasedProcessorConfiguration configuration = new RuleBasedProcessorConfiguration();
+		RuleBasedProcessor expected = createProcessor(new IntegerEntityManagerImpl(), chainLength, configuration);
+		while (expected.process()) {
+		}
+
+		Path file = Files.createTempFile("jcel", ".checkpoint");
+		try {
+			IntegerEntityManager interruptedEntityManager = new IntegerEntityManagerImpl();
+			RuleBasedProcessor interrupted = createProcessor(interruptedEntityManager, chainLength, configuration);
+			for (int index = 0; index < 3 * chainLength; index++) {
+				interrupted.process();
+			}
+			Assert.assertFalse(interrupted.isReady());
+			interrupted.writeCheckpoint(file);
+
+			IntegerEntityManager resumedEntityManager = new IntegerEntityManagerImpl();
+			RuleBasedProcessor resumed = createProcessor(resumedEntityManager, chainLength, configuration);
+			resumed.resume(file);
+			while (resumed.process()) {
+			}
+			while (interrupted.process()) {
+			}
+
+			Assert.assertEquals(expected.getClassHierarchy(), resumed.getClassHierarchy());
+			Assert.assertEquals(expected.getObjectPropertyHierarchy(), resumed.getObjectPropertyHierarchy());
+			Assert.assertEquals(interruptedEntityManager, resumedEntityManager);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	/**
+	 * Tests that the periodic checkpoints of a multi-threaded processor can be
+	 * resumed, and that a checkpoint of another ontology is rejected, even if
+	 * the other ontology has the same size.
+	 * 
+	 * @throws IOException
+	 *             if something goes wrong with the temporary file
+	 */
+	@Test
+	public void testResumePeriodicCheckpoint() throws IOException {
+		RuleBasedProcessor expected = createProcessor(new IntegerEntityManagerImpl(), chainLength,
+				new RuleBasedProcessorConfiguration());
+		while (expected.process()) {
+		}
+
+		Path file = Files.createTempFile("jcel", ".checkpoint");
+		try {
+			RuleBasedProcessorConfiguration configuration = new RuleBasedProcessorConfiguration();
+			configuration.setNumberOfThreads(2);
+			configuration.setCheckpointFile(Optional.of(file));
+			configuration.setCheckpointInterval(chainLength);
+			RuleBasedProcessor checkpointed = createProcessor(new IntegerEntityManagerImpl(), chainLength,
+					configuration);
+			while (checkpointed.process()) {
+			}
+			Assert.assertEquals(expected.getClassHierarchy(), checkpointed.getClassHierarchy());
+
+			RuleBasedProcessor resumed = createProcessor(new IntegerEntityManagerImpl(), chainLength,
+					new RuleBasedProcessorConfiguration());
+			resumed.resume(file);
+			while (resumed.process()) {
+			}
+			Assert.assertEquals(expected.getClassHierarchy(), resumed.getClassHierarchy());
+
+			RuleBasedProcessor other = createProcessor(new IntegerEntityManagerImpl(), chainLength + 1,
+					new RuleBasedProcessorConfiguration());
+			try {
+				other.resume(file);
+				Assert.fail();
+			} catch (IOException e) {
+				// expected
+			}
+
+			RuleBasedProcessor sameSize = createProcessor(new IntegerEntityManagerImpl(), chainLength, true,
+					new RuleBasedProcessorConfiguration());
+			try {
+				sameSize.resume(file);
+				Assert.fail();
+			} catch (IOException e) {
+				// expected
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	/**
+	 * Tests that the queues of a status are kept when writing a checkpoint
+	 * fails in the middle of the queues.
+	 * 
+	 * @throws IOException
+	 *             if something goes wrong with the byte array
+	 */
+	@Test
+	public void testWriteCheckpointFailure() throws IOException {
+		ClassifierStatusImpl status = new ClassifierStatusImpl(new IntegerEntityManagerImpl(),
+				new ExtendedOntologyImpl());
+		for (int index = 0; index < 10; index++) {
+			status.addNewSEntry(index, index + 1);
+			status.addNewREntry(index, index + 1, index + 2);
+		}
+
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		status.writeCheckpoint(new DataOutputStream(expected));
+
+		int limit = expected.size() - 4 * (1 + 3 * 10) - 4 * 5;
+		try {
+			status.writeCheckpoint(new DataOutputStream(new FailingOutputStream(limit)));
+			Assert.fail();
+		} catch (IOException e) {
+			// expected
+		}
+		Assert.assertEquals(10, status.getNumberOfSEntries());
+		Assert.assertEquals(10, status.getNumberOfREntries());
+
+		ByteArrayOutputStream actual = new ByteArrayOutputStream();
+		status.writeCheckpoint(new DataOutputStream(actual));
+		Assert.assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+	}
+
+	/**
+	 * An output stream that fails after a given number of bytes.
+	 */
+	private static class FailingOutputStream extends OutputStream {
+
+		private int remaining;
+
+		public FailingOutputStream(int limit) {
+			this.remaining = limit;
+		}
+
+		@Override
+		public void write(int value) throws IOException {
+			if (this.remaining <= 0) {
+				throw new IOException("Simulated write failure.");
+			}
+			this.remaining--;
+		}
+
+	}
+
+}
@@ -0,0 +1,255 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.algorithm.rulebased;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR1SRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR2SRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR3SRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR4RRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR4SRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR5RRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR6RRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR6RTrRule;
+import de.tudresden.inf.lat.jcel.core.completion.basic.CR7SRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.ClassifierStatus;
+import de.tudresden.inf.lat.jcel.core.completion.common.RObserverRule;
+import de.tudresden.inf.lat.jcel.core.completion.common.SObserverRule;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.ExtendedOntologyImpl;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactoryImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+
+/**
+ * Tests for {@link RuleIndex} and the selection of rules in {@link SChain} and
+ * {@link RChain}.
+ * 
+ * @author Julian Mendez
+ */
+public class RuleIndexTest {
+
+	private final Set<IntegerAnnotation> annotations = new TreeSet<>();
+	private final IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+	private final NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+
+	public RuleIndexTest() {
+	}
+
+	private int createClass(String name) {
+		return this.entityManager.createNamedEntity(IntegerEntityType.CLASS, name, false);
+	}
+
+	private int createObjectProperty(String name) {
+		return this.entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, name, false);
+	}
+
+	private Set<String> set(String... names) {
+		return new TreeSet<>(Arrays.asList(names));
+	}
+
+	/**
+	 * Tests that the index keeps the stored values, and that it forgets them
+	 * when it is cleared or used with another extended ontology.
+	 */
+	@Test
+	public void testGetAndPut() {
+		RuleIndex index = new RuleIndex();
+		ExtendedOntologyImpl ontology = new ExtendedOntologyImpl();
+		Assert.assertEquals(RuleIndex.notComputed, index.get(ontology, 3));
+
+		index.put(3, 5);
+		index.put(100, 0);
+		Assert.assertEquals(5, index.get(ontology, 3));
+		Assert.assertEquals(0, index.get(ontology, 100));
+		Assert.assertEquals(RuleIndex.notComputed, index.get(ontology, 4));
+		Assert.assertEquals(RuleIndex.notComputed, index.get(ontology, -1));
+
+		index.clear();
+		Assert.assertEquals(RuleIndex.notComputed, index.get(ontology, 3));
+
+		index.put(3, 5);
+		Assert.assertEquals(RuleIndex.notComputed, index.get(new ExtendedOntologyImpl(), 3));
+	}
+
+	/**
+	 * Tests that each chain only calls the rules that could be applied to the
+	 * axioms of each class and object property. The ontology is:
+	 * <ul>
+	 * <li>A \u2291 B ,</li>
+	 * <li>C \u2293 D \u2291 B ,</li>
+	 * <li>E \u2291 &exist; r <i>.</i> B ,</li>
+	 * <li>&exist; r <i>.</i> F \u2291 B ,</li>
+	 * <li>s \u2291 w ,</li>
+	 * <li>t &#x2218; v \u2291 w ,</li>
+	 * <li>u &#x2218; u \u2291 u .</li>
+	 * </ul>
+	 */
+	@Test
+	public void testSelectionOfRules() {
+		int a = createClass("A");
+		int b = createClass("B");
+		int c = createClass("C");
+		int d = createClass("D");
+		int e = createClass("E");
+		int f = createClass("F");
+		int k = createClass("K");
+		int r = createObjectProperty("r");
+		int s = createObjectProperty("s");
+		int t = createObjectProperty("t");
+		int u = createObjectProperty("u");
+		int v = createObjectProperty("v");
+		int w = createObjectProperty("w");
+
+		Set<NormalizedIntegerAxiom> axioms = new HashSet<>();
+		axioms.add(this.factory.createGCI0Axiom(a, b, this.annotations));
+		axioms.add(this.factory.createGCI1Axiom(c, d, b, this.annotations));
+		axioms.add(this.factory.createGCI2Axiom(e, r, b, this.annotations));
+		axioms.add(this.factory.createGCI3Axiom(r, f, b, this.annotations));
+		axioms.add(this.factory.createRI2Axiom(s, w, this.annotations));
+		axioms.add(this.factory.createRI3Axiom(t, v, w, this.annotations));
+		axioms.add(this.factory.createRI3Axiom(u, u, u, this.annotations));
+		ExtendedOntologyImpl ontology = new ExtendedOntologyImpl();
+		ontology.load(axioms);
+		ClassifierStatus status = new ClassifierStatusImpl(this.entityManager, ontology);
+
+		Set<String> applied = new TreeSet<>();
+		List<SObserverRule> listS = new ArrayList<>();
+		Arrays.asList(new CR1SRule(), new CR2SRule(), new CR3SRule(), new CR4SRule(), new CR7SRule())
+				.forEach(rule -> listS.add(new RecordingRule(rule, applied)));
+		SChain chainS = new SChain(listS);
+		List<RObserverRule> listR = new ArrayList<>();
+		Arrays.asList(new CR4RRule(), new CR5RRule(), new CR6RRule(), new CR6RTrRule())
+				.forEach(rule -> listR.add(new RecordingRule(rule, applied)));
+		RChain chainR = new RChain(listR);
+
+		int[] classes = { a, b, c, d, e, f, k, IntegerEntityManager.bottomClassId };
+		List<Set<String>> expectedS = Arrays.asList(set("CR1SRule"), set(), set("CR2SRule"), set("CR2SRule"),
+				set("CR3SRule"), set("CR4SRule"), set(), set("CR7SRule"));
+		for (int index = 0; index < classes.length; index++) {
+			applied.clear();
+			chainS.apply(status, k, classes[index]);
+			Assert.assertEquals(expectedS.get(index), applied);
+			Assert.assertEquals(!applied.isEmpty(), chainS.isApplicableToSuperClass(status, classes[index]));
+		}
+
+		int[] properties = { r, s, t, u, v, w };
+		List<Set<String>> expectedR = Arrays.asList(set("CR4RRule"), set("CR5RRule"), set("CR6RRule"),
+				set("CR6RRule", "CR6RTrRule"), set("CR6RRule"), set());
+		for (int index = 0; index < properties.length; index++) {
+			applied.clear();
+			chainR.apply(status, properties[index], k, k);
+			Assert.assertEquals(expectedR.get(index), applied);
+			Assert.assertEquals(!applied.isEmpty(), chainR.isApplicableToProperty(status, properties[index]));
+		}
+
+		ontology.load(Collections.singleton(this.factory.createGCI0Axiom(k, b, this.annotations)));
+		applied.clear();
+		chainS.apply(status, k, k);
+		Assert.assertEquals(set(), applied);
+
+		chainS.clearIndex();
+		applied.clear();
+		chainS.apply(status, k, k);
+		Assert.assertEquals(set("CR1SRule"), applied);
+	}
+
+	/**
+	 * Rule that records its name when it is called, and that only decides
+	 * whether it could be applied by asking the recorded rule.
+	 */
+	private static class RecordingRule implements RObserverRule, SObserverRule {
+
+		private final Set<String> applied;
+		private final Object rule;
+
+		RecordingRule(Object rule, Set<String> applied) {
+			Objects.requireNonNull(rule);
+			Objects.requireNonNull(applied);
+			this.rule = rule;
+			this.applied = applied;
+		}
+
+		@Override
+		public boolean apply(ClassifierStatus status, int property, int leftClass, int rightClass) {
+			this.applied.add(this.rule.toString());
+			return false;
+		}
+
+		@Override
+		public boolean apply(ClassifierStatus status, int subClass, int superClass) {
+			this.applied.add(this.rule.toString());
+			return false;
+		}
+
+		@Override
+		public boolean isApplicableToProperty(ClassifierStatus status, int property) {
+			return ((RObserverRule) this.rule).isApplicableToProperty(status, property);
+		}
+
+		@Override
+		public boolean isApplicableToSuperClass(ClassifierStatus status, int superClass) {
+			return ((SObserverRule) this.rule).isApplicableToSuperClass(status, superClass);
+		}
+
+	}
+
+}
@@ -108,4 +108,53 @@ public class ArraySetTest {
 		});
 	}
 
+	@Test
+	public void testPrimitiveIteration() {
+		Set<Integer> treeSet = new TreeSet<>();
+		ArraySet arraySet = new ArraySet();
+
+		IntStream.range(0, 0x1000).forEach(i -> {
+			int element = (i * 7) % 0xF0;
+			treeSet.add(element);
+			arraySet.add(element);
+		});
+
+		Iterator<Integer> it0 = treeSet.iterator();
+		arraySet.forEachInt(e -> {
+			Assert.assertEquals(it0.next().intValue(), e);
+		});
+		Assert.assertFalse(it0.hasNext());
+
+		Iterator<Integer> it1 = treeSet.iterator();
+		IntIterator intIterator = arraySet.intIterator();
+		while (intIterator.hasNext()) {
+			Assert.assertEquals(it1.next().intValue(), intIterator.nextInt());
+		}
+		Assert.assertFalse(it1.hasNext());
+
+		Assert.assertEquals(arraySet, new ArraySet(arraySet));
+	}
+
+	@Test
+	public void testRemoval() {
+		Set<Integer> treeSet = new TreeSet<>();
+		ArraySet arraySet = new ArraySet();
+
+		IntStream.range(0, 0x100).forEach(i -> {
+			treeSet.add(i);
+			arraySet.add(i);
+		});
+
+		IntStream.range(0, 0x100).filter(i -> (i % 3) == 0).forEach(i -> {
+			Assert.assertTrue(arraySet.remove(i));
+			Assert.assertFalse(arraySet.remove(i));
+			treeSet.remove(i);
+		});
+
+		Assert.assertEquals(treeSet.size(), arraySet.size());
+		IntStream.range(0, 0x100).forEach(i -> {
+			Assert.assertEquals(treeSet.contains(i), arraySet.contains(i));
+		});
+	}
+
 }
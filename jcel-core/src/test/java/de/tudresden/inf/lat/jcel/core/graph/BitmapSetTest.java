@@ -0,0 +1,191 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for compressed bitmaps.
+ * 
+ * @author Julian Mendez
+ */
+public class BitmapSetTest {
+
+	public BitmapSetTest() {
+	}
+
+	/**
+	 * Tests that two threads comparing the same sets in opposite orders do not
+	 * deadlock.
+	 * 
+	 * @throws InterruptedException
+	 *             if the test is interrupted
+	 */
+	@Test
+	public void testConcurrentEquality() throws InterruptedException {
+		BitmapSet bitmapSet0 = new BitmapSet();
+		BitmapSet bitmapSet1 = new BitmapSet();
+		IntStream.range(0, 0x400).forEach(i -> {
+			bitmapSet0.add(i);
+			bitmapSet1.add(i);
+		});
+
+		int numberOfComparisons = 0x10000;
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		executor.execute(() -> IntStream.range(0, numberOfComparisons)
+				.forEach(i -> Assert.assertTrue(bitmapSet0.equals(bitmapSet1))));
+		executor.execute(() -> IntStream.range(0, numberOfComparisons)
+				.forEach(i -> Assert.assertTrue(bitmapSet1.equals(bitmapSet0))));
+		executor.shutdown();
+		Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+	}
+
+	@Test
+	public void testInclusion() {
+		BitmapSet bitmapSet0 = new BitmapSet();
+		BitmapSet bitmapSet1 = new BitmapSet();
+		ArraySet arraySet = new ArraySet();
+
+		IntStream.range(0, 0x1000).forEach(i -> {
+			bitmapSet0.add(i);
+			if ((i % 5) == 0) {
+				bitmapSet1.add(i);
+				arraySet.add(i);
+			}
+		});
+
+		Assert.assertTrue(bitmapSet0.includes(bitmapSet1));
+		Assert.assertTrue(bitmapSet0.includes(arraySet));
+		Assert.assertTrue(arraySet.includes(bitmapSet1));
+		Assert.assertFalse(bitmapSet1.includes(bitmapSet0));
+
+		bitmapSet1.add(0x2000);
+		Assert.assertFalse(bitmapSet0.includes(bitmapSet1));
+		Assert.assertFalse(bitmapSet0.containsAll(bitmapSet1));
+
+		bitmapSet1.remove(0x2000);
+		Assert.assertTrue(bitmapSet0.containsAll(bitmapSet1));
+	}
+
+	@Test
+	public void testInsertion() {
+		BitmapSet bitmapSet = new BitmapSet();
+		Set<Integer> treeSet = new TreeSet<>();
+
+		IntStream.range(0, 0x1000).forEach(i -> {
+			int element = (i * 37) % 0x3FF;
+			treeSet.add(element);
+			bitmapSet.add(element);
+			Assert.assertEquals(treeSet.size(), bitmapSet.size());
+		});
+
+		IntStream.range(-0x100, 0x1000).forEach(i -> {
+			Assert.assertEquals(treeSet.contains(i), bitmapSet.contains(i));
+		});
+		Assert.assertEquals(0x10, bitmapSet.getNumberOfWords());
+	}
+
+	@Test
+	public void testIteration() {
+		Set<Integer> treeSet = new TreeSet<>();
+		BitmapSet bitmapSet = new BitmapSet();
+
+		IntStream.range(-0x80, 0x1000).forEach(i -> {
+			int element = (i * 7) % 0x1F0;
+			treeSet.add(element);
+			bitmapSet.add(element);
+		});
+
+		Iterator<Integer> it0 = treeSet.iterator();
+		bitmapSet.forEach(e -> {
+			Assert.assertEquals(it0.next(), e);
+		});
+		Assert.assertFalse(it0.hasNext());
+
+		Iterator<Integer> it1 = treeSet.iterator();
+		bitmapSet.forEachInt(e -> {
+			Assert.assertEquals(it1.next().intValue(), e);
+		});
+		Assert.assertFalse(it1.hasNext());
+
+		Assert.assertEquals(bitmapSet, new BitmapSet(bitmapSet));
+		Assert.assertEquals(bitmapSet.hashCode(), new BitmapSet(bitmapSet).hashCode());
+	}
+
+	@Test
+	public void testRemoval() {
+		Set<Integer> treeSet = new TreeSet<>();
+		BitmapSet bitmapSet = new BitmapSet();
+
+		IntStream.range(0, 0x400).forEach(i -> {
+			treeSet.add(i);
+			bitmapSet.add(i);
+		});
+
+		IntStream.range(0, 0x400).filter(i -> ((i % 3) == 0) || (i < 0x100)).forEach(i -> {
+			Assert.assertTrue(bitmapSet.remove(i));
+			Assert.assertFalse(bitmapSet.remove(i));
+			treeSet.remove(i);
+		});
+
+		Assert.assertEquals(treeSet.size(), bitmapSet.size());
+		Assert.assertEquals(0xC, bitmapSet.getNumberOfWords());
+		IntStream.range(0, 0x400).forEach(i -> {
+			Assert.assertEquals(treeSet.contains(i), bitmapSet.contains(i));
+		});
+	}
+
+}
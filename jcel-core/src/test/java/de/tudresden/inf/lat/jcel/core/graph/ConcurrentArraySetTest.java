@@ -0,0 +1,131 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for copy-on-write arrays.
+ * 
+ * @author Julian Mendez
+ */
+public class ConcurrentArraySetTest {
+
+	public ConcurrentArraySetTest() {
+	}
+
+	@Test
+	public void testConcurrentInsertion() throws InterruptedException {
+		int numberOfThreads = 4;
+		int numberOfElements = 0x800;
+		ConcurrentArraySet concurrentArraySet = new ConcurrentArraySet();
+		List<Thread> threads = new ArrayList<>();
+		IntStream.range(0, numberOfThreads).forEach(t -> {
+			threads.add(new Thread(() -> {
+				IntStream.range(0, numberOfElements).forEach(i -> {
+					concurrentArraySet.add((i * numberOfThreads) + t);
+					concurrentArraySet.forEachInt(e -> Assert.assertTrue(e < (numberOfElements * numberOfThreads)));
+				});
+			}));
+		});
+		threads.forEach(thread -> thread.start());
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		Assert.assertEquals(numberOfElements * numberOfThreads, concurrentArraySet.size());
+		IntStream.range(0, numberOfElements * numberOfThreads).forEach(i -> {
+			Assert.assertTrue(concurrentArraySet.contains(i));
+		});
+	}
+
+	@Test
+	public void testIteration() {
+		Set<Integer> treeSet = new TreeSet<>();
+		ConcurrentArraySet concurrentArraySet = new ConcurrentArraySet();
+
+		IntStream.range(0, 0x1000).forEach(i -> {
+			int element = i % 0xF0;
+			treeSet.add(element);
+			concurrentArraySet.add(element);
+			Assert.assertEquals(treeSet.size(), concurrentArraySet.size());
+		});
+
+		Iterator<Integer> it = treeSet.iterator();
+		concurrentArraySet.forEachInt(e -> {
+			Assert.assertEquals(it.next().intValue(), e);
+			concurrentArraySet.add(e + 0x100);
+		});
+		Assert.assertFalse(it.hasNext());
+		Assert.assertEquals(2 * treeSet.size(), concurrentArraySet.size());
+	}
+
+	@Test
+	public void testRemoval() {
+		ConcurrentArraySet concurrentArraySet = new ConcurrentArraySet(new BitmapSet());
+		IntStream.range(0, 0x100).forEach(i -> concurrentArraySet.add(i));
+
+		IntStream.range(0, 0x100).filter(i -> (i % 3) == 0).forEach(i -> {
+			Assert.assertTrue(concurrentArraySet.remove(i));
+			Assert.assertFalse(concurrentArraySet.remove(i));
+		});
+
+		IntStream.range(0, 0x100).forEach(i -> {
+			Assert.assertEquals((i % 3) != 0, concurrentArraySet.contains(i));
+		});
+		Assert.assertEquals(concurrentArraySet, new ConcurrentArraySet(concurrentArraySet));
+	}
+
+}
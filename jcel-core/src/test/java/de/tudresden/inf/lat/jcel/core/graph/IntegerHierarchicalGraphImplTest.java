@@ -0,0 +1,134 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the construction of hierarchical graphs.
+ * 
+ * @author Julian Mendez
+ */
+public class IntegerHierarchicalGraphImplTest {
+
+	private static final int bottom = 0;
+	private static final int top = 1;
+
+	public IntegerHierarchicalGraphImplTest() {
+	}
+
+	private IntegerSubsumerGraphImpl createGraph(int size) {
+		IntegerSubsumerGraphImpl ret = new IntegerSubsumerGraphImpl(bottom, top);
+		for (int elem = 0; elem < size; elem++) {
+			ret.add(elem);
+			ret.addAncestor(elem, elem);
+			ret.addAncestor(elem, top);
+		}
+		return ret;
+	}
+
+	private Set<Integer> set(Integer... elements) {
+		return new HashSet<>(Arrays.asList(elements));
+	}
+
+	/**
+	 * Builds the hierarchy of a diamond with two equivalent elements and an
+	 * unsatisfiable element: 3 &sqsube; 2, 4 &sqsube; 2, 2 &equiv; 5, 6
+	 * &sqsube; 3, 6 &sqsube; 4, and 7 &sqsube; 6 &sqcap; &perp;.
+	 */
+	@Test
+	public void testDiamond() {
+		IntegerSubsumerGraphImpl graph = createGraph(8);
+		int[][] pairs = { { 2, 5 }, { 5, 2 }, { 3, 2 }, { 3, 5 }, { 4, 2 }, { 4, 5 }, { 6, 2 }, { 6, 3 }, { 6, 4 },
+				{ 6, 5 } };
+		Arrays.stream(pairs).forEach(pair -> graph.addAncestor(pair[0], pair[1]));
+		graph.addAncestor(7, bottom);
+
+		IntegerHierarchicalGraphImpl hierarchy = new IntegerHierarchicalGraphImpl(graph);
+		Assert.assertEquals(set(top), hierarchy.getParents(2));
+		Assert.assertEquals(set(2, 5), hierarchy.getEquivalents(5));
+		Assert.assertEquals(set(2, 5), hierarchy.getParents(3));
+		Assert.assertEquals(set(3, 4), hierarchy.getParents(6));
+		Assert.assertEquals(set(3, 4), hierarchy.getChildren(5));
+		Assert.assertEquals(set(bottom, 7), hierarchy.getEquivalents(bottom));
+		Assert.assertEquals(set(bottom, 7), hierarchy.getChildren(6));
+		Assert.assertEquals(Collections.emptySet(), hierarchy.getParents(top));
+
+		Assert.assertEquals(hierarchy, new IntegerHierarchicalGraphImpl(graph, 4));
+	}
+
+	/**
+	 * Builds the hierarchy of a long chain of subsumptions, which must not
+	 * depend on the depth of the call stack.
+	 */
+	@Test
+	public void testLongChain() {
+		int size = 2000;
+		IntegerSubsumerGraphImpl graph = createGraph(size);
+		for (int elem = 3; elem < size; elem++) {
+			for (int ancestor = 2; ancestor < elem; ancestor++) {
+				graph.addAncestor(elem, ancestor);
+			}
+		}
+
+		IntegerHierarchicalGraphImpl hierarchy = new IntegerHierarchicalGraphImpl(graph, 2);
+		for (int elem = 3; elem < size; elem++) {
+			Assert.assertEquals(set(elem - 1), hierarchy.getParents(elem));
+		}
+		Assert.assertEquals(set(size - 1), hierarchy.getParents(bottom));
+		Assert.assertEquals(size - 2, hierarchy.getDescendants(2).size());
+		Assert.assertEquals(hierarchy, new IntegerHierarchicalGraphImpl(graph));
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for taxonomies stored in arrays.
+ * 
+ * @author Julian Mendez
+ */
+public class IntegerTaxonomyTest {
+
+	private static final int bottom = 0;
+	private static final int top = 1;
+
+	public IntegerTaxonomyTest() {
+	}
+
+	private Set<Integer> set(Integer... elements) {
+		return new HashSet<>(Arrays.asList(elements));
+	}
+
+	/**
+	 * Compares a taxonomy with the hierarchical graph it comes from. The graph
+	 * has 3 &sqsube; 2, 2 &equiv; 4, 5 &sqsube; 3, 6 &sqsube; 4, 7 &sqsube;
+	 * 5, 7 &sqsube; 6, and 8 &sqsube; &perp;.
+	 */
+	@Test
+	public void testTaxonomy() {
+		IntegerSubsumerGraphImpl subsumerGraph = new IntegerSubsumerGraphImpl(bottom, top);
+		for (int elem = 0; elem < 9; elem++) {
+			subsumerGraph.add(elem);
+			subsumerGraph.addAncestor(elem, elem);
+			subsumerGraph.addAncestor(elem, top);
+		}
+		int[][] pairs = { { 2, 4 }, { 4, 2 }, { 3, 2 }, { 3, 4 }, { 5, 2 }, { 5, 3 }, { 5, 4 }, { 6, 2 }, { 6, 4 },
+				{ 7, 2 }, { 7, 3 }, { 7, 4 }, { 7, 5 }, { 7, 6 } };
+		Arrays.stream(pairs).forEach(pair -> subsumerGraph.addAncestor(pair[0], pair[1]));
+		subsumerGraph.addAncestor(8, bottom);
+		IntegerHierarchicalGraphImpl graph = new IntegerHierarchicalGraphImpl(subsumerGraph);
+
+		IntegerTaxonomy taxonomy = new IntegerTaxonomy(graph);
+		Assert.assertEquals(graph, taxonomy);
+		Assert.assertEquals(taxonomy, graph);
+		Assert.assertEquals(graph.hashCode(), taxonomy.hashCode());
+
+		Assert.assertEquals(set(top, 2, 3, 4, 5, 6), taxonomy.getAncestors(7));
+		Assert.assertEquals(set(3, 5, 6, 7, bottom, 8), taxonomy.getDescendants(2));
+		Assert.assertEquals(set(2, 4), taxonomy.getEquivalents(4));
+		Assert.assertEquals(set(5, 6), taxonomy.getParents(7));
+		for (Integer elem : graph.getElements()) {
+			Assert.assertEquals(graph.getAncestors(elem), taxonomy.getAncestors(elem));
+			Assert.assertEquals(graph.getDescendants(elem), taxonomy.getDescendants(elem));
+		}
+		Assert.assertTrue(taxonomy.getAncestors(bottom).contains(top));
+		Assert.assertFalse(taxonomy.getAncestors(top).contains(bottom));
+
+		Assert.assertTrue(taxonomy.isSubsumedBy(7, 3));
+		Assert.assertTrue(taxonomy.isSubsumedBy(7, 4));
+		Assert.assertTrue(taxonomy.isSubsumedBy(2, 4));
+		Assert.assertTrue(taxonomy.isSubsumedBy(8, 7));
+		Assert.assertTrue(taxonomy.isSubsumedBy(3, top));
+		Assert.assertFalse(taxonomy.isSubsumedBy(6, 3));
+		Assert.assertFalse(taxonomy.isSubsumedBy(top, 3));
+	}
+
+}
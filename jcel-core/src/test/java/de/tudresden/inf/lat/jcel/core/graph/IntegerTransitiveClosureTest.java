@@ -0,0 +1,120 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IntegerTransitiveClosure}.
+ * 
+ * @author Julian Mendez
+ */
+public class IntegerTransitiveClosureTest {
+
+	public IntegerTransitiveClosureTest() {
+	}
+
+	@Test
+	public void testLongCycle() {
+		IntegerTransitiveClosure closure = new IntegerTransitiveClosure();
+		int length = 0x10000;
+		IntStream.range(0, length).forEach(i -> closure.addPair(i, (i + 1) % length));
+		closure.addPair(length - 1, length);
+
+		Assert.assertEquals(length + 1, closure.size());
+		Assert.assertEquals(length + 1, closure.getReachable(0).size());
+		Assert.assertEquals(length + 1, closure.getReachable(length / 2).size());
+		Assert.assertEquals(1, closure.getReachable(length).size());
+		Assert.assertEquals(1, closure.getReachable(2 * length).size());
+	}
+
+	@Test
+	public void testRandomGraphs() {
+		Random random = new Random(0x1F);
+		for (int round = 0; round < 0x20; round++) {
+			IntegerTransitiveClosure closure = new IntegerTransitiveClosure();
+			Map<Integer, Set<Integer>> expected = new HashMap<>();
+			int numberOfElements = 1 + random.nextInt(0x40);
+			int numberOfPairs = random.nextInt(2 * numberOfElements);
+			IntStream.range(0, numberOfElements).forEach(i -> {
+				closure.add(10 * i);
+				Set<Integer> reachable = new HashSet<>();
+				reachable.add(10 * i);
+				expected.put(10 * i, reachable);
+			});
+			IntStream.range(0, numberOfPairs).forEach(i -> {
+				int first = 10 * random.nextInt(numberOfElements);
+				int second = 10 * random.nextInt(numberOfElements);
+				closure.addPair(first, second);
+				expected.get(first).add(second);
+			});
+
+			boolean hasChanged = true;
+			while (hasChanged) {
+				hasChanged = false;
+				for (Set<Integer> reachable : expected.values()) {
+					Set<Integer> next = new HashSet<>();
+					reachable.forEach(elem -> next.addAll(expected.get(elem)));
+					hasChanged = reachable.addAll(next) || hasChanged;
+				}
+			}
+
+			expected.forEach((elem, reachable) -> Assert.assertEquals(reachable, closure.getReachable(elem)));
+			expected.forEach((first, reachable) -> expected.keySet().forEach(
+					second -> Assert.assertEquals(reachable.contains(second), closure.isReachable(first, second))));
+		}
+	}
+
+}
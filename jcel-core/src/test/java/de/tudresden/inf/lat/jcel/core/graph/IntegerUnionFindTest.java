@@ -0,0 +1,114 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the union-find partition.
+ * 
+ * @author Julian Mendez
+ */
+public class IntegerUnionFindTest {
+
+	public IntegerUnionFindTest() {
+	}
+
+	@Test
+	public void testLongChain() {
+		IntegerUnionFind partition = new IntegerUnionFind();
+		IntStream.range(0, 0x1000).forEach(i -> {
+			partition.add(2 * i);
+			partition.add(2 * i + 1);
+			if (i > 0) {
+				Assert.assertTrue(partition.union(2 * (i - 1), 2 * i));
+			}
+		});
+
+		Assert.assertEquals(0x2000, partition.size());
+		int representative = partition.find(0);
+		IntStream.range(0, 0x1000).forEach(i -> {
+			Assert.assertEquals(representative, partition.find(2 * i));
+			Assert.assertNotEquals(representative, partition.find(2 * i + 1));
+		});
+		Assert.assertEquals(0x1001, partition.getSubsets().size());
+	}
+
+	@Test
+	public void testSubsets() {
+		IntegerUnionFind partition = new IntegerUnionFind();
+		Assert.assertTrue(partition.getSubsets().isEmpty());
+
+		Assert.assertTrue(partition.add(9));
+		Assert.assertFalse(partition.add(9));
+		Assert.assertTrue(partition.union(7, 3));
+		Assert.assertTrue(partition.union(5, 8));
+		Assert.assertTrue(partition.union(8, 2));
+		Assert.assertFalse(partition.union(2, 5));
+		Assert.assertFalse(partition.union(6, 6));
+		Assert.assertFalse(partition.contains(4));
+
+		List<Set<Integer>> expected = new ArrayList<>();
+		expected.add(new TreeSet<>(Arrays.asList(2, 5, 8)));
+		expected.add(new TreeSet<>(Arrays.asList(3, 7)));
+		expected.add(new TreeSet<>(Arrays.asList(6)));
+		expected.add(new TreeSet<>(Arrays.asList(9)));
+		Assert.assertEquals(expected, partition.getSubsets());
+		Assert.assertEquals(7, partition.size());
+		Assert.assertEquals(partition.find(2), partition.find(8));
+		Assert.assertNotEquals(partition.find(3), partition.find(5));
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.core.saturation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotationImpl;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactoryImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+
+/**
+ * Tests for {@link SR1AndSR2Rules}.
+ * 
+ * @author Julian Mendez
+ */
+public class SR1AndSR2RulesTest {
+
+	public SR1AndSR2RulesTest() {
+	}
+
+	private Set<IntegerAnnotation> annotations(IntegerAnnotation... annotations) {
+		return new TreeSet<>(Arrays.asList(annotations));
+	}
+
+	/**
+	 * Tests that the inclusions inferred by SR-2 merge the annotations of the
+	 * inclusions on the paths between their object properties. The inclusions
+	 * are r &#8849; s (a), s &#8849; t, t &#8849; u (b) and u &#8849; v (c),
+	 * where only the first three are on the paths from r to u.
+	 */
+	@Test
+	public void testAnnotationsOfInferredInclusions() {
+		IntegerEntityManager entityManager = new IntegerEntityManagerImpl();
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		int r = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "r", false);
+		int s = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "s", false);
+		int t = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "t", false);
+		int u = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "u", false);
+		int v = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "v", false);
+		IntegerAnnotation a = new IntegerAnnotationImpl(1, 1);
+		IntegerAnnotation b = new IntegerAnnotationImpl(1, 2);
+		IntegerAnnotation c = new IntegerAnnotationImpl(1, 3);
+
+		Set<NormalizedIntegerAxiom> ontology = new HashSet<>();
+		ontology.add(factory.createRI2Axiom(r, s, annotations(a)));
+		ontology.add(factory.createRI2Axiom(s, t, Collections.emptySet()));
+		ontology.add(factory.createRI2Axiom(t, u, annotations(b)));
+		ontology.add(factory.createRI2Axiom(u, v, annotations(c)));
+
+		Set<NormalizedIntegerAxiom> saturated = new SR1AndSR2Rules(factory, entityManager).apply(ontology);
+
+		Assert.assertTrue(saturated.containsAll(ontology));
+		Assert.assertTrue(saturated.contains(factory.createRI2Axiom(r, t, annotations(a))));
+		Assert.assertTrue(saturated.contains(factory.createRI2Axiom(r, u, annotations(a, b))));
+		Assert.assertTrue(saturated.contains(factory.createRI2Axiom(r, v, annotations(a, b, c))));
+		Assert.assertTrue(saturated.contains(factory.createRI2Axiom(s, u, annotations(b))));
+		Assert.assertTrue(saturated.contains(factory.createRI2Axiom(t, v, annotations(b, c))));
+
+		int rMinus = entityManager.createOrGetInverseObjectPropertyOf(r);
+		int uMinus = entityManager.createOrGetInverseObjectPropertyOf(u);
+		Assert.assertTrue(saturated.contains(factory.createRI2Axiom(rMinus, uMinus, annotations(a, b))));
+		Assert.assertEquals(4 * 2 + 6 * 2, saturated.size());
+	}
+
+}
@@ -47,6 +47,7 @@
 package de.tudresden.inf.lat.jcel.coreontology.axiom;
 
 import java.util.Set;
+import java.util.function.IntConsumer;
 
 /**
  * This is the interface of an extended ontology provides methods to efficiently
@@ -77,6 +78,153 @@ public interface ExtendedOntology {
 	 */
 	void clear();
 
+	/**
+	 * Performs the given action for the superclass of each axiom GCI0 in the
+	 * ontology such that the given class occurs in the left part of the axiom.
+	 * 
+	 * @param classId
+	 *            class identifier occurring in the left part of the axiom
+	 * @param action
+	 *            action that receives the superclass
+	 */
+	default void forEachGCI0(int classId, IntConsumer action) {
+		getGCI0Axioms(classId).forEach(axiom -> action.accept(axiom.getSuperClass()));
+	}
+
+	/**
+	 * Performs the given action for each axiom GCI1 in the ontology such that
+	 * the given class occurs in the left part of the axiom. The action
+	 * receives the other class in the left part of the axiom and the
+	 * superclass.
+	 * 
+	 * @param classId
+	 *            class identifier occurring in the left part of the axiom
+	 * @param action
+	 *            action that receives the other class in the left part and
+	 *            the superclass
+	 */
+	default void forEachGCI1(int classId, IntPairConsumer action) {
+		getGCI1Axioms(classId).forEach(axiom -> action.accept(
+				(classId == axiom.getRightSubClass()) ? axiom.getLeftSubClass() : axiom.getRightSubClass(),
+				axiom.getSuperClass()));
+	}
+
+	/**
+	 * Performs the given action for each axiom GCI2 in the ontology such that
+	 * the given class occurs in the left part of the axiom. The action
+	 * receives the object property and the class in the right part of the
+	 * axiom.
+	 * 
+	 * @param classId
+	 *            class identifier occurring in the left part of the axiom
+	 * @param action
+	 *            action that receives the object property and the class in
+	 *            the right part
+	 */
+	default void forEachGCI2(int classId, IntPairConsumer action) {
+		getGCI2Axioms(classId)
+				.forEach(axiom -> action.accept(axiom.getPropertyInSuperClass(), axiom.getClassInSuperClass()));
+	}
+
+	/**
+	 * Performs the given action for each axiom GCI3 in the ontology such that
+	 * the given class occurs in the left part of the axiom. The action
+	 * receives the object property in the left part and the superclass.
+	 * 
+	 * @param classId
+	 *            class identifier occurring in the left part of the axiom
+	 * @param action
+	 *            action that receives the object property in the left part
+	 *            and the superclass
+	 */
+	default void forEachGCI3A(int classId, IntPairConsumer action) {
+		getGCI3AAxioms(classId).forEach(axiom -> action.accept(axiom.getPropertyInSubClass(), axiom.getSuperClass()));
+	}
+
+	/**
+	 * Performs the given action for the superclass of each axiom GCI3 in the
+	 * ontology such that the given object property and the given class occur
+	 * in the left part of the axiom.
+	 * 
+	 * @param objectPropertyId
+	 *            object property identifier occurring in the left part of the
+	 *            axiom
+	 * @param leftClassId
+	 *            class identifier occurring in the left part of the axiom
+	 * @param action
+	 *            action that receives the superclass
+	 */
+	default void forEachGCI3rA(int objectPropertyId, int leftClassId, IntConsumer action) {
+		getGCI3rAAxioms(objectPropertyId, leftClassId).forEach(axiom -> action.accept(axiom.getSuperClass()));
+	}
+
+	/**
+	 * Performs the given action for each axiom GCI3 in the ontology such that
+	 * the given object property occurs in the axiom. The action receives the
+	 * class in the left part and the superclass.
+	 * 
+	 * @param objectPropertyId
+	 *            object property identifier occurring in the axiom
+	 * @param action
+	 *            action that receives the class in the left part and the
+	 *            superclass
+	 */
+	default void forEachGCI3r(int objectPropertyId, IntPairConsumer action) {
+		getGCI3rAxioms(objectPropertyId)
+				.forEach(axiom -> action.accept(axiom.getClassInSubClass(), axiom.getSuperClass()));
+	}
+
+	/**
+	 * Performs the given action for the super object property of each axiom
+	 * RI2 in the ontology such that the given object property occurs in the
+	 * left part of the axiom.
+	 * 
+	 * @param objectPropertyId
+	 *            object property identifier occurring in the left part of the
+	 *            axiom
+	 * @param action
+	 *            action that receives the super object property
+	 */
+	default void forEachRI2r(int objectPropertyId, IntConsumer action) {
+		getRI2rAxioms(objectPropertyId).forEach(axiom -> action.accept(axiom.getSuperProperty()));
+	}
+
+	/**
+	 * Performs the given action for each axiom RI3 in the ontology such that
+	 * the given object property occurs in the left part of the object property
+	 * composition. The action receives the right part of the composition and
+	 * the super object property.
+	 * 
+	 * @param objectPropertyId
+	 *            object property identifier occurring in the left part of the
+	 *            composition
+	 * @param action
+	 *            action that receives the right part of the composition and
+	 *            the super object property
+	 */
+	default void forEachRI3ByLeft(int objectPropertyId, IntPairConsumer action) {
+		getRI3AxiomsByLeft(objectPropertyId)
+				.forEach(axiom -> action.accept(axiom.getRightSubProperty(), axiom.getSuperProperty()));
+	}
+
+	/**
+	 * Performs the given action for each axiom RI3 in the ontology such that
+	 * the given object property occurs in the right part of the object
+	 * property composition. The action receives the left part of the
+	 * composition and the super object property.
+	 * 
+	 * @param objectPropertyId
+	 *            object property identifier occurring in the right part of
+	 *            the composition
+	 * @param action
+	 *            action that receives the left part of the composition and
+	 *            the super object property
+	 */
+	default void forEachRI3ByRight(int objectPropertyId, IntPairConsumer action) {
+		getRI3AxiomsByRight(objectPropertyId)
+				.forEach(axiom -> action.accept(axiom.getLeftSubProperty(), axiom.getSuperProperty()));
+	}
+
 	/**
 	 * Returns the set of all classes in the ontology.
 	 * 
@@ -252,4 +400,13 @@ public interface ExtendedOntology {
 	 */
 	void load(Set<NormalizedIntegerAxiom> axiomSet);
 
+	/**
+	 * Unloads a set of normalized axioms. The classes and object properties
+	 * in the signature of the axioms are kept.
+	 * 
+	 * @param axiomSet
+	 *            set of normalized axioms to be unloaded
+	 */
+	void unload(Set<NormalizedIntegerAxiom> axiomSet);
+
 }
@@ -60,6 +60,83 @@ import java.util.Set;
  */
 public class ExtendedOntologyImpl implements ExtendedOntology, NormalizedIntegerAxiomVisitor<Boolean> {
 
+	/**
+	 * This is an auxiliary class used to unload axioms.
+	 */
+	private class AxiomUnloader implements NormalizedIntegerAxiomVisitor<Boolean> {
+
+		AxiomUnloader() {
+		}
+
+		@Override
+		public Boolean visit(FunctObjectPropAxiom axiom) {
+			return setOfFunctionalObjectProperties.remove(axiom.getProperty());
+		}
+
+		@Override
+		public Boolean visit(GCI0Axiom axiom) {
+			return removeFrom(axiom.getSubClass(), axiom, mapOfGCI0);
+		}
+
+		@Override
+		public Boolean visit(GCI1Axiom axiom) {
+			boolean ret = removeFrom(axiom.getLeftSubClass(), axiom, mapOfGCI1);
+			ret |= removeFrom(axiom.getRightSubClass(), axiom, mapOfGCI1);
+			return ret;
+		}
+
+		@Override
+		public Boolean visit(GCI2Axiom axiom) {
+			return removeFrom(axiom.getSubClass(), axiom, mapOfGCI2);
+		}
+
+		@Override
+		public Boolean visit(GCI3Axiom axiom) {
+			boolean ret = removeFrom(axiom.getPropertyInSubClass(), axiom, mapOfGCI3r);
+			ret |= removeFrom(axiom.getClassInSubClass(), axiom, mapOfGCI3A);
+			Map<Integer, Set<GCI3Axiom>> map = mapOfGCI3rA.get(axiom.getPropertyInSubClass());
+			if (Objects.nonNull(map)) {
+				ret |= removeFrom(axiom.getClassInSubClass(), axiom, map);
+			}
+			return ret;
+		}
+
+		@Override
+		public Boolean visit(NominalAxiom axiom) {
+			return removeFrom(axiom.getIndividual(), axiom, mapOfNominalAxiom);
+		}
+
+		@Override
+		public Boolean visit(RangeAxiom axiom) {
+			return removeFrom(axiom.getProperty(), axiom, mapOfRangeAxiom);
+		}
+
+		@Override
+		public Boolean visit(RI1Axiom axiom) {
+			return setOfReflexiveObjectProperties.remove(axiom.getSuperProperty());
+		}
+
+		@Override
+		public Boolean visit(RI2Axiom axiom) {
+			boolean ret = removeFrom(axiom.getSubProperty(), axiom, mapOfRI2r);
+			ret |= removeFrom(axiom.getSuperProperty(), axiom, mapOfRI2s);
+			return ret;
+		}
+
+		@Override
+		public Boolean visit(RI3Axiom axiom) {
+			Integer left = axiom.getLeftSubProperty();
+			Integer right = axiom.getRightSubProperty();
+			boolean ret = removeFrom(left, axiom, mapOfRI3ByLeft);
+			ret |= removeFrom(right, axiom, mapOfRI3ByRight);
+			if (left.equals(axiom.getSuperProperty()) && right.equals(axiom.getSuperProperty())) {
+				setOfTransitiveObjectProperties.remove(left);
+			}
+			return ret;
+		}
+
+	}
+
 	private final Map<Integer, Set<GCI0Axiom>> mapOfGCI0 = new HashMap<>();
 	private final Map<Integer, Set<GCI1Axiom>> mapOfGCI1 = new HashMap<>();
 	private final Map<Integer, Set<GCI2Axiom>> mapOfGCI2 = new HashMap<>();
@@ -315,6 +392,18 @@ public class ExtendedOntologyImpl implements ExtendedOntology, NormalizedInteger
 		});
 	}
 
+	private <T> boolean removeFrom(Integer key, T axiom, Map<Integer, Set<T>> map) {
+		boolean ret = false;
+		Set<T> axiomSet = map.get(key);
+		if (Objects.nonNull(axiomSet)) {
+			ret = axiomSet.remove(axiom);
+			if (axiomSet.isEmpty()) {
+				map.remove(key);
+			}
+		}
+		return ret;
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer sbuf = new StringBuffer();
@@ -331,6 +420,13 @@ public class ExtendedOntologyImpl implements ExtendedOntology, NormalizedInteger
 		return sbuf.toString();
 	}
 
+	@Override
+	public void unload(Set<NormalizedIntegerAxiom> axiomSet) {
+		Objects.requireNonNull(axiomSet);
+		AxiomUnloader unloader = new AxiomUnloader();
+		axiomSet.forEach(axiom -> axiom.accept(unloader));
+	}
+
 	@Override
 	public Boolean visit(FunctObjectPropAxiom axiom) {
 		Objects.requireNonNull(axiom);
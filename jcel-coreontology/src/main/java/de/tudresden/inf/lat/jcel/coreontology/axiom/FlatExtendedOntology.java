@@ -0,0 +1,473 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.coreontology.axiom;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * This class models an extended ontology that stores the axioms used by the
+ * completion rules in flat arrays indexed by identifier. Each kind of lookup
+ * is a table with one offset per identifier and one column of
+ * <code>int</code> for each value passed to the actions, so that the methods
+ * <code>forEach...</code> do not need hashing, boxing or axiom objects.
+ * <br>
+ * The tables are built from another extended ontology, which keeps the axioms
+ * and answers the methods that return sets of axioms. The tables are frozen:
+ * every modification is applied to the other ontology. Loaded axioms are also
+ * kept in a small extended ontology that is visited after the tables, and the
+ * tables are built again only when the loaded axioms are a significant part
+ * of the tables. Unloading axioms or clearing the ontology discards the
+ * tables, which are built again when they are used next. Therefore, the other
+ * ontology must not be modified directly. An axiom that is loaded again can be
+ * visited twice until the tables are built again, which does not change the
+ * result of the completion rules. The tables can be read by several threads
+ * at the same time, but the ontology must not be modified while it is read.
+ * 
+ * @author Julian Mendez
+ */
+public class FlatExtendedOntology implements ExtendedOntology {
+
+	private static final int rebuildRatio = 8;
+
+	private ExtendedOntology loadedAxioms = new ExtendedOntologyImpl();
+	private final Object monitorTables = new Object();
+	private int numberOfLoadedAxioms = 0;
+	private final ExtendedOntology ontology;
+	private volatile Tables tables = null;
+
+	/**
+	 * Constructs a new flat extended ontology, using another extended
+	 * ontology to keep the axioms.
+	 * 
+	 * @param ontology
+	 *            extended ontology that keeps the axioms
+	 */
+	public FlatExtendedOntology(ExtendedOntology ontology) {
+		Objects.requireNonNull(ontology);
+		this.ontology = ontology;
+	}
+
+	@Override
+	public void addClass(int classId) {
+		this.ontology.addClass(classId);
+	}
+
+	@Override
+	public void addObjectProperty(int objectPropertyId) {
+		this.ontology.addObjectProperty(objectPropertyId);
+	}
+
+	@Override
+	public void clear() {
+		this.ontology.clear();
+		discardTables();
+	}
+
+	/**
+	 * Discards the tables and the loaded axioms, so that the tables are built
+	 * again when they are used next.
+	 */
+	private void discardTables() {
+		this.tables = null;
+		this.loadedAxioms = new ExtendedOntologyImpl();
+		this.numberOfLoadedAxioms = 0;
+	}
+
+	@Override
+	public void forEachGCI0(int classId, IntConsumer action) {
+		Objects.requireNonNull(action);
+		getTables().gci0.forEach(classId, action);
+		if (this.numberOfLoadedAxioms > 0) {
+			this.loadedAxioms.forEachGCI0(classId, action);
+		}
+	}
+
+	@Override
+	public void forEachGCI1(int classId, IntPairConsumer action) {
+		Objects.requireNonNull(action);
+		getTables().gci1.forEach(classId, action);
+		if (this.numberOfLoadedAxioms > 0) {
+			this.loadedAxioms.forEachGCI1(classId, action);
+		}
+	}
+
+	@Override
+	public void forEachGCI2(int classId, IntPairConsumer action) {
+		Objects.requireNonNull(action);
+		getTables().gci2.forEach(classId, action);
+		if (this.numberOfLoadedAxioms > 0) {
+			this.loadedAxioms.forEachGCI2(classId, action);
+		}
+	}
+
+	@Override
+	public void forEachGCI3A(int classId, IntPairConsumer action) {
+		Objects.requireNonNull(action);
+		getTables().gci3A.forEach(classId, action);
+		if (this.numberOfLoadedAxioms > 0) {
+			this.loadedAxioms.forEachGCI3A(classId, action);
+		}
+	}
+
+	@Override
+	public void forEachGCI3r(int objectPropertyId, IntPairConsumer action) {
+		Objects.requireNonNull(action);
+		getTables().gci3r.forEach(objectPropertyId, action);
+		if (this.numberOfLoadedAxioms > 0) {
+			this.loadedAxioms.forEachGCI3r(objectPropertyId, action);
+		}
+	}
+
+	@Override
+	public void forEachGCI3rA(int objectPropertyId, int leftClassId, IntConsumer action) {
+		Objects.requireNonNull(action);
+		getTables().gci3r.forEachSecond(objectPropertyId, leftClassId, action);
+		if (this.numberOfLoadedAxioms > 0) {
+			this.loadedAxioms.forEachGCI3rA(objectPropertyId, leftClassId, action);
+		}
+	}
+
+	@Override
+	public void forEachRI2r(int objectPropertyId, IntConsumer action) {
+		Objects.requireNonNull(action);
+		getTables().ri2r.forEach(objectPropertyId, action);
+		if (this.numberOfLoadedAxioms > 0) {
+			this.loadedAxioms.forEachRI2r(objectPropertyId, action);
+		}
+	}
+
+	@Override
+	public void forEachRI3ByLeft(int objectPropertyId, IntPairConsumer action) {
+		Objects.requireNonNull(action);
+		getTables().ri3ByLeft.forEach(objectPropertyId, action);
+		if (this.numberOfLoadedAxioms > 0) {
+			this.loadedAxioms.forEachRI3ByLeft(objectPropertyId, action);
+		}
+	}
+
+	@Override
+	public void forEachRI3ByRight(int objectPropertyId, IntPairConsumer action) {
+		Objects.requireNonNull(action);
+		getTables().ri3ByRight.forEach(objectPropertyId, action);
+		if (this.numberOfLoadedAxioms > 0) {
+			this.loadedAxioms.forEachRI3ByRight(objectPropertyId, action);
+		}
+	}
+
+	@Override
+	public Set<Integer> getClassSet() {
+		return this.ontology.getClassSet();
+	}
+
+	@Override
+	public Set<Integer> getFunctionalObjectProperties() {
+		return this.ontology.getFunctionalObjectProperties();
+	}
+
+	@Override
+	public Set<GCI0Axiom> getGCI0Axioms(int classId) {
+		return this.ontology.getGCI0Axioms(classId);
+	}
+
+	@Override
+	public Set<GCI1Axiom> getGCI1Axioms(int classId) {
+		return this.ontology.getGCI1Axioms(classId);
+	}
+
+	@Override
+	public Set<GCI2Axiom> getGCI2Axioms(int classId) {
+		return this.ontology.getGCI2Axioms(classId);
+	}
+
+	@Override
+	public Set<GCI3Axiom> getGCI3AAxioms(int classId) {
+		return this.ontology.getGCI3AAxioms(classId);
+	}
+
+	@Override
+	public Set<GCI3Axiom> getGCI3rAAxioms(int objectPropertyId, int leftClassId) {
+		return this.ontology.getGCI3rAAxioms(objectPropertyId, leftClassId);
+	}
+
+	@Override
+	public Set<GCI3Axiom> getGCI3rAxioms(int objectPropertyId) {
+		return this.ontology.getGCI3rAxioms(objectPropertyId);
+	}
+
+	@Override
+	public Set<Integer> getObjectPropertySet() {
+		return this.ontology.getObjectPropertySet();
+	}
+
+	@Override
+	public Set<Integer> getReflexiveObjectProperties() {
+		return this.ontology.getReflexiveObjectProperties();
+	}
+
+	@Override
+	public Set<RI2Axiom> getRI2rAxioms(int objectPropertyId) {
+		return this.ontology.getRI2rAxioms(objectPropertyId);
+	}
+
+	@Override
+	public Set<RI2Axiom> getRI2sAxioms(int objectPropertyId) {
+		return this.ontology.getRI2sAxioms(objectPropertyId);
+	}
+
+	@Override
+	public Set<RI3Axiom> getRI3AxiomsByLeft(int objectPropertyId) {
+		return this.ontology.getRI3AxiomsByLeft(objectPropertyId);
+	}
+
+	@Override
+	public Set<RI3Axiom> getRI3AxiomsByRight(int objectPropertyId) {
+		return this.ontology.getRI3AxiomsByRight(objectPropertyId);
+	}
+
+	/**
+	 * Returns the tables, and builds them if they were discarded.
+	 * 
+	 * @return the tables
+	 */
+	private Tables getTables() {
+		Tables ret = this.tables;
+		if (Objects.isNull(ret)) {
+			synchronized (this.monitorTables) {
+				ret = this.tables;
+				if (Objects.isNull(ret)) {
+					ret = new Tables(this.ontology);
+					this.tables = ret;
+				}
+			}
+		}
+		return ret;
+	}
+
+	@Override
+	public Set<Integer> getTransitiveObjectProperties() {
+		return this.ontology.getTransitiveObjectProperties();
+	}
+
+	@Override
+	public void load(Set<NormalizedIntegerAxiom> axiomSet) {
+		Objects.requireNonNull(axiomSet);
+		this.ontology.load(axiomSet);
+		Tables currentTables = this.tables;
+		if (Objects.nonNull(currentTables)) {
+			this.numberOfLoadedAxioms += axiomSet.size();
+			if (this.numberOfLoadedAxioms > currentTables.size / rebuildRatio) {
+				discardTables();
+			} else {
+				this.loadedAxioms.load(axiomSet);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return this.ontology.toString();
+	}
+
+	@Override
+	public void unload(Set<NormalizedIntegerAxiom> axiomSet) {
+		Objects.requireNonNull(axiomSet);
+		this.ontology.unload(axiomSet);
+		discardTables();
+	}
+
+	/**
+	 * Table of pairs of values of type <code>int</code> grouped by key. The
+	 * pairs of a key are sorted without repetitions, and they are stored in
+	 * two columns starting at the offset of the key.
+	 */
+	private static class Table {
+
+		private final int[] first;
+		private final int[] offset;
+		private final int[] second;
+
+		/**
+		 * Constructs a new table.
+		 * 
+		 * @param keys
+		 *            sorted keys, which must not be negative
+		 * @param source
+		 *            function that sends each pair of a key to the given
+		 *            consumer
+		 */
+		Table(int[] keys, ObjIntConsumer<IntPairConsumer> source) {
+			int maxKey = (keys.length == 0) ? -1 : keys[keys.length - 1];
+			this.offset = new int[maxKey + 2];
+			TableBuilder builder = new TableBuilder();
+			int nextKey = 0;
+			for (int key : keys) {
+				for (; nextKey <= key; nextKey++) {
+					this.offset[nextKey] = builder.size;
+				}
+				source.accept(builder, key);
+				builder.sortFrom(this.offset[key]);
+			}
+			this.offset[maxKey + 1] = builder.size;
+			this.first = new int[builder.size];
+			this.second = new int[builder.size];
+			for (int index = 0; index < builder.size; index++) {
+				this.first[index] = (int) (builder.pairs[index] >>> 32);
+				this.second[index] = (int) builder.pairs[index];
+			}
+		}
+
+		void forEach(int key, IntConsumer action) {
+			if (key >= 0 && key < this.offset.length - 1) {
+				for (int index = this.offset[key]; index < this.offset[key + 1]; index++) {
+					action.accept(this.first[index]);
+				}
+			}
+		}
+
+		void forEach(int key, IntPairConsumer action) {
+			if (key >= 0 && key < this.offset.length - 1) {
+				for (int index = this.offset[key]; index < this.offset[key + 1]; index++) {
+					action.accept(this.first[index], this.second[index]);
+				}
+			}
+		}
+
+		void forEachSecond(int key, int firstValue, IntConsumer action) {
+			if (key >= 0 && key < this.offset.length - 1) {
+				int low = this.offset[key];
+				int high = this.offset[key + 1];
+				while (low < high) {
+					int middle = (low + high) >>> 1;
+					if (this.first[middle] < firstValue) {
+						low = middle + 1;
+					} else {
+						high = middle;
+					}
+				}
+				for (int index = low; index < this.offset[key + 1] && this.first[index] == firstValue; index++) {
+					action.accept(this.second[index]);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Growing array of pairs, where each pair is stored in a
+	 * <code>long</code>, so that the pairs can be sorted by the first value
+	 * and then by the second value.
+	 */
+	private static class TableBuilder implements IntPairConsumer {
+
+		private static final long lowerMask = 0xFFFFFFFFL;
+
+		private long[] pairs = new long[0x10];
+		private int size = 0;
+
+		@Override
+		public void accept(int first, int second) {
+			if (this.size == this.pairs.length) {
+				this.pairs = Arrays.copyOf(this.pairs, 2 * this.pairs.length);
+			}
+			this.pairs[this.size] = (((long) first) << 32) | (second & lowerMask);
+			this.size++;
+		}
+
+		void sortFrom(int start) {
+			Arrays.sort(this.pairs, start, this.size);
+			int newSize = start;
+			for (int index = start; index < this.size; index++) {
+				if (newSize == start || this.pairs[newSize - 1] != this.pairs[index]) {
+					this.pairs[newSize] = this.pairs[index];
+					newSize++;
+				}
+			}
+			this.size = newSize;
+		}
+
+	}
+
+	/**
+	 * Tables built from an extended ontology.
+	 */
+	private static class Tables {
+
+		private final Table gci0;
+		private final Table gci1;
+		private final Table gci2;
+		private final Table gci3A;
+		private final Table gci3r;
+		private final Table ri2r;
+		private final Table ri3ByLeft;
+		private final Table ri3ByRight;
+		private final int size;
+
+		Tables(ExtendedOntology ontology) {
+			int[] classes = ontology.getClassSet().stream().mapToInt(Integer::intValue).filter(elem -> elem >= 0)
+					.sorted().toArray();
+			int[] properties = ontology.getObjectPropertySet().stream().mapToInt(Integer::intValue)
+					.filter(elem -> elem >= 0).sorted().toArray();
+			this.gci0 = new Table(classes, (sink, key) -> ontology.forEachGCI0(key, value -> sink.accept(value, 0)));
+			this.gci1 = new Table(classes, (sink, key) -> ontology.forEachGCI1(key, sink));
+			this.gci2 = new Table(classes, (sink, key) -> ontology.forEachGCI2(key, sink));
+			this.gci3A = new Table(classes, (sink, key) -> ontology.forEachGCI3A(key, sink));
+			this.gci3r = new Table(properties, (sink, key) -> ontology.forEachGCI3r(key, sink));
+			this.ri2r = new Table(properties, (sink, key) -> ontology.forEachRI2r(key, value -> sink.accept(value, 0)));
+			this.ri3ByLeft = new Table(properties, (sink, key) -> ontology.forEachRI3ByLeft(key, sink));
+			this.ri3ByRight = new Table(properties, (sink, key) -> ontology.forEachRI3ByRight(key, sink));
+			this.size = this.gci0.first.length + this.gci1.first.length + this.gci2.first.length
+					+ this.gci3A.first.length + this.gci3r.first.length + this.ri2r.first.length
+					+ this.ri3ByLeft.first.length + this.ri3ByRight.first.length;
+		}
+
+	}
+
+}
@@ -46,56 +46,111 @@
 
 package de.tudresden.inf.lat.jcel.coreontology.datatype;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * An object of this class generates new identification numbers for object
- * properties and classes.
+ * properties and classes. It can be used by several threads at the same time.
+ * The identifiers are allocated with an atomic counter, and the type, the
+ * flags, the name and the related entity of each identifier are kept in
+ * arrays indexed by identifier. These arrays are divided in segments of fixed
+ * length, which are never copied, so they can be read without locks. The
+ * inverse object properties and the auxiliary nominals are created while
+ * holding one of several monitors, chosen by the identifier of the entity
+ * they are related to.
  * 
  * @author Julian Mendez
  */
 public class IntegerEntityManagerImpl implements IntegerEntityManager {
 
+	/**
+	 * An object of this class keeps the data of a fixed number of consecutive
+	 * identifiers. An identifier is registered when its type is set, after
+	 * the other fields.
+	 */
+	private static class Segment {
+
+		private final byte[] flags = new byte[segmentSize];
+		private final String[] names = new String[segmentSize];
+		private final AtomicIntegerArray related = new AtomicIntegerArray(segmentSize);
+		private final AtomicIntegerArray types = new AtomicIntegerArray(segmentSize);
+
+		Segment() {
+		}
+
+	}
+
 	public static final String anonymousEntity = "AnonymousEntity";
 	public static final String auxiliaryEntity = "AuxiliaryEntity";
 
-	private final Map<IntegerEntityType, Set<Integer>> auxEntityMap = new HashMap<>();
-	private final Set<Integer> auxEntitySet = new HashSet<>();
-	private final Set<Integer> auxInverseObjectPropertySet = new HashSet<>();
-	private final Map<Integer, Integer> auxNominalInvMap = new HashMap<>();
-	private final Map<Integer, Integer> auxNominalMap = new HashMap<>();
-	private int entityCounter = firstUsableIdentifier;
-	private final Map<Integer, IntegerEntityType> entityTypeMap = new HashMap<>();
-	private final Map<Integer, Integer> inverseObjectPropertyMap = new HashMap<>();
-	private final Map<Integer, String> nameMap = new HashMap<>();
-	private final Map<IntegerEntityType, Set<Integer>> nonAuxEntityMap = new HashMap<>();
+	private static final int auxiliaryFlag = 1;
+	private static final int inverseObjectPropertyFlag = 4;
+	private static final int namedFlag = 2;
+	private static final int noEntity = -1;
+	private static final int nominalFlag = 8;
+	private static final int numberOfMonitors = 0x10;
+	private static final int segmentBits = 10;
+	private static final int segmentMask = (1 << segmentBits) - 1;
+	private static final int segmentSize = 1 << segmentBits;
+	private static final IntegerEntityType[] types = IntegerEntityType.values();
+
+	private final Map<IntegerEntityType, Set<Integer>> auxEntityMap = new EnumMap<>(IntegerEntityType.class);
+	private final Set<Integer> auxInverseObjectPropertySet = ConcurrentHashMap.newKeySet();
+	private final Set<Integer> auxNominalSet = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger entityCounter = new AtomicInteger(firstUsableIdentifier);
+	private final Set<Integer> individualSet = ConcurrentHashMap.newKeySet();
+	private final Object[] monitors = new Object[numberOfMonitors];
+	private final Object monitorSegments = new Object();
+	private final Map<IntegerEntityType, Set<Integer>> nonAuxEntityMap = new EnumMap<>(IntegerEntityType.class);
+	private volatile Segment[] segments = new Segment[0];
 
 	/**
 	 * Constructs a new identifier generator.
 	 */
 	public IntegerEntityManagerImpl() {
-		registerProperty(bottomClassId, IntegerEntityType.CLASS, false);
-		registerProperty(topClassId, IntegerEntityType.CLASS, false);
-		registerProperty(bottomObjectPropertyId, IntegerEntityType.OBJECT_PROPERTY, false);
-		registerProperty(topObjectPropertyId, IntegerEntityType.OBJECT_PROPERTY, false);
-		registerProperty(bottomDataPropertyId, IntegerEntityType.DATA_PROPERTY, false);
-		registerProperty(topDataPropertyId, IntegerEntityType.DATA_PROPERTY, false);
+		Arrays.setAll(this.monitors, index -> new Object());
+		for (IntegerEntityType type : types) {
+			this.auxEntityMap.put(type, ConcurrentHashMap.newKeySet());
+			this.nonAuxEntityMap.put(type, ConcurrentHashMap.newKeySet());
+		}
+		register(bottomClassId, IntegerEntityType.CLASS, 0, null, noEntity);
+		register(topClassId, IntegerEntityType.CLASS, 0, null, noEntity);
+		register(bottomObjectPropertyId, IntegerEntityType.OBJECT_PROPERTY, 0, null, noEntity);
+		register(topObjectPropertyId, IntegerEntityType.OBJECT_PROPERTY, 0, null, noEntity);
+		register(bottomDataPropertyId, IntegerEntityType.DATA_PROPERTY, 0, null, noEntity);
+		register(topDataPropertyId, IntegerEntityType.DATA_PROPERTY, 0, null, noEntity);
+	}
+
+	private void checkIdentifier(Integer identifier) {
+		if (getTypeIndex(identifier) == 0) {
+			throw new IndexOutOfBoundsException("Invalid identifier : " + identifier);
+		}
 	}
 
 	@Override
 	public Integer createAnonymousEntity(IntegerEntityType type, boolean auxiliary) {
 		Objects.requireNonNull(type);
-		Integer ret = this.entityCounter;
-		this.entityCounter++;
-		registerProperty(ret, type, auxiliary);
-		this.entityTypeMap.put(ret, type);
+		return createEntity(type, auxiliary ? auxiliaryFlag : 0, null, noEntity);
+	}
+
+	private int createEntity(IntegerEntityType type, int flags, String name, int related) {
+		int ret = this.entityCounter.getAndIncrement();
+		register(ret, type, flags, name, related);
 		return ret;
 	}
 
@@ -103,19 +158,24 @@ public class IntegerEntityManagerImpl implements IntegerEntityManager {
 	public Integer createNamedEntity(IntegerEntityType type, String name, boolean auxiliary) {
 		Objects.requireNonNull(type);
 		Objects.requireNonNull(name);
-		Integer ret = createAnonymousEntity(type, auxiliary);
-		this.nameMap.put(ret, name);
-		return ret;
+		return createEntity(type, namedFlag | (auxiliary ? auxiliaryFlag : 0), name, noEntity);
 	}
 
 	@Override
 	public Integer createOrGetClassIdForIndividual(Integer individual) {
 		Objects.requireNonNull(individual);
-		Integer ret = this.auxNominalMap.get(individual);
-		if (Objects.isNull(ret)) {
-			ret = createAnonymousEntity(IntegerEntityType.CLASS, true);
-			this.auxNominalInvMap.put(ret, individual);
-			this.auxNominalMap.put(individual, ret);
+		checkIdentifier(individual);
+		int ret = getAuxiliaryNominalId(individual);
+		if (ret == noEntity) {
+			synchronized (getMonitor(individual)) {
+				ret = getAuxiliaryNominalId(individual);
+				if (ret == noEntity) {
+					ret = createEntity(IntegerEntityType.CLASS, auxiliaryFlag | nominalFlag, null, individual);
+					setRelated(individual, ret);
+					this.auxNominalSet.add(ret);
+					this.individualSet.add(individual);
+				}
+			}
 		}
 		return ret;
 	}
@@ -123,12 +183,18 @@ public class IntegerEntityManagerImpl implements IntegerEntityManager {
 	@Override
 	public Integer createOrGetInverseObjectPropertyOf(Integer propertyId) throws IndexOutOfBoundsException {
 		Objects.requireNonNull(propertyId);
-		Integer ret = this.inverseObjectPropertyMap.get(propertyId);
-		if (Objects.isNull(ret)) {
-			ret = createAnonymousEntity(IntegerEntityType.OBJECT_PROPERTY, true);
-			this.auxInverseObjectPropertySet.add(ret);
-			this.inverseObjectPropertyMap.put(propertyId, ret);
-			this.inverseObjectPropertyMap.put(ret, propertyId);
+		checkIdentifier(propertyId);
+		int ret = getRelated(propertyId);
+		if (ret == noEntity) {
+			synchronized (getMonitor(propertyId)) {
+				ret = getRelated(propertyId);
+				if (ret == noEntity) {
+					ret = createEntity(IntegerEntityType.OBJECT_PROPERTY, auxiliaryFlag | inverseObjectPropertyFlag,
+							null, propertyId);
+					setRelated(propertyId, ret);
+					this.auxInverseObjectPropertySet.add(ret);
+				}
+			}
 		}
 		return ret;
 	}
@@ -138,15 +204,15 @@ public class IntegerEntityManagerImpl implements IntegerEntityManager {
 		boolean ret = (this == o);
 		if (!ret && (o instanceof IntegerEntityManagerImpl)) {
 			IntegerEntityManagerImpl other = (IntegerEntityManagerImpl) o;
-			ret = (this.entityCounter == other.entityCounter) && this.auxEntityMap.equals(other.auxEntityMap)
-					&& this.nonAuxEntityMap.equals(other.nonAuxEntityMap)
-					&& this.auxNominalMap.equals(other.auxNominalMap)
-					&& this.auxNominalInvMap.equals(other.auxNominalInvMap)
-					&& this.auxInverseObjectPropertySet.equals(other.inverseObjectPropertyMap)
-					&& this.nameMap.equals(other.nameMap)
-					&& this.inverseObjectPropertyMap.equals(other.inverseObjectPropertyMap);
+			ret = (size() == other.size());
+			for (int identifier = 0; ret && identifier < size(); identifier++) {
+				ret = (getTypeIndex(identifier) == other.getTypeIndex(identifier))
+						&& (getFlags(identifier) == other.getFlags(identifier))
+						&& Objects.equals(getSegment(identifier).names[identifier & segmentMask],
+								other.getSegment(identifier).names[identifier & segmentMask])
+						&& (getRelated(identifier) == other.getRelated(identifier));
+			}
 		}
-
 		return ret;
 	}
 
@@ -158,24 +224,30 @@ public class IntegerEntityManagerImpl implements IntegerEntityManager {
 	@Override
 	public Optional<Integer> getAuxiliaryNominal(Integer individual) {
 		Objects.requireNonNull(individual);
-		return Optional.ofNullable(this.auxNominalMap.get(individual));
+		int ret = getAuxiliaryNominalId(individual);
+		return (ret == noEntity) ? Optional.empty() : Optional.of(ret);
+	}
+
+	private int getAuxiliaryNominalId(int individual) {
+		int ret = noEntity;
+		if ((getFlags(individual) & nominalFlag) == 0
+				&& getTypeIndex(individual) != IntegerEntityType.OBJECT_PROPERTY.ordinal() + 1) {
+			ret = getRelated(individual);
+		}
+		return ret;
 	}
 
 	@Override
 	public Set<Integer> getAuxiliaryNominals() {
-		return Collections.unmodifiableSet(this.auxNominalInvMap.keySet());
+		return Collections.unmodifiableSet(this.auxNominalSet);
 	}
 
 	@Override
 	public Set<Integer> getEntities(IntegerEntityType type) {
 		Objects.requireNonNull(type);
 		Set<Integer> ret = new TreeSet<>();
-		if (Objects.nonNull(this.nonAuxEntityMap.get(type))) {
-			ret.addAll(this.nonAuxEntityMap.get(type));
-		}
-		if (Objects.nonNull(this.auxEntityMap.get(type))) {
-			ret.addAll(this.auxEntityMap.get(type));
-		}
+		ret.addAll(this.nonAuxEntityMap.get(type));
+		ret.addAll(this.auxEntityMap.get(type));
 		ret = Collections.unmodifiableSet(ret);
 		return ret;
 	}
@@ -189,35 +261,44 @@ public class IntegerEntityManagerImpl implements IntegerEntityManager {
 		} else {
 			ret = this.nonAuxEntityMap.get(type);
 		}
-		if (Objects.isNull(ret)) {
-			ret = Collections.emptySet();
-		} else {
-			ret = Collections.unmodifiableSet(ret);
-		}
-		return ret;
+		return Collections.unmodifiableSet(ret);
+	}
+
+	private int getFlags(int identifier) {
+		Segment segment = getSegment(identifier);
+		return Objects.isNull(segment) ? 0 : segment.flags[identifier & segmentMask];
 	}
 
 	@Override
 	public Optional<Integer> getIndividual(Integer auxNominal) {
 		Objects.requireNonNull(auxNominal);
-		return Optional.ofNullable(this.auxNominalInvMap.get(auxNominal));
+		Optional<Integer> ret = Optional.empty();
+		if ((getFlags(auxNominal) & nominalFlag) != 0) {
+			ret = Optional.of(getRelated(auxNominal));
+		}
+		return ret;
 	}
 
 	@Override
 	public Set<Integer> getIndividuals() {
-		return Collections.unmodifiableSet(this.auxNominalMap.keySet());
+		return Collections.unmodifiableSet(this.individualSet);
+	}
+
+	private Object getMonitor(int identifier) {
+		return this.monitors[getMonitorIndex(identifier)];
+	}
+
+	private int getMonitorIndex(int identifier) {
+		return identifier & (numberOfMonitors - 1);
 	}
 
 	@Override
 	public String getName(Integer identifier) {
 		Objects.requireNonNull(identifier);
-		if (!this.entityTypeMap.containsKey(identifier)) {
-			throw new IndexOutOfBoundsException("Invalid identifier : " + identifier);
-		}
-
-		String ret = this.nameMap.get(identifier);
+		checkIdentifier(identifier);
+		String ret = getSegment(identifier).names[identifier & segmentMask];
 		if (Objects.isNull(ret)) {
-			if (this.auxEntitySet.contains(identifier)) {
+			if ((getFlags(identifier) & auxiliaryFlag) != 0) {
 				ret = auxiliaryEntity + identifier;
 			} else {
 				ret = anonymousEntity + identifier;
@@ -226,83 +307,164 @@ public class IntegerEntityManagerImpl implements IntegerEntityManager {
 		return ret;
 	}
 
+	private Segment getOrCreateSegment(int identifier) {
+		Segment ret = getSegment(identifier);
+		if (Objects.isNull(ret)) {
+			synchronized (this.monitorSegments) {
+				int segmentIndex = identifier >>> segmentBits;
+				Segment[] newSegments = this.segments;
+				if (segmentIndex >= newSegments.length) {
+					newSegments = Arrays.copyOf(newSegments, Math.max(segmentIndex + 1, 2 * newSegments.length));
+				}
+				if (Objects.isNull(newSegments[segmentIndex])) {
+					if (newSegments == this.segments) {
+						newSegments = Arrays.copyOf(newSegments, newSegments.length);
+					}
+					newSegments[segmentIndex] = new Segment();
+				}
+				this.segments = newSegments;
+				ret = newSegments[segmentIndex];
+			}
+		}
+		return ret;
+	}
+
+	private int getRelated(int identifier) {
+		Segment segment = getSegment(identifier);
+		return Objects.isNull(segment) ? noEntity : segment.related.get(identifier & segmentMask) - 1;
+	}
+
+	private Segment getSegment(int identifier) {
+		Segment[] currentSegments = this.segments;
+		int segmentIndex = identifier >>> segmentBits;
+		return (segmentIndex < currentSegments.length) ? currentSegments[segmentIndex] : null;
+	}
+
 	@Override
 	public IntegerEntityType getType(Integer identifier) {
 		Objects.requireNonNull(identifier);
-		IntegerEntityType ret = this.entityTypeMap.get(identifier);
-		if (Objects.isNull(ret)) {
+		int typeIndex = getTypeIndex(identifier);
+		if (typeIndex == 0) {
 			throw new IndexOutOfBoundsException("Invalid identifier : " + identifier);
 		}
-		return ret;
+		return types[typeIndex - 1];
+	}
+
+	private int getTypeIndex(int identifier) {
+		Segment segment = getSegment(identifier);
+		return Objects.isNull(segment) ? 0 : segment.types.get(identifier & segmentMask);
 	}
 
 	@Override
 	public int hashCode() {
-		return this.entityCounter + (31 * this.nonAuxEntityMap.hashCode());
+		return size() + (31 * this.nonAuxEntityMap.hashCode());
 	}
 
 	@Override
 	public boolean isAuxiliary(Integer identifier) {
 		Objects.requireNonNull(identifier);
-		if (!this.entityTypeMap.containsKey(identifier)) {
-			throw new IndexOutOfBoundsException("Invalid identifier : " + identifier);
-		}
-		return this.auxEntitySet.contains(identifier);
+		checkIdentifier(identifier);
+		return (getFlags(identifier) & auxiliaryFlag) != 0;
 	}
 
 	@Override
 	public boolean isEntity(Integer identifier) {
 		Objects.requireNonNull(identifier);
-		return this.entityTypeMap.containsKey(identifier);
+		return getTypeIndex(identifier) != 0;
 	}
 
 	@Override
 	public boolean proposeInverseObjectPropertyOf(Integer firstProperty, Integer secondProperty) {
 		Objects.requireNonNull(firstProperty);
 		Objects.requireNonNull(secondProperty);
+		checkIdentifier(firstProperty);
+		checkIdentifier(secondProperty);
+		int firstIndex = getMonitorIndex(firstProperty);
+		int secondIndex = getMonitorIndex(secondProperty);
 		boolean ret = false;
-		Integer invFirstProperty = this.inverseObjectPropertyMap.get(firstProperty);
-		Integer invSecondProperty = this.inverseObjectPropertyMap.get(secondProperty);
-		if ((Objects.isNull(invFirstProperty)) && (Objects.isNull(invSecondProperty))) {
-			this.inverseObjectPropertyMap.put(firstProperty, secondProperty);
-			this.inverseObjectPropertyMap.put(secondProperty, firstProperty);
-			ret = true;
+		if (firstIndex == secondIndex) {
+			synchronized (this.monitors[firstIndex]) {
+				ret = relateIfUnrelated(firstProperty, secondProperty);
+			}
+		} else {
+			// the monitors are always taken in the same order to avoid deadlocks
+			Object lowerMonitor = this.monitors[Math.min(firstIndex, secondIndex)];
+			Object upperMonitor = this.monitors[Math.max(firstIndex, secondIndex)];
+			synchronized (lowerMonitor) {
+				synchronized (upperMonitor) {
+					ret = relateIfUnrelated(firstProperty, secondProperty);
+				}
+			}
 		}
 		return ret;
 	}
 
-	private void registerProperty(Integer identifier, IntegerEntityType type, boolean auxiliary) {
-		if (auxiliary) {
-			this.auxEntitySet.add(identifier);
-			Set<Integer> set = this.auxEntityMap.get(type);
-			if (Objects.isNull(set)) {
-				set = new HashSet<>();
-				this.auxEntityMap.put(type, set);
-			}
-			set.add(identifier);
+	/**
+	 * Reads an entity manager that was written with {@link #write(DataOutput)}.
+	 * The entities are created again in the same order, so they get the same
+	 * identifiers. The input is left at the position after the entity manager.
+	 * 
+	 * @param input
+	 *            input positioned at the beginning of the entity manager
+	 * @return the entity manager read from the input
+	 * @throws IOException
+	 *             if something goes wrong with the input
+	 * @throws IllegalArgumentException
+	 *             if the input does not contain a valid entity manager
+	 */
+	public static IntegerEntityManagerImpl read(DataInput input) throws IOException {
+		Objects.requireNonNull(input);
+		IntegerEntityManagerImpl ret = new IntegerEntityManagerImpl();
+		ret.update(input);
+		return ret;
+	}
+
+	private void register(int identifier, IntegerEntityType type, int flags, String name, int related) {
+		Segment segment = getOrCreateSegment(identifier);
+		int index = identifier & segmentMask;
+		segment.flags[index] = (byte) flags;
+		segment.names[index] = name;
+		segment.related.set(index, related + 1);
+		segment.types.set(index, type.ordinal() + 1);
+		if ((flags & auxiliaryFlag) != 0) {
+			this.auxEntityMap.get(type).add(identifier);
 		} else {
-			Set<Integer> set = this.nonAuxEntityMap.get(type);
-			if (Objects.isNull(set)) {
-				set = new HashSet<>();
-				this.nonAuxEntityMap.put(type, set);
-			}
-			set.add(identifier);
+			this.nonAuxEntityMap.get(type).add(identifier);
+		}
+	}
+
+	private boolean relateIfUnrelated(int firstProperty, int secondProperty) {
+		boolean ret = false;
+		if (getRelated(firstProperty) == noEntity && getRelated(secondProperty) == noEntity) {
+			setRelated(firstProperty, secondProperty);
+			setRelated(secondProperty, firstProperty);
+			ret = true;
 		}
-		this.entityTypeMap.put(identifier, type);
+		return ret;
+	}
+
+	private void setRelated(int identifier, int related) {
+		getSegment(identifier).related.set(identifier & segmentMask, related + 1);
 	}
 
 	@Override
 	public int size() {
-		return this.entityCounter;
+		return this.entityCounter.get();
 	}
 
 	@Override
 	public String toString() {
+		Map<Integer, String> nameMap = new TreeMap<>();
+		for (int identifier = 0; identifier < size(); identifier++) {
+			if ((getFlags(identifier) & namedFlag) != 0) {
+				nameMap.put(identifier, getName(identifier));
+			}
+		}
 		StringBuffer sbuf = new StringBuffer();
 		sbuf.append("[\n  entities: ");
-		sbuf.append(this.entityCounter);
+		sbuf.append(size());
 		sbuf.append("\n  names: ");
-		sbuf.append(this.nameMap);
+		sbuf.append(nameMap);
 		sbuf.append("\n  non-auxiliary entities: ");
 		sbuf.append(this.nonAuxEntityMap);
 		sbuf.append("\n  auxiliary entities: ");
@@ -313,4 +475,103 @@ public class IntegerEntityManagerImpl implements IntegerEntityManager {
 		return sbuf.toString();
 	}
 
+	/**
+	 * Reads an entity manager that was written with {@link #write(DataOutput)}
+	 * and creates the entities that are not in this entity manager yet. The
+	 * entities of this entity manager must have been created in the same order
+	 * as the first entities of the written entity manager. This is the case,
+	 * for example, if the written entity manager was this entity manager at a
+	 * later point of the same process. The input is left at the position after
+	 * the entity manager. No other thread can create entities while this
+	 * method runs.
+	 * 
+	 * @param input
+	 *            input positioned at the beginning of the entity manager
+	 * @throws IOException
+	 *             if something goes wrong with the input
+	 * @throws IllegalArgumentException
+	 *             if the input does not contain a valid entity manager, or if
+	 *             it does not extend this entity manager
+	 */
+	public void update(DataInput input) throws IOException {
+		Objects.requireNonNull(input);
+		int size = input.readInt();
+		for (int identifier = firstUsableIdentifier; identifier < size; identifier++) {
+			IntegerEntityType type = types[input.readByte()];
+			int flags = input.readByte();
+			boolean auxiliary = (flags & auxiliaryFlag) != 0;
+			boolean known = identifier < size();
+			Integer created = identifier;
+			if ((flags & nominalFlag) != 0) {
+				int individual = input.readInt();
+				if (!known) {
+					created = createOrGetClassIdForIndividual(individual);
+				}
+			} else if ((flags & inverseObjectPropertyFlag) != 0) {
+				int property = input.readInt();
+				if (!known) {
+					created = createOrGetInverseObjectPropertyOf(property);
+				}
+			} else if ((flags & namedFlag) != 0) {
+				byte[] name = new byte[input.readInt()];
+				input.readFully(name);
+				if (!known) {
+					created = createNamedEntity(type, new String(name, StandardCharsets.UTF_8), auxiliary);
+				}
+			} else if (!known) {
+				created = createAnonymousEntity(type, auxiliary);
+			}
+			if (created != identifier || getTypeIndex(identifier) != type.ordinal() + 1) {
+				throw new IllegalArgumentException("Invalid entity identifier : " + identifier);
+			}
+		}
+		int numberOfInversePairs = input.readInt();
+		for (int index = 0; index < numberOfInversePairs; index++) {
+			proposeInverseObjectPropertyOf(input.readInt(), input.readInt());
+		}
+	}
+
+	/**
+	 * Writes this entity manager. For each identifier, it writes the type, the
+	 * name if there is one, and how the entity was created. No other thread
+	 * can create entities while this method runs.
+	 * 
+	 * @param output
+	 *            output
+	 * @throws IOException
+	 *             if something goes wrong with the output
+	 */
+	public void write(DataOutput output) throws IOException {
+		Objects.requireNonNull(output);
+		int size = size();
+		output.writeInt(size);
+		for (int identifier = firstUsableIdentifier; identifier < size; identifier++) {
+			int flags = getFlags(identifier);
+			output.writeByte(getTypeIndex(identifier) - 1);
+			output.writeByte(flags);
+			if ((flags & (nominalFlag | inverseObjectPropertyFlag)) != 0) {
+				output.writeInt(getRelated(identifier));
+			} else if ((flags & namedFlag) != 0) {
+				byte[] bytes = getName(identifier).getBytes(StandardCharsets.UTF_8);
+				output.writeInt(bytes.length);
+				output.write(bytes);
+			}
+		}
+
+		Map<Integer, Integer> proposedInverses = new TreeMap<>();
+		for (int property = 0; property < size; property++) {
+			int inverse = getRelated(property);
+			if (getTypeIndex(property) == IntegerEntityType.OBJECT_PROPERTY.ordinal() + 1 && inverse != noEntity
+					&& property <= inverse && (getFlags(property) & inverseObjectPropertyFlag) == 0
+					&& (getFlags(inverse) & inverseObjectPropertyFlag) == 0) {
+				proposedInverses.put(property, inverse);
+			}
+		}
+		output.writeInt(proposedInverses.size());
+		for (Map.Entry<Integer, Integer> entry : proposedInverses.entrySet()) {
+			output.writeInt(entry.getKey());
+			output.writeInt(entry.getValue());
+		}
+	}
+
 }
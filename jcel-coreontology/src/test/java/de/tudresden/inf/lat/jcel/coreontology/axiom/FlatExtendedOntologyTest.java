@@ -0,0 +1,191 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.coreontology.axiom;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link FlatExtendedOntology}.
+ * 
+ * @author Julian Mendez
+ */
+public class FlatExtendedOntologyTest {
+
+	private static final int numberOfClasses = 0x20;
+	private static final int numberOfProperties = 0x08;
+
+	public FlatExtendedOntologyTest() {
+	}
+
+	private void assertSameLookups(ExtendedOntology expected, ExtendedOntology actual) {
+		for (int classId = 0; classId < 2 * numberOfClasses; classId++) {
+			int key = classId;
+			Assert.assertEquals(collect(sink -> expected.forEachGCI0(key, value -> sink.accept(value, 0))),
+					collect(sink -> actual.forEachGCI0(key, value -> sink.accept(value, 0))));
+			Assert.assertEquals(collect(sink -> expected.forEachGCI1(key, sink)),
+					collect(sink -> actual.forEachGCI1(key, sink)));
+			Assert.assertEquals(collect(sink -> expected.forEachGCI2(key, sink)),
+					collect(sink -> actual.forEachGCI2(key, sink)));
+			Assert.assertEquals(collect(sink -> expected.forEachGCI3A(key, sink)),
+					collect(sink -> actual.forEachGCI3A(key, sink)));
+		}
+		for (int propertyId = 0; propertyId < 2 * numberOfProperties; propertyId++) {
+			int key = propertyId;
+			Assert.assertEquals(collect(sink -> expected.forEachGCI3r(key, sink)),
+					collect(sink -> actual.forEachGCI3r(key, sink)));
+			Assert.assertEquals(collect(sink -> expected.forEachRI2r(key, value -> sink.accept(value, 0))),
+					collect(sink -> actual.forEachRI2r(key, value -> sink.accept(value, 0))));
+			Assert.assertEquals(collect(sink -> expected.forEachRI3ByLeft(key, sink)),
+					collect(sink -> actual.forEachRI3ByLeft(key, sink)));
+			Assert.assertEquals(collect(sink -> expected.forEachRI3ByRight(key, sink)),
+					collect(sink -> actual.forEachRI3ByRight(key, sink)));
+			for (int classId = 0; classId < numberOfClasses; classId++) {
+				int leftClassId = classId;
+				Assert.assertEquals(
+						collect(sink -> expected.forEachGCI3rA(key, leftClassId, value -> sink.accept(value, 0))),
+						collect(sink -> actual.forEachGCI3rA(key, leftClassId, value -> sink.accept(value, 0))));
+			}
+		}
+	}
+
+	private Set<String> collect(Consumer<IntPairConsumer> source) {
+		Set<String> ret = new TreeSet<>();
+		source.accept((first, second) -> ret.add(first + " " + second));
+		return ret;
+	}
+
+	private Set<NormalizedIntegerAxiom> createAxioms(Random random, int numberOfAxioms) {
+		NormalizedIntegerAxiomFactory factory = new NormalizedIntegerAxiomFactoryImpl();
+		Set<IntegerAnnotation> annotations = Collections.emptySet();
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
+		for (int index = 0; index < numberOfAxioms; index++) {
+			int a = random.nextInt(numberOfClasses);
+			int b = random.nextInt(numberOfClasses);
+			int c = random.nextInt(numberOfClasses);
+			int r = random.nextInt(numberOfProperties);
+			int s = random.nextInt(numberOfProperties);
+			int t = random.nextInt(numberOfProperties);
+			switch (random.nextInt(6)) {
+			case 0:
+				ret.add(factory.createGCI0Axiom(a, b, annotations));
+				break;
+			case 1:
+				ret.add(factory.createGCI1Axiom(a, b, c, annotations));
+				break;
+			case 2:
+				ret.add(factory.createGCI2Axiom(a, r, b, annotations));
+				break;
+			case 3:
+				ret.add(factory.createGCI3Axiom(r, a, b, annotations));
+				break;
+			case 4:
+				ret.add(factory.createRI2Axiom(r, s, annotations));
+				break;
+			default:
+				ret.add(factory.createRI3Axiom(r, s, t, annotations));
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Tests that small sets of axioms loaded after the tables are built are
+	 * visited together with the tables, and that the lookups are still right
+	 * after the tables are built again.
+	 */
+	@Test
+	public void testIncrementalLoad() {
+		Random random = new Random(0x26);
+		Set<NormalizedIntegerAxiom> axioms = createAxioms(random, 0x200);
+		ExtendedOntology expected = new ExtendedOntologyImpl();
+		expected.load(axioms);
+		ExtendedOntology base = new ExtendedOntologyImpl();
+		base.load(axioms);
+		FlatExtendedOntology actual = new FlatExtendedOntology(base);
+		assertSameLookups(expected, actual);
+		for (int round = 0; round < 0x10; round++) {
+			Set<NormalizedIntegerAxiom> added = createAxioms(random, 1 + random.nextInt(0x10));
+			expected.load(added);
+			actual.load(added);
+			assertSameLookups(expected, actual);
+		}
+	}
+
+	@Test
+	public void testLoadAndUnload() {
+		Random random = new Random(0x25);
+		for (int round = 0; round < 0x10; round++) {
+			Set<NormalizedIntegerAxiom> axioms = createAxioms(random, 1 + random.nextInt(0x80));
+			ExtendedOntology expected = new ExtendedOntologyImpl();
+			expected.load(axioms);
+			ExtendedOntology base = new ExtendedOntologyImpl();
+			base.load(axioms);
+			FlatExtendedOntology actual = new FlatExtendedOntology(base);
+			assertSameLookups(expected, actual);
+
+			Set<NormalizedIntegerAxiom> removed = new HashSet<>();
+			axioms.stream().filter(axiom -> random.nextBoolean()).forEach(removed::add);
+			expected.unload(removed);
+			actual.unload(removed);
+			assertSameLookups(expected, actual);
+
+			Set<NormalizedIntegerAxiom> added = createAxioms(random, 0x10);
+			expected.load(added);
+			actual.load(added);
+			assertSameLookups(expected, actual);
+		}
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.coreontology.datatype;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IntegerEntityManagerImpl}.
+ * 
+ * @author Julian Mendez
+ */
+public class IntegerEntityManagerImplTest {
+
+	public IntegerEntityManagerImplTest() {
+	}
+
+	@Test
+	public void testConcurrentCreation() {
+		IntegerEntityManagerImpl entityManager = new IntegerEntityManagerImpl();
+		int numberOfEntities = 0x3000;
+		Set<Integer> identifiers = ConcurrentHashMap.newKeySet();
+		IntStream.range(0, numberOfEntities).parallel().forEach(index -> {
+			Integer identifier = entityManager.createNamedEntity(IntegerEntityType.CLASS, "A" + index, false);
+			Assert.assertTrue(identifiers.add(identifier));
+			Assert.assertEquals("A" + index, entityManager.getName(identifier));
+			Assert.assertFalse(entityManager.isAuxiliary(identifier));
+		});
+
+		int size = IntegerEntityManager.firstUsableIdentifier + numberOfEntities;
+		Assert.assertEquals(size, entityManager.size());
+		Set<Integer> expected = new TreeSet<>();
+		IntStream.range(IntegerEntityManager.firstUsableIdentifier, size).forEach(expected::add);
+		Assert.assertEquals(expected, identifiers);
+		Assert.assertFalse(entityManager.isEntity(size));
+	}
+
+	@Test
+	public void testConcurrentCreationOfInverses() {
+		IntegerEntityManagerImpl entityManager = new IntegerEntityManagerImpl();
+		int numberOfProperties = 0x100;
+		IntStream.range(0, numberOfProperties)
+				.forEach(index -> entityManager.createAnonymousEntity(IntegerEntityType.OBJECT_PROPERTY, false));
+		Set<Integer> properties = entityManager.getEntities(IntegerEntityType.OBJECT_PROPERTY, false);
+		Set<Integer> inverses = ConcurrentHashMap.newKeySet();
+		IntStream.range(0, 0x10 * numberOfProperties).parallel().forEach(index -> {
+			int property = IntegerEntityManager.firstUsableIdentifier + (index % numberOfProperties);
+			inverses.add(entityManager.createOrGetInverseObjectPropertyOf(property));
+		});
+
+		Assert.assertEquals(numberOfProperties, inverses.size());
+		Assert.assertEquals(inverses, entityManager.getAuxiliaryInverseObjectProperties());
+		properties.stream().filter(property -> property >= IntegerEntityManager.firstUsableIdentifier)
+				.forEach(property -> {
+					Integer inverse = entityManager.createOrGetInverseObjectPropertyOf(property);
+					Assert.assertEquals(property, entityManager.createOrGetInverseObjectPropertyOf(inverse));
+				});
+	}
+
+	/**
+	 * Tests that proposing pairs of inverse object properties concurrently
+	 * does not deadlock, even when the pairs take the same monitors in
+	 * opposite orders of identifiers.
+	 * 
+	 * @throws InterruptedException
+	 *             if the test is interrupted
+	 */
+	@Test
+	public void testConcurrentProposalOfInverses() throws InterruptedException {
+		IntegerEntityManagerImpl entityManager = new IntegerEntityManagerImpl();
+		int numberOfProperties = 0x200;
+		IntStream.range(0, numberOfProperties)
+				.forEach(index -> entityManager.createAnonymousEntity(IntegerEntityType.OBJECT_PROPERTY, false));
+		int first = IntegerEntityManager.firstUsableIdentifier;
+		int last = first + numberOfProperties - 1;
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		executor.execute(() -> IntStream.range(0, numberOfProperties / 2)
+				.forEach(index -> entityManager.proposeInverseObjectPropertyOf(first + index, last - index)));
+		executor.execute(() -> IntStream.range(0, numberOfProperties / 2)
+				.map(index -> numberOfProperties / 2 - 1 - index).forEach(index -> entityManager.proposeInverseObjectPropertyOf(last - index, first + index)));
+		executor.shutdown();
+		Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+		IntStream.range(0, numberOfProperties / 2).forEach(index -> Assert.assertEquals(Integer.valueOf(last - index),
+				entityManager.createOrGetInverseObjectPropertyOf(first + index)));
+	}
+
+	@Test
+	public void testWriteAndRead() throws IOException {
+		IntegerEntityManagerImpl entityManager = new IntegerEntityManagerImpl();
+		Integer individual = entityManager.createNamedEntity(IntegerEntityType.INDIVIDUAL, "a", false);
+		Integer nominal = entityManager.createOrGetClassIdForIndividual(individual);
+		Integer firstProperty = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "r", false);
+		Integer secondProperty = entityManager.createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "s", false);
+		Assert.assertTrue(entityManager.proposeInverseObjectPropertyOf(firstProperty, secondProperty));
+		Integer inverse = entityManager.createOrGetInverseObjectPropertyOf(
+				entityManager.createAnonymousEntity(IntegerEntityType.OBJECT_PROPERTY, true));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		entityManager.write(new DataOutputStream(bytes));
+		IntegerEntityManagerImpl other = IntegerEntityManagerImpl
+				.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		Assert.assertEquals(entityManager, other);
+		Assert.assertEquals(nominal, other.getAuxiliaryNominal(individual).get());
+		Assert.assertEquals(individual, other.getIndividual(nominal).get());
+		Assert.assertEquals(secondProperty, other.createOrGetInverseObjectPropertyOf(firstProperty));
+		Assert.assertTrue(other.getAuxiliaryInverseObjectProperties().contains(inverse));
+		Assert.assertEquals(entityManager.size(), other.size());
+	}
+
+}
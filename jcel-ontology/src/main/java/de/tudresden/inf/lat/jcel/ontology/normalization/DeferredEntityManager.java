@@ -0,0 +1,323 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.ontology.normalization;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManagerImpl;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+
+/**
+ * An object of this class is an entity manager that does not modify the
+ * entity manager it is based on. Each new entity gets a negative provisional
+ * identifier, and the entities are created later in the base entity manager
+ * with {@link #createEntities()}. If a new object of this
+ * class is used for each axiom, the provisional identifiers only depend on
+ * the axiom being normalized, and not on the thread that normalizes it. This
+ * is an auxiliary class used by <code>OntologyNormalizer</code>.
+ * 
+ * @author Julian Mendez
+ * 
+ * @see OntologyNormalizer
+ */
+class DeferredEntityManager implements IntegerEntityManager {
+
+	private final IntegerEntityManager baseEntityManager;
+	private final List<DeferredEntity> deferredEntities = new ArrayList<>();
+	private final Map<Integer, Integer> inverseObjectPropertyMap;
+	private final Map<Integer, Integer> localAuxNominalMap = new HashMap<>();
+	private final Map<Integer, Integer> localInverseObjectPropertyMap = new HashMap<>();
+
+	/**
+	 * Constructs a new deferred entity manager.
+	 * 
+	 * @param baseEntityManager
+	 *            entity manager that is only read while this entity manager is
+	 *            used
+	 * @param inverseObjectPropertyMap
+	 *            map of the inverse object properties that already exist in
+	 *            the base entity manager
+	 */
+	DeferredEntityManager(IntegerEntityManager baseEntityManager, Map<Integer, Integer> inverseObjectPropertyMap) {
+		Objects.requireNonNull(baseEntityManager);
+		Objects.requireNonNull(inverseObjectPropertyMap);
+		this.baseEntityManager = baseEntityManager;
+		this.inverseObjectPropertyMap = inverseObjectPropertyMap;
+	}
+
+	@Override
+	public Integer createAnonymousEntity(IntegerEntityType type, boolean auxiliary) {
+		Objects.requireNonNull(type);
+		return defer(new DeferredEntity(type, null, null, auxiliary));
+	}
+
+	/**
+	 * Creates the deferred entities in the base entity manager, in the same
+	 * order in which they were deferred. This method modifies the base entity
+	 * manager, so it cannot be called while other threads use the base entity
+	 * manager.
+	 * 
+	 * @return a function that returns the created identifier of each
+	 *         provisional identifier, and the same identifier for any other
+	 *         identifier
+	 */
+	IntUnaryOperator createEntities() {
+		int[] identifiers = new int[this.deferredEntities.size()];
+		IntUnaryOperator ret = identifier -> (identifier < 0) ? identifiers[-identifier - 1] : identifier;
+		for (int index = 0; index < identifiers.length; index++) {
+			identifiers[index] = this.deferredEntities.get(index).create(this.baseEntityManager, ret);
+		}
+		return ret;
+	}
+
+	@Override
+	public Integer createNamedEntity(IntegerEntityType type, String name, boolean auxiliary) {
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(name);
+		return defer(new DeferredEntity(type, name, null, auxiliary));
+	}
+
+	@Override
+	public Integer createOrGetClassIdForIndividual(Integer individual) {
+		Objects.requireNonNull(individual);
+		Optional<Integer> ret = getAuxiliaryNominal(individual);
+		if (ret.isPresent()) {
+			return ret.get();
+		} else {
+			Integer classId = defer(new DeferredEntity(IntegerEntityType.CLASS, null, individual, true));
+			this.localAuxNominalMap.put(individual, classId);
+			return classId;
+		}
+	}
+
+	@Override
+	public Integer createOrGetInverseObjectPropertyOf(Integer propertyId) throws IndexOutOfBoundsException {
+		Objects.requireNonNull(propertyId);
+		Integer ret = this.inverseObjectPropertyMap.get(propertyId);
+		if (Objects.isNull(ret)) {
+			ret = this.localInverseObjectPropertyMap.get(propertyId);
+		}
+		if (Objects.isNull(ret)) {
+			ret = defer(new DeferredEntity(IntegerEntityType.OBJECT_PROPERTY, null, propertyId, true));
+			this.localInverseObjectPropertyMap.put(propertyId, ret);
+			this.localInverseObjectPropertyMap.put(ret, propertyId);
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the number of deferred entities.
+	 * 
+	 * @return the number of deferred entities
+	 */
+	int getNumberOfDeferredEntities() {
+		return this.deferredEntities.size();
+	}
+
+	private Integer defer(DeferredEntity entity) {
+		this.deferredEntities.add(entity);
+		return -this.deferredEntities.size();
+	}
+
+	@Override
+	public Set<Integer> getAuxiliaryInverseObjectProperties() {
+		return this.baseEntityManager.getAuxiliaryInverseObjectProperties();
+	}
+
+	@Override
+	public Optional<Integer> getAuxiliaryNominal(Integer individual) {
+		Objects.requireNonNull(individual);
+		Optional<Integer> ret = this.baseEntityManager.getAuxiliaryNominal(individual);
+		if (!ret.isPresent()) {
+			ret = Optional.ofNullable(this.localAuxNominalMap.get(individual));
+		}
+		return ret;
+	}
+
+	@Override
+	public Set<Integer> getAuxiliaryNominals() {
+		return this.baseEntityManager.getAuxiliaryNominals();
+	}
+
+	private Optional<DeferredEntity> getDeferredEntity(Integer identifier) {
+		int index = -identifier - 1;
+		Optional<DeferredEntity> ret = Optional.empty();
+		if (identifier < 0 && index < this.deferredEntities.size()) {
+			ret = Optional.of(this.deferredEntities.get(index));
+		}
+		return ret;
+	}
+
+	@Override
+	public Set<Integer> getEntities(IntegerEntityType type) {
+		return this.baseEntityManager.getEntities(type);
+	}
+
+	@Override
+	public Set<Integer> getEntities(IntegerEntityType type, boolean auxiliary) {
+		return this.baseEntityManager.getEntities(type, auxiliary);
+	}
+
+	@Override
+	public Optional<Integer> getIndividual(Integer auxNominal) {
+		Objects.requireNonNull(auxNominal);
+		Optional<DeferredEntity> entity = getDeferredEntity(auxNominal);
+		Optional<Integer> ret;
+		if (entity.isPresent()) {
+			ret = entity.get().type.equals(IntegerEntityType.CLASS) ? Optional.ofNullable(entity.get().argument)
+					: Optional.empty();
+		} else {
+			ret = this.baseEntityManager.getIndividual(auxNominal);
+		}
+		return ret;
+	}
+
+	@Override
+	public Set<Integer> getIndividuals() {
+		return this.baseEntityManager.getIndividuals();
+	}
+
+	@Override
+	public String getName(Integer identifier) {
+		Objects.requireNonNull(identifier);
+		Optional<DeferredEntity> entity = getDeferredEntity(identifier);
+		String ret;
+		if (entity.isPresent()) {
+			if (Objects.nonNull(entity.get().name)) {
+				ret = entity.get().name;
+			} else if (entity.get().auxiliary) {
+				ret = IntegerEntityManagerImpl.auxiliaryEntity + identifier;
+			} else {
+				ret = IntegerEntityManagerImpl.anonymousEntity + identifier;
+			}
+		} else {
+			ret = this.baseEntityManager.getName(identifier);
+		}
+		return ret;
+	}
+
+	@Override
+	public IntegerEntityType getType(Integer identifier) {
+		Objects.requireNonNull(identifier);
+		Optional<DeferredEntity> entity = getDeferredEntity(identifier);
+		return entity.isPresent() ? entity.get().type : this.baseEntityManager.getType(identifier);
+	}
+
+	@Override
+	public boolean isAuxiliary(Integer identifier) {
+		Objects.requireNonNull(identifier);
+		Optional<DeferredEntity> entity = getDeferredEntity(identifier);
+		return entity.isPresent() ? entity.get().auxiliary : this.baseEntityManager.isAuxiliary(identifier);
+	}
+
+	@Override
+	public boolean isEntity(Integer identifier) {
+		Objects.requireNonNull(identifier);
+		return getDeferredEntity(identifier).isPresent() || this.baseEntityManager.isEntity(identifier);
+	}
+
+	/**
+	 * This entity manager does not accept proposals, because it would modify
+	 * the base entity manager. The axioms declaring inverse object properties
+	 * are normalized with the base entity manager.
+	 * 
+	 * @throws UnsupportedOperationException
+	 *             always
+	 */
+	@Override
+	public boolean proposeInverseObjectPropertyOf(Integer firstProperty, Integer secondProperty) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int size() {
+		return this.baseEntityManager.size();
+	}
+
+	/**
+	 * An object of this class describes an entity that has to be created in
+	 * the base entity manager.
+	 */
+	private static class DeferredEntity {
+
+		private final Integer argument;
+		private final boolean auxiliary;
+		private final String name;
+		private final IntegerEntityType type;
+
+		DeferredEntity(IntegerEntityType type, String name, Integer argument, boolean auxiliary) {
+			this.type = type;
+			this.name = name;
+			this.argument = argument;
+			this.auxiliary = auxiliary;
+		}
+
+		Integer create(IntegerEntityManager entityManager, IntUnaryOperator resolver) {
+			Integer ret;
+			if (Objects.nonNull(this.argument) && this.type.equals(IntegerEntityType.CLASS)) {
+				ret = entityManager.createOrGetClassIdForIndividual(this.argument);
+			} else if (Objects.nonNull(this.argument)) {
+				ret = entityManager.createOrGetInverseObjectPropertyOf(resolver.applyAsInt(this.argument));
+			} else if (Objects.nonNull(this.name)) {
+				ret = entityManager.createNamedEntity(this.type, this.name, this.auxiliary);
+			} else {
+				ret = entityManager.createAnonymousEntity(this.type, this.auxiliary);
+			}
+			return ret;
+		}
+
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.ontology.normalization;
+
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+
+import de.tudresden.inf.lat.jcel.coreontology.axiom.FunctObjectPropAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI0Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI1Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI2Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.GCI3Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NominalAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomVisitor;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI1Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI2Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RI3Axiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.RangeAxiom;
+
+/**
+ * An object of this class is a visitor that creates a copy of a normalized
+ * axiom where each identifier is replaced by another one. This is an
+ * auxiliary class used by <code>OntologyNormalizer</code>.
+ * 
+ * @author Julian Mendez
+ * 
+ * @see OntologyNormalizer
+ */
+class NormalizedAxiomRenamer implements NormalizedIntegerAxiomVisitor<NormalizedIntegerAxiom> {
+
+	private final NormalizedIntegerAxiomFactory factory;
+	private final IntUnaryOperator renaming;
+
+	/**
+	 * Constructs a new renamer.
+	 * 
+	 * @param factory
+	 *            factory of normalized axioms
+	 * @param renaming
+	 *            function that returns the new identifier of each identifier
+	 */
+	NormalizedAxiomRenamer(NormalizedIntegerAxiomFactory factory, IntUnaryOperator renaming) {
+		Objects.requireNonNull(factory);
+		Objects.requireNonNull(renaming);
+		this.factory = factory;
+		this.renaming = renaming;
+	}
+
+	private int rename(int identifier) {
+		return this.renaming.applyAsInt(identifier);
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(FunctObjectPropAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createFunctObjectPropAxiom(rename(axiom.getProperty()), axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(GCI0Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createGCI0Axiom(rename(axiom.getSubClass()), rename(axiom.getSuperClass()),
+				axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(GCI1Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createGCI1Axiom(rename(axiom.getLeftSubClass()), rename(axiom.getRightSubClass()),
+				rename(axiom.getSuperClass()), axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(GCI2Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createGCI2Axiom(rename(axiom.getSubClass()), rename(axiom.getPropertyInSuperClass()),
+				rename(axiom.getClassInSuperClass()), axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(GCI3Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createGCI3Axiom(rename(axiom.getPropertyInSubClass()), rename(axiom.getClassInSubClass()),
+				rename(axiom.getSuperClass()), axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(NominalAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createNominalAxiom(rename(axiom.getClassExpression()), rename(axiom.getIndividual()),
+				axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(RangeAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createRangeAxiom(rename(axiom.getProperty()), rename(axiom.getRange()),
+				axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(RI1Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createRI1Axiom(rename(axiom.getSuperProperty()), axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(RI2Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createRI2Axiom(rename(axiom.getSubProperty()), rename(axiom.getSuperProperty()),
+				axiom.getAnnotations());
+	}
+
+	@Override
+	public NormalizedIntegerAxiom visit(RI3Axiom axiom) {
+		Objects.requireNonNull(axiom);
+		return this.factory.createRI3Axiom(rename(axiom.getLeftSubProperty()), rename(axiom.getRightSubProperty()),
+				rename(axiom.getSuperProperty()), axiom.getAnnotations());
+	}
+
+}
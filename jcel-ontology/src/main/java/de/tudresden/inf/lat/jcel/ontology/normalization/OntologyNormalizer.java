@@ -46,16 +46,28 @@
 
 package de.tudresden.inf.lat.jcel.ontology.normalization;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
 
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiomFactory;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerAxiom;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiomFactory;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerInverseObjectPropertiesAxiom;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerDataTypeFactory;
 
 /**
  * An object of this class normalizes an ontology according to the following
@@ -107,32 +119,66 @@ public class OntologyNormalizer {
 		Objects.requireNonNull(originalAxiomSet);
 		Objects.requireNonNull(factory);
 		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
-		SimpleNormalizer normalizer = new SimpleNormalizer(factory);
-		Set<Integer> objectPropIdSet = new HashSet<>();
+		normalizeEach(originalAxiomSet, factory).values().forEach(normalizedAxioms -> ret.addAll(normalizedAxioms));
+		return Collections.unmodifiableSet(ret);
+	}
+
+	/**
+	 * Normalizes a set of axioms using the given number of threads. See
+	 * {@link #normalizeEach(Set, IntegerOntologyObjectFactory, int)}.
+	 * 
+	 * @param originalAxiomSet
+	 *            set of axioms to be normalized
+	 * @param factory
+	 *            factory
+	 * @param numberOfThreads
+	 *            number of threads
+	 * @return the normalized set of axioms according to the specified axioms
+	 */
+	public Set<NormalizedIntegerAxiom> normalize(Set<ComplexIntegerAxiom> originalAxiomSet,
+			IntegerOntologyObjectFactory factory, int numberOfThreads) {
+		Objects.requireNonNull(originalAxiomSet);
+		Objects.requireNonNull(factory);
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
+		normalizeEach(originalAxiomSet, factory, numberOfThreads).values()
+				.forEach(normalizedAxioms -> ret.addAll(normalizedAxioms));
+		return Collections.unmodifiableSet(ret);
+	}
+
+	/**
+	 * Normalizes one axiom.
+	 * 
+	 * @param axiom
+	 *            axiom to be normalized
+	 * @param normalizer
+	 *            normalizer
+	 * @param factory
+	 *            factory
+	 * @return the normalized set of axioms according to the specified axiom
+	 */
+	private Set<NormalizedIntegerAxiom> normalize(ComplexIntegerAxiom axiom, SimpleNormalizer normalizer,
+			IntegerOntologyObjectFactory factory) {
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
 		Set<IntegerAxiom> currentAxiomSet = new HashSet<>();
 
-		for (ComplexIntegerAxiom axiom : originalAxiomSet) {
-			objectPropIdSet.addAll(axiom.getObjectPropertiesInSignature());
-			if (axiom instanceof IntegerInverseObjectPropertiesAxiom) {
-				Set<IntegerAxiom> newSet = normalizer.normalize(axiom);
-				currentAxiomSet.addAll(newSet);
-			} else {
-				currentAxiomSet.add(axiom);
-			}
+		if (axiom instanceof IntegerInverseObjectPropertiesAxiom) {
+			currentAxiomSet.addAll(normalizer.normalize(axiom));
+		} else {
+			currentAxiomSet.add(axiom);
 		}
 
-		for (Integer propId : objectPropIdSet) {
+		for (Integer propId : axiom.getObjectPropertiesInSignature()) {
 			Integer inversePropId = factory.getEntityManager().createOrGetInverseObjectPropertyOf(propId);
 			currentAxiomSet.addAll(normalizer.getAxiomsForInverseObjectProperties(propId, inversePropId));
 		}
 
 		while (currentAxiomSet.size() > 0) {
 			Set<IntegerAxiom> nextAxiomSet = new HashSet<>();
-			for (IntegerAxiom axiom : currentAxiomSet) {
-				if (axiom instanceof NormalizedIntegerAxiom) {
-					ret.add((NormalizedIntegerAxiom) axiom);
+			for (IntegerAxiom currentAxiom : currentAxiomSet) {
+				if (currentAxiom instanceof NormalizedIntegerAxiom) {
+					ret.add((NormalizedIntegerAxiom) currentAxiom);
 				} else {
-					Set<IntegerAxiom> newSet = normalizer.normalize(axiom);
+					Set<IntegerAxiom> newSet = normalizer.normalize(currentAxiom);
 					nextAxiomSet.addAll(newSet);
 				}
 			}
@@ -142,4 +188,177 @@ public class OntologyNormalizer {
 		return Collections.unmodifiableSet(ret);
 	}
 
+	/**
+	 * Normalizes one axiom without modifying the entity manager of the
+	 * factory. The new entities are created later, when the normalization is
+	 * completed.
+	 * 
+	 * @param axiom
+	 *            axiom to be normalized
+	 * @param factory
+	 *            factory
+	 * @param inverseObjectPropertyMap
+	 *            map of the inverse object properties that already exist
+	 * @return the normalized axioms and the entities that they need
+	 */
+	private DeferredNormalization normalizeDeferred(ComplexIntegerAxiom axiom, IntegerOntologyObjectFactory factory,
+			Map<Integer, Integer> inverseObjectPropertyMap) {
+		DeferredEntityManager entityManager = new DeferredEntityManager(factory.getEntityManager(),
+				inverseObjectPropertyMap);
+		IntegerOntologyObjectFactory deferredFactory = new DeferredFactory(factory, entityManager);
+		return new DeferredNormalization(normalize(axiom, new SimpleNormalizer(deferredFactory), deferredFactory),
+				entityManager);
+	}
+
+	/**
+	 * Normalizes each axiom of a set of axioms. The normalized axioms of each
+	 * axiom are kept separately, so that the normalized axioms of an axiom can
+	 * be removed when the axiom is removed from the ontology.
+	 * 
+	 * @param originalAxiomSet
+	 *            set of axioms to be normalized
+	 * @param factory
+	 *            factory
+	 * @return a map that associates each axiom to its normalized axioms
+	 */
+	public Map<ComplexIntegerAxiom, Set<NormalizedIntegerAxiom>> normalizeEach(
+			Set<ComplexIntegerAxiom> originalAxiomSet, IntegerOntologyObjectFactory factory) {
+		Objects.requireNonNull(originalAxiomSet);
+		Objects.requireNonNull(factory);
+		Map<ComplexIntegerAxiom, Set<NormalizedIntegerAxiom>> ret = new HashMap<>();
+		SimpleNormalizer normalizer = new SimpleNormalizer(factory);
+		originalAxiomSet.forEach(axiom -> ret.put(axiom, normalize(axiom, normalizer, factory)));
+		return Collections.unmodifiableMap(ret);
+	}
+
+	/**
+	 * Normalizes each axiom of a set of axioms using the given number of
+	 * threads. The axioms are normalized concurrently, each one with its own
+	 * normalizer, and the entities that the normalized axioms need are created
+	 * afterwards, in the order in which the axioms are iterated. Thus, the
+	 * result and the identifiers of the new entities do not depend on the
+	 * number of threads. They can differ from the ones obtained with
+	 * {@link #normalizeEach(Set, IntegerOntologyObjectFactory)}, which creates
+	 * the entities while it normalizes.
+	 * 
+	 * @param originalAxiomSet
+	 *            set of axioms to be normalized
+	 * @param factory
+	 *            factory
+	 * @param numberOfThreads
+	 *            number of threads
+	 * @return a map that associates each axiom to its normalized axioms
+	 * @throws IllegalStateException
+	 *             if the normalization of an axiom failed or was interrupted
+	 */
+	public Map<ComplexIntegerAxiom, Set<NormalizedIntegerAxiom>> normalizeEach(
+			Set<ComplexIntegerAxiom> originalAxiomSet, IntegerOntologyObjectFactory factory, int numberOfThreads) {
+		Objects.requireNonNull(originalAxiomSet);
+		Objects.requireNonNull(factory);
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of threads: " + numberOfThreads);
+		}
+		Map<ComplexIntegerAxiom, Set<NormalizedIntegerAxiom>> ret = new HashMap<>();
+
+		// the entities that are shared by several axioms are created first
+		SimpleNormalizer normalizer = new SimpleNormalizer(factory);
+		Map<Integer, Integer> inverseObjectPropertyMap = new HashMap<>();
+		List<ComplexIntegerAxiom> axiomList = new ArrayList<>();
+		originalAxiomSet.forEach(axiom -> {
+			if (axiom instanceof IntegerInverseObjectPropertiesAxiom) {
+				ret.put(axiom, normalize(axiom, normalizer, factory));
+			} else {
+				axiomList.add(axiom);
+			}
+			axiom.getObjectPropertiesInSignature().forEach(propId -> {
+				Integer inversePropId = factory.getEntityManager().createOrGetInverseObjectPropertyOf(propId);
+				inverseObjectPropertyMap.put(propId, inversePropId);
+				inverseObjectPropertyMap.put(inversePropId, propId);
+			});
+		});
+
+		DeferredNormalization[] normalizations = new DeferredNormalization[axiomList.size()];
+		ForkJoinPool pool = new ForkJoinPool(numberOfThreads);
+		try {
+			pool.submit(() -> IntStream.range(0, normalizations.length).parallel()
+					.forEach(index -> normalizations[index] = normalizeDeferred(axiomList.get(index), factory,
+							Collections.unmodifiableMap(inverseObjectPropertyMap))))
+					.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+
+		for (int index = 0; index < normalizations.length; index++) {
+			DeferredNormalization normalization = normalizations[index];
+			Set<NormalizedIntegerAxiom> normalizedAxioms = normalization.normalizedAxioms;
+			if (normalization.entityManager.getNumberOfDeferredEntities() > 0) {
+				IntUnaryOperator renaming = normalization.entityManager.createEntities();
+				NormalizedAxiomRenamer renamer = new NormalizedAxiomRenamer(factory.getNormalizedAxiomFactory(),
+						renaming);
+				Set<NormalizedIntegerAxiom> renamedAxioms = new HashSet<>();
+				normalizedAxioms.forEach(normalizedAxiom -> renamedAxioms.add(normalizedAxiom.accept(renamer)));
+				normalizedAxioms = Collections.unmodifiableSet(renamedAxioms);
+			}
+			ret.put(axiomList.get(index), normalizedAxioms);
+		}
+		return Collections.unmodifiableMap(ret);
+	}
+
+	/**
+	 * An object of this class is a factory that uses a different entity
+	 * manager than the factory it is based on.
+	 */
+	private static class DeferredFactory implements IntegerOntologyObjectFactory {
+
+		private final IntegerEntityManager entityManager;
+		private final IntegerOntologyObjectFactory factory;
+
+		DeferredFactory(IntegerOntologyObjectFactory factory, IntegerEntityManager entityManager) {
+			this.factory = factory;
+			this.entityManager = entityManager;
+		}
+
+		@Override
+		public ComplexIntegerAxiomFactory getComplexAxiomFactory() {
+			return this.factory.getComplexAxiomFactory();
+		}
+
+		@Override
+		public IntegerDataTypeFactory getDataTypeFactory() {
+			return this.factory.getDataTypeFactory();
+		}
+
+		@Override
+		public IntegerEntityManager getEntityManager() {
+			return this.entityManager;
+		}
+
+		@Override
+		public NormalizedIntegerAxiomFactory getNormalizedAxiomFactory() {
+			return this.factory.getNormalizedAxiomFactory();
+		}
+
+	}
+
+	/**
+	 * An object of this class keeps the normalized axioms of an axiom, which
+	 * can refer to entities that have not been created yet.
+	 */
+	private static class DeferredNormalization {
+
+		private final DeferredEntityManager entityManager;
+		private final Set<NormalizedIntegerAxiom> normalizedAxioms;
+
+		DeferredNormalization(Set<NormalizedIntegerAxiom> normalizedAxioms, DeferredEntityManager entityManager) {
+			this.normalizedAxioms = normalizedAxioms;
+			this.entityManager = entityManager;
+		}
+
+	}
+
 }
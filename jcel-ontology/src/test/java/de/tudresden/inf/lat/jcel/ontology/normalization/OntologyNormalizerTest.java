@@ -47,8 +47,10 @@
 package de.tudresden.inf.lat.jcel.ontology.normalization;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.stream.IntStream;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -60,6 +62,7 @@ import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClassExpression;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectProperty;
 
 /**
@@ -77,6 +80,35 @@ public class OntologyNormalizerTest {
 	public OntologyNormalizerTest() {
 	}
 
+	/**
+	 * Returns an ontology containing the axioms A<sub>i</sub> \u2291 &exist; r
+	 * <i>.</i> (A<sub>i+1</sub> \u2293 &exist; r<sup>-</sup> <i>.</i>
+	 * A<sub>i</sub>) and A<sub>i</sub>(a<sub>i</sub>). Normalizing each of
+	 * them needs new entities.
+	 */
+	private Set<ComplexIntegerAxiom> createChain(IntegerOntologyObjectFactory factory, int length) {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		Set<ComplexIntegerAxiom> ret = new HashSet<>();
+		IntegerObjectProperty r = createNewObjectProperty(factory, "r");
+		IntegerClass[] classes = new IntegerClass[length];
+		IntStream.range(0, length).forEach(index -> classes[index] = createNewClass(factory, "A" + index));
+		IntStream.range(0, length - 1).forEach(index -> {
+			Set<IntegerClassExpression> operands = new HashSet<>();
+			operands.add(classes[index + 1]);
+			operands.add(factory.getDataTypeFactory().createObjectSomeValuesFrom(
+					factory.getDataTypeFactory().createObjectInverseOf(r), classes[index]));
+			ret.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(classes[index],
+					factory.getDataTypeFactory().createObjectSomeValuesFrom(r,
+							factory.getDataTypeFactory().createObjectIntersectionOf(operands)),
+					annotations));
+			int individual = factory.getEntityManager().createNamedEntity(IntegerEntityType.INDIVIDUAL, "a" + index,
+					false);
+			ret.add(factory.getComplexAxiomFactory().createClassAssertionAxiom(classes[index], individual,
+					annotations));
+		});
+		return ret;
+	}
+
 	private IntegerClass createNewClass(IntegerOntologyObjectFactory factory, String name) {
 		return factory.getDataTypeFactory()
 				.createClass(factory.getEntityManager().createNamedEntity(IntegerEntityType.CLASS, name, false));
@@ -139,4 +171,55 @@ public class OntologyNormalizerTest {
 		Assert.assertEquals(expectedSet, normalizedSet);
 	}
 
+	@Test
+	public void testConcurrentNormalization() {
+		int length = 0x100;
+		IntegerOntologyObjectFactory factory0 = new IntegerOntologyObjectFactoryImpl();
+		IntegerOntologyObjectFactory factory1 = new IntegerOntologyObjectFactoryImpl();
+		IntegerOntologyObjectFactory factory2 = new IntegerOntologyObjectFactoryImpl();
+		Set<ComplexIntegerAxiom> ontology0 = createChain(factory0, length);
+		Set<ComplexIntegerAxiom> ontology1 = createChain(factory1, length);
+		Set<ComplexIntegerAxiom> ontology2 = createChain(factory2, length);
+
+		OntologyNormalizer normalizer = new OntologyNormalizer();
+		Map<ComplexIntegerAxiom, Set<NormalizedIntegerAxiom>> sequentialMap = normalizer.normalizeEach(ontology0,
+				factory0);
+		Map<ComplexIntegerAxiom, Set<NormalizedIntegerAxiom>> singleThreadMap = normalizer.normalizeEach(ontology1,
+				factory1, 1);
+		Map<ComplexIntegerAxiom, Set<NormalizedIntegerAxiom>> multiThreadMap = normalizer.normalizeEach(ontology2,
+				factory2, 4);
+
+		Assert.assertEquals(singleThreadMap, multiThreadMap);
+		Assert.assertEquals(factory0.getEntityManager().size(), factory2.getEntityManager().size());
+		Assert.assertEquals(factory1.getEntityManager().size(), factory2.getEntityManager().size());
+		Assert.assertEquals(sequentialMap.keySet(), multiThreadMap.keySet());
+		sequentialMap.forEach((axiom, normalizedAxioms) -> Assert.assertEquals(normalizedAxioms.size(),
+				multiThreadMap.get(axiom).size()));
+		Assert.assertEquals(length - 1, factory2.getEntityManager().getIndividuals().size());
+	}
+
+	@Test
+	public void testConcurrentNormalizationInverseObjectProperties() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+		IntegerClass a = createNewClass(factory, "A");
+		IntegerClass b = createNewClass(factory, "B");
+		IntegerObjectProperty r = createNewObjectProperty(factory, "r");
+		IntegerObjectProperty rMinus = createNewObjectProperty(factory, "r-");
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+		ontology.add(factory.getComplexAxiomFactory().createInverseObjectPropertiesAxiom(rMinus, r, annotations));
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(
+				factory.getDataTypeFactory().createObjectSomeValuesFrom(rMinus, a), b, annotations));
+
+		Set<NormalizedIntegerAxiom> normalizedSet = new OntologyNormalizer().normalize(ontology, factory, 2);
+
+		Set<NormalizedIntegerAxiom> expectedSet = new HashSet<>();
+		expectedSet.add(
+				factory.getNormalizedAxiomFactory().createGCI3Axiom(rMinus.getId(), a.getId(), b.getId(), annotations));
+
+		Assert.assertEquals(expectedSet, normalizedSet);
+	}
+
 }
@@ -69,6 +69,8 @@ import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
 import org.semanticweb.owlapi.model.OWLOntologyChangeVisitorEx;
+import org.semanticweb.owlapi.model.parameters.AxiomAnnotations;
+import org.semanticweb.owlapi.model.parameters.Imports;
 import org.semanticweb.owlapi.reasoner.AxiomNotInProfileException;
 import org.semanticweb.owlapi.reasoner.BufferingMode;
 import org.semanticweb.owlapi.reasoner.ClassExpressionNotInProfileException;
@@ -158,13 +160,41 @@ public class JcelReasoner implements OWLReasoner, OWLOntologyChangeListener {
 	public boolean addAxiom(OWLAxiom axiom) {
 		Objects.requireNonNull(axiom);
 		logger.finer("addAxiom(" + axiom + ")");
-		boolean ret = this.pendingAxiomAdditions.add(axiom);
+		boolean ret = this.pendingAxiomRemovals.remove(axiom) || this.pendingAxiomAdditions.add(axiom);
 		if (!this.buffering) {
-			resetReasoner();
+			applyPendingChanges();
 		}
 		return ret;
 	}
 
+	/**
+	 * Applies the pending axiom removals and additions to the current reasoner,
+	 * which updates its classification incrementally whenever possible. An axiom
+	 * that was removed from an ontology is only removed from the reasoner if no
+	 * ontology in the imports closure contains it.
+	 */
+	private void applyPendingChanges() {
+		if (!this.pendingAxiomRemovals.isEmpty()) {
+			Set<OWLAxiom> removedAxioms = new HashSet<>();
+			this.pendingAxiomRemovals.forEach(axiom -> {
+				if (!this.rootOntology.containsAxiom(axiom, Imports.INCLUDED,
+						AxiomAnnotations.CONSIDER_AXIOM_ANNOTATIONS)) {
+					removedAxioms.add(axiom);
+				}
+			});
+			logger.fine("removing " + removedAxioms.size() + " axioms ...");
+			this.jcelCore.removeAxioms(this.translator.translateSA(removedAxioms));
+			this.pendingAxiomRemovals.clear();
+		}
+		if (!this.pendingAxiomAdditions.isEmpty()) {
+			this.pendingAxiomAdditions
+					.forEach(axiom -> this.translator.getTranslationRepository().addAxiomEntities(axiom));
+			logger.fine("adding " + this.pendingAxiomAdditions.size() + " axioms ...");
+			this.jcelCore.addAxioms(this.translator.translateSA(this.pendingAxiomAdditions));
+			this.pendingAxiomAdditions.clear();
+		}
+	}
+
 	@Override
 	public void dispose() {
 		logger.finer("dispose()");
@@ -175,10 +205,8 @@ public class JcelReasoner implements OWLReasoner, OWLOntologyChangeListener {
 	@Override
 	public void flush() {
 		logger.finer("flush()");
-		this.pendingAxiomAdditions.clear();
-		this.pendingAxiomRemovals.clear();
+		applyPendingChanges();
 		this.pendingChanges.clear();
-		resetReasoner();
 		getReasoner().flush();
 	}
 
@@ -686,8 +714,13 @@ public class JcelReasoner implements OWLReasoner, OWLOntologyChangeListener {
 
 	@Override
 	public void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
-		this.pendingChanges.addAll(changes);
-		changes.forEach(change -> change.accept(this.ontologyChangeVisitor));
+		Set<OWLOntology> importsClosure = this.rootOntology.getImportsClosure();
+		changes.forEach(change -> {
+			if (importsClosure.contains(change.getOntology())) {
+				this.pendingChanges.add(change);
+				change.accept(this.ontologyChangeVisitor);
+			}
+		});
 	}
 
 	@Override
@@ -713,9 +746,9 @@ public class JcelReasoner implements OWLReasoner, OWLOntologyChangeListener {
 	public boolean removeAxiom(OWLAxiom axiom) {
 		Objects.requireNonNull(axiom);
 		logger.finer("removeAxiom(" + axiom + ")");
-		boolean ret = this.pendingAxiomRemovals.add(axiom);
+		boolean ret = this.pendingAxiomAdditions.remove(axiom) || this.pendingAxiomRemovals.add(axiom);
 		if (!this.buffering) {
-			resetReasoner();
+			applyPendingChanges();
 		}
 		return ret;
 	}
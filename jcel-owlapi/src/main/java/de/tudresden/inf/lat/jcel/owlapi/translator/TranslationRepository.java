@@ -53,6 +53,7 @@ import java.util.Optional;
 
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
 import org.semanticweb.owlapi.model.OWLAnnotationValue;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLDataProperty;
@@ -119,6 +120,32 @@ public class TranslationRepository {
 		initializeMaps();
 	}
 
+	/**
+	 * Adds the entities of an axiom to the repository.
+	 * 
+	 * @param axiom
+	 *            OWL axiom
+	 * @return <code>true</code> if and only if the repository has changed
+	 */
+	public boolean addAxiomEntities(OWLAxiom axiom) {
+		Objects.requireNonNull(axiom);
+		boolean ret = false;
+
+		ret = axiom.getClassesInSignature().stream().map(cls -> addClass(cls)) //
+				.reduce(ret, (accum, elem) -> (accum || elem));
+
+		ret = axiom.getObjectPropertiesInSignature().stream().map(objProp -> addObjectProperty(objProp)) //
+				.reduce(ret, (accum, elem) -> (accum || elem));
+
+		ret = axiom.getIndividualsInSignature().stream().map(indiv -> addNamedIndividual(indiv)) //
+				.reduce(ret, (accum, elem) -> (accum || elem));
+
+		ret = axiom.getDataPropertiesInSignature().stream().map(dataProp -> addDataProperty(dataProp)) //
+				.reduce(ret, (accum, elem) -> (accum || elem));
+
+		return ret;
+	}
+
 	/**
 	 * Adds the entities of an ontology to the repository.
 	 * 
@@ -50,6 +50,7 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import de.tudresden.inf.lat.jcel.core.graph.IntegerTaxonomy;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiomVisitor;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerClassAssertionAxiom;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.IntegerClassDeclarationAxiom;
@@ -111,7 +112,7 @@ public class OntologyEntailmentChecker implements ComplexIntegerAxiomVisitor<Boo
 	@Override
 	public Boolean visit(IntegerClassDeclarationAxiom axiom) {
 		Objects.requireNonNull(axiom);
-		boolean ret = getReasoner().getProcessor().getClassHierarchy().getElements().contains(axiom.getEntity());
+		boolean ret = getReasoner().getClassTaxonomy().getElements().contains(axiom.getEntity());
 		return ret;
 	}
 
@@ -148,10 +149,10 @@ public class OntologyEntailmentChecker implements ComplexIntegerAxiomVisitor<Boo
 			IntegerClass representative = getReasoner().flattenClassExpression(set.iterator().next());
 			Set<IntegerClass> classSet = new HashSet<>();
 			set.forEach(classExpr -> classSet.add(getReasoner().flattenClassExpression(classExpr)));
-			getReasoner().classify();
+			IntegerTaxonomy taxonomy = getReasoner().getClassTaxonomy();
 			ret = ret && classSet.stream() //
-					.allMatch(currentClass -> getReasoner().getProcessor().getClassHierarchy()
-							.getEquivalents(currentClass.getId()).contains(representative.getId()));
+					.allMatch(currentClass -> taxonomy.getEquivalents(currentClass.getId())
+							.contains(representative.getId()));
 		}
 		return ret;
 	}
@@ -201,7 +202,7 @@ public class OntologyEntailmentChecker implements ComplexIntegerAxiomVisitor<Boo
 	@Override
 	public Boolean visit(IntegerObjectPropertyDeclarationAxiom axiom) {
 		Objects.requireNonNull(axiom);
-		return getReasoner().getProcessor().getObjectPropertyHierarchy().getElements().contains(axiom.getEntity());
+		return getReasoner().getObjectPropertyTaxonomy().getElements().contains(axiom.getEntity());
 	}
 
 	@Override
@@ -229,18 +230,8 @@ public class OntologyEntailmentChecker implements ComplexIntegerAxiomVisitor<Boo
 		IntegerClassExpression superClassExpr = axiom.getSuperClass();
 		IntegerClass subClass = getReasoner().flattenClassExpression(subClassExpr);
 		IntegerClass superClass = getReasoner().flattenClassExpression(superClassExpr);
-		getReasoner().classify();
-
-		boolean isEquivalent = getReasoner().getEquivalentClasses(subClass).contains(superClass);
-
-		boolean isAncestor = false;
-		if (!isEquivalent) {
-			Set<Set<IntegerClass>> setsOfAncestors = getReasoner().getSuperClasses(subClassExpr, false);
-			isAncestor = isAncestor || setsOfAncestors.stream() //
-					.anyMatch(ancestor -> ancestor.contains(superClass));
-		}
-
-		return (isAncestor || isEquivalent);
+		boolean ret = getReasoner().getClassTaxonomy().isSubsumedBy(subClass.getId(), superClass.getId());
+		return ret;
 	}
 
 	@Override
@@ -46,17 +46,24 @@
 
 package de.tudresden.inf.lat.jcel.reasoner.main;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.logging.Logger;
 
+import de.tudresden.inf.lat.jcel.core.algorithm.common.ClassificationSnapshot;
 import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
 import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.RuleBasedProcessor;
+import de.tudresden.inf.lat.jcel.core.algorithm.rulebased.RuleBasedProcessorConfiguration;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerTaxonomy;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.NormalizedIntegerAxiom;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
@@ -83,22 +90,100 @@ public class RuleBasedReasoner implements IntegerReasoner {
 
 	private static final Logger logger = Logger.getLogger(RuleBasedReasoner.class.getName());
 
+	/**
+	 * Maximum number of query classes that are kept. When this number is
+	 * reached, the least recently used half of them is removed, so that the
+	 * ontology does not grow with every different query.
+	 */
+	static final int maxNumberOfQueries = 0x400;
+
 	private final Map<IntegerClassExpression, Integer> auxClassInvMap = new HashMap<>();
 	private final Map<Integer, IntegerClassExpression> auxClassMap = new HashMap<>();
+	private IntegerTaxonomy classTaxonomy = null;
 	private boolean classified = false;
+	private final RuleBasedProcessorConfiguration configuration;
+	private Map<Integer, List<Integer>> directInstances = null;
 	private final OntologyEntailmentChecker entailmentChecker = new OntologyEntailmentChecker(this);
+	private OntologyExpressivity expressivity = null;
 	private final IntegerOntologyObjectFactory factory;
 	private boolean interruptRequested = false;
+	private final Map<NormalizedIntegerAxiom, Integer> normalizedAxiomCount = new HashMap<>();
+	private final Map<ComplexIntegerAxiom, Set<NormalizedIntegerAxiom>> normalizedAxiomMap = new HashMap<>();
+	private IntegerTaxonomy objectPropertyTaxonomy = null;
 	private RuleBasedProcessor processor = null;
+	private final Map<IntegerClassExpression, Set<NormalizedIntegerAxiom>> queryAxiomMap = new LinkedHashMap<>(
+			0x10, 0.75f, true);
 	private final long timeOut = 0;
 
 	public RuleBasedReasoner(Set<ComplexIntegerAxiom> ontology, IntegerOntologyObjectFactory factory) {
+		this(ontology, factory, new RuleBasedProcessorConfiguration());
+	}
+
+	/**
+	 * Constructs a new rule-based reasoner.
+	 * 
+	 * @param ontology
+	 *            ontology
+	 * @param factory
+	 *            factory
+	 * @param configuration
+	 *            configuration of the rule-based processor
+	 */
+	public RuleBasedReasoner(Set<ComplexIntegerAxiom> ontology, IntegerOntologyObjectFactory factory,
+			RuleBasedProcessorConfiguration configuration) {
 		Objects.requireNonNull(ontology);
 		Objects.requireNonNull(factory);
+		Objects.requireNonNull(configuration);
 		this.factory = factory;
+		this.configuration = configuration;
 		this.processor = createProcessor(ontology);
 	}
 
+	/**
+	 * Adds axioms to the ontology. If the new axioms do not need completion
+	 * rules other than the ones used by the current processor, the normalized
+	 * axioms are added to the current processor, which keeps the current
+	 * saturation whenever possible. Otherwise, a new processor is created for
+	 * the whole ontology.
+	 * 
+	 * @param axiomSet
+	 *            set of axioms to be added
+	 */
+	public void addAxioms(Set<ComplexIntegerAxiom> axiomSet) {
+		Objects.requireNonNull(axiomSet);
+		Set<ComplexIntegerAxiom> newAxiomSet = new HashSet<>();
+		axiomSet.forEach(axiom -> {
+			if (!this.normalizedAxiomMap.containsKey(axiom)) {
+				newAxiomSet.add(axiom);
+			}
+		});
+		if (!newAxiomSet.isEmpty()) {
+			OntologyExpressivity newExpressivity = new ComplexAxiomExpressivityDetector(newAxiomSet);
+			if (needsOtherCompletionRules(newExpressivity)) {
+				Set<ComplexIntegerAxiom> ontology = new HashSet<>(this.normalizedAxiomMap.keySet());
+				ontology.addAll(newAxiomSet);
+				this.processor = createProcessor(ontology);
+			} else {
+				this.processor.addAxioms(register(normalizeEach(newAxiomSet)));
+			}
+			this.classified = false;
+		}
+	}
+
+	private void addInstances(Integer classId, Set<Integer> indivIdSet, Set<Set<IntegerNamedIndividual>> ret) {
+		List<Integer> instances = this.directInstances.get(classId);
+		if (Objects.nonNull(instances)) {
+			instances.forEach(indivId -> {
+				if (!indivIdSet.contains(indivId)) {
+					Set<Integer> equivIndivId = getProcessor().getSameIndividualMap().get(indivId);
+					indivIdSet.add(indivId);
+					indivIdSet.addAll(equivIndivId);
+					ret.add(toIntegerNamedIndividual(equivIndivId));
+				}
+			});
+		}
+	}
+
 	@Override
 	public void classify() {
 		if (!this.classified) {
@@ -112,15 +197,63 @@ public class RuleBasedReasoner implements IntegerReasoner {
 				}
 			}
 			logger.fine("classification finished.");
+
+			this.classTaxonomy = this.processor.getClassHierarchy();
+			this.objectPropertyTaxonomy = this.processor.getObjectPropertyHierarchy();
+			this.directInstances = createDirectInstances(this.processor.getDirectTypes());
 		}
 
 		this.classified = true;
 	}
 
+	/**
+	 * Increases the number of axioms from which each normalized axiom is
+	 * obtained.
+	 * 
+	 * @param normalizedAxioms
+	 *            normalized axioms
+	 * @return the normalized axioms that were not part of the ontology before
+	 */
+	private Set<NormalizedIntegerAxiom> count(Set<NormalizedIntegerAxiom> normalizedAxioms) {
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
+		normalizedAxioms.forEach(normalizedAxiom -> {
+			int count = this.normalizedAxiomCount.getOrDefault(normalizedAxiom, 0);
+			if (count == 0) {
+				ret.add(normalizedAxiom);
+			}
+			this.normalizedAxiomCount.put(normalizedAxiom, count + 1);
+		});
+		return ret;
+	}
+
+	/**
+	 * Returns a map from each class to the individuals that have it as direct
+	 * type. This is the inverse of the map of direct types, and it is used to
+	 * retrieve the instances of a class without visiting every individual.
+	 * 
+	 * @param directTypes
+	 *            map from each individual to its direct types
+	 * @return a map from each class to the individuals that have it as direct
+	 *         type
+	 */
+	private Map<Integer, List<Integer>> createDirectInstances(Map<Integer, Set<Integer>> directTypes) {
+		Map<Integer, List<Integer>> ret = new HashMap<>();
+		directTypes.forEach((indivId, types) -> types.forEach(classId -> {
+			List<Integer> instances = ret.get(classId);
+			if (Objects.isNull(instances)) {
+				instances = new ArrayList<>();
+				ret.put(classId, instances);
+			}
+			instances.add(indivId);
+		}));
+		return ret;
+	}
+
 	private RuleBasedProcessor createProcessor(Set<ComplexIntegerAxiom> ontology) {
 		logger.fine("creating processor (phase 1) ...");
 
 		OntologyExpressivity expressivity = new ComplexAxiomExpressivityDetector(ontology);
+		this.expressivity = expressivity;
 
 		logger.fine("description logic family : " + expressivity.toString() + " .");
 
@@ -137,16 +270,34 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		logger.fine("number of object properties : " + originalObjectPropertySet.size());
 
 		logger.fine("normalizing ontology ...");
-		OntologyNormalizer axiomNormalizer = new OntologyNormalizer();
-		Set<NormalizedIntegerAxiom> normalizedAxiomSet = axiomNormalizer.normalize(ontology, this.factory);
+		this.normalizedAxiomMap.clear();
+		this.normalizedAxiomCount.clear();
+		Set<NormalizedIntegerAxiom> normalizedAxiomSet = register(normalizeEach(ontology));
+		// the classes of the queries are kept in the new processor
+		this.queryAxiomMap.values().forEach(normalizedAxioms -> normalizedAxiomSet.addAll(count(normalizedAxioms)));
 
 		logger.fine("creating processor (phase 2) ...");
 		RuleBasedProcessor ret = new RuleBasedProcessor(originalObjectPropertySet, originalClassSet, normalizedAxiomSet,
-				expressivity, this.factory.getNormalizedAxiomFactory(), this.factory.getEntityManager());
+				expressivity, this.factory.getNormalizedAxiomFactory(), this.factory.getEntityManager(),
+				this.configuration);
 		logger.fine("processor created.");
 		return ret;
 	}
 
+	/**
+	 * Classifies the ontology, if needed, and returns a snapshot of the
+	 * classification, which can be written to a file.
+	 * 
+	 * @param ontologyChecksum
+	 *            checksum of the input ontology
+	 * @return a snapshot of the classification
+	 */
+	public ClassificationSnapshot createSnapshot(byte[] ontologyChecksum) {
+		Objects.requireNonNull(ontologyChecksum);
+		classify();
+		return new ClassificationSnapshot(getProcessor(), this.factory.getEntityManager(), ontologyChecksum);
+	}
+
 	@Override
 	public void dispose() {
 		// it does nothing
@@ -159,6 +310,9 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		} else {
 			Integer classIndex = this.auxClassInvMap.get(ce);
 			if (Objects.isNull(classIndex)) {
+				if (this.queryAxiomMap.size() >= maxNumberOfQueries) {
+					evictQueries();
+				}
 				Integer auxClassId = this.factory.getEntityManager().createAnonymousEntity(IntegerEntityType.CLASS,
 						false);
 				ret = getDataTypeFactory().createClass(auxClassId);
@@ -173,14 +327,16 @@ public class RuleBasedReasoner implements IntegerReasoner {
 				extendedOntology
 						.add(this.factory.getComplexAxiomFactory().createEquivalentClassesAxiom(argument, annotations));
 
-				OntologyNormalizer axiomNormalizer = new OntologyNormalizer();
-				Set<NormalizedIntegerAxiom> extendedNormalizedAxiomSet = axiomNormalizer.normalize(extendedOntology,
-						this.factory);
+				Set<NormalizedIntegerAxiom> queryAxiomSet = new HashSet<>();
+				normalizeEach(extendedOntology).values().forEach(queryAxiomSet::addAll);
+				this.queryAxiomMap.put(ce, queryAxiomSet);
 
-				this.processor.addAxioms(extendedNormalizedAxiomSet);
+				this.processor.addAxioms(count(queryAxiomSet));
 
 				this.classified = false;
 			} else {
+				// the query becomes the most recently used one
+				this.queryAxiomMap.get(ce);
 				ret = getDataTypeFactory().createClass(classIndex);
 			}
 		}
@@ -188,6 +344,27 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		return ret;
 	}
 
+	/**
+	 * Removes the least recently used query classes, until only half of the
+	 * maximum number of query classes is kept. The normalized axioms that are
+	 * only obtained from the removed queries are removed from the processor.
+	 */
+	private void evictQueries() {
+		Set<NormalizedIntegerAxiom> removedAxiomSet = new HashSet<>();
+		Iterator<Map.Entry<IntegerClassExpression, Set<NormalizedIntegerAxiom>>> it = this.queryAxiomMap.entrySet()
+				.iterator();
+		while (this.queryAxiomMap.size() > maxNumberOfQueries / 2) {
+			Map.Entry<IntegerClassExpression, Set<NormalizedIntegerAxiom>> entry = it.next();
+			this.auxClassMap.remove(this.auxClassInvMap.remove(entry.getKey()));
+			removedAxiomSet.addAll(uncount(entry.getValue()));
+			it.remove();
+		}
+		if (!removedAxiomSet.isEmpty()) {
+			this.processor.removeAxioms(removedAxiomSet);
+		}
+		this.classified = false;
+	}
+
 	@Override
 	public void flush() {
 		this.classified = false;
@@ -196,7 +373,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 	@Override
 	public Set<IntegerClass> getBottomClassNode() {
 		classify();
-		IntegerHierarchicalGraph graph = getProcessor().getClassHierarchy();
+		IntegerHierarchicalGraph graph = this.classTaxonomy;
 		return toIntegerClass(graph.getEquivalents(graph.getBottomElement()));
 	}
 
@@ -210,10 +387,21 @@ public class RuleBasedReasoner implements IntegerReasoner {
 	@Override
 	public Set<IntegerObjectPropertyExpression> getBottomObjectPropertyNode() {
 		classify();
-		IntegerHierarchicalGraph graph = getProcessor().getObjectPropertyHierarchy();
+		IntegerHierarchicalGraph graph = this.objectPropertyTaxonomy;
 		return toIntegerObjectPropertyExpression(graph.getEquivalents(graph.getBottomElement()));
 	}
 
+	/**
+	 * Returns the class hierarchy of the classified ontology. The ontology is
+	 * classified if needed.
+	 * 
+	 * @return the class hierarchy of the classified ontology
+	 */
+	public IntegerTaxonomy getClassTaxonomy() {
+		classify();
+		return this.classTaxonomy;
+	}
+
 	@Override
 	public Set<Set<IntegerClass>> getDataPropertyDomains(IntegerDataProperty pe, boolean direct) {
 		Objects.requireNonNull(pe);
@@ -268,7 +456,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		Objects.requireNonNull(ce);
 		IntegerClass cls = flattenClassExpression(ce);
 		classify();
-		IntegerHierarchicalGraph graph = getProcessor().getClassHierarchy();
+		IntegerHierarchicalGraph graph = this.classTaxonomy;
 		return toIntegerClass(graph.getEquivalents(cls.getId()));
 	}
 
@@ -283,7 +471,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		Objects.requireNonNull(pe);
 		classify();
 		Integer propId = getObjectPropertyExpressionId(pe);
-		IntegerHierarchicalGraph graph = getProcessor().getObjectPropertyHierarchy();
+		IntegerHierarchicalGraph graph = this.objectPropertyTaxonomy;
 		return toIntegerObjectPropertyExpression(graph.getEquivalents(propId));
 	}
 
@@ -295,35 +483,11 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		classify();
 
 		Integer classId = cls.getId();
-		Set<Integer> classIdSet = new HashSet<>();
-		classIdSet.add(classId);
-		if (!direct) {
-			classIdSet.addAll(getProcessor().getClassHierarchy().getDescendants(classId));
-		}
-
 		Set<Integer> indivIdSet = new HashSet<>();
-		indivIdSet.addAll(getProcessor().getDirectTypes().keySet());
-
-		while (!indivIdSet.isEmpty()) {
-			Integer indivId = indivIdSet.iterator().next();
-			indivIdSet.remove(indivId);
-
-			Set<Integer> types = getProcessor().getDirectTypes().get(indivId);
-			boolean found = types.contains(classId);
-
-			if (!found && !direct) {
-				Set<Integer> classIdSetCopy = new HashSet<>();
-				classIdSetCopy.addAll(classIdSet);
-				classIdSetCopy.retainAll(types);
-				found = !classIdSetCopy.isEmpty();
-			}
-
-			if (found) {
-				Set<Integer> equivIndivId = getProcessor().getSameIndividualMap().get(indivId);
-				Set<IntegerNamedIndividual> elem = toIntegerNamedIndividual(equivIndivId);
-				indivIdSet.removeAll(equivIndivId);
-				ret.add(elem);
-			}
+		addInstances(classId, indivIdSet, ret);
+		if (!direct) {
+			this.classTaxonomy.getDescendants(classId)
+					.forEach(descendant -> addInstances(descendant, indivIdSet, ret));
 		}
 
 		return ret;
@@ -337,6 +501,15 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		throw new UnsupportedQueryException("Unsupported query: InverseObjectProperties of " + pe);
 	}
 
+	/**
+	 * Returns the number of query classes that are currently kept.
+	 * 
+	 * @return the number of query classes that are currently kept
+	 */
+	int getNumberOfQueries() {
+		return this.queryAxiomMap.size();
+	}
+
 	@Override
 	public Set<Set<IntegerClass>> getObjectPropertyDomains(IntegerObjectPropertyExpression pe, boolean direct) {
 		Objects.requireNonNull(pe);
@@ -349,6 +522,17 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		return propExpr.accept(new ObjectPropertyIdFinder(this.factory.getEntityManager()));
 	}
 
+	/**
+	 * Returns the object property hierarchy of the classified ontology. The
+	 * ontology is classified if needed.
+	 * 
+	 * @return the object property hierarchy of the classified ontology
+	 */
+	public IntegerTaxonomy getObjectPropertyTaxonomy() {
+		classify();
+		return this.objectPropertyTaxonomy;
+	}
+
 	@Override
 	public Set<Set<IntegerClass>> getObjectPropertyRanges(IntegerObjectPropertyExpression pe, boolean direct) {
 		Objects.requireNonNull(pe);
@@ -393,7 +577,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		Objects.requireNonNull(ce);
 		IntegerClass cls = flattenClassExpression(ce);
 		classify();
-		IntegerHierarchicalGraph graph = getProcessor().getClassHierarchy();
+		IntegerHierarchicalGraph graph = this.classTaxonomy;
 		Set<Integer> set = null;
 		if (direct) {
 			set = graph.getChildren(cls.getId());
@@ -417,7 +601,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		Objects.requireNonNull(pe);
 		classify();
 		Integer propId = getObjectPropertyExpressionId(pe);
-		IntegerHierarchicalGraph graph = getProcessor().getObjectPropertyHierarchy();
+		IntegerHierarchicalGraph graph = this.objectPropertyTaxonomy;
 		Set<Integer> set = null;
 		if (direct) {
 			set = graph.getChildren(propId);
@@ -434,7 +618,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		Objects.requireNonNull(ce);
 		IntegerClass cls = flattenClassExpression(ce);
 		classify();
-		IntegerHierarchicalGraph graph = getProcessor().getClassHierarchy();
+		IntegerHierarchicalGraph graph = this.classTaxonomy;
 		Set<Integer> set = null;
 		if (direct) {
 			set = graph.getParents(cls.getId());
@@ -461,7 +645,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		Objects.requireNonNull(pe);
 		classify();
 		Integer propId = getObjectPropertyExpressionId(pe);
-		IntegerHierarchicalGraph graph = getProcessor().getObjectPropertyHierarchy();
+		IntegerHierarchicalGraph graph = this.objectPropertyTaxonomy;
 		Set<Integer> set = null;
 		if (direct) {
 			set = graph.getParents(propId);
@@ -481,7 +665,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 	@Override
 	public Set<IntegerClass> getTopClassNode() {
 		classify();
-		IntegerHierarchicalGraph graph = getProcessor().getClassHierarchy();
+		IntegerHierarchicalGraph graph = this.classTaxonomy;
 		return toIntegerClass(graph.getEquivalents(graph.getTopElement()));
 	}
 
@@ -495,7 +679,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 	@Override
 	public Set<IntegerObjectPropertyExpression> getTopObjectPropertyNode() {
 		classify();
-		IntegerHierarchicalGraph graph = getProcessor().getObjectPropertyHierarchy();
+		IntegerHierarchicalGraph graph = this.objectPropertyTaxonomy;
 		return toIntegerObjectPropertyExpression(graph.getEquivalents(graph.getTopElement()));
 	}
 
@@ -503,7 +687,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 	public Set<Set<IntegerClass>> getTypes(IntegerNamedIndividual ind, boolean direct) {
 		Objects.requireNonNull(ind);
 		classify();
-		IntegerHierarchicalGraph graph = getProcessor().getClassHierarchy();
+		IntegerHierarchicalGraph graph = this.classTaxonomy;
 		Map<Integer, Set<Integer>> map = getProcessor().getDirectTypes();
 		Set<Integer> directElemSet = map.get(ind.getId());
 		if (Objects.isNull(directElemSet)) {
@@ -541,7 +725,7 @@ public class RuleBasedReasoner implements IntegerReasoner {
 	@Override
 	public boolean isConsistent() {
 		classify();
-		return !getUnsatisfiableClasses().contains(getProcessor().getClassHierarchy().getTopElement());
+		return !getUnsatisfiableClasses().contains(this.classTaxonomy.getTopElement());
 	}
 
 	@Override
@@ -568,6 +752,85 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		return !getUnsatisfiableClasses().contains(cls);
 	}
 
+	/**
+	 * Tells whether an ontology with the given expressivity needs completion
+	 * rules that are not used by the current processor.
+	 * 
+	 * @param newExpressivity
+	 *            expressivity of the new axioms
+	 * @return <code>true</code> if and only if the new axioms need completion
+	 *         rules that are not used by the current processor
+	 */
+	private boolean needsOtherCompletionRules(OntologyExpressivity newExpressivity) {
+		return (newExpressivity.hasBottom() && !this.expressivity.hasBottom())
+				|| (newExpressivity.hasInverseObjectProperty() && !this.expressivity.hasInverseObjectProperty())
+				|| (newExpressivity.hasFunctionalObjectProperty() && !this.expressivity.hasFunctionalObjectProperty())
+				|| (newExpressivity.hasSubPropertyChainOf() && !this.expressivity.hasSubPropertyChainOf())
+				|| (newExpressivity.hasTransitiveObjectProperty() && !this.expressivity.hasTransitiveObjectProperty());
+	}
+
+	/**
+	 * Normalizes each axiom of a set of axioms. The axioms are normalized
+	 * concurrently if the processor runs on more than one thread.
+	 * 
+	 * @param axiomSet
+	 *            set of axioms to be normalized
+	 * @return a map that associates each axiom to its normalized axioms
+	 */
+	private Map<ComplexIntegerAxiom, Set<NormalizedIntegerAxiom>> normalizeEach(Set<ComplexIntegerAxiom> axiomSet) {
+		OntologyNormalizer axiomNormalizer = new OntologyNormalizer();
+		Map<ComplexIntegerAxiom, Set<NormalizedIntegerAxiom>> ret;
+		if (this.configuration.isMultiThreaded()) {
+			ret = axiomNormalizer.normalizeEach(axiomSet, this.factory, this.configuration.getNumberOfThreads());
+		} else {
+			ret = axiomNormalizer.normalizeEach(axiomSet, this.factory);
+		}
+		return ret;
+	}
+
+	/**
+	 * Registers the normalized axioms of each axiom. A normalized axiom can be
+	 * obtained from more than one axiom, including the axioms that define the
+	 * classes of the queries, and it is part of the ontology while at least
+	 * one of those axioms is part of the ontology.
+	 * 
+	 * @param normalizedAxiomMap
+	 *            map that associates each axiom to its normalized axioms
+	 * @return the normalized axioms that were not part of the ontology before
+	 */
+	private Set<NormalizedIntegerAxiom> register(
+			Map<ComplexIntegerAxiom, Set<NormalizedIntegerAxiom>> normalizedAxiomMap) {
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
+		normalizedAxiomMap.forEach((axiom, normalizedAxioms) -> {
+			this.normalizedAxiomMap.put(axiom, normalizedAxioms);
+			ret.addAll(count(normalizedAxioms));
+		});
+		return ret;
+	}
+
+	/**
+	 * Removes axioms from the ontology. The normalized axioms that are not
+	 * obtained from any of the remaining axioms are removed from the current
+	 * processor, which keeps the current saturation whenever possible.
+	 * 
+	 * @param axiomSet
+	 *            set of axioms to be removed
+	 */
+	public void removeAxioms(Set<ComplexIntegerAxiom> axiomSet) {
+		Objects.requireNonNull(axiomSet);
+		Set<NormalizedIntegerAxiom> removedAxiomSet = new HashSet<>();
+		axiomSet.forEach(axiom -> {
+			Set<NormalizedIntegerAxiom> normalizedAxioms = this.normalizedAxiomMap.remove(axiom);
+			if (Objects.nonNull(normalizedAxioms)) {
+				this.classified = false;
+				removedAxiomSet.addAll(uncount(normalizedAxioms));
+			}
+		});
+		if (!removedAxiomSet.isEmpty()) {
+			this.processor.removeAxioms(removedAxiomSet);
+		}
+	}
+
 	private Set<IntegerClass> toIntegerClass(Set<Integer> set) {
 		Set<IntegerClass> ret = new HashSet<>();
 		set.forEach(elem -> ret.add(getDataTypeFactory().createClass(elem)));
@@ -592,4 +855,26 @@ public class RuleBasedReasoner implements IntegerReasoner {
 		return ret;
 	}
 
+	/**
+	 * Decreases the number of axioms from which each normalized axiom is
+	 * obtained.
+	 * 
+	 * @param normalizedAxioms
+	 *            normalized axioms
+	 * @return the normalized axioms that are not part of the ontology anymore
+	 */
+	private Set<NormalizedIntegerAxiom> uncount(Set<NormalizedIntegerAxiom> normalizedAxioms) {
+		Set<NormalizedIntegerAxiom> ret = new HashSet<>();
+		normalizedAxioms.forEach(normalizedAxiom -> {
+			int count = this.normalizedAxiomCount.get(normalizedAxiom) - 1;
+			if (count == 0) {
+				this.normalizedAxiomCount.remove(normalizedAxiom);
+				ret.add(normalizedAxiom);
+			} else {
+				this.normalizedAxiomCount.put(normalizedAxiom, count);
+			}
+		});
+		return ret;
+	}
+
 }
@@ -53,8 +53,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 import java.util.stream.IntStream;
 
@@ -63,6 +64,7 @@ import de.tudresden.inf.lat.jcel.core.algorithm.common.UnclassifiedOntologyExcep
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraphImpl;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraphImpl;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerUnionFind;
 import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
@@ -79,7 +81,8 @@ import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectPropertyExpressi
  * module. Axioms without classes are in all the modules. <br>
  * After classifying each module, the processor creates a set of axioms which is
  * the result of the classification. After classifying all modules, it
- * classifies the accumulated set of axioms.
+ * classifies the accumulated set of axioms. The modules can be classified
+ * concurrently, since they are independent.
  *
  * @author Julian Mendez
  *
@@ -94,13 +97,15 @@ public class ClassModuleProcessor implements Processor {
 	private final IntegerOntologyObjectFactory axiomFactory;
 	private IntegerHierarchicalGraph classHierarchy = null;
 	private final Map<Integer, Set<ComplexIntegerAxiom>> classToAxiom = new HashMap<>();
-	private final Map<Integer, Set<Integer>> classToClass = new HashMap<>();
+	private ConcurrentModuleClassifier concurrentClassifier = null;
 	private IntegerHierarchicalGraphImpl dataPropertyHierarchy = null;
 	private Map<Integer, Set<Integer>> directTypes = null;
 	private boolean finalClassification = false;
 	private boolean isReady = false;
 	private Integer moduleIndex = 0;
 	private List<Set<ComplexIntegerAxiom>> moduleList = null;
+	private int numberOfClassifiedModules = 0;
+	private final int numberOfThreads;
 	private IntegerHierarchicalGraph objectPropertyHierarchy = null;
 	private Processor processor = null;
 	private final ModuleProcessorFactory processorFactory;
@@ -120,14 +125,50 @@ public class ClassModuleProcessor implements Processor {
 	 */
 	public ClassModuleProcessor(Set<ComplexIntegerAxiom> axiomSet, IntegerOntologyObjectFactory axFactory,
 			ModuleProcessorFactory procFactory) {
+		this(axiomSet, axFactory, procFactory, 1);
+	}
+
+	/**
+	 * Constructs a class module processor. It uses an auxiliary processor to
+	 * classify each module. If more than one thread is used, the modules are
+	 * classified concurrently, and the factory and the processors it creates
+	 * are used from several threads at the same time. The accumulated set of
+	 * axioms is always classified by a single processor.
+	 *
+	 * @param axiomSet
+	 *            set of axioms
+	 * @param axFactory
+	 *            ontology object factory
+	 * @param procFactory
+	 *            factory to create the auxiliary processor
+	 * @param numberOfThreads
+	 *            maximum number of modules classified at the same time
+	 * @throws IllegalArgumentException
+	 *             if the number of threads is less than 1
+	 */
+	public ClassModuleProcessor(Set<ComplexIntegerAxiom> axiomSet, IntegerOntologyObjectFactory axFactory,
+			ModuleProcessorFactory procFactory, int numberOfThreads) {
 		Objects.requireNonNull(axiomSet);
 		Objects.requireNonNull(axFactory);
 		Objects.requireNonNull(procFactory);
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of threads: " + numberOfThreads);
+		}
 		this.axiomFactory = axFactory;
 		this.processorFactory = procFactory;
+		this.numberOfThreads = numberOfThreads;
 		preProcess(axiomSet);
 	}
 
+	private void addModule(Processor moduleProcessor) {
+		this.directTypes.putAll(moduleProcessor.getDirectTypes());
+		this.sameIndividualMap.putAll(moduleProcessor.getSameIndividualMap());
+		this.accumulatedAxiomSet.addAll(convertClassHierarchyToAxioms(moduleProcessor.getClassHierarchy()));
+		this.accumulatedAxiomSet
+				.addAll(convertObjectPropertyHierarchyToAxioms(moduleProcessor.getObjectPropertyHierarchy()));
+		this.numberOfClassifiedModules++;
+	}
+
 	private Set<ComplexIntegerAxiom> convertClassHierarchyToAxioms(IntegerHierarchicalGraph classGraph) {
 		Set<ComplexIntegerAxiom> ret = new HashSet<>();
 		Set<IntegerAnnotation> annotations = Collections.emptySet();
@@ -178,7 +219,6 @@ public class ClassModuleProcessor implements Processor {
 	private void createMaps(Set<ComplexIntegerAxiom> axiomSet) {
 
 		this.classToAxiom.clear();
-		this.classToClass.clear();
 		this.sharedAxioms.clear();
 
 		axiomSet.forEach(axiom -> {
@@ -195,13 +235,6 @@ public class ClassModuleProcessor implements Processor {
 					}
 					complexAxioms.add(axiom);
 
-					Set<Integer> otherClasses = this.classToClass.get(classId);
-					if (Objects.isNull(otherClasses)) {
-						otherClasses = new HashSet<>();
-						this.classToClass.put(classId, otherClasses);
-					}
-					otherClasses.addAll(classSet);
-
 				});
 			}
 		});
@@ -241,24 +274,36 @@ public class ClassModuleProcessor implements Processor {
 		return this.classHierarchy;
 	}
 
+	/**
+	 * Returns the clusters of classes, where two classes are in the same
+	 * cluster if they are connected by a sequence of axioms. The top and bottom
+	 * classes connect the classes that share axioms with them, but they do not
+	 * form a cluster by themselves. The clusters are sorted by their least
+	 * class other than top and bottom.
+	 *
+	 * @param axiomSet
+	 *            set of axioms
+	 * @return the clusters of classes
+	 */
 	private List<Set<Integer>> getClustersOfClasses(Set<ComplexIntegerAxiom> axiomSet) {
+		IntegerUnionFind partition = new IntegerUnionFind();
+		axiomSet.forEach(axiom -> {
+			Set<Integer> classSet = axiom.getClassesInSignature();
+			if (!classSet.isEmpty()) {
+				int firstClass = classSet.iterator().next();
+				classSet.forEach(classId -> partition.union(firstClass, classId));
+			}
+		});
 
-		List<Set<Integer>> ret = new ArrayList<>();
-
-		Set<Integer> allClasses = new TreeSet<>();
-		axiomSet.forEach(axiom -> allClasses.addAll(axiom.getClassesInSignature()));
-		allClasses.remove(bottomClassId);
-		allClasses.remove(topClassId);
-
-		while (!allClasses.isEmpty()) {
-			Integer representativeId = allClasses.iterator().next();
-			allClasses.remove(representativeId);
-			Set<Integer> classSet = getReachableClasses(representativeId, axiomSet);
-			allClasses.removeAll(classSet);
-			ret.add(classSet);
-		}
-
-		return ret;
+		Map<Integer, Set<Integer>> clusterMap = new TreeMap<>();
+		partition.getSubsets().forEach(classSet -> {
+			Optional<Integer> representative = classSet.stream()
+					.filter(classId -> !classId.equals(bottomClassId) && !classId.equals(topClassId)).findFirst();
+			if (representative.isPresent()) {
+				clusterMap.put(representative.get(), classSet);
+			}
+		});
+		return new ArrayList<>(clusterMap.values());
 	}
 
 	@Override
@@ -281,6 +326,25 @@ public class ClassModuleProcessor implements Processor {
 		return this.directTypes;
 	}
 
+	/**
+	 * Returns the number of modules that have been classified, without
+	 * counting the final classification of the accumulated set of axioms.
+	 *
+	 * @return the number of modules that have been classified
+	 */
+	public int getNumberOfClassifiedModules() {
+		return this.numberOfClassifiedModules;
+	}
+
+	/**
+	 * Returns the number of modules.
+	 *
+	 * @return the number of modules
+	 */
+	public int getNumberOfModules() {
+		return this.moduleList.size();
+	}
+
 	@Override
 	public IntegerHierarchicalGraph getObjectPropertyHierarchy() {
 		if (!isReady()) {
@@ -289,22 +353,6 @@ public class ClassModuleProcessor implements Processor {
 		return this.objectPropertyHierarchy;
 	}
 
-	private Set<Integer> getReachableClasses(Integer firstClassId, Set<ComplexIntegerAxiom> axiomSet) {
-		Set<Integer> ret = new HashSet<>();
-		Set<Integer> toVisit = new HashSet<>();
-		toVisit.add(firstClassId);
-		while (!toVisit.isEmpty()) {
-			Integer classId = toVisit.iterator().next();
-			ret.add(classId);
-			Set<Integer> reachable = this.classToClass.get(classId);
-			if (Objects.nonNull(reachable)) {
-				toVisit.addAll(reachable);
-			}
-			toVisit.removeAll(ret);
-		}
-		return ret;
-	}
-
 	@Override
 	public Map<Integer, Set<Integer>> getSameIndividualMap() {
 		if (!isReady()) {
@@ -335,50 +383,84 @@ public class ClassModuleProcessor implements Processor {
 		});
 
 		this.moduleIndex = 0;
+		this.numberOfClassifiedModules = 0;
 		this.accumulatedAxiomSet = new HashSet<>();
 		this.directTypes = new HashMap<>();
 		this.sameIndividualMap = new HashMap<>();
 
-		logger.fine("");
-		logger.fine("");
-		logger.fine("classifying module " + this.moduleIndex + " ...");
+		if (this.numberOfThreads > 1) {
+			logger.fine("classifying modules on " + this.numberOfThreads + " threads ...");
+			this.concurrentClassifier = new ConcurrentModuleClassifier(this.moduleList, this.processorFactory,
+					this.numberOfThreads);
 
-		this.processor = this.processorFactory.createProcessor(this.moduleList.get(this.moduleIndex));
+		} else {
+			logger.fine("");
+			logger.fine("");
+			logger.fine("classifying module " + this.moduleIndex + " ...");
+
+			this.processor = this.processorFactory.createProcessor(this.moduleList.get(this.moduleIndex));
+		}
 	}
 
 	@Override
 	public boolean process() {
 		if (!this.isReady) {
-			boolean hasMoreEntries = this.processor.process();
-			if (!hasMoreEntries) {
-				if (this.finalClassification) {
-					this.classHierarchy = this.processor.getClassHierarchy();
-					this.objectPropertyHierarchy = this.processor.getObjectPropertyHierarchy();
-					this.isReady = true;
+			if (Objects.nonNull(this.concurrentClassifier)) {
+				processConcurrently();
+			} else {
+				processSequentially();
+			}
+		}
+		return !this.isReady;
+	}
 
+	/**
+	 * Waits until the next module is classified, and adds its result to the
+	 * accumulated set of axioms. After the last module, it starts the
+	 * classification of the accumulated set of axioms.
+	 */
+	private void processConcurrently() {
+		if (this.concurrentClassifier.hasNext()) {
+			Map.Entry<Integer, Processor> next = this.concurrentClassifier.next();
+			addModule(next.getValue());
+			logger.fine("module " + next.getKey() + " has been classified (" + this.numberOfClassifiedModules + " / "
+					+ this.moduleList.size() + ").");
+		}
+		if (!this.concurrentClassifier.hasNext()) {
+			this.concurrentClassifier = null;
+			startFinalClassification();
+		}
+	}
+
+	private void processSequentially() {
+		boolean hasMoreEntries = this.processor.process();
+		if (!hasMoreEntries) {
+			if (this.finalClassification) {
+				this.classHierarchy = this.processor.getClassHierarchy();
+				this.objectPropertyHierarchy = this.processor.getObjectPropertyHierarchy();
+				this.isReady = true;
+
+			} else {
+				addModule(this.processor);
+				this.processor = null;
+				logger.fine("module " + this.moduleIndex + " has been classified (" + this.numberOfClassifiedModules
+						+ " / " + this.moduleList.size() + ").");
+				logger.fine("");
+				this.moduleIndex++;
+				if (this.moduleIndex < this.moduleList.size()) {
+					logger.fine("classifying module " + this.moduleIndex + " ...");
+					this.processor = this.processorFactory.createProcessor(this.moduleList.get(this.moduleIndex));
 				} else {
-					hasMoreEntries = true;
-					this.directTypes.putAll(this.processor.getDirectTypes());
-					this.sameIndividualMap.putAll(this.processor.getSameIndividualMap());
-					this.accumulatedAxiomSet.addAll(convertClassHierarchyToAxioms(this.processor.getClassHierarchy()));
-					this.accumulatedAxiomSet.addAll(
-							convertObjectPropertyHierarchyToAxioms(this.processor.getObjectPropertyHierarchy()));
-					this.processor = null;
-					logger.fine("module " + this.moduleIndex + " has been classified.");
-					logger.fine("");
-					this.moduleIndex++;
-					if (this.moduleIndex < this.moduleList.size()) {
-						logger.fine("classifying module " + this.moduleIndex + " ...");
-						this.processor = this.processorFactory.createProcessor(this.moduleList.get(this.moduleIndex));
-					} else {
-						this.finalClassification = true;
-						logger.fine("classifying integration module ...");
-						this.processor = this.processorFactory.createProcessor(this.accumulatedAxiomSet);
-					}
+					startFinalClassification();
 				}
 			}
 		}
-		return !this.isReady;
+	}
+
+	private void startFinalClassification() {
+		this.finalClassification = true;
+		logger.fine("classifying integration module ...");
+		this.processor = this.processorFactory.createProcessor(this.accumulatedAxiomSet);
 	}
 
 }
@@ -0,0 +1,153 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.reasoner.module;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+
+/**
+ * An object of this class classifies a list of modules concurrently on a pool
+ * with a fixed number of threads. Each module is classified by its own
+ * processor, and the classified processors are returned in the order in which
+ * they finish.
+ * 
+ * @author Julian Mendez
+ */
+class ConcurrentModuleClassifier {
+
+	private final CompletionService<Processor> completionService;
+	private final Map<Future<Processor>, Integer> moduleIndexMap = new HashMap<>();
+	private final ForkJoinPool pool;
+
+	/**
+	 * Constructs a new concurrent module classifier and starts the
+	 * classification of all the modules.
+	 * 
+	 * @param moduleList
+	 *            list of modules
+	 * @param factory
+	 *            factory to create the processor of each module. It is called
+	 *            from several threads at the same time
+	 * @param numberOfThreads
+	 *            number of threads
+	 */
+	ConcurrentModuleClassifier(List<Set<ComplexIntegerAxiom>> moduleList, ModuleProcessorFactory factory,
+			int numberOfThreads) {
+		Objects.requireNonNull(moduleList);
+		Objects.requireNonNull(factory);
+		this.pool = new ForkJoinPool(numberOfThreads);
+		this.completionService = new ExecutorCompletionService<>(this.pool);
+		for (int index = 0; index < moduleList.size(); index++) {
+			Set<ComplexIntegerAxiom> module = moduleList.get(index);
+			Future<Processor> future = this.completionService.submit(() -> {
+				Processor processor = factory.createProcessor(module);
+				while (processor.process()) {
+				}
+				return processor;
+			});
+			this.moduleIndexMap.put(future, index);
+		}
+	}
+
+	/**
+	 * Tells whether there are modules that have not been returned yet.
+	 * 
+	 * @return <code>true</code> if and only if there are modules that have not
+	 *         been returned yet
+	 */
+	boolean hasNext() {
+		return !this.moduleIndexMap.isEmpty();
+	}
+
+	/**
+	 * Waits until the next module is classified, and returns its index and its
+	 * processor. The pool is shut down after the last module is returned, or
+	 * if the classification of a module fails.
+	 * 
+	 * @return the index of the next classified module and its processor
+	 * @throws NoSuchElementException
+	 *             if all the modules have been returned
+	 * @throws IllegalStateException
+	 *             if the classification of a module failed or was interrupted
+	 */
+	Map.Entry<Integer, Processor> next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		try {
+			Future<Processor> future = this.completionService.take();
+			Integer moduleIndex = this.moduleIndexMap.remove(future);
+			Processor processor = future.get();
+			if (!hasNext()) {
+				this.pool.shutdown();
+			}
+			return new AbstractMap.SimpleImmutableEntry<>(moduleIndex, processor);
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.pool.shutdownNow();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			this.pool.shutdownNow();
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+}
@@ -61,6 +61,7 @@ import de.tudresden.inf.lat.jcel.core.algorithm.common.UnclassifiedOntologyExcep
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraph;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerHierarchicalGraphImpl;
 import de.tudresden.inf.lat.jcel.core.graph.IntegerSubsumerGraphImpl;
+import de.tudresden.inf.lat.jcel.core.graph.IntegerUnionFind;
 import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityManager;
 import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
 
@@ -68,20 +69,25 @@ import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
  * An object of this class classifies an ontology. It divides a set of axioms in
  * subsets such that they have disjoint sets of classes and properties. Then, it
  * uses the default processor to classify each subset. The resulting class and
- * property hierarchies are the union of the partial ones.
+ * property hierarchies are the union of the partial ones. The subsets can be
+ * classified concurrently, since they are independent.
  * 
  * @author Julian Mendez
  */
 public class ModuleProcessor implements Processor {
 
 	private static final Logger logger = Logger.getLogger(ModuleProcessor.class.getName());
+	private static final int noSymbol = -1;
 
 	private IntegerHierarchicalGraphImpl classHierarchy = null;
+	private ConcurrentModuleClassifier concurrentClassifier = null;
 	private IntegerHierarchicalGraphImpl dataPropertyHierarchy = null;
 	private Map<Integer, Set<Integer>> directTypes = null;
 	private boolean isReady = false;
 	private Integer moduleIndex = 0;
 	private List<Set<ComplexIntegerAxiom>> moduleList = null;
+	private int numberOfClassifiedModules = 0;
+	private final int numberOfThreads;
 	private IntegerHierarchicalGraphImpl objectPropertyHierarchy = null;
 	private Processor processor = null;
 	private final ModuleProcessorFactory processorFactory;
@@ -97,68 +103,87 @@ public class ModuleProcessor implements Processor {
 	 *            factory to create the auxiliary processor
 	 */
 	public ModuleProcessor(Set<ComplexIntegerAxiom> axiomSet, ModuleProcessorFactory factory) {
+		this(axiomSet, factory, 1);
+	}
+
+	/**
+	 * Constructs a new module processor. It uses an auxiliary processor to
+	 * classify each module. If more than one thread is used, the modules are
+	 * classified concurrently, and the factory and the processors it creates
+	 * are used from several threads at the same time.
+	 * 
+	 * @param axiomSet
+	 *            set of axioms
+	 * @param factory
+	 *            factory to create the auxiliary processor
+	 * @param numberOfThreads
+	 *            maximum number of modules classified at the same time
+	 * @throws IllegalArgumentException
+	 *             if the number of threads is less than 1
+	 */
+	public ModuleProcessor(Set<ComplexIntegerAxiom> axiomSet, ModuleProcessorFactory factory, int numberOfThreads) {
 		Objects.requireNonNull(axiomSet);
 		Objects.requireNonNull(factory);
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("Invalid number of threads: " + numberOfThreads);
+		}
 		this.processorFactory = factory;
+		this.numberOfThreads = numberOfThreads;
 		preProcess(axiomSet);
 	}
 
-	private boolean containsAnyClass(Set<Integer> a, Set<Integer> b) {
-		return b.stream()
-				.filter(elem -> (!elem.equals(IntegerEntityManager.bottomClassId)
-						&& !elem.equals(IntegerEntityManager.topClassId))) //
-				.anyMatch(elem -> a.contains(elem));
-	}
-
-	private boolean containsAnyProperty(Set<Integer> a, Set<Integer> b) {
-		return b.stream()
-				.filter(elem -> (!elem.equals(IntegerEntityManager.bottomObjectPropertyId)
-						&& !elem.equals(IntegerEntityManager.topObjectPropertyId))) //
-				.anyMatch(elem -> a.contains(elem));
+	private void addModule(Processor moduleProcessor) {
+		this.classHierarchy.disjointUnion(moduleProcessor.getClassHierarchy());
+		this.objectPropertyHierarchy.disjointUnion(moduleProcessor.getObjectPropertyHierarchy());
+		this.directTypes.putAll(moduleProcessor.getDirectTypes());
+		this.sameIndividualMap.putAll(moduleProcessor.getSameIndividualMap());
+		this.numberOfClassifiedModules++;
 	}
 
 	/**
 	 * Divides a set of axioms in subsets that have disjoint sets of classes and
-	 * properties.
+	 * properties. The classes and properties that appear together in an axiom
+	 * are joined in a partition of the symbols, in a single pass over the
+	 * axioms. Then each axiom is added to the subset of its symbols. The top
+	 * and bottom elements do not join subsets, so an axiom that has only top
+	 * and bottom elements is a subset by itself.
 	 * 
 	 * @param axiomSet
 	 *            the set of axioms
 	 * @return the subsets with disjoint symbols
 	 */
 	private List<Set<ComplexIntegerAxiom>> findModules(Set<ComplexIntegerAxiom> axiomSet) {
+		List<ComplexIntegerAxiom> axiomList = new ArrayList<>(axiomSet);
+		IntegerUnionFind partition = new IntegerUnionFind();
+		int[] firstSymbol = new int[axiomList.size()];
+		for (int index = 0; index < axiomList.size(); index++) {
+			ComplexIntegerAxiom axiom = axiomList.get(index);
+			firstSymbol[index] = noSymbol;
+			for (Integer symbol : getSymbols(axiom)) {
+				if (firstSymbol[index] == noSymbol) {
+					firstSymbol[index] = symbol;
+					partition.add(symbol);
+				} else {
+					partition.union(firstSymbol[index], symbol);
+				}
+			}
+		}
+
 		List<Set<ComplexIntegerAxiom>> ret = new ArrayList<>();
-		Set<ComplexIntegerAxiom> toBeGrouped = new HashSet<>();
-		toBeGrouped.addAll(axiomSet);
-		while (!toBeGrouped.isEmpty()) {
-			ComplexIntegerAxiom firstAxiom = toBeGrouped.iterator().next();
-			toBeGrouped.remove(firstAxiom);
-			Set<ComplexIntegerAxiom> group = new HashSet<>();
-			group.add(firstAxiom);
-
-			Set<Integer> classSet = new HashSet<>();
-			classSet.addAll(firstAxiom.getClassesInSignature());
-			Set<Integer> propertySet = new HashSet<>();
-			propertySet.addAll(firstAxiom.getObjectPropertiesInSignature());
-
-			boolean found = true;
-			while (found) {
-				found = false;
-				Set<ComplexIntegerAxiom> toVisit = new HashSet<>();
-				toVisit.addAll(toBeGrouped);
-				for (ComplexIntegerAxiom currentAxiom : toVisit) {
-					Set<Integer> classesInSignature = currentAxiom.getClassesInSignature();
-					Set<Integer> propertiesInSignature = currentAxiom.getObjectPropertiesInSignature();
-					if (containsAnyClass(classSet, classesInSignature)
-							|| containsAnyProperty(propertySet, propertiesInSignature)) {
-						toBeGrouped.remove(currentAxiom);
-						propertySet.addAll(propertiesInSignature);
-						classSet.addAll(classesInSignature);
-						group.add(currentAxiom);
-						found = true;
-					}
+		Map<Integer, Set<ComplexIntegerAxiom>> moduleMap = new HashMap<>();
+		for (int index = 0; index < axiomList.size(); index++) {
+			Set<ComplexIntegerAxiom> module = null;
+			if (firstSymbol[index] != noSymbol) {
+				module = moduleMap.get(partition.find(firstSymbol[index]));
+			}
+			if (Objects.isNull(module)) {
+				module = new HashSet<>();
+				ret.add(module);
+				if (firstSymbol[index] != noSymbol) {
+					moduleMap.put(partition.find(firstSymbol[index]), module);
 				}
 			}
-			ret.add(group);
+			module.add(axiomList.get(index));
 		}
 		return ret;
 	}
@@ -190,6 +215,24 @@ public class ModuleProcessor implements Processor {
 		return ret;
 	}
 
+	/**
+	 * Returns the number of modules that have been classified.
+	 * 
+	 * @return the number of modules that have been classified
+	 */
+	public int getNumberOfClassifiedModules() {
+		return this.numberOfClassifiedModules;
+	}
+
+	/**
+	 * Returns the number of modules.
+	 * 
+	 * @return the number of modules
+	 */
+	public int getNumberOfModules() {
+		return this.moduleList.size();
+	}
+
 	@Override
 	public IntegerHierarchicalGraph getObjectPropertyHierarchy() {
 		IntegerHierarchicalGraph ret = null;
@@ -208,6 +251,31 @@ public class ModuleProcessor implements Processor {
 		return ret;
 	}
 
+	/**
+	 * Returns the classes and object properties of an axiom, without the top
+	 * and bottom elements.
+	 * 
+	 * @param axiom
+	 *            axiom
+	 * @return the classes and object properties of an axiom, without the top
+	 *         and bottom elements
+	 */
+	private List<Integer> getSymbols(ComplexIntegerAxiom axiom) {
+		List<Integer> ret = new ArrayList<>();
+		axiom.getClassesInSignature().forEach(elem -> {
+			if (!elem.equals(IntegerEntityManager.bottomClassId) && !elem.equals(IntegerEntityManager.topClassId)) {
+				ret.add(elem);
+			}
+		});
+		axiom.getObjectPropertiesInSignature().forEach(elem -> {
+			if (!elem.equals(IntegerEntityManager.bottomObjectPropertyId)
+					&& !elem.equals(IntegerEntityManager.topObjectPropertyId)) {
+				ret.add(elem);
+			}
+		});
+		return ret;
+	}
+
 	@Override
 	public boolean isReady() {
 		return this.isReady;
@@ -229,6 +297,7 @@ public class ModuleProcessor implements Processor {
 		});
 
 		this.moduleIndex = 0;
+		this.numberOfClassifiedModules = 0;
 		this.classHierarchy = new IntegerHierarchicalGraphImpl(IntegerEntityManager.bottomClassId,
 				IntegerEntityManager.topClassId);
 		this.objectPropertyHierarchy = new IntegerHierarchicalGraphImpl(IntegerEntityManager.bottomObjectPropertyId,
@@ -236,37 +305,67 @@ public class ModuleProcessor implements Processor {
 		this.directTypes = new HashMap<>();
 		this.sameIndividualMap = new HashMap<>();
 
-		logger.fine("");
-		logger.fine("");
-		logger.fine("classifying module " + this.moduleIndex + " ...");
+		if (this.numberOfThreads > 1) {
+			logger.fine("classifying modules on " + this.numberOfThreads + " threads ...");
+			this.concurrentClassifier = new ConcurrentModuleClassifier(this.moduleList, this.processorFactory,
+					this.numberOfThreads);
+
+		} else {
+			logger.fine("");
+			logger.fine("");
+			logger.fine("classifying module " + this.moduleIndex + " ...");
 
-		this.processor = this.processorFactory.createProcessor(this.moduleList.get(this.moduleIndex));
+			this.processor = this.processorFactory.createProcessor(this.moduleList.get(this.moduleIndex));
+		}
 	}
 
 	@Override
 	public boolean process() {
 		if (!this.isReady) {
-			boolean hasMoreEntries = this.processor.process();
-			if (!hasMoreEntries) {
-				this.classHierarchy.disjointUnion(this.processor.getClassHierarchy());
-				this.objectPropertyHierarchy.disjointUnion(this.processor.getObjectPropertyHierarchy());
-				this.directTypes.putAll(this.processor.getDirectTypes());
-				this.sameIndividualMap.putAll(this.processor.getSameIndividualMap());
-				this.processor = null;
-				logger.fine("module " + this.moduleIndex + " has been classified.");
-				logger.fine("");
-				this.moduleIndex++;
-				if (this.moduleIndex < this.moduleList.size()) {
-					hasMoreEntries = true;
-					logger.fine("classifying module " + this.moduleIndex + " ...");
-					this.processor = this.processorFactory.createProcessor(this.moduleList.get(this.moduleIndex));
-				}
-				if (!hasMoreEntries) {
-					this.isReady = true;
-				}
+			if (Objects.nonNull(this.concurrentClassifier)) {
+				processConcurrently();
+			} else {
+				processSequentially();
 			}
 		}
 		return !this.isReady;
 	}
 
+	/**
+	 * Waits until the next module is classified, and adds its hierarchies to
+	 * the result.
+	 */
+	private void processConcurrently() {
+		if (this.concurrentClassifier.hasNext()) {
+			Map.Entry<Integer, Processor> next = this.concurrentClassifier.next();
+			addModule(next.getValue());
+			logger.fine("module " + next.getKey() + " has been classified (" + this.numberOfClassifiedModules + " / "
+					+ this.moduleList.size() + ").");
+		}
+		if (!this.concurrentClassifier.hasNext()) {
+			this.concurrentClassifier = null;
+			this.isReady = true;
+		}
+	}
+
+	private void processSequentially() {
+		boolean hasMoreEntries = this.processor.process();
+		if (!hasMoreEntries) {
+			addModule(this.processor);
+			this.processor = null;
+			logger.fine("module " + this.moduleIndex + " has been classified (" + this.numberOfClassifiedModules
+					+ " / " + this.moduleList.size() + ").");
+			logger.fine("");
+			this.moduleIndex++;
+			if (this.moduleIndex < this.moduleList.size()) {
+				hasMoreEntries = true;
+				logger.fine("classifying module " + this.moduleIndex + " ...");
+				this.processor = this.processorFactory.createProcessor(this.moduleList.get(this.moduleIndex));
+			}
+			if (!hasMoreEntries) {
+				this.isReady = true;
+			}
+		}
+	}
+
 }
@@ -133,4 +133,58 @@ public class OntologyEntailmentCheckerTest {
 		Assert.assertTrue(isEntailed);
 	}
 
+	/**
+	 * <ol>
+	 * <li>A \u2291 B ,</li>
+	 * <li>A \u2291 C ,</li>
+	 * <li>B \u2291 D ,</li>
+	 * <li>C \u2291 E ,</li>
+	 * <li>F \u2291 A ,</li>
+	 * <li>G \u2291 &perp;</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>F \u2291 D ,</li>
+	 * <li>F \u2291 E ,</li>
+	 * <li>G \u2291 F</li>
+	 * </ul>
+	 * but not B \u2291 C , D \u2291 B , nor F \u2291 G .
+	 */
+	@Test
+	public void testOntology1() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+		IntegerClass a = createNewClass(factory, "A");
+		IntegerClass b = createNewClass(factory, "B");
+		IntegerClass c = createNewClass(factory, "C");
+		IntegerClass d = createNewClass(factory, "D");
+		IntegerClass e = createNewClass(factory, "E");
+		IntegerClass f = createNewClass(factory, "F");
+		IntegerClass g = createNewClass(factory, "G");
+		IntegerClass[][] pairs = { { a, b }, { a, c }, { b, d }, { c, e }, { f, a },
+				{ g, factory.getDataTypeFactory().getBottomClass() } };
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+		for (IntegerClass[] pair : pairs) {
+			ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(pair[0], pair[1], annotations));
+		}
+
+		IntegerReasoner reasoner = new RuleBasedReasoner(ontology, factory);
+		reasoner.classify();
+
+		Assert.assertTrue(
+				reasoner.isEntailed(factory.getComplexAxiomFactory().createSubClassOfAxiom(f, d, annotations)));
+		Assert.assertTrue(
+				reasoner.isEntailed(factory.getComplexAxiomFactory().createSubClassOfAxiom(f, e, annotations)));
+		Assert.assertTrue(
+				reasoner.isEntailed(factory.getComplexAxiomFactory().createSubClassOfAxiom(g, f, annotations)));
+		Assert.assertFalse(
+				reasoner.isEntailed(factory.getComplexAxiomFactory().createSubClassOfAxiom(b, c, annotations)));
+		Assert.assertFalse(
+				reasoner.isEntailed(factory.getComplexAxiomFactory().createSubClassOfAxiom(d, b, annotations)));
+		Assert.assertFalse(
+				reasoner.isEntailed(factory.getComplexAxiomFactory().createSubClassOfAxiom(f, g, annotations)));
+	}
+
 }
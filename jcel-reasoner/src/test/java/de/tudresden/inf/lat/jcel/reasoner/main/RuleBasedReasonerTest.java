@@ -46,6 +46,7 @@
 
 package de.tudresden.inf.lat.jcel.reasoner.main;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.TreeSet;
@@ -60,6 +61,7 @@ import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectF
 import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClassExpression;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerNamedIndividual;
 import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectProperty;
 
 /**
@@ -93,6 +95,11 @@ public class RuleBasedReasonerTest {
 		Assert.assertEquals(superClass, x2);
 	}
 
+	private IntegerNamedIndividual createNewIndividual(IntegerOntologyObjectFactory factory, String name) {
+		return factory.getDataTypeFactory().createNamedIndividual(
+				factory.getEntityManager().createNamedEntity(IntegerEntityType.INDIVIDUAL, name, false));
+	}
+
 	private IntegerClass createNewClass(IntegerOntologyObjectFactory factory, String name) {
 		return factory.getDataTypeFactory()
 				.createClass(factory.getEntityManager().createNamedEntity(IntegerEntityType.CLASS, name, false));
@@ -103,6 +110,160 @@ public class RuleBasedReasonerTest {
 				factory.getEntityManager().createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, name, false));
 	}
 
+	/**
+	 * <ol>
+	 * <li>A \u2291 B ,</li>
+	 * <li>B \u2291 C ,</li>
+	 * <li>A(a) ,</li>
+	 * <li>B(b) ,</li>
+	 * <li>C(c) ,</li>
+	 * <li>A(d)</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>the direct instances of B are b,</li>
+	 * <li>the instances of B are a, b and d</li>
+	 * </ul>
+	 */
+	@Test
+	public void testInstances() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+		IntegerClass a = createNewClass(factory, "A");
+		IntegerClass b = createNewClass(factory, "B");
+		IntegerClass c = createNewClass(factory, "C");
+		IntegerNamedIndividual indivA = createNewIndividual(factory, "a");
+		IntegerNamedIndividual indivB = createNewIndividual(factory, "b");
+		IntegerNamedIndividual indivC = createNewIndividual(factory, "c");
+		IntegerNamedIndividual indivD = createNewIndividual(factory, "d");
+
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(a, b, annotations));
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(b, c, annotations));
+		ontology.add(factory.getComplexAxiomFactory().createClassAssertionAxiom(a, indivA.getId(), annotations));
+		ontology.add(factory.getComplexAxiomFactory().createClassAssertionAxiom(b, indivB.getId(), annotations));
+		ontology.add(factory.getComplexAxiomFactory().createClassAssertionAxiom(c, indivC.getId(), annotations));
+		ontology.add(factory.getComplexAxiomFactory().createClassAssertionAxiom(a, indivD.getId(), annotations));
+
+		IntegerReasoner reasoner = new RuleBasedReasoner(ontology, factory);
+		reasoner.classify();
+
+		Set<Set<IntegerNamedIndividual>> expected = new HashSet<>();
+		expected.add(Collections.singleton(indivB));
+		Assert.assertEquals(expected, reasoner.getInstances(b, true));
+
+		expected.add(Collections.singleton(indivA));
+		expected.add(Collections.singleton(indivD));
+		Assert.assertEquals(expected, reasoner.getInstances(b, false));
+
+		expected.add(Collections.singleton(indivC));
+		Assert.assertEquals(expected, reasoner.getInstances(c, false));
+		Assert.assertEquals(expected, reasoner.getInstances(factory.getDataTypeFactory().getTopClass(), false));
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 B ,</li>
+	 * <li>C \u2291 &exist; r <i>.</i> A</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>C \u2291 &exist; r <i>.</i> B</li>
+	 * </ul>
+	 * The class of the query &exist; r <i>.</i> B is kept when the processor
+	 * is created again for new axioms, and its axioms are kept when axioms of
+	 * the ontology are removed.
+	 */
+	@Test
+	public void testQueryAfterChanges() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+		IntegerClass a = createNewClass(factory, "A");
+		IntegerClass b = createNewClass(factory, "B");
+		IntegerClass c = createNewClass(factory, "C");
+		IntegerClass d = createNewClass(factory, "D");
+		IntegerObjectProperty r = createNewObjectProperty(factory, "r");
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(a, b, annotations));
+		ComplexIntegerAxiom axiomOfC = factory.getComplexAxiomFactory().createSubClassOfAxiom(c,
+				factory.getDataTypeFactory().createObjectSomeValuesFrom(r, a), annotations);
+		ontology.add(axiomOfC);
+		IntegerClassExpression query = factory.getDataTypeFactory().createObjectSomeValuesFrom(r, b);
+
+		RuleBasedReasoner reasoner = new RuleBasedReasoner(ontology, factory);
+		Set<Set<IntegerClass>> expected = new HashSet<>();
+		expected.add(Collections.singleton(c));
+		expected.add(Collections.singleton(factory.getDataTypeFactory().getBottomClass()));
+		Assert.assertEquals(expected, reasoner.getSubClasses(query, false));
+		int numberOfEntities = factory.getEntityManager().size();
+
+		reasoner.addAxioms(Collections.singleton(factory.getComplexAxiomFactory().createSubClassOfAxiom(d,
+				factory.getDataTypeFactory().getBottomClass(), annotations)));
+		Set<IntegerClass> unsatisfiable = new HashSet<>();
+		unsatisfiable.add(factory.getDataTypeFactory().getBottomClass());
+		unsatisfiable.add(d);
+		expected.remove(Collections.singleton(factory.getDataTypeFactory().getBottomClass()));
+		expected.add(unsatisfiable);
+		Assert.assertEquals(expected, reasoner.getSubClasses(query, false));
+		Assert.assertEquals(numberOfEntities, factory.getEntityManager().size());
+
+		reasoner.removeAxioms(Collections.singleton(axiomOfC));
+		expected.remove(Collections.singleton(c));
+		Assert.assertEquals(expected, reasoner.getSubClasses(query, false));
+
+		reasoner.addAxioms(Collections.singleton(axiomOfC));
+		expected.add(Collections.singleton(c));
+		Assert.assertEquals(expected, reasoner.getSubClasses(query, false));
+	}
+
+	/**
+	 * <ol>
+	 * <li>A \u2291 B ,</li>
+	 * <li>C \u2291 &exist; r <i>.</i> A</li>
+	 * </ol>
+	 * &vDash;
+	 * <ul>
+	 * <li>C \u2291 &exist; r <i>.</i> B</li>
+	 * </ul>
+	 * The number of query classes is bounded when many different queries are
+	 * asked, and the answer is the same when the class of a query has been
+	 * removed.
+	 */
+	@Test
+	public void testQueryEviction() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+		Set<ComplexIntegerAxiom> ontology = new HashSet<>();
+		IntegerClass a = createNewClass(factory, "A");
+		IntegerClass b = createNewClass(factory, "B");
+		IntegerClass c = createNewClass(factory, "C");
+		IntegerObjectProperty r = createNewObjectProperty(factory, "r");
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(a, b, annotations));
+		ontology.add(factory.getComplexAxiomFactory().createSubClassOfAxiom(c,
+				factory.getDataTypeFactory().createObjectSomeValuesFrom(r, a), annotations));
+		IntegerClassExpression query = factory.getDataTypeFactory().createObjectSomeValuesFrom(r, b);
+
+		RuleBasedReasoner reasoner = new RuleBasedReasoner(ontology, factory);
+		Set<Set<IntegerClass>> expected = new HashSet<>();
+		expected.add(Collections.singleton(c));
+		expected.add(Collections.singleton(factory.getDataTypeFactory().getBottomClass()));
+		Assert.assertEquals(expected, reasoner.getSubClasses(query, false));
+
+		Set<Set<IntegerClass>> onlyBottom = new HashSet<>();
+		onlyBottom.add(Collections.singleton(factory.getDataTypeFactory().getBottomClass()));
+		for (int index = 0; index < RuleBasedReasoner.maxNumberOfQueries; index++) {
+			IntegerClass d = createNewClass(factory, "D" + index);
+			Assert.assertEquals(onlyBottom,
+					reasoner.getSubClasses(factory.getDataTypeFactory().createObjectSomeValuesFrom(r, d), false));
+			Assert.assertTrue(reasoner.getNumberOfQueries() <= RuleBasedReasoner.maxNumberOfQueries);
+		}
+
+		Assert.assertEquals(expected, reasoner.getSubClasses(query, false));
+	}
+
 	/**
 	 * <ol>
 	 * <li>L \u2291 &exist; s <i>.</i> \u22A4 ,</li>
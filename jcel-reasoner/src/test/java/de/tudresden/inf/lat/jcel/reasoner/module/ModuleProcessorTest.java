@@ -0,0 +1,163 @@
+/*
+ *
+ * Copyright (C) 2009-2017 Julian Mendez
+ *
+ *
+ * This file is part of jcel.
+ *
+ *
+ * The contents of this file are subject to the GNU Lesser General Public License
+ * version 3
+ *
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ *
+ * Alternatively, the contents of this file may be used under the terms
+ * of the Apache License, Version 2.0, in which case the
+ * provisions of the Apache License, Version 2.0 are applicable instead of those
+ * above.
+ *
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package de.tudresden.inf.lat.jcel.reasoner.module;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.tudresden.inf.lat.jcel.core.algorithm.common.Processor;
+import de.tudresden.inf.lat.jcel.coreontology.axiom.IntegerAnnotation;
+import de.tudresden.inf.lat.jcel.coreontology.datatype.IntegerEntityType;
+import de.tudresden.inf.lat.jcel.ontology.axiom.complex.ComplexIntegerAxiom;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactory;
+import de.tudresden.inf.lat.jcel.ontology.axiom.extension.IntegerOntologyObjectFactoryImpl;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerClass;
+import de.tudresden.inf.lat.jcel.ontology.datatype.IntegerObjectProperty;
+import de.tudresden.inf.lat.jcel.reasoner.main.RuleBasedReasoner;
+
+/**
+ * Tests for {@link ModuleProcessor} and {@link ClassModuleProcessor}.
+ * 
+ * @author Julian Mendez
+ */
+public class ModuleProcessorTest {
+
+	private static final int chainLength = 10;
+	private static final int numberOfModules = 20;
+	private static final int numberOfThreads = 4;
+
+	private final IntegerOntologyObjectFactory factory = new IntegerOntologyObjectFactoryImpl();
+
+	/**
+	 * The entity manager is shared by all the modules, so the processors are
+	 * created and run concurrently on the same entity manager.
+	 */
+	private final ModuleProcessorFactory processorFactory = axioms -> new RuleBasedReasoner(axioms, this.factory)
+			.getProcessor();
+
+	private void classify(Processor processor) {
+		while (processor.process()) {
+		}
+	}
+
+	/**
+	 * Creates an ontology with independent modules. Each module is a chain
+	 * A<sub>0</sub> \u2291 &exist; r <i>.</i> A<sub>1</sub>, A<sub>1</sub> \u2291
+	 * A<sub>2</sub>, ...
+	 */
+	private Set<ComplexIntegerAxiom> createOntology() {
+		Set<IntegerAnnotation> annotations = new TreeSet<>();
+		Set<ComplexIntegerAxiom> ret = new HashSet<>();
+		for (int module = 0; module < numberOfModules; module++) {
+			IntegerObjectProperty r = this.factory.getDataTypeFactory().createObjectProperty(this.factory
+					.getEntityManager().createNamedEntity(IntegerEntityType.OBJECT_PROPERTY, "r" + module, false));
+			IntegerClass previous = createNewClass("A" + module + "_0");
+			for (int index = 1; index < chainLength; index++) {
+				IntegerClass current = createNewClass("A" + module + "_" + index);
+				if (index == 1) {
+					ret.add(this.factory.getComplexAxiomFactory().createSubClassOfAxiom(previous,
+							this.factory.getDataTypeFactory().createObjectSomeValuesFrom(r, current), annotations));
+				} else {
+					ret.add(this.factory.getComplexAxiomFactory().createSubClassOfAxiom(previous, current,
+							annotations));
+				}
+				previous = current;
+			}
+		}
+		return ret;
+	}
+
+	private IntegerClass createNewClass(String name) {
+		return this.factory.getDataTypeFactory()
+				.createClass(this.factory.getEntityManager().createNamedEntity(IntegerEntityType.CLASS, name, false));
+	}
+
+	/**
+	 * Tests that the class module processor gives the same hierarchies when
+	 * the modules are classified concurrently.
+	 */
+	@Test
+	public void testConcurrentClassModuleProcessor() {
+		Set<ComplexIntegerAxiom> ontology = createOntology();
+		ClassModuleProcessor sequential = new ClassModuleProcessor(ontology, this.factory, this.processorFactory);
+		classify(sequential);
+		ClassModuleProcessor concurrent = new ClassModuleProcessor(ontology, this.factory, this.processorFactory,
+				numberOfThreads);
+		classify(concurrent);
+
+		Assert.assertEquals(numberOfModules, concurrent.getNumberOfModules());
+		Assert.assertEquals(numberOfModules, concurrent.getNumberOfClassifiedModules());
+		Assert.assertTrue(concurrent.getClassHierarchy().getElements().size() >= numberOfModules * chainLength);
+		Assert.assertEquals(sequential.getClassHierarchy(), concurrent.getClassHierarchy());
+		Assert.assertEquals(sequential.getObjectPropertyHierarchy(), concurrent.getObjectPropertyHierarchy());
+	}
+
+	/**
+	 * Tests that the module processor gives the same hierarchies when the
+	 * modules are classified concurrently.
+	 */
+	@Test
+	public void testConcurrentModuleProcessor() {
+		Set<ComplexIntegerAxiom> ontology = createOntology();
+		ModuleProcessor sequential = new ModuleProcessor(ontology, this.processorFactory);
+		classify(sequential);
+		ModuleProcessor concurrent = new ModuleProcessor(ontology, this.processorFactory, numberOfThreads);
+		classify(concurrent);
+
+		Assert.assertEquals(numberOfModules, concurrent.getNumberOfModules());
+		Assert.assertEquals(numberOfModules, concurrent.getNumberOfClassifiedModules());
+		Assert.assertTrue(concurrent.getClassHierarchy().getElements().size() >= numberOfModules * chainLength);
+		Assert.assertEquals(sequential.getClassHierarchy(), concurrent.getClassHierarchy());
+		Assert.assertEquals(sequential.getObjectPropertyHierarchy(), concurrent.getObjectPropertyHierarchy());
+		Assert.assertEquals(sequential.getDirectTypes(), concurrent.getDirectTypes());
+	}
+
+}